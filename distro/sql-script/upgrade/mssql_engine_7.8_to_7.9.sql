@@ -4,4 +4,9 @@ ALTER TABLE ACT_ID_USER
   ADD LOCK_EXP_TIME_ datetime2;
 
 ALTER TABLE ACT_ID_USER
-  ADD ATTEMPTS_ int;
\ No newline at end of file
+  ADD ATTEMPTS_ int;
+
+-- content hash of deployment resources
+
+ALTER TABLE ACT_GE_BYTEARRAY
+  ADD HASH_ nvarchar(64);
\ No newline at end of file
@@ -4,4 +4,9 @@ ALTER TABLE ACT_ID_USER
   ADD LOCK_EXP_TIME_ TIMESTAMP(6);
 
 ALTER TABLE ACT_ID_USER
-  ADD ATTEMPTS_ INTEGER;
\ No newline at end of file
+  ADD ATTEMPTS_ INTEGER;
+
+-- content hash of deployment resources
+
+ALTER TABLE ACT_GE_BYTEARRAY
+  ADD HASH_ NVARCHAR2(64);
\ No newline at end of file
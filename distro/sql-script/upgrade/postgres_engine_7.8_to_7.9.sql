@@ -4,4 +4,9 @@ ALTER TABLE ACT_ID_USER
   ADD LOCK_EXP_TIME_ timestamp;
 
 ALTER TABLE ACT_ID_USER
-  ADD ATTEMPTS_ integer;
\ No newline at end of file
+  ADD ATTEMPTS_ integer;
+
+-- content hash of deployment resources
+
+ALTER TABLE ACT_GE_BYTEARRAY
+  ADD HASH_ varchar(64);
\ No newline at end of file
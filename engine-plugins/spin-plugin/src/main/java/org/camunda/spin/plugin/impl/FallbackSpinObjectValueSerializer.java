@@ -13,6 +13,7 @@
 package org.camunda.spin.plugin.impl;
 
 import org.camunda.bpm.engine.impl.variable.serializer.AbstractObjectValueSerializer;
+import org.camunda.bpm.engine.impl.variable.serializer.ValueFields;
 
 /**
  * @author Thorben Lindhauer
@@ -50,6 +51,12 @@ public class FallbackSpinObjectValueSerializer extends AbstractObjectValueSerial
     throw LOG.fallbackSerializerCannotDeserializeObjects();
   }
 
+  @Override
+  protected byte[] readSerializedValueFromFields(ValueFields valueFields) {
+    // values may have been compressed by the spin object value serializer
+    return SerializedValueCompression.decompress(valueFields.getByteArrayValue());
+  }
+
   @Override
   protected boolean isSerializationTextBased() {
     return true;
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.spin.plugin.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.camunda.bpm.engine.impl.util.IoUtil;
+
+/**
+ * GZIP compression of serialized Spin values which are at least as large as the
+ * threshold. Compressed values are recognized by the GZIP header, which can never
+ * start a text serialized value, so values which were stored uncompressed can be
+ * read as before.
+ */
+public class SerializedValueCompression {
+
+  public static final int DEFAULT_THRESHOLD = 8 * 1024;
+
+  protected static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+  protected static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+
+  protected int threshold;
+
+  public SerializedValueCompression() {
+    this(DEFAULT_THRESHOLD);
+  }
+
+  public SerializedValueCompression(int threshold) {
+    this.threshold = threshold;
+  }
+
+  public int getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * @return the compressed value if the value reaches the threshold, the value itself otherwise
+   */
+  public byte[] compress(byte[] serializedValue) {
+    if (serializedValue == null || serializedValue.length < threshold) {
+      return serializedValue;
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(serializedValue.length / 4);
+    GZIPOutputStream gzipOut = null;
+    try {
+      gzipOut = new GZIPOutputStream(out);
+      gzipOut.write(serializedValue);
+      gzipOut.finish();
+      return out.toByteArray();
+    }
+    catch (IOException e) {
+      throw SpinPluginLogger.LOGGER.unableToCompressSerializedValue(e);
+    }
+    finally {
+      IoUtil.closeSilently(gzipOut);
+    }
+  }
+
+  /**
+   * @return the decompressed value if the value is compressed, the value itself otherwise
+   */
+  public static byte[] decompress(byte[] storedValue) {
+    if (!isCompressed(storedValue)) {
+      return storedValue;
+    }
+
+    GZIPInputStream gzipIn = null;
+    try {
+      gzipIn = new GZIPInputStream(new ByteArrayInputStream(storedValue));
+      return IoUtil.readInputStream(gzipIn, "compressed serialized value");
+    }
+    catch (IOException e) {
+      throw SpinPluginLogger.LOGGER.unableToDecompressSerializedValue(e);
+    }
+    finally {
+      IoUtil.closeSilently(gzipIn);
+    }
+  }
+
+  public static boolean isCompressed(byte[] storedValue) {
+    return storedValue != null
+        && storedValue.length > 2
+        && (storedValue[0] & 0xff) == GZIP_MAGIC_FIRST_BYTE
+        && (storedValue[1] & 0xff) == GZIP_MAGIC_SECOND_BYTE;
+  }
+
+}
@@ -23,6 +23,7 @@ import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.util.IoUtil;
 import org.camunda.bpm.engine.impl.variable.serializer.AbstractObjectValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.TypedValueSerializer;
+import org.camunda.bpm.engine.impl.variable.serializer.ValueFields;
 import org.camunda.bpm.engine.variable.value.ObjectValue;
 import org.camunda.spin.spi.DataFormat;
 import org.camunda.spin.spi.DataFormatMapper;
@@ -40,6 +41,7 @@ public class SpinObjectValueSerializer extends AbstractObjectValueSerializer {
 
   protected String name;
   protected DataFormat<?> dataFormat;
+  protected SerializedValueCompression compression;
 
   public SpinObjectValueSerializer(String name, DataFormat<?> dataFormat) {
     super(dataFormat.getName());
@@ -51,6 +53,34 @@ public class SpinObjectValueSerializer extends AbstractObjectValueSerializer {
     return name;
   }
 
+  protected void writeToValueFields(ObjectValue value, ValueFields valueFields, byte[] serializedValue) {
+    super.writeToValueFields(value, valueFields, compress(serializedValue));
+  }
+
+  protected byte[] readSerializedValueFromFields(ValueFields valueFields) {
+    return SerializedValueCompression.decompress(valueFields.getByteArrayValue());
+  }
+
+  protected byte[] compress(byte[] serializedValue) {
+    if (compression != null) {
+      return compression.compress(serializedValue);
+    }
+    else {
+      return serializedValue;
+    }
+  }
+
+  public SerializedValueCompression getCompression() {
+    return compression;
+  }
+
+  /**
+   * @param compression compresses the values written from now on, <code>null</code> to disable the compression
+   */
+  public void setCompression(SerializedValueCompression compression) {
+    this.compression = compression;
+  }
+
   protected boolean isSerializationTextBased() {
     // for the moment we assume that all spin data formats are text based.
     return true;
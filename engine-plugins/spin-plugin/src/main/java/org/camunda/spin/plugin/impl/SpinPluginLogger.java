@@ -34,4 +34,14 @@ public class SpinPluginLogger extends BaseLogger {
     return new ProcessEngineException(exceptionMessage(
         "002", "Fallback serializer cannot handle deserialized objects"));
   }
+
+  public ProcessEngineException unableToCompressSerializedValue(Exception cause) {
+    return new ProcessEngineException(exceptionMessage(
+        "003", "Unable to compress serialized value"), cause);
+  }
+
+  public ProcessEngineException unableToDecompressSerializedValue(Exception cause) {
+    return new ProcessEngineException(exceptionMessage(
+        "004", "Unable to decompress serialized value"), cause);
+  }
 }
@@ -32,6 +32,9 @@ import org.camunda.spin.DataFormats;
  */
 public class SpinProcessEnginePlugin extends AbstractProcessEnginePlugin {
 
+  protected boolean compressSerializedValues = false;
+  protected int compressionThreshold = SerializedValueCompression.DEFAULT_THRESHOLD;
+
   @Override
   public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
     // use classloader which loaded the plugin
@@ -55,6 +58,9 @@ public class SpinProcessEnginePlugin extends AbstractProcessEnginePlugin {
   protected void registerSerializers(ProcessEngineConfigurationImpl processEngineConfiguration) {
 
     List<TypedValueSerializer<?>> spinDataFormatSerializers = lookupSpinSerializers();
+    if (compressSerializedValues) {
+      configureCompression(spinDataFormatSerializers);
+    }
 
     VariableSerializers variableSerializers = processEngineConfiguration.getVariableSerializers();
 
@@ -66,6 +72,18 @@ public class SpinProcessEnginePlugin extends AbstractProcessEnginePlugin {
     }
   }
 
+  protected void configureCompression(List<TypedValueSerializer<?>> spinSerializers) {
+    SerializedValueCompression compression = new SerializedValueCompression(compressionThreshold);
+    for (TypedValueSerializer<?> spinSerializer : spinSerializers) {
+      if (spinSerializer instanceof SpinValueSerializer) {
+        ((SpinValueSerializer) spinSerializer).setCompression(compression);
+      }
+      else if (spinSerializer instanceof SpinObjectValueSerializer) {
+        ((SpinObjectValueSerializer) spinSerializer).setCompression(compression);
+      }
+    }
+  }
+
   protected List<TypedValueSerializer<?>> lookupSpinSerializers() {
     DataFormats globalFormats = DataFormats.getInstance();
     List<TypedValueSerializer<?>> serializers =
@@ -89,4 +107,28 @@ public class SpinProcessEnginePlugin extends AbstractProcessEnginePlugin {
     resolver.addType(XML);
   }
 
+  public boolean isCompressSerializedValues() {
+    return compressSerializedValues;
+  }
+
+  /**
+   * Enables the GZIP compression of serialized Spin values (JSON and XML variables as well as
+   * objects serialized by a Spin data format) which reach the {@link #setCompressionThreshold(int) threshold}.
+   * Values are always read regardless of whether they were stored compressed.
+   */
+  public void setCompressSerializedValues(boolean compressSerializedValues) {
+    this.compressSerializedValues = compressSerializedValues;
+  }
+
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * @param compressionThreshold the size in bytes from which on serialized values are compressed
+   */
+  public void setCompressionThreshold(int compressionThreshold) {
+    this.compressionThreshold = compressionThreshold;
+  }
+
 }
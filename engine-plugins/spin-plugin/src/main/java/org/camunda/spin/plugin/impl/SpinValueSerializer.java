@@ -37,6 +37,7 @@ public abstract class SpinValueSerializer extends AbstractSerializableValueSeria
 
   protected DataFormat<?> dataFormat;
   protected String name;
+  protected SerializedValueCompression compression;
 
   public SpinValueSerializer(SerializableValueType type, DataFormat<?> dataFormat, String name) {
     super(type, dataFormat.getName());
@@ -49,7 +50,31 @@ public abstract class SpinValueSerializer extends AbstractSerializableValueSeria
   }
 
   protected void writeToValueFields(SpinValue value, ValueFields valueFields, byte[] serializedValue) {
-    valueFields.setByteArrayValue(serializedValue);
+    valueFields.setByteArrayValue(compress(serializedValue));
+  }
+
+  protected byte[] readSerializedValueFromFields(ValueFields valueFields) {
+    return SerializedValueCompression.decompress(valueFields.getByteArrayValue());
+  }
+
+  protected byte[] compress(byte[] serializedValue) {
+    if (compression != null) {
+      return compression.compress(serializedValue);
+    }
+    else {
+      return serializedValue;
+    }
+  }
+
+  public SerializedValueCompression getCompression() {
+    return compression;
+  }
+
+  /**
+   * @param compression compresses the values written from now on, <code>null</code> to disable the compression
+   */
+  public void setCompression(SerializedValueCompression compression) {
+    this.compression = compression;
   }
 
   protected void updateTypedValue(SpinValue value, String serializedStringValue) {
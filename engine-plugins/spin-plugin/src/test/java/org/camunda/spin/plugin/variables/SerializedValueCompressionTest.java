@@ -0,0 +1,211 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.spin.plugin.variables;
+
+import static org.camunda.bpm.engine.variable.Variables.objectValue;
+import static org.camunda.spin.plugin.variable.SpinValues.jsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.spin.plugin.impl.JsonValueSerializer;
+import org.camunda.spin.DataFormats;
+import org.camunda.spin.plugin.impl.SerializedValueCompression;
+import org.camunda.spin.plugin.impl.SpinObjectValueSerializer;
+import org.camunda.spin.plugin.variable.type.JsonValueType;
+import org.camunda.spin.plugin.variable.value.JsonValue;
+import org.json.JSONException;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+public class SerializedValueCompressionTest extends PluggableProcessEngineTestCase {
+
+  protected static final String ONE_TASK_PROCESS = "org/camunda/spin/plugin/oneTaskProcess.bpmn20.xml";
+  protected static final String ONE_TASK_PROCESS_KEY = "oneTaskProcess";
+
+  protected static final String SMALL_JSON = "{\"foo\": \"bar\"}";
+
+  protected JsonValueSerializer serializer;
+  protected SpinObjectValueSerializer objectSerializer;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    serializer = (JsonValueSerializer) processEngineConfiguration.getVariableSerializers().getSerializerByName(JsonValueType.TYPE_NAME);
+    objectSerializer = (SpinObjectValueSerializer) processEngineConfiguration.getVariableSerializers()
+      .getSerializerByName("spin://" + DataFormats.JSON_DATAFORMAT_NAME);
+  }
+
+  protected void tearDown() throws Exception {
+    serializer.setCompression(null);
+    objectSerializer.setCompression(null);
+    super.tearDown();
+  }
+
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testCompressLargeValue() throws JSONException {
+    // given
+    serializer.setCompression(new SerializedValueCompression(100));
+    String largeJson = createLargeJson();
+    String processInstanceId = runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS_KEY).getId();
+
+    // when
+    runtimeService.setVariable(processInstanceId, "x", jsonValue(largeJson).create());
+
+    // then
+    byte[] storedValue = getStoredValue(processInstanceId);
+    assertTrue(SerializedValueCompression.isCompressed(storedValue));
+    assertTrue(storedValue.length < largeJson.length());
+
+    JsonValue value = runtimeService.getVariableTyped(processInstanceId, "x");
+    JSONAssert.assertEquals(largeJson, value.getValue().toString(), true);
+    JSONAssert.assertEquals(largeJson, value.getValueSerialized(), true);
+
+    JsonValue serializedValue = runtimeService.getVariableTyped(processInstanceId, "x", false);
+    JSONAssert.assertEquals(largeJson, serializedValue.getValueSerialized(), true);
+  }
+
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testDoNotCompressValueBelowThreshold() {
+    // given
+    serializer.setCompression(new SerializedValueCompression(100));
+    String processInstanceId = runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS_KEY).getId();
+
+    // when
+    runtimeService.setVariable(processInstanceId, "x", jsonValue(SMALL_JSON).create());
+
+    // then
+    assertFalse(SerializedValueCompression.isCompressed(getStoredValue(processInstanceId)));
+  }
+
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testReadUncompressedValueWithCompressionEnabled() throws JSONException {
+    // given a value stored without compression
+    String largeJson = createLargeJson();
+    String processInstanceId = runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS_KEY).getId();
+    runtimeService.setVariable(processInstanceId, "x", jsonValue(largeJson).create());
+
+    // when
+    serializer.setCompression(new SerializedValueCompression(100));
+
+    // then
+    JsonValue value = runtimeService.getVariableTyped(processInstanceId, "x");
+    JSONAssert.assertEquals(largeJson, value.getValue().toString(), true);
+  }
+
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testReadCompressedValueWithCompressionDisabled() throws JSONException {
+    // given a compressed value
+    serializer.setCompression(new SerializedValueCompression(100));
+    String largeJson = createLargeJson();
+    String processInstanceId = runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS_KEY).getId();
+    runtimeService.setVariable(processInstanceId, "x", jsonValue(largeJson).create());
+
+    // when
+    serializer.setCompression(null);
+
+    // then
+    JsonValue value = runtimeService.getVariableTyped(processInstanceId, "x");
+    JSONAssert.assertEquals(largeJson, value.getValue().toString(), true);
+  }
+
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testUnchangedUncompressedObjectValueIsNotRewritten() {
+    // given an object value stored without compression
+    String processInstanceId = runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS_KEY).getId();
+    runtimeService.setVariable(processInstanceId, "x", objectValue(createLargeList()).serializationDataFormat(DataFormats.JSON_DATAFORMAT_NAME).create());
+
+    objectSerializer.setCompression(new SerializedValueCompression(100));
+
+    // when the value is deserialized but not changed
+    getListVariable(processInstanceId, false);
+
+    // then it is not written again
+    assertFalse(SerializedValueCompression.isCompressed(getStoredValue(processInstanceId)));
+  }
+
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testChangedUncompressedObjectValueIsCompressed() {
+    // given an object value stored without compression
+    String processInstanceId = runtimeService.startProcessInstanceByKey(ONE_TASK_PROCESS_KEY).getId();
+    runtimeService.setVariable(processInstanceId, "x", objectValue(createLargeList()).serializationDataFormat(DataFormats.JSON_DATAFORMAT_NAME).create());
+
+    objectSerializer.setCompression(new SerializedValueCompression(100));
+
+    // when the value is changed implicitly
+    getListVariable(processInstanceId, true);
+
+    // then it is written compressed
+    assertTrue(SerializedValueCompression.isCompressed(getStoredValue(processInstanceId)));
+
+    List<?> value = (List<?>) runtimeService.getVariable(processInstanceId, "x");
+    assertEquals(101, value.size());
+  }
+
+  protected String createLargeJson() {
+    StringBuilder builder = new StringBuilder("{\"items\": [");
+    for (int i = 0; i < 100; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append("{\"id\": ").append(i).append(", \"name\": \"item\"}");
+    }
+    return builder.append("]}").toString();
+  }
+
+  protected List<JsonSerializable> createLargeList() {
+    List<JsonSerializable> list = new ArrayList<JsonSerializable>();
+    for (int i = 0; i < 100; i++) {
+      list.add(new JsonSerializable("item", i, true));
+    }
+    return list;
+  }
+
+  /**
+   * Reads the list variable inside of a command, so that implicit updates are detected.
+   */
+  protected void getListVariable(final String processInstanceId, final boolean addElement) {
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<Void>() {
+      @SuppressWarnings("unchecked")
+      public Void execute(CommandContext commandContext) {
+        ExecutionEntity processInstance = commandContext.getExecutionManager().findExecutionById(processInstanceId);
+        List<JsonSerializable> list = (List<JsonSerializable>) processInstance.getVariable("x");
+        if (addElement) {
+          list.add(new JsonSerializable("another item", 100, false));
+        }
+        return null;
+      }
+    });
+  }
+
+  protected byte[] getStoredValue(String processInstanceId) {
+    final VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.createVariableInstanceQuery()
+      .processInstanceIdIn(processInstanceId)
+      .variableName("x")
+      .singleResult();
+
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<byte[]>() {
+      public byte[] execute(CommandContext commandContext) {
+        return commandContext.getDbEntityManager()
+          .selectById(ByteArrayEntity.class, variableInstance.getByteArrayValueId())
+          .getBytes();
+      }
+    });
+  }
+
+}
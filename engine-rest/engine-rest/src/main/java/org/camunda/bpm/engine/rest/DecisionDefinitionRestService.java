@@ -13,8 +13,11 @@
 package org.camunda.bpm.engine.rest;
 
 import java.util.List;
+import java.util.Map;
 
+import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
@@ -24,6 +27,8 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriInfo;
 
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.VariableValueDto;
+import org.camunda.bpm.engine.rest.dto.dmn.EvaluateDecisionBatchDto;
 import org.camunda.bpm.engine.rest.dto.repository.DecisionDefinitionDto;
 import org.camunda.bpm.engine.rest.sub.repository.DecisionDefinitionResource;
 
@@ -42,6 +47,21 @@ public interface DecisionDefinitionRestService {
   DecisionDefinitionResource getDecisionDefinitionByKeyAndTenantId(@PathParam("key") String decisionDefinitionKey,
                                                                    @PathParam("tenantId") String tenantId);
 
+  @POST
+  @Path("/key/{key}/evaluate-batch")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  List<List<Map<String, VariableValueDto>>> evaluateDecisionBatchByKey(@PathParam("key") String decisionDefinitionKey,
+                                                                       EvaluateDecisionBatchDto parameters);
+
+  @POST
+  @Path("/key/{key}/tenant-id/{tenantId}/evaluate-batch")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  List<List<Map<String, VariableValueDto>>> evaluateDecisionBatchByKeyAndTenantId(@PathParam("key") String decisionDefinitionKey,
+                                                                                  @PathParam("tenantId") String tenantId,
+                                                                                  EvaluateDecisionBatchDto parameters);
+
   @GET
   @Produces(MediaType.APPLICATION_JSON)
   List<DecisionDefinitionDto> getDecisionDefinitions(@Context UriInfo uriInfo,
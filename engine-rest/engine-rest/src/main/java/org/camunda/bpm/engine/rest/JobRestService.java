@@ -13,6 +13,7 @@
 package org.camunda.bpm.engine.rest;
 
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.batch.BatchDto;
 import org.camunda.bpm.engine.rest.dto.runtime.JobDto;
 import org.camunda.bpm.engine.rest.dto.runtime.JobQueryDto;
@@ -48,6 +49,24 @@ public interface JobRestService {
       @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Fetches the page of jobs that follows the given continuation token by keyset pagination.
+   * Expects the same query and sorting parameters as the list resource. If <code>maxResults</code>
+   * is omitted, a page contains at most {@link KeysetPageDto#DEFAULT_MAX_RESULTS} entries.
+   */
+  @GET
+  @Path("/page")
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<JobDto> getJobsPage(@Context UriInfo uriInfo,
+      @QueryParam("continuationToken") String continuationToken, @QueryParam("maxResults") Integer maxResults);
+
+  @POST
+  @Path("/page")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<JobDto> queryJobsPage(JobQueryDto query,
+      @QueryParam("continuationToken") String continuationToken, @QueryParam("maxResults") Integer maxResults);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -20,6 +20,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriInfo;
+import org.camunda.bpm.engine.rest.dto.metrics.HalCacheMetricsDto;
 import org.camunda.bpm.engine.rest.dto.metrics.MetricsIntervalResultDto;
 
 import org.camunda.bpm.engine.rest.sub.metrics.MetricsResource;
@@ -40,4 +41,12 @@ public interface MetricsRestService {
   @GET
   @Produces(MediaType.APPLICATION_JSON)
   List<MetricsIntervalResultDto> interval(@Context UriInfo uriInfo);
+
+  /**
+   * Returns the usage of the configured HAL relation caches which keep track of it.
+   */
+  @GET
+  @Path("/hal-cache")
+  @Produces(MediaType.APPLICATION_JSON)
+  List<HalCacheMetricsDto> getHalCacheMetrics();
 }
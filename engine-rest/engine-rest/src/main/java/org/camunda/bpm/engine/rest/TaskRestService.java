@@ -13,6 +13,7 @@
 package org.camunda.bpm.engine.rest;
 
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.camunda.bpm.engine.rest.hal.Hal;
@@ -23,6 +24,7 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
 
@@ -53,16 +55,55 @@ public interface TaskRestService {
   List<TaskDto> queryTasks(TaskQueryDto query,
       @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Fetches the page of tasks that follows the given continuation token by keyset pagination.
+   * Expects the same query and sorting parameters as the list resource. If <code>maxResults</code>
+   * is omitted, a page contains at most {@link KeysetPageDto#DEFAULT_MAX_RESULTS} entries.
+   */
+  @GET
+  @Path("/page")
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<TaskDto> getTasksPage(@Context UriInfo uriInfo,
+      @QueryParam("continuationToken") String continuationToken, @QueryParam("maxResults") Integer maxResults);
+
+  @POST
+  @Path("/page")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<TaskDto> queryTasksPage(TaskQueryDto query,
+      @QueryParam("continuationToken") String continuationToken, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Streams all tasks that match the query as JSON array or, if requested by the
+   * accept header, as newline delimited JSON. The tasks are fetched and written in chunks of
+   * <code>chunkSize</code> tasks, so the response size is not limited by the available memory.
+   * Expects the same query and sorting parameters as the list resource.
+   */
+  @GET
+  @Path("/stream")
+  @Produces({MediaType.APPLICATION_JSON, "application/x-ndjson"})
+  Response getTasksStream(@Context Request request, @Context UriInfo uriInfo, @QueryParam("chunkSize") Integer chunkSize);
+
+  @POST
+  @Path("/stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, "application/x-ndjson"})
+  Response queryTasksStream(@Context Request request, TaskQueryDto query, @QueryParam("chunkSize") Integer chunkSize);
+
+  /**
+   * @param maxCount if set, counting stops after <code>maxCount + 1</code> tasks, i.e.
+   *   a count greater than <code>maxCount</code> means "more than <code>maxCount</code>"
+   */
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
-  CountResultDto getTasksCount(@Context UriInfo uriInfo);
+  CountResultDto getTasksCount(@Context UriInfo uriInfo, @QueryParam("maxCount") Integer maxCount);
 
   @POST
   @Path("/count")
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
-  CountResultDto queryTasksCount(TaskQueryDto query);
+  CountResultDto queryTasksCount(TaskQueryDto query, @QueryParam("maxCount") Integer maxCount);
 
   @POST
   @Path("/create")
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.engine.rest.cache;
+
+/**
+ * Implemented by a {@link Cache} which keeps track of its usage. The counts
+ * are accumulated since the creation of the cache.
+ */
+public interface CacheStatistics {
+
+  /**
+   * @return the number of resources currently held by the cache
+   */
+  int size();
+
+  /**
+   * @return the number of lookups which returned a cached resource
+   */
+  long getHitCount();
+
+  /**
+   * @return the number of lookups which did not find a (not expired) resource
+   */
+  long getMissCount();
+
+  /**
+   * @return the number of resources removed to respect the capacity of the cache
+   */
+  long getEvictionCount();
+
+  /**
+   * @return the number of resources removed because their time to live expired
+   */
+  long getExpirationCount();
+
+}
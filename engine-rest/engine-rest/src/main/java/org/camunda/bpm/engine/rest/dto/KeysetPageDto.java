@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto;
+
+import java.util.List;
+
+/**
+ * A page of results fetched by keyset pagination. The continuation token
+ * has to be passed to the next request in order to fetch the next page; it
+ * is <code>null</code> on the last page.
+ */
+public class KeysetPageDto<T> {
+
+  /** the size of a page if the request does not specify <code>maxResults</code> */
+  public static final int DEFAULT_MAX_RESULTS = 100;
+
+  protected List<T> items;
+  protected String continuationToken;
+
+  public KeysetPageDto() {
+  }
+
+  public KeysetPageDto(List<T> items, String continuationToken) {
+    this.items = items;
+    this.continuationToken = continuationToken;
+  }
+
+  public List<T> getItems() {
+    return items;
+  }
+
+  public void setItems(List<T> items) {
+    this.items = items;
+  }
+
+  public String getContinuationToken() {
+    return continuationToken;
+  }
+
+  public void setContinuationToken(String continuationToken) {
+    this.continuationToken = continuationToken;
+  }
+}
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto.metrics;
+
+import org.camunda.bpm.engine.rest.cache.CacheStatistics;
+
+/**
+ * Usage of the HAL relation cache of a HAL resource class.
+ */
+public class HalCacheMetricsDto {
+
+  protected String resourceType;
+  protected int size;
+  protected long hitCount;
+  protected long missCount;
+  protected long evictionCount;
+  protected long expirationCount;
+
+  public String getResourceType() {
+    return resourceType;
+  }
+
+  public void setResourceType(String resourceType) {
+    this.resourceType = resourceType;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public void setSize(int size) {
+    this.size = size;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public void setHitCount(long hitCount) {
+    this.hitCount = hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public void setMissCount(long missCount) {
+    this.missCount = missCount;
+  }
+
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  public void setEvictionCount(long evictionCount) {
+    this.evictionCount = evictionCount;
+  }
+
+  public long getExpirationCount() {
+    return expirationCount;
+  }
+
+  public void setExpirationCount(long expirationCount) {
+    this.expirationCount = expirationCount;
+  }
+
+  public static HalCacheMetricsDto fromCacheStatistics(Class<?> resourceClass, CacheStatistics statistics) {
+    HalCacheMetricsDto dto = new HalCacheMetricsDto();
+    dto.resourceType = resourceClass.getName();
+    dto.size = statistics.size();
+    dto.hitCount = statistics.getHitCount();
+    dto.missCount = statistics.getMissCount();
+    dto.evictionCount = statistics.getEvictionCount();
+    dto.expirationCount = statistics.getExpirationCount();
+    return dto;
+  }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.camunda.bpm.engine.rest.hal;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -72,6 +73,10 @@ public class Hal {
     return halRelationCaches.get(resourceClass);
   }
 
+  public Map<Class<?>, Cache> getHalRelationCaches() {
+    return Collections.unmodifiableMap(halRelationCaches);
+  }
+
   public void destroyHalRelationCaches() {
     for (Cache cache : halRelationCaches.values()) {
       cache.destroy();
@@ -13,6 +13,11 @@
 
 package org.camunda.bpm.engine.rest.hal;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * @author Sebastian Menski
  */
@@ -20,8 +25,30 @@ public abstract class HalCollectionResource<T extends HalCollectionResource<?>>
 
   protected long count = 0;
 
+  /** the count was not queried on request and is omitted from the representation */
+  protected boolean countOmitted = false;
+
+  /**
+   * @return the total number of resources, or <code>0</code> if the count
+   *   was omitted on request
+   */
+  @JsonIgnore
   public long getCount() {
     return count;
   }
 
+  /**
+   * @return the total number of resources as represented, or <code>null</code>
+   *   if the count was omitted on request
+   */
+  @JsonProperty("count")
+  @JsonInclude(Include.NON_NULL)
+  public Long getCountIfPresent() {
+    return countOmitted ? null : count;
+  }
+
+  public void omitCount() {
+    countOmitted = true;
+  }
+
 }
@@ -13,41 +13,72 @@
 
 package org.camunda.bpm.engine.rest.hal.cache;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.NavigableSet;
-import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.rest.cache.Cache;
+import org.camunda.bpm.engine.rest.cache.CacheStatistics;
 
-public class DefaultHalResourceCache implements Cache {
+/**
+ * Cache which is safe for concurrent use. The resources are distributed over
+ * independently locked segments, so concurrent requests only contend if they
+ * access the same segment.
+ *
+ * <p>Every segment evicts its least recently used resource if its share of the
+ * capacity is exceeded and removes expired resources in creation order. Both
+ * happen in constant time per resource.</p>
+ *
+ * <p>Configurable properties: <code>capacity</code>, <code>secondsToLive</code>
+ * and <code>concurrencyLevel</code> (the maximal number of segments).</p>
+ */
+public class DefaultHalResourceCache implements Cache, CacheStatistics {
 
+  /** Not used for the eviction anymore, kept for compatibility */
   public final static Comparator<HalResourceCacheEntry> COMPARATOR = HalResourceCacheEntryComparator.getInstance();
 
+  public final static int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+  /** Minimal number of resources of a segment, fewer would make the LRU order of a segment meaningless */
+  protected final static int MIN_SEGMENT_CAPACITY = 16;
+
   protected int capacity;
   protected long secondsToLive;
-  protected Map<String, HalResourceCacheEntry> cache;
+  protected int concurrencyLevel;
+  protected volatile Segment[] segments;
+
+  protected final AtomicLong hitCount = new AtomicLong();
+  protected final AtomicLong missCount = new AtomicLong();
+  protected final AtomicLong evictionCount = new AtomicLong();
+  protected final AtomicLong expirationCount = new AtomicLong();
 
   public DefaultHalResourceCache() {
     this(100, 100);
   }
 
   public DefaultHalResourceCache(int capacity, long secondsToLive) {
+    this(capacity, secondsToLive, DEFAULT_CONCURRENCY_LEVEL);
+  }
+
+  public DefaultHalResourceCache(int capacity, long secondsToLive, int concurrencyLevel) {
     this.capacity = capacity;
     this.secondsToLive = secondsToLive;
-    cache = new HashMap<String, HalResourceCacheEntry>();
+    this.concurrencyLevel = concurrencyLevel;
+    initializeSegments();
   }
 
   public int getCapacity() {
     return capacity;
   }
 
+  /**
+   * Sets the capacity and clears the cache.
+   */
   public void setCapacity(int capacity) {
     this.capacity = capacity;
+    initializeSegments();
   }
 
   public long getSecondsToLive() {
@@ -58,74 +89,233 @@ public class DefaultHalResourceCache implements Cache {
     this.secondsToLive = secondsToLive;
   }
 
+  public int getConcurrencyLevel() {
+    return concurrencyLevel;
+  }
+
+  /**
+   * Sets the maximal number of segments and clears the cache.
+   */
+  public void setConcurrencyLevel(int concurrencyLevel) {
+    this.concurrencyLevel = concurrencyLevel;
+    initializeSegments();
+  }
+
   public int size() {
-    return cache.size();
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
   }
 
   public void put(String id, Object resource) {
-    cache.put(id, new HalResourceCacheEntry(id, resource));
-    ensureCapacityLimit();
+    segmentFor(id).put(new HalResourceCacheEntry(id, resource), now());
   }
 
   public void remove(String id) {
-    cache.remove(id);
+    segmentFor(id).remove(id);
   }
 
   public Object get(String id) {
-    HalResourceCacheEntry cacheEntry = cache.get(id);
-    if (cacheEntry != null) {
-      if (expired(cacheEntry)) {
-        remove(cacheEntry.getId());
+    Object resource = segmentFor(id).get(id, now());
+    if (resource != null) {
+      hitCount.incrementAndGet();
+    }
+    else {
+      missCount.incrementAndGet();
+    }
+    return resource;
+  }
+
+  public void destroy() {
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  public long getExpirationCount() {
+    return expirationCount.get();
+  }
+
+  protected void initializeSegments() {
+    int maxSegmentCount = Math.min(concurrencyLevel, Math.max(1, capacity / MIN_SEGMENT_CAPACITY));
+    int segmentCount = 1;
+    while (segmentCount * 2 <= maxSegmentCount) {
+      segmentCount *= 2;
+    }
+
+    Segment[] segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      // distribute the capacity so that the segments sum up to the exact capacity
+      int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+      segments[i] = new Segment(segmentCapacity);
+    }
+    this.segments = segments;
+  }
+
+  protected Segment segmentFor(String id) {
+    Segment[] segments = this.segments;
+    int hash = id != null ? id.hashCode() : 0;
+    hash ^= (hash >>> 16);
+    return segments[hash & (segments.length - 1)];
+  }
+
+  protected long now() {
+    return ClockUtil.getCurrentTime().getTime();
+  }
+
+  protected boolean expired(HalResourceCacheEntry entry) {
+    return expired(entry, now());
+  }
+
+  protected boolean expired(HalResourceCacheEntry entry, long now) {
+    return entry.getCreateTime() + secondsToLive * 1000 < now;
+  }
+
+  /**
+   * A part of the cache guarded by its own lock. The entries are linked in two
+   * lists: by last access, to evict the least recently used entry, and by creation,
+   * to find the expired entries without looking at the others.
+   */
+  protected class Segment {
+
+    protected final int capacity;
+    protected final Map<String, Node> nodes = new HashMap<String, Node>();
+
+    /** sentinel of the access order list, the next node is the least recently used */
+    protected final Node accessOrder = new Node(null);
+    /** sentinel of the creation order list, the next node is the oldest */
+    protected final Node creationOrder = new Node(null);
+
+    public Segment(int capacity) {
+      this.capacity = capacity;
+    }
+
+    public synchronized int size() {
+      return nodes.size();
+    }
+
+    public synchronized Object get(String id, long now) {
+      Node node = nodes.get(id);
+      if (node == null) {
+        return null;
+      }
+      else if (expired(node.entry, now)) {
+        removeNode(node);
+        expirationCount.incrementAndGet();
         return null;
       }
       else {
-        return cacheEntry.getResource();
+        node.unlinkAccess();
+        node.linkAccessBefore(accessOrder);
+        return node.entry.getResource();
       }
     }
-    else {
-      return null;
+
+    public synchronized void put(HalResourceCacheEntry entry, long now) {
+      Node existingNode = nodes.get(entry.getId());
+      if (existingNode != null) {
+        removeNode(existingNode);
+      }
+
+      Node node = new Node(entry);
+      nodes.put(entry.getId(), node);
+      node.linkAccessBefore(accessOrder);
+      node.linkCreationBefore(creationOrder);
+
+      removeExpiredNodes(now);
+      evictNodes();
     }
-  }
 
-  public void destroy() {
-    cache.clear();
-  }
-
-  protected void ensureCapacityLimit() {
-    if (size() > getCapacity()) {
-      List<HalResourceCacheEntry> resources = new ArrayList<HalResourceCacheEntry>(cache.values());
-      NavigableSet<HalResourceCacheEntry> remainingResources = new TreeSet<HalResourceCacheEntry>(COMPARATOR);
-
-      // remove expired resources
-      for (HalResourceCacheEntry resource : resources) {
-        if (expired(resource)) {
-          remove(resource.getId());
-        }
-        else {
-          remainingResources.add(resource);
-        }
-
-        if (size() <= getCapacity()) {
-          // abort if capacity is reached
-          return;
-        }
+    public synchronized void remove(String id) {
+      Node node = nodes.get(id);
+      if (node != null) {
+        removeNode(node);
+      }
+    }
+
+    public synchronized void clear() {
+      nodes.clear();
+      accessOrder.unlinkAccess();
+      creationOrder.unlinkCreation();
+    }
+
+    protected void removeExpiredNodes(long now) {
+      Node oldest = creationOrder.nextCreated;
+      while (oldest != creationOrder && expired(oldest.entry, now)) {
+        removeNode(oldest);
+        expirationCount.incrementAndGet();
+        oldest = creationOrder.nextCreated;
       }
+    }
 
-      // if still exceed capacity remove oldest
-      while (remainingResources.size() > capacity) {
-        HalResourceCacheEntry resourceToRemove = remainingResources.pollFirst();
-        if (resourceToRemove != null) {
-          remove(resourceToRemove.getId());
-        }
-        else {
-          break;
-        }
+    protected void evictNodes() {
+      while (nodes.size() > capacity) {
+        removeNode(accessOrder.nextAccessed);
+        evictionCount.incrementAndGet();
       }
     }
+
+    protected void removeNode(Node node) {
+      nodes.remove(node.entry.getId());
+      node.unlinkAccess();
+      node.unlinkCreation();
+    }
   }
 
-  protected boolean expired(HalResourceCacheEntry entry) {
-    return entry.getCreateTime() + secondsToLive * 1000 < ClockUtil.getCurrentTime().getTime();
+  protected static class Node {
+
+    protected final HalResourceCacheEntry entry;
+
+    protected Node previousAccessed = this;
+    protected Node nextAccessed = this;
+    protected Node previousCreated = this;
+    protected Node nextCreated = this;
+
+    public Node(HalResourceCacheEntry entry) {
+      this.entry = entry;
+    }
+
+    protected void linkAccessBefore(Node successor) {
+      previousAccessed = successor.previousAccessed;
+      nextAccessed = successor;
+      previousAccessed.nextAccessed = this;
+      successor.previousAccessed = this;
+    }
+
+    protected void unlinkAccess() {
+      previousAccessed.nextAccessed = nextAccessed;
+      nextAccessed.previousAccessed = previousAccessed;
+      previousAccessed = this;
+      nextAccessed = this;
+    }
+
+    protected void linkCreationBefore(Node successor) {
+      previousCreated = successor.previousCreated;
+      nextCreated = successor;
+      previousCreated.nextCreated = this;
+      successor.previousCreated = this;
+    }
+
+    protected void unlinkCreation() {
+      previousCreated.nextCreated = nextCreated;
+      nextCreated.previousCreated = previousCreated;
+      previousCreated = this;
+      nextCreated = this;
+    }
   }
 
 }
@@ -13,6 +13,7 @@
 package org.camunda.bpm.engine.rest.history;
 
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricActivityInstanceDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricActivityInstanceQueryDto;
 import org.camunda.bpm.engine.rest.sub.history.HistoricActivityInstanceResource;
@@ -20,6 +21,8 @@ import org.camunda.bpm.engine.rest.sub.history.HistoricActivityInstanceResource;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
 
@@ -58,6 +61,43 @@ public interface HistoricActivityInstanceRestService {
   List<HistoricActivityInstanceDto> queryHistoricActivityInstances(HistoricActivityInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Fetches the page of historic activity instances that follows the given continuation token by keyset pagination.
+   * Expects the same query and sorting parameters as the list resource. If <code>maxResults</code>
+   * is omitted, a page contains at most {@link KeysetPageDto#DEFAULT_MAX_RESULTS} entries.
+   */
+  @GET
+  @Path("/page")
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<HistoricActivityInstanceDto> getHistoricActivityInstancesPage(@Context UriInfo uriInfo,
+      @QueryParam("continuationToken") String continuationToken, @QueryParam("maxResults") Integer maxResults);
+
+  @POST
+  @Path("/page")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<HistoricActivityInstanceDto> queryHistoricActivityInstancesPage(HistoricActivityInstanceQueryDto query,
+      @QueryParam("continuationToken") String continuationToken, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Streams all historic activity instances that match the query as JSON array or, if requested
+   * by the accept header, as newline delimited JSON. The instances are fetched and written in chunks
+   * of <code>chunkSize</code> instances, so the response size is not limited by the available memory.
+   * Expects the same query and sorting parameters as the list resource.
+   */
+  @GET
+  @Path("/stream")
+  @Produces({MediaType.APPLICATION_JSON, "application/x-ndjson"})
+  Response getHistoricActivityInstancesStream(@Context Request request, @Context UriInfo uriInfo,
+      @QueryParam("chunkSize") Integer chunkSize);
+
+  @POST
+  @Path("/stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, "application/x-ndjson"})
+  Response queryHistoricActivityInstancesStream(@Context Request request, HistoricActivityInstanceQueryDto query,
+      @QueryParam("chunkSize") Integer chunkSize);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -27,6 +27,7 @@ import javax.ws.rs.core.UriInfo;
 import java.util.List;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.batch.BatchDto;
 import org.camunda.bpm.engine.rest.dto.history.DeleteHistoricProcessInstancesDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricProcessInstanceDto;
@@ -68,16 +69,38 @@ public interface HistoricProcessInstanceRestService {
   List<HistoricProcessInstanceDto> queryHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Fetches the page of historic process instances that follows the given continuation token by keyset pagination.
+   * Expects the same query and sorting parameters as the list resource. If <code>maxResults</code>
+   * is omitted, a page contains at most {@link KeysetPageDto#DEFAULT_MAX_RESULTS} entries.
+   */
+  @GET
+  @Path("/page")
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<HistoricProcessInstanceDto> getHistoricProcessInstancesPage(@Context UriInfo uriInfo,
+      @QueryParam("continuationToken") String continuationToken, @QueryParam("maxResults") Integer maxResults);
+
+  @POST
+  @Path("/page")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<HistoricProcessInstanceDto> queryHistoricProcessInstancesPage(HistoricProcessInstanceQueryDto query,
+      @QueryParam("continuationToken") String continuationToken, @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * @param maxCount if set, counting stops after <code>maxCount + 1</code> instances, i.e.
+   *   a count greater than <code>maxCount</code> means "more than <code>maxCount</code>"
+   */
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
-  CountResultDto getHistoricProcessInstancesCount(@Context UriInfo uriInfo);
+  CountResultDto getHistoricProcessInstancesCount(@Context UriInfo uriInfo, @QueryParam("maxCount") Integer maxCount);
 
   @POST
   @Path("/count")
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
-  CountResultDto queryHistoricProcessInstancesCount(HistoricProcessInstanceQueryDto query);
+  CountResultDto queryHistoricProcessInstancesCount(HistoricProcessInstanceQueryDto query, @QueryParam("maxCount") Integer maxCount);
 
   @GET
   @Path("/report")
@@ -14,20 +14,29 @@ package org.camunda.bpm.engine.rest.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.dmn.engine.DmnEngineException;
 import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.dmn.DecisionsEvaluationBuilder;
 import org.camunda.bpm.engine.repository.DecisionDefinition;
 import org.camunda.bpm.engine.repository.DecisionDefinitionQuery;
 import org.camunda.bpm.engine.rest.DecisionDefinitionRestService;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.VariableValueDto;
+import org.camunda.bpm.engine.rest.dto.dmn.EvaluateDecisionBatchDto;
 import org.camunda.bpm.engine.rest.dto.repository.DecisionDefinitionDto;
 import org.camunda.bpm.engine.rest.dto.repository.DecisionDefinitionQueryDto;
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.exception.RestException;
 import org.camunda.bpm.engine.rest.sub.repository.DecisionDefinitionResource;
 import org.camunda.bpm.engine.rest.sub.repository.impl.DecisionDefinitionResourceImpl;
+import org.camunda.bpm.engine.rest.util.DecisionEvaluationUtil;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -76,6 +85,26 @@ public class DecisionDefinitionRestServiceImpl extends AbstractRestProcessEngine
     }
   }
 
+  @Override
+  public List<List<Map<String, VariableValueDto>>> evaluateDecisionBatchByKey(String decisionDefinitionKey, EvaluateDecisionBatchDto parameters) {
+    DecisionsEvaluationBuilder builder = getProcessEngine()
+        .getDecisionService()
+        .evaluateDecisionByKey(decisionDefinitionKey)
+        .decisionDefinitionWithoutTenantId();
+
+    return evaluateDecisionBatch(builder, decisionDefinitionKey, parameters);
+  }
+
+  @Override
+  public List<List<Map<String, VariableValueDto>>> evaluateDecisionBatchByKeyAndTenantId(String decisionDefinitionKey, String tenantId, EvaluateDecisionBatchDto parameters) {
+    DecisionsEvaluationBuilder builder = getProcessEngine()
+        .getDecisionService()
+        .evaluateDecisionByKey(decisionDefinitionKey)
+        .decisionDefinitionTenantId(tenantId);
+
+    return evaluateDecisionBatch(builder, decisionDefinitionKey, parameters);
+  }
+
   @Override
   public DecisionDefinitionResource getDecisionDefinitionById(String decisionDefinitionId) {
     return new DecisionDefinitionResourceImpl(getProcessEngine(), decisionDefinitionId, relativeRootResourcePath, getObjectMapper());
@@ -127,4 +156,32 @@ public class DecisionDefinitionRestServiceImpl extends AbstractRestProcessEngine
     return result;
   }
 
+  protected List<List<Map<String, VariableValueDto>>> evaluateDecisionBatch(DecisionsEvaluationBuilder builder, String decisionDefinitionKey, EvaluateDecisionBatchDto parameters) {
+    if (parameters == null || parameters.getVariables() == null) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "Cannot evaluate decision " + decisionDefinitionKey + ": no variables given");
+    }
+
+    List<Map<String, Object>> variablesList = new ArrayList<Map<String, Object>>();
+    for (Map<String, VariableValueDto> variables : parameters.getVariables()) {
+      variablesList.add(VariableValueDto.toMap(variables, getProcessEngine(), getObjectMapper()));
+    }
+
+    try {
+      List<DmnDecisionResult> decisionResults = builder.evaluateAll(variablesList);
+
+      List<List<Map<String, VariableValueDto>>> dto = new ArrayList<List<Map<String, VariableValueDto>>>();
+      for (DmnDecisionResult decisionResult : decisionResults) {
+        dto.add(DecisionEvaluationUtil.createDecisionResultDto(decisionResult));
+      }
+      return dto;
+
+    }
+    catch (ProcessEngineException e) {
+      throw DecisionEvaluationUtil.createEvaluationException(decisionDefinitionKey, e);
+    }
+    catch (DmnEngineException e) {
+      throw DecisionEvaluationUtil.createEvaluationException(decisionDefinitionKey, e);
+    }
+  }
+
 }
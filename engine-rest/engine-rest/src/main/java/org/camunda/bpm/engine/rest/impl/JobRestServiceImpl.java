@@ -18,8 +18,10 @@ import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.exception.NullValueException;
 import org.camunda.bpm.engine.impl.util.EnsureUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.JobRestService;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.batch.BatchDto;
 import org.camunda.bpm.engine.rest.dto.runtime.JobDto;
 import org.camunda.bpm.engine.rest.dto.runtime.JobQueryDto;
@@ -77,6 +79,31 @@ public class JobRestServiceImpl extends AbstractRestProcessEngineAware
     return jobResults;
   }
 
+  @Override
+  public KeysetPageDto<JobDto> getJobsPage(UriInfo uriInfo, String continuationToken, Integer maxResults) {
+    JobQueryDto queryDto = new JobQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    return queryJobsPage(queryDto, continuationToken, maxResults);
+  }
+
+  @Override
+  public KeysetPageDto<JobDto> queryJobsPage(JobQueryDto queryDto, String continuationToken, Integer maxResults) {
+    ProcessEngine engine = getProcessEngine();
+    queryDto.setObjectMapper(getObjectMapper());
+    JobQuery query = queryDto.toQuery(engine);
+
+    if (maxResults == null) {
+      maxResults = KeysetPageDto.DEFAULT_MAX_RESULTS;
+    }
+    KeysetPage<Job> page = query.listPageAfter(continuationToken, maxResults);
+
+    List<JobDto> jobResults = new ArrayList<JobDto>();
+    for (Job job : page.getResults()) {
+      jobResults.add(JobDto.fromJob(job));
+    }
+
+    return new KeysetPageDto<JobDto>(jobResults, page.getContinuationToken());
+  }
+
   @Override
   public CountResultDto getJobsCount(UriInfo uriInfo) {
     JobQueryDto queryDto = new JobQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
@@ -13,6 +13,9 @@
 package org.camunda.bpm.engine.rest.impl;
 
 import org.camunda.bpm.engine.rest.MetricsRestService;
+import org.camunda.bpm.engine.rest.cache.Cache;
+import org.camunda.bpm.engine.rest.cache.CacheStatistics;
+import org.camunda.bpm.engine.rest.hal.Hal;
 import org.camunda.bpm.engine.rest.sub.metrics.MetricsResource;
 import org.camunda.bpm.engine.rest.sub.metrics.MetricsResourceImpl;
 
@@ -20,9 +23,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.UriInfo;
 import org.camunda.bpm.engine.management.MetricsQuery;
+import org.camunda.bpm.engine.rest.dto.metrics.HalCacheMetricsDto;
 import org.camunda.bpm.engine.rest.dto.metrics.MetricsIntervalResultDto;
 import org.camunda.bpm.engine.management.MetricIntervalValue;
 import org.camunda.bpm.engine.rest.dto.converter.DateConverter;
@@ -75,6 +80,17 @@ public class MetricsRestServiceImpl extends AbstractRestProcessEngineAware imple
     return convertToDtos(metrics);
   }
 
+  @Override
+  public List<HalCacheMetricsDto> getHalCacheMetrics() {
+    List<HalCacheMetricsDto> cacheMetrics = new ArrayList<HalCacheMetricsDto>();
+    for (Map.Entry<Class<?>, Cache> cache : Hal.getInstance().getHalRelationCaches().entrySet()) {
+      if (cache.getValue() instanceof CacheStatistics) {
+        cacheMetrics.add(HalCacheMetricsDto.fromCacheStatistics(cache.getKey(), (CacheStatistics) cache.getValue()));
+      }
+    }
+    return cacheMetrics;
+  }
+
   protected void applyQueryParams(MetricsQuery query, MultivaluedMap<String, String> queryParameters) {
 
     DateConverter dateConverter = new DateConverter();
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.Variant;
+
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.query.KeysetPaginatedQuery;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes the results of a query directly to the response, either as JSON array or as
+ * newline delimited JSON (one object per line). The results are fetched chunk by chunk
+ * by keyset pagination and every chunk is serialized and flushed before the next one is
+ * fetched, so the memory consumption does not depend on the number of results.
+ *
+ * <p>The first chunk is fetched on creation so that an invalid query fails before
+ * the response is committed.</p>
+ *
+ * @param <T> the type of the query results
+ * @param <D> the type of the serialized dtos
+ */
+public abstract class QueryResultStreamingOutput<T, D> implements StreamingOutput {
+
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+  public static final MediaType APPLICATION_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+  public static final List<Variant> VARIANTS = Variant.mediaTypes(MediaType.APPLICATION_JSON_TYPE, APPLICATION_NDJSON_TYPE).add().build();
+
+  public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+  protected ObjectMapper objectMapper;
+  protected KeysetPaginatedQuery<?, T> query;
+  protected int chunkSize;
+  protected boolean delimitedByNewline;
+
+  protected KeysetPage<T> currentChunk;
+
+  public QueryResultStreamingOutput(ObjectMapper objectMapper, KeysetPaginatedQuery<?, T> query, Integer chunkSize, MediaType mediaType) {
+    this.objectMapper = objectMapper;
+    this.query = query;
+    this.chunkSize = chunkSize != null ? chunkSize : DEFAULT_CHUNK_SIZE;
+    this.delimitedByNewline = APPLICATION_NDJSON_TYPE.equals(mediaType);
+
+    this.currentChunk = query.listPageAfter(null, this.chunkSize);
+  }
+
+  public void write(OutputStream output) throws IOException, WebApplicationException {
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+
+    if (delimitedByNewline) {
+      generator.setRootValueSeparator(new SerializedString("\n"));
+    }
+    else {
+      generator.writeStartArray();
+    }
+
+    boolean empty = true;
+    while (currentChunk != null) {
+      for (T result : currentChunk.getResults()) {
+        generator.writeObject(toDto(result));
+        empty = false;
+      }
+      generator.flush();
+
+      if (currentChunk.hasMoreResults()) {
+        currentChunk = query.listPageAfter(currentChunk.getContinuationToken(), chunkSize);
+      }
+      else {
+        currentChunk = null;
+      }
+    }
+
+    if (!delimitedByNewline) {
+      generator.writeEndArray();
+    }
+    else if (!empty) {
+      generator.writeRaw('\n');
+    }
+
+    // the container closes the stream
+    generator.flush();
+  }
+
+  protected abstract D toDto(T result);
+
+}
@@ -16,17 +16,21 @@ import java.util.ArrayList;
 import java.util.List;
 
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.core.Variant;
 
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.TaskRestService;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
@@ -45,6 +49,11 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
 
   public static final List<Variant> VARIANTS = Variant.mediaTypes(MediaType.APPLICATION_JSON_TYPE, Hal.APPLICATION_HAL_JSON_TYPE).add().build();
 
+  /** HAL task lists: skip the count query, e.g. if the client fetches the count separately */
+  public static final String WITHOUT_COUNT_PARAM = "withoutCount";
+  /** HAL task lists: stop counting after maxCount + 1 tasks */
+  public static final String MAX_COUNT_PARAM = "maxCount";
+
   public TaskRestServiceImpl(String engineName, final ObjectMapper objectMapper) {
     super(engineName, objectMapper);
   }
@@ -68,7 +77,8 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
   }
 
   public HalTaskList getHalTasks(UriInfo uriInfo, Integer firstResult, Integer maxResults) {
-    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    MultivaluedMap<String, String> queryParameters = uriInfo.getQueryParameters();
+    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), queryParameters);
 
     ProcessEngine engine = getProcessEngine();
     TaskQuery query = queryDto.toQuery(engine);
@@ -76,10 +86,41 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
     // get list of tasks
     List<Task> matchingTasks = executeTaskQuery(firstResult, maxResults, query);
 
-    // get total count
-    long count = query.count();
+    // get total count unless the client fetches it separately or does not need it
+    boolean withoutCount = Boolean.parseBoolean(queryParameters.getFirst(WITHOUT_COUNT_PARAM));
+    long count = 0;
+    if (!withoutCount) {
+      Integer maxCount = parseMaxCount(queryParameters.getFirst(MAX_COUNT_PARAM));
+      count = executeTaskCount(query, maxCount);
+    }
+
+    HalTaskList taskList = HalTaskList.generate(matchingTasks, count, engine);
+    if (withoutCount) {
+      taskList.omitCount();
+    }
+
+    return taskList;
+  }
+
+  protected Integer parseMaxCount(String maxCount) {
+    if (maxCount == null) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(maxCount);
+    }
+    catch (NumberFormatException e) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, e, "Cannot set query parameter '" + MAX_COUNT_PARAM + "' to value '" + maxCount + "'");
+    }
+  }
 
-    return HalTaskList.generate(matchingTasks, count, engine);
+  protected long executeTaskCount(TaskQuery query, Integer maxCount) {
+    if (maxCount != null) {
+      return query.countUpTo(maxCount);
+    }
+    else {
+      return query.count();
+    }
   }
 
   @Override
@@ -125,18 +166,74 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
   }
 
   @Override
-  public CountResultDto getTasksCount(UriInfo uriInfo) {
+  public KeysetPageDto<TaskDto> getTasksPage(UriInfo uriInfo, String continuationToken, Integer maxResults) {
+    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    return queryTasksPage(queryDto, continuationToken, maxResults);
+  }
+
+  @Override
+  public KeysetPageDto<TaskDto> queryTasksPage(TaskQueryDto queryDto, String continuationToken, Integer maxResults) {
+    ProcessEngine engine = getProcessEngine();
+    queryDto.setObjectMapper(getObjectMapper());
+    TaskQuery query = queryDto.toQuery(engine);
+
+    // enable initialization of form key:
+    query.initializeFormKeys();
+
+    if (maxResults == null) {
+      maxResults = KeysetPageDto.DEFAULT_MAX_RESULTS;
+    }
+    KeysetPage<Task> page = query.listPageAfter(continuationToken, maxResults);
+
+    List<TaskDto> tasks = new ArrayList<TaskDto>();
+    for (Task task : page.getResults()) {
+      tasks.add(TaskDto.fromEntity(task));
+    }
+
+    return new KeysetPageDto<TaskDto>(tasks, page.getContinuationToken());
+  }
+
+  @Override
+  public Response getTasksStream(Request request, UriInfo uriInfo, Integer chunkSize) {
+    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    return queryTasksStream(request, queryDto, chunkSize);
+  }
+
+  @Override
+  public Response queryTasksStream(Request request, TaskQueryDto queryDto, Integer chunkSize) {
+    Variant variant = request.selectVariant(QueryResultStreamingOutput.VARIANTS);
+    if (variant == null) {
+      throw new InvalidRequestException(Status.NOT_ACCEPTABLE, "No acceptable content-type found");
+    }
+
+    queryDto.setObjectMapper(getObjectMapper());
+    TaskQuery query = queryDto.toQuery(getProcessEngine());
+
+    // enable initialization of form key:
+    query.initializeFormKeys();
+
+    StreamingOutput output = new QueryResultStreamingOutput<Task, TaskDto>(getObjectMapper(), query, chunkSize, variant.getMediaType()) {
+      protected TaskDto toDto(Task task) {
+        return TaskDto.fromEntity(task);
+      }
+    };
+
+    return Response.ok(output, variant.getMediaType()).build();
+  }
+
+  @Override
+  public CountResultDto getTasksCount(UriInfo uriInfo, Integer maxCount) {
     TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
-    return queryTasksCount(queryDto);
+    return queryTasksCount(queryDto, maxCount);
   }
 
   @Override
-  public CountResultDto queryTasksCount(TaskQueryDto queryDto) {
+  public CountResultDto queryTasksCount(TaskQueryDto queryDto, Integer maxCount) {
     ProcessEngine engine = getProcessEngine();
     queryDto.setObjectMapper(getObjectMapper());
     TaskQuery query = queryDto.toQuery(engine);
 
-    long count = query.count();
+    long count = executeTaskCount(query, maxCount);
     CountResultDto result = new CountResultDto();
     result.setCount(count);
 
@@ -16,14 +16,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
 import org.camunda.bpm.engine.history.HistoricActivityInstanceQuery;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricActivityInstanceDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricActivityInstanceQueryDto;
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.history.HistoricActivityInstanceRestService;
+import org.camunda.bpm.engine.rest.impl.QueryResultStreamingOutput;
 import org.camunda.bpm.engine.rest.sub.history.HistoricActivityInstanceResource;
 import org.camunda.bpm.engine.rest.sub.history.impl.HistoricActivityInstanceResourceImpl;
 
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.core.Variant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -77,6 +86,55 @@ public class HistoricActivityInstanceRestServiceImpl implements HistoricActivity
     return query.listPage(firstResult, maxResults);
   }
 
+  @Override
+  public KeysetPageDto<HistoricActivityInstanceDto> getHistoricActivityInstancesPage(UriInfo uriInfo, String continuationToken, Integer maxResults) {
+    HistoricActivityInstanceQueryDto queryDto = new HistoricActivityInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    return queryHistoricActivityInstancesPage(queryDto, continuationToken, maxResults);
+  }
+
+  @Override
+  public KeysetPageDto<HistoricActivityInstanceDto> queryHistoricActivityInstancesPage(HistoricActivityInstanceQueryDto queryDto, String continuationToken, Integer maxResults) {
+    queryDto.setObjectMapper(objectMapper);
+    HistoricActivityInstanceQuery query = queryDto.toQuery(processEngine);
+
+    if (maxResults == null) {
+      maxResults = KeysetPageDto.DEFAULT_MAX_RESULTS;
+    }
+    KeysetPage<HistoricActivityInstance> page = query.listPageAfter(continuationToken, maxResults);
+
+    List<HistoricActivityInstanceDto> historicActivityInstanceResults = new ArrayList<HistoricActivityInstanceDto>();
+    for (HistoricActivityInstance historicActivityInstance : page.getResults()) {
+      historicActivityInstanceResults.add(HistoricActivityInstanceDto.fromHistoricActivityInstance(historicActivityInstance));
+    }
+
+    return new KeysetPageDto<HistoricActivityInstanceDto>(historicActivityInstanceResults, page.getContinuationToken());
+  }
+
+  @Override
+  public Response getHistoricActivityInstancesStream(Request request, UriInfo uriInfo, Integer chunkSize) {
+    HistoricActivityInstanceQueryDto queryDto = new HistoricActivityInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    return queryHistoricActivityInstancesStream(request, queryDto, chunkSize);
+  }
+
+  @Override
+  public Response queryHistoricActivityInstancesStream(Request request, HistoricActivityInstanceQueryDto queryDto, Integer chunkSize) {
+    Variant variant = request.selectVariant(QueryResultStreamingOutput.VARIANTS);
+    if (variant == null) {
+      throw new InvalidRequestException(Status.NOT_ACCEPTABLE, "No acceptable content-type found");
+    }
+
+    queryDto.setObjectMapper(objectMapper);
+    HistoricActivityInstanceQuery query = queryDto.toQuery(processEngine);
+
+    StreamingOutput output = new QueryResultStreamingOutput<HistoricActivityInstance, HistoricActivityInstanceDto>(objectMapper, query, chunkSize, variant.getMediaType()) {
+      protected HistoricActivityInstanceDto toDto(HistoricActivityInstance historicActivityInstance) {
+        return HistoricActivityInstanceDto.fromHistoricActivityInstance(historicActivityInstance);
+      }
+    };
+
+    return Response.ok(output, variant.getMediaType()).build();
+  }
+
   @Override
   public CountResultDto getHistoricActivityInstancesCount(UriInfo uriInfo) {
     HistoricActivityInstanceQueryDto queryDto = new HistoricActivityInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
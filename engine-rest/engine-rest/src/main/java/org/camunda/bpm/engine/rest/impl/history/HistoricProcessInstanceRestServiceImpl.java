@@ -20,7 +20,9 @@ import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.history.HistoricProcessInstance;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.history.ReportResult;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.batch.BatchDto;
 import org.camunda.bpm.engine.rest.dto.converter.ReportResultToCsvConverter;
 import org.camunda.bpm.engine.rest.dto.history.DeleteHistoricProcessInstancesDto;
@@ -99,17 +101,46 @@ import java.util.List;
   }
 
   @Override
-  public CountResultDto getHistoricProcessInstancesCount(UriInfo uriInfo) {
+  public KeysetPageDto<HistoricProcessInstanceDto> getHistoricProcessInstancesPage(UriInfo uriInfo, String continuationToken, Integer maxResults) {
     HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
-    return queryHistoricProcessInstancesCount(queryDto);
+    return queryHistoricProcessInstancesPage(queryDto, continuationToken, maxResults);
   }
 
   @Override
-  public CountResultDto queryHistoricProcessInstancesCount(HistoricProcessInstanceQueryDto queryDto) {
+  public KeysetPageDto<HistoricProcessInstanceDto> queryHistoricProcessInstancesPage(HistoricProcessInstanceQueryDto queryDto, String continuationToken, Integer maxResults) {
     queryDto.setObjectMapper(objectMapper);
     HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
 
-    long count = query.count();
+    if (maxResults == null) {
+      maxResults = KeysetPageDto.DEFAULT_MAX_RESULTS;
+    }
+    KeysetPage<HistoricProcessInstance> page = query.listPageAfter(continuationToken, maxResults);
+
+    List<HistoricProcessInstanceDto> historicProcessInstanceDtoResults = new ArrayList<HistoricProcessInstanceDto>();
+    for (HistoricProcessInstance historicProcessInstance : page.getResults()) {
+      historicProcessInstanceDtoResults.add(HistoricProcessInstanceDto.fromHistoricProcessInstance(historicProcessInstance));
+    }
+
+    return new KeysetPageDto<HistoricProcessInstanceDto>(historicProcessInstanceDtoResults, page.getContinuationToken());
+  }
+
+  @Override
+  public CountResultDto getHistoricProcessInstancesCount(UriInfo uriInfo, Integer maxCount) {
+    HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    return queryHistoricProcessInstancesCount(queryDto, maxCount);
+  }
+
+  @Override
+  public CountResultDto queryHistoricProcessInstancesCount(HistoricProcessInstanceQueryDto queryDto, Integer maxCount) {
+    queryDto.setObjectMapper(objectMapper);
+    HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
+
+    long count;
+    if (maxCount != null) {
+      count = query.countUpTo(maxCount);
+    } else {
+      count = query.count();
+    }
     CountResultDto result = new CountResultDto();
     result.setCount(count);
 
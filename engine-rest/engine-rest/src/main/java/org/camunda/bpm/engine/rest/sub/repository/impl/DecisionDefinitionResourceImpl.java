@@ -14,7 +14,6 @@ package org.camunda.bpm.engine.rest.sub.repository.impl;
 
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -25,7 +24,6 @@ import javax.ws.rs.core.UriInfo;
 import org.camunda.bpm.dmn.engine.DmnDecisionResult;
 import org.camunda.bpm.dmn.engine.DmnDecisionResultEntries;
 import org.camunda.bpm.dmn.engine.DmnEngineException;
-import org.camunda.bpm.engine.AuthorizationException;
 import org.camunda.bpm.engine.DecisionService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.ProcessEngineException;
@@ -42,9 +40,7 @@ import org.camunda.bpm.engine.rest.dto.repository.DecisionDefinitionDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.exception.RestException;
 import org.camunda.bpm.engine.rest.sub.repository.DecisionDefinitionResource;
-import org.camunda.bpm.engine.variable.VariableMap;
-import org.camunda.bpm.engine.variable.Variables;
-import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.bpm.engine.rest.util.DecisionEvaluationUtil;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -139,24 +135,11 @@ public class DecisionDefinitionResourceImpl implements DecisionDefinitionResourc
       return createDecisionResultDto(decisionResult);
 
     }
-    catch (AuthorizationException e) {
-      throw e;
-    }
-    catch (NotFoundException e) {
-      String errorMessage = String.format("Cannot evaluate decision %s: %s", decisionDefinitionId, e.getMessage());
-      throw new InvalidRequestException(Status.NOT_FOUND, e, errorMessage);
-    }
-    catch (NotValidException e) {
-      String errorMessage = String.format("Cannot evaluate decision %s: %s", decisionDefinitionId, e.getMessage());
-      throw new InvalidRequestException(Status.BAD_REQUEST, e, errorMessage);
-    }
     catch (ProcessEngineException e) {
-      String errorMessage = String.format("Cannot evaluate decision %s: %s", decisionDefinitionId, e.getMessage());
-      throw new RestException(Status.INTERNAL_SERVER_ERROR, e, errorMessage);
+      throw DecisionEvaluationUtil.createEvaluationException(decisionDefinitionId, e);
     }
     catch (DmnEngineException e) {
-      String errorMessage = String.format("Cannot evaluate decision %s: %s", decisionDefinitionId, e.getMessage());
-      throw new RestException(Status.INTERNAL_SERVER_ERROR, e, errorMessage);
+      throw DecisionEvaluationUtil.createEvaluationException(decisionDefinitionId, e);
     }
   }
 
@@ -166,25 +149,11 @@ public class DecisionDefinitionResourceImpl implements DecisionDefinitionResourc
   }
 
   protected List<Map<String, VariableValueDto>> createDecisionResultDto(DmnDecisionResult decisionResult) {
-    List<Map<String, VariableValueDto>> dto = new ArrayList<Map<String, VariableValueDto>>();
-
-    for (DmnDecisionResultEntries entries : decisionResult) {
-      Map<String, VariableValueDto> resultEntriesDto = createResultEntriesDto(entries);
-      dto.add(resultEntriesDto);
-    }
-
-    return dto;
+    return DecisionEvaluationUtil.createDecisionResultDto(decisionResult);
   }
 
   protected Map<String, VariableValueDto> createResultEntriesDto(DmnDecisionResultEntries entries) {
-    VariableMap variableMap = Variables.createVariables();
-
-    for(String key : entries.keySet()) {
-      TypedValue typedValue = entries.getEntryTyped(key);
-      variableMap.putValueTyped(key, typedValue);
-    }
-
-    return VariableValueDto.fromVariableMap(variableMap);
+    return DecisionEvaluationUtil.createResultEntriesDto(entries);
   }
 
 }
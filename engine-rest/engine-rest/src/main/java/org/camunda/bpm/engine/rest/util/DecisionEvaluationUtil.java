@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.Response.Status;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.dmn.engine.DmnDecisionResultEntries;
+import org.camunda.bpm.engine.AuthorizationException;
+import org.camunda.bpm.engine.exception.NotFoundException;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.rest.dto.VariableValueDto;
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
+import org.camunda.bpm.engine.rest.exception.RestException;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * Converts the results and failures of decision evaluations into their
+ * REST representation.
+ */
+public class DecisionEvaluationUtil {
+
+  public static List<Map<String, VariableValueDto>> createDecisionResultDto(DmnDecisionResult decisionResult) {
+    List<Map<String, VariableValueDto>> dto = new ArrayList<Map<String, VariableValueDto>>();
+
+    for (DmnDecisionResultEntries entries : decisionResult) {
+      Map<String, VariableValueDto> resultEntriesDto = createResultEntriesDto(entries);
+      dto.add(resultEntriesDto);
+    }
+
+    return dto;
+  }
+
+  public static Map<String, VariableValueDto> createResultEntriesDto(DmnDecisionResultEntries entries) {
+    VariableMap variableMap = Variables.createVariables();
+
+    for(String key : entries.keySet()) {
+      TypedValue typedValue = entries.getEntryTyped(key);
+      variableMap.putValueTyped(key, typedValue);
+    }
+
+    return VariableValueDto.fromVariableMap(variableMap);
+  }
+
+  /**
+   * Returns the exception to throw if the evaluation of the given decision failed
+   * with a process engine or DMN engine exception. Authorization exceptions are
+   * returned unchanged.
+   */
+  public static RuntimeException createEvaluationException(String decision, RuntimeException e) {
+    if (e instanceof AuthorizationException) {
+      return e;
+    }
+
+    String errorMessage = String.format("Cannot evaluate decision %s: %s", decision, e.getMessage());
+
+    if (e instanceof NotFoundException) {
+      return new InvalidRequestException(Status.NOT_FOUND, e, errorMessage);
+    }
+    else if (e instanceof NotValidException) {
+      return new InvalidRequestException(Status.BAD_REQUEST, e, errorMessage);
+    }
+    else {
+      return new RestException(Status.INTERNAL_SERVER_ERROR, e, errorMessage);
+    }
+  }
+
+}
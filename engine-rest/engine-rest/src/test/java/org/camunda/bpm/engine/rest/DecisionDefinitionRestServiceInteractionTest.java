@@ -18,6 +18,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -31,8 +32,11 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.ws.rs.core.Response.Status;
@@ -86,6 +90,8 @@ public class DecisionDefinitionRestServiceInteractionTest extends AbstractRestSe
   protected static final String EVALUATE_DECISION_URL = SINGLE_DECISION_DEFINITION_URL + "/evaluate";
   protected static final String EVALUATE_DECISION_BY_KEY_URL = SINGLE_DECISION_DEFINITION_BY_KEY_URL + "/evaluate";
   protected static final String EVALUATE_DECISION_BY_KEY_AND_TENANT_ID_URL = SINGLE_DECISION_DEFINITION_BY_KEY_AND_TENANT_ID_URL + "/evaluate";
+  protected static final String EVALUATE_DECISION_BATCH_BY_KEY_URL = SINGLE_DECISION_DEFINITION_BY_KEY_URL + "/evaluate-batch";
+  protected static final String EVALUATE_DECISION_BATCH_BY_KEY_AND_TENANT_ID_URL = SINGLE_DECISION_DEFINITION_BY_KEY_AND_TENANT_ID_URL + "/evaluate-batch";
   protected static final String UPDATE_HISTORY_TIME_TO_LIVE_URL = SINGLE_DECISION_DEFINITION_URL + "/history-time-to-live";
 
   private RepositoryService repositoryServiceMock;
@@ -128,6 +134,8 @@ public class DecisionDefinitionRestServiceInteractionTest extends AbstractRestSe
   private void setUpDecisionService() {
     decisionEvaluationBuilderMock = mock(DecisionsEvaluationBuilder.class);
     when(decisionEvaluationBuilderMock.variables(anyMapOf(String.class, Object.class))).thenReturn(decisionEvaluationBuilderMock);
+    when(decisionEvaluationBuilderMock.decisionDefinitionWithoutTenantId()).thenReturn(decisionEvaluationBuilderMock);
+    when(decisionEvaluationBuilderMock.decisionDefinitionTenantId(anyString())).thenReturn(decisionEvaluationBuilderMock);
 
     decisionServiceMock = mock(DecisionService.class);
     when(decisionServiceMock.evaluateDecisionById(MockProvider.EXAMPLE_DECISION_DEFINITION_ID)).thenReturn(decisionEvaluationBuilderMock);
@@ -417,6 +425,85 @@ public class DecisionDefinitionRestServiceInteractionTest extends AbstractRestSe
     verify(decisionEvaluationBuilderMock).evaluate();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testEvaluateDecisionBatchByKey() {
+    List<DmnDecisionResult> decisionResults = Arrays.asList(MockProvider.createMockDecisionResult(), MockProvider.createMockDecisionResult());
+
+    when(decisionEvaluationBuilderMock.evaluateAll(anyListOf((Class<Map<String, Object>>) (Class<?>) Map.class))).thenReturn(decisionResults);
+
+    List<Map<String, Object>> variables = new ArrayList<Map<String, Object>>();
+    variables.add(VariablesBuilder.create().variable("amount", 420).getVariables());
+    variables.add(VariablesBuilder.create().variable("amount", 840).getVariables());
+
+    Map<String, Object> json = new HashMap<String, Object>();
+    json.put("variables", variables);
+
+    given().pathParam("key", MockProvider.EXAMPLE_DECISION_DEFINITION_KEY)
+      .contentType(POST_JSON_CONTENT_TYPE).body(json)
+      .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("size()", is(2))
+      .when().post(EVALUATE_DECISION_BATCH_BY_KEY_URL);
+
+    List<Map<String, Object>> expectedVariables = new ArrayList<Map<String, Object>>();
+    expectedVariables.add(Collections.<String, Object>singletonMap("amount", 420));
+    expectedVariables.add(Collections.<String, Object>singletonMap("amount", 840));
+
+    verify(decisionEvaluationBuilderMock).decisionDefinitionWithoutTenantId();
+    verify(decisionEvaluationBuilderMock).evaluateAll(expectedVariables);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testEvaluateDecisionBatchByKeyAndTenantId() {
+    List<DmnDecisionResult> decisionResults = Arrays.asList(MockProvider.createMockDecisionResult());
+
+    when(decisionEvaluationBuilderMock.evaluateAll(anyListOf((Class<Map<String, Object>>) (Class<?>) Map.class))).thenReturn(decisionResults);
+
+    Map<String, Object> json = new HashMap<String, Object>();
+    json.put("variables", Collections.singletonList(VariablesBuilder.create().variable("amount", 420).getVariables()));
+
+    given()
+      .pathParam("key", MockProvider.EXAMPLE_DECISION_DEFINITION_KEY)
+      .pathParam("tenant-id", MockProvider.EXAMPLE_TENANT_ID)
+      .contentType(POST_JSON_CONTENT_TYPE).body(json)
+      .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("size()", is(1))
+      .when().post(EVALUATE_DECISION_BATCH_BY_KEY_AND_TENANT_ID_URL);
+
+    verify(decisionEvaluationBuilderMock).decisionDefinitionTenantId(MockProvider.EXAMPLE_TENANT_ID);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testEvaluateDecisionBatchByKey_NotFound() {
+    String message = "expected message";
+    when(decisionEvaluationBuilderMock.evaluateAll(anyListOf((Class<Map<String, Object>>) (Class<?>) Map.class))).thenThrow(new NotFoundException(message));
+
+    Map<String, Object> json = new HashMap<String, Object>();
+    json.put("variables", Collections.singletonList(Collections.emptyMap()));
+
+    given().pathParam("key", MockProvider.EXAMPLE_DECISION_DEFINITION_KEY)
+      .contentType(POST_JSON_CONTENT_TYPE).body(json)
+      .then().expect()
+        .statusCode(Status.NOT_FOUND.getStatusCode()).contentType(ContentType.JSON)
+        .body("type", is(InvalidRequestException.class.getSimpleName()))
+        .body("message", containsString(message))
+    .when().post(EVALUATE_DECISION_BATCH_BY_KEY_URL);
+  }
+
+  @Test
+  public void testEvaluateDecisionBatchByKeyWithoutVariables() {
+    given().pathParam("key", MockProvider.EXAMPLE_DECISION_DEFINITION_KEY)
+      .contentType(POST_JSON_CONTENT_TYPE).body(EMPTY_JSON_OBJECT)
+      .then().expect()
+        .statusCode(Status.BAD_REQUEST.getStatusCode()).contentType(ContentType.JSON)
+        .body("type", is(InvalidRequestException.class.getSimpleName()))
+    .when().post(EVALUATE_DECISION_BATCH_BY_KEY_URL);
+  }
+
   @Test
   public void testEvaluateDecisionById() {
     DmnDecisionResult decisionResult = MockProvider.createMockDecisionResult();
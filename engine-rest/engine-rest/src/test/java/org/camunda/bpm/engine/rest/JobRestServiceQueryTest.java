@@ -35,6 +35,8 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response.Status;
 
 import org.camunda.bpm.engine.impl.calendar.DateTimeUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.helper.MockProvider;
 import org.camunda.bpm.engine.rest.util.OrderingBuilder;
@@ -57,6 +59,7 @@ public class JobRestServiceQueryTest extends AbstractRestServiceTest {
   public static TestContainerRule rule = new TestContainerRule();
 
   protected static final String JOBS_RESOURCE_URL = TEST_RESOURCE_ROOT_PATH + "/job";
+  protected static final String JOBS_QUERY_PAGE_URL = JOBS_RESOURCE_URL + "/page";
   protected static final String JOBS_QUERY_COUNT_URL = JOBS_RESOURCE_URL + "/count";
 
   private JobQuery mockQuery;
@@ -719,4 +722,52 @@ public class JobRestServiceQueryTest extends AbstractRestServiceTest {
         MockProvider.mockJob().tenantId(MockProvider.ANOTHER_EXAMPLE_TENANT_ID).build());
   }
 
+  @Test
+  public void testKeysetPage() {
+    mockKeysetPage();
+
+    given()
+        .queryParam("continuationToken", "aContinuationToken")
+        .queryParam("maxResults", 1)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+          .body("items.size()", equalTo(1))
+          .body("continuationToken", equalTo("aNextContinuationToken"))
+        .when()
+          .get(JOBS_QUERY_PAGE_URL);
+
+    verify(mockQuery).listPageAfter("aContinuationToken", 1);
+  }
+
+  @Test
+  public void testKeysetPageAsPost() {
+    mockKeysetPage();
+
+    given()
+        .contentType(POST_JSON_CONTENT_TYPE)
+        .body(EMPTY_JSON_OBJECT)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+          .body("items.size()", equalTo(1))
+          .body("continuationToken", equalTo("aNextContinuationToken"))
+        .when()
+          .post(JOBS_QUERY_PAGE_URL);
+
+    // without maxResults a page of the default size is fetched
+    verify(mockQuery).listPageAfter(null, KeysetPageDto.DEFAULT_MAX_RESULTS);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void mockKeysetPage() {
+    KeysetPage<Job> page = mock(KeysetPage.class);
+    when(page.getResults()).thenReturn(Arrays.asList(MockProvider.createMockJob()));
+    when(page.getContinuationToken()).thenReturn("aNextContinuationToken");
+
+    when(mockQuery.listPageAfter(Mockito.anyString(), Mockito.anyInt())).thenReturn(page);
+  }
+
 }
@@ -31,6 +31,9 @@ import javax.ws.rs.core.Response.Status;
 import org.camunda.bpm.engine.ManagementService;
 import org.camunda.bpm.engine.management.Metrics;
 import org.camunda.bpm.engine.management.MetricsQuery;
+import org.camunda.bpm.engine.rest.hal.Hal;
+import org.camunda.bpm.engine.rest.hal.cache.DefaultHalResourceCache;
+import org.camunda.bpm.engine.rest.hal.user.HalUser;
 import org.camunda.bpm.engine.rest.helper.MockProvider;
 import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
 import org.junit.Before;
@@ -48,6 +51,7 @@ public class MetricsRestServiceInteractionTest extends AbstractRestServiceTest {
   public static final String METRICS_URL = TEST_RESOURCE_ROOT_PATH + MetricsRestService.PATH;
   public static final String SINGLE_METER_URL = METRICS_URL + "/{name}";
   public static final String SUM_URL = SINGLE_METER_URL + "/sum";
+  public static final String HAL_CACHE_URL = METRICS_URL + "/hal-cache";
 
   protected ManagementService managementServiceMock;
   private MetricsQuery meterQueryMock;
@@ -296,5 +300,31 @@ public class MetricsRestServiceInteractionTest extends AbstractRestServiceTest {
 
   }
 
+  @Test
+  public void testGetHalCacheMetrics() {
+    DefaultHalResourceCache cache = new DefaultHalResourceCache(100, 100);
+    cache.put("aUserId", "aUser");
+    cache.get("aUserId");
+    cache.get("anotherUserId");
+    Hal.getInstance().registerHalRelationCache(HalUser.class, cache);
+
+    try {
+      given()
+        .then().expect()
+          .statusCode(Status.OK.getStatusCode())
+          .body("size()", equalTo(1))
+          .body("[0].resourceType", equalTo(HalUser.class.getName()))
+          .body("[0].size", equalTo(1))
+          .body("[0].hitCount", equalTo(1))
+          .body("[0].missCount", equalTo(1))
+          .body("[0].evictionCount", equalTo(0))
+          .body("[0].expirationCount", equalTo(0))
+        .when()
+          .get(HAL_CACHE_URL);
+    }
+    finally {
+      Hal.getInstance().destroyHalRelationCaches();
+    }
+  }
 
 }
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -33,10 +34,12 @@ import org.camunda.bpm.container.RuntimeContainerDelegate;
 import org.camunda.bpm.engine.identity.User;
 import org.camunda.bpm.engine.identity.UserQuery;
 import org.camunda.bpm.engine.impl.TaskQueryImpl;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.repository.CaseDefinition;
 import org.camunda.bpm.engine.repository.CaseDefinitionQuery;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.repository.ProcessDefinitionQuery;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.hal.Hal;
@@ -44,6 +47,7 @@ import org.camunda.bpm.engine.rest.helper.EqualsList;
 import org.camunda.bpm.engine.rest.helper.MockProvider;
 import org.camunda.bpm.engine.rest.helper.ValueGenerator;
 import org.camunda.bpm.engine.rest.helper.variable.EqualsPrimitiveValue;
+import org.camunda.bpm.engine.rest.impl.QueryResultStreamingOutput;
 import org.camunda.bpm.engine.rest.util.OrderingBuilder;
 import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
 import org.camunda.bpm.engine.task.DelegationState;
@@ -67,6 +71,8 @@ public class TaskRestServiceQueryTest extends AbstractRestServiceTest {
   public static TestContainerRule rule = new TestContainerRule();
 
   protected static final String TASK_QUERY_URL = TEST_RESOURCE_ROOT_PATH + "/task";
+  protected static final String TASK_PAGE_QUERY_URL = TASK_QUERY_URL + "/page";
+  protected static final String TASK_STREAM_QUERY_URL = TASK_QUERY_URL + "/stream";
   protected static final String TASK_COUNT_QUERY_URL = TASK_QUERY_URL + "/count";
   private TaskQuery mockQuery;
 
@@ -1420,6 +1426,85 @@ public class TaskRestServiceQueryTest extends AbstractRestServiceTest {
     verify(mockQuery).count();
   }
 
+  @Test
+  public void testQueryCountWithMaxCount() {
+    when(mockQuery.countUpTo(10)).thenReturn(11L);
+
+    given()
+        .queryParam("maxCount", 10)
+        .header("accept", MediaType.APPLICATION_JSON)
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("count", equalTo(11))
+      .when()
+        .get(TASK_COUNT_QUERY_URL);
+
+    verify(mockQuery).countUpTo(10);
+    verify(mockQuery, never()).count();
+  }
+
+  @Test
+  public void testQueryCountWithMaxCountForPost() {
+    when(mockQuery.countUpTo(10)).thenReturn(11L);
+
+    given().contentType(POST_JSON_CONTENT_TYPE).body(EMPTY_JSON_OBJECT)
+    .queryParam("maxCount", 10)
+    .header("accept", MediaType.APPLICATION_JSON)
+    .expect().statusCode(Status.OK.getStatusCode())
+      .body("count", equalTo(11))
+      .when().post(TASK_COUNT_QUERY_URL);
+
+    verify(mockQuery).countUpTo(10);
+    verify(mockQuery, never()).count();
+  }
+
+  @Test
+  public void testHalTaskQueryWithoutCount() {
+    mockQuery = setUpMockTaskQuery(new ArrayList<Task>());
+
+    Response response = given()
+      .queryParam("withoutCount", true)
+      .header("accept", Hal.APPLICATION_HAL_JSON)
+      .then().expect().statusCode(Status.OK.getStatusCode())
+      .contentType(Hal.APPLICATION_HAL_JSON)
+      .when().get(TASK_QUERY_URL);
+
+    // the count is omitted
+    Assert.assertFalse(from(response.asString()).getMap("").containsKey("count"));
+
+    verify(mockQuery, never()).count();
+    verify(mockQuery, never()).countUpTo(Mockito.anyInt());
+  }
+
+  @Test
+  public void testHalTaskQueryWithMaxCount() {
+    mockQuery = setUpMockTaskQuery(new ArrayList<Task>());
+    when(mockQuery.countUpTo(10)).thenReturn(11L);
+
+    Response response = given()
+      .queryParam("maxCount", 10)
+      .header("accept", Hal.APPLICATION_HAL_JSON)
+      .then().expect().statusCode(Status.OK.getStatusCode())
+      .contentType(Hal.APPLICATION_HAL_JSON)
+      .when().get(TASK_QUERY_URL);
+
+    Assert.assertEquals(11l, from(response.asString()).getLong("count"));
+
+    verify(mockQuery).countUpTo(10);
+    verify(mockQuery, never()).count();
+  }
+
+  @Test
+  public void testHalTaskQueryWithInvalidMaxCount() {
+    given()
+      .queryParam("maxCount", "invalid")
+      .header("accept", Hal.APPLICATION_HAL_JSON)
+      .then().expect().statusCode(Status.BAD_REQUEST.getStatusCode())
+      .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+      .body("message", equalTo("Cannot set query parameter 'maxCount' to value 'invalid'"))
+      .when().get(TASK_QUERY_URL);
+  }
+
   @Test
   public void testQueryWithExpressions() {
     String testExpression = "${'test-%s'}";
@@ -1579,4 +1664,138 @@ public class TaskRestServiceQueryTest extends AbstractRestServiceTest {
     assertEquals(MockProvider.EXAMPLE_TASK_DESCRIPTION, argument.getValue().getDescription());
   }
 
+  @Test
+  public void testKeysetPage() {
+    mockKeysetPage();
+
+    given()
+        .queryParam("continuationToken", "aContinuationToken")
+        .queryParam("maxResults", 1)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+          .body("items.size()", equalTo(1))
+          .body("continuationToken", equalTo("aNextContinuationToken"))
+        .when()
+          .get(TASK_PAGE_QUERY_URL);
+
+    verify(mockQuery).listPageAfter("aContinuationToken", 1);
+  }
+
+  @Test
+  public void testKeysetPageAsPost() {
+    mockKeysetPage();
+
+    given()
+        .contentType(POST_JSON_CONTENT_TYPE)
+        .body(EMPTY_JSON_OBJECT)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+          .body("items.size()", equalTo(1))
+          .body("continuationToken", equalTo("aNextContinuationToken"))
+        .when()
+          .post(TASK_PAGE_QUERY_URL);
+
+    // without maxResults a page of the default size is fetched
+    verify(mockQuery).listPageAfter(null, KeysetPageDto.DEFAULT_MAX_RESULTS);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void mockKeysetPage() {
+    KeysetPage<Task> page = mock(KeysetPage.class);
+    when(page.getResults()).thenReturn(Arrays.asList(MockProvider.createMockTask()));
+    when(page.getContinuationToken()).thenReturn("aNextContinuationToken");
+
+    when(mockQuery.listPageAfter(Mockito.anyString(), Mockito.anyInt())).thenReturn(page);
+  }
+
+  @Test
+  public void testStreamQueryInChunks() {
+    mockStreamChunks();
+
+    Response response = given()
+        .queryParam("name", MockProvider.EXAMPLE_TASK_NAME)
+        .queryParam("chunkSize", 1)
+        .accept(MediaType.APPLICATION_JSON)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+        .when()
+          .get(TASK_STREAM_QUERY_URL);
+
+    verify(mockQuery).taskName(MockProvider.EXAMPLE_TASK_NAME);
+    verify(mockQuery).initializeFormKeys();
+
+    InOrder inOrder = inOrder(mockQuery);
+    inOrder.verify(mockQuery).listPageAfter(null, 1);
+    inOrder.verify(mockQuery).listPageAfter("aContinuationToken", 1);
+
+    String content = response.asString();
+    List<String> tasks = from(content).getList("");
+    Assert.assertEquals(2, tasks.size());
+    Assert.assertEquals(MockProvider.EXAMPLE_TASK_ID, from(content).getString("[0].id"));
+    Assert.assertEquals(MockProvider.EXAMPLE_TASK_NAME, from(content).getString("[0].name"));
+    Assert.assertEquals("anotherTaskId", from(content).getString("[1].id"));
+  }
+
+  @Test
+  public void testStreamQueryAsNdjson() {
+    mockStreamChunks();
+
+    Map<String, Object> queryParameters = new HashMap<String, Object>();
+    queryParameters.put("assignee", MockProvider.EXAMPLE_TASK_ASSIGNEE_NAME);
+
+    Response response = given()
+        .contentType(POST_JSON_CONTENT_TYPE)
+        .body(queryParameters)
+        .queryParam("chunkSize", 1)
+        .accept(QueryResultStreamingOutput.APPLICATION_NDJSON)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(QueryResultStreamingOutput.APPLICATION_NDJSON)
+        .when()
+          .post(TASK_STREAM_QUERY_URL);
+
+    verify(mockQuery).taskAssignee(MockProvider.EXAMPLE_TASK_ASSIGNEE_NAME);
+
+    String[] lines = response.asString().split("\n");
+    Assert.assertEquals(2, lines.length);
+    Assert.assertEquals(MockProvider.EXAMPLE_TASK_ID, from(lines[0]).getString("id"));
+    Assert.assertEquals("anotherTaskId", from(lines[1]).getString("id"));
+  }
+
+  @Test
+  public void testStreamQueryWithDefaultChunkSize() {
+    mockStreamChunks();
+
+    given()
+        .accept(MediaType.APPLICATION_JSON)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+        .when()
+          .get(TASK_STREAM_QUERY_URL);
+
+    verify(mockQuery).listPageAfter(null, QueryResultStreamingOutput.DEFAULT_CHUNK_SIZE);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void mockStreamChunks() {
+    KeysetPage<Task> firstChunk = mock(KeysetPage.class);
+    when(firstChunk.getResults()).thenReturn(Arrays.asList(MockProvider.createMockTask()));
+    when(firstChunk.hasMoreResults()).thenReturn(true);
+    when(firstChunk.getContinuationToken()).thenReturn("aContinuationToken");
+
+    KeysetPage<Task> lastChunk = mock(KeysetPage.class);
+    when(lastChunk.getResults()).thenReturn(Arrays.asList(MockProvider.mockTask().id("anotherTaskId").build()));
+
+    when(mockQuery.listPageAfter(Mockito.<String>any(), Mockito.anyInt())).thenReturn(lastChunk);
+    when(mockQuery.listPageAfter(null, 1)).thenReturn(firstChunk);
+  }
+
 }
@@ -24,7 +24,9 @@ import javax.ws.rs.core.Response.Status;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
 import org.camunda.bpm.engine.history.HistoricActivityInstanceQuery;
 import org.camunda.bpm.engine.impl.calendar.DateTimeUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.AbstractRestServiceTest;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.helper.MockProvider;
 import org.camunda.bpm.engine.rest.util.OrderingBuilder;
@@ -45,9 +47,12 @@ public class HistoricActivityInstanceRestServiceQueryTest extends AbstractRestSe
   public static TestContainerRule rule = new TestContainerRule();
 
   protected static final String HISTORIC_ACTIVITY_INSTANCE_RESOURCE_URL = TEST_RESOURCE_ROOT_PATH + "/history/activity-instance";
+  protected static final String HISTORIC_ACTIVITY_INSTANCE_PAGE_RESOURCE_URL = HISTORIC_ACTIVITY_INSTANCE_RESOURCE_URL + "/page";
 
   protected static final String HISTORIC_ACTIVITY_INSTANCE_COUNT_RESOURCE_URL = HISTORIC_ACTIVITY_INSTANCE_RESOURCE_URL + "/count";
 
+  protected static final String HISTORIC_ACTIVITY_INSTANCE_STREAM_RESOURCE_URL = HISTORIC_ACTIVITY_INSTANCE_RESOURCE_URL + "/stream";
+
   protected HistoricActivityInstanceQuery mockedQuery;
 
   @Before
@@ -810,9 +815,121 @@ public class HistoricActivityInstanceRestServiceQueryTest extends AbstractRestSe
     assertThat(returnedTenantId2).isEqualTo(MockProvider.ANOTHER_EXAMPLE_TENANT_ID);
   }
 
+  @Test
+  public void testStreamQueryInChunks() {
+    mockStreamChunks();
+
+    Response response = given()
+        .queryParam("chunkSize", 1)
+        .accept(MediaType.APPLICATION_JSON)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+        .when()
+          .get(HISTORIC_ACTIVITY_INSTANCE_STREAM_RESOURCE_URL);
+
+    InOrder inOrder = inOrder(mockedQuery);
+    inOrder.verify(mockedQuery).listPageAfter(null, 1);
+    inOrder.verify(mockedQuery).listPageAfter("aContinuationToken", 1);
+
+    String content = response.asString();
+    List<String> instances = from(content).getList("");
+    assertThat(instances).hasSize(2);
+    assertThat(from(content).getString("[0].tenantId")).isEqualTo(MockProvider.EXAMPLE_TENANT_ID);
+    assertThat(from(content).getString("[1].tenantId")).isEqualTo(MockProvider.ANOTHER_EXAMPLE_TENANT_ID);
+  }
+
+  @Test
+  public void testStreamQueryAsNdjson() {
+    mockStreamChunks();
+
+    Response response = given()
+        .contentType(POST_JSON_CONTENT_TYPE)
+        .body(EMPTY_JSON_OBJECT)
+        .queryParam("chunkSize", 1)
+        .accept("application/x-ndjson")
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType("application/x-ndjson")
+        .when()
+          .post(HISTORIC_ACTIVITY_INSTANCE_STREAM_RESOURCE_URL);
+
+    String[] lines = response.asString().split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(from(lines[0]).getString("tenantId")).isEqualTo(MockProvider.EXAMPLE_TENANT_ID);
+    assertThat(from(lines[1]).getString("tenantId")).isEqualTo(MockProvider.ANOTHER_EXAMPLE_TENANT_ID);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void mockStreamChunks() {
+    List<HistoricActivityInstance> instances = createMockHistoricActivityInstancesTwoTenants();
+
+    KeysetPage<HistoricActivityInstance> firstChunk = mock(KeysetPage.class);
+    when(firstChunk.getResults()).thenReturn(instances.subList(0, 1));
+    when(firstChunk.hasMoreResults()).thenReturn(true);
+    when(firstChunk.getContinuationToken()).thenReturn("aContinuationToken");
+
+    KeysetPage<HistoricActivityInstance> lastChunk = mock(KeysetPage.class);
+    when(lastChunk.getResults()).thenReturn(instances.subList(1, 2));
+
+    when(mockedQuery.listPageAfter(null, 1)).thenReturn(firstChunk);
+    when(mockedQuery.listPageAfter("aContinuationToken", 1)).thenReturn(lastChunk);
+  }
+
   private List<HistoricActivityInstance> createMockHistoricActivityInstancesTwoTenants() {
     return Arrays.asList(
         MockProvider.createMockHistoricActivityInstance(MockProvider.EXAMPLE_TENANT_ID),
         MockProvider.createMockHistoricActivityInstance(MockProvider.ANOTHER_EXAMPLE_TENANT_ID));
   }
+
+  @Test
+  public void testKeysetPage() {
+    mockKeysetPage();
+
+    given()
+        .queryParam("continuationToken", "aContinuationToken")
+        .queryParam("maxResults", 1)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+          .body("items.size()", equalTo(1))
+          .body("continuationToken", equalTo("aNextContinuationToken"))
+        .when()
+          .get(HISTORIC_ACTIVITY_INSTANCE_PAGE_RESOURCE_URL);
+
+    verify(mockedQuery).listPageAfter("aContinuationToken", 1);
+  }
+
+  @Test
+  public void testKeysetPageAsPost() {
+    mockKeysetPage();
+
+    given()
+        .contentType(POST_JSON_CONTENT_TYPE)
+        .body(EMPTY_JSON_OBJECT)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+          .body("items.size()", equalTo(1))
+          .body("continuationToken", equalTo("aNextContinuationToken"))
+        .when()
+          .post(HISTORIC_ACTIVITY_INSTANCE_PAGE_RESOURCE_URL);
+
+    // without maxResults a page of the default size is fetched
+    verify(mockedQuery).listPageAfter(null, KeysetPageDto.DEFAULT_MAX_RESULTS);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void mockKeysetPage() {
+    KeysetPage<HistoricActivityInstance> page = mock(KeysetPage.class);
+    when(page.getResults()).thenReturn(Arrays.asList(MockProvider.createMockHistoricActivityInstance()));
+    when(page.getContinuationToken()).thenReturn("aNextContinuationToken");
+
+    when(mockedQuery.listPageAfter(Mockito.anyString(), Mockito.anyInt())).thenReturn(page);
+  }
+
 }
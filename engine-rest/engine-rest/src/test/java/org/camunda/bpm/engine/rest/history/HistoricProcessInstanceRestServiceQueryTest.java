@@ -16,7 +16,9 @@ import com.jayway.restassured.response.Response;
 import org.camunda.bpm.engine.history.HistoricProcessInstance;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.impl.calendar.DateTimeUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.AbstractRestServiceTest;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.helper.MockProvider;
 import org.camunda.bpm.engine.rest.helper.variable.EqualsPrimitiveValue;
@@ -38,6 +40,7 @@ import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -56,6 +59,7 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
   public static TestContainerRule rule = new TestContainerRule();
 
   protected static final String HISTORIC_PROCESS_INSTANCE_RESOURCE_URL = TEST_RESOURCE_ROOT_PATH + "/history/process-instance";
+  protected static final String HISTORIC_PROCESS_INSTANCE_PAGE_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/page";
   protected static final String HISTORIC_PROCESS_INSTANCE_COUNT_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/count";
 
   protected HistoricProcessInstanceQuery mockedQuery;
@@ -367,6 +371,42 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     verify(mockedQuery).count();
   }
 
+  @Test
+  public void testQueryCountWithMaxCount() {
+    when(mockedQuery.countUpTo(10)).thenReturn(11L);
+
+    given()
+      .queryParam("maxCount", 10)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("count", equalTo(11))
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_COUNT_RESOURCE_URL);
+
+    verify(mockedQuery).countUpTo(10);
+    verify(mockedQuery, never()).count();
+  }
+
+  @Test
+  public void testQueryCountWithMaxCountForPost() {
+    when(mockedQuery.countUpTo(10)).thenReturn(11L);
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(EMPTY_JSON_OBJECT)
+      .queryParam("maxCount", 10)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("count", equalTo(11))
+      .when()
+        .post(HISTORIC_PROCESS_INSTANCE_COUNT_RESOURCE_URL);
+
+    verify(mockedQuery).countUpTo(10);
+    verify(mockedQuery, never()).count();
+  }
+
   @Test
   public void testSimpleHistoricProcessQuery() {
     String processInstanceId = MockProvider.EXAMPLE_PROCESS_INSTANCE_ID;
@@ -1568,4 +1608,52 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     return parameters;
   }
 
+  @Test
+  public void testKeysetPage() {
+    mockKeysetPage();
+
+    given()
+        .queryParam("continuationToken", "aContinuationToken")
+        .queryParam("maxResults", 1)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+          .body("items.size()", equalTo(1))
+          .body("continuationToken", equalTo("aNextContinuationToken"))
+        .when()
+          .get(HISTORIC_PROCESS_INSTANCE_PAGE_RESOURCE_URL);
+
+    verify(mockedQuery).listPageAfter("aContinuationToken", 1);
+  }
+
+  @Test
+  public void testKeysetPageAsPost() {
+    mockKeysetPage();
+
+    given()
+        .contentType(POST_JSON_CONTENT_TYPE)
+        .body(EMPTY_JSON_OBJECT)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .contentType(ContentType.JSON)
+          .body("items.size()", equalTo(1))
+          .body("continuationToken", equalTo("aNextContinuationToken"))
+        .when()
+          .post(HISTORIC_PROCESS_INSTANCE_PAGE_RESOURCE_URL);
+
+    // without maxResults a page of the default size is fetched
+    verify(mockedQuery).listPageAfter(null, KeysetPageDto.DEFAULT_MAX_RESULTS);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void mockKeysetPage() {
+    KeysetPage<HistoricProcessInstance> page = mock(KeysetPage.class);
+    when(page.getResults()).thenReturn(Arrays.asList(MockProvider.createMockHistoricProcessInstance()));
+    when(page.getContinuationToken()).thenReturn("aNextContinuationToken");
+
+    when(mockedQuery.listPageAfter(Mockito.anyString(), Mockito.anyInt())).thenReturn(page);
+  }
+
 }
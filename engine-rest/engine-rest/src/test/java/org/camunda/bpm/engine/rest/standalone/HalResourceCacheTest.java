@@ -115,6 +115,84 @@ public class HalResourceCacheTest extends AbstractRestServiceTest {
     assertEquals(0, cache.size());
   }
 
+  @Test
+  public void testLeastRecentlyUsedEviction() {
+    // a single segment
+    cache = new DefaultHalResourceCache(16, 100);
+    for (int i = 0; i < 16; i++) {
+      cache.put("id" + i, i);
+    }
+
+    // access the oldest entry
+    assertEquals(0, cache.get("id0"));
+
+    cache.put("id16", 16);
+
+    // the least recently used entry was evicted
+    assertEquals(16, cache.size());
+    assertEquals(0, cache.get("id0"));
+    assertNull(cache.get("id1"));
+    assertEquals(1, cache.getEvictionCount());
+  }
+
+  @Test
+  public void testCacheStatistics() {
+    cache.put("hello", "world");
+
+    cache.get("hello");
+    cache.get("hello");
+    cache.get("unknown");
+
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(0, cache.getExpirationCount());
+
+    forwardTime(cache.getSecondsToLive() + 1);
+    cache.get("hello");
+
+    assertEquals(2, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(1, cache.getExpirationCount());
+  }
+
+  @Test
+  public void testExpiredEntriesAreRemovedOnPut() {
+    cache.put("a", "a");
+    cache.put("b", "b");
+
+    forwardTime(cache.getSecondsToLive() + 1);
+    cache.put("c", "c");
+
+    assertEquals(1, cache.size());
+    assertEquals(2, cache.getExpirationCount());
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    final DefaultHalResourceCache cache = new DefaultHalResourceCache(64, 100, 4);
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      final int offset = i;
+      threads[i] = new Thread() {
+        public void run() {
+          for (int j = 0; j < 1000; j++) {
+            String id = "id" + ((offset + j) % 100);
+            if (cache.get(id) == null) {
+              cache.put(id, j);
+            }
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue(cache.size() <= cache.getCapacity());
+    assertEquals(8000, cache.getHitCount() + cache.getMissCount());
+  }
+
   @Test
   public void testInvalidConfigurationFormat() {
     try {
@@ -154,7 +232,7 @@ public class HalResourceCacheTest extends AbstractRestServiceTest {
         "\"" + CONFIG_CACHE_IMPLEMENTATION + "\": \"" + DefaultHalResourceCache.class.getName() + "\"," +
         "\"" + CONFIG_CACHES + "\": {" +
           "\"" + HalUser.class.getName() + "\": {" +
-            "\"capacity\": 123, \"secondsToLive\": 123" +
+            "\"capacity\": 123, \"secondsToLive\": 123, \"concurrencyLevel\": 4" +
           "}" +
         "}" +
       "}";
@@ -165,6 +243,7 @@ public class HalResourceCacheTest extends AbstractRestServiceTest {
     assertNotNull(cache);
     assertEquals(123, ((DefaultHalResourceCache) cache).getCapacity());
     assertEquals(123, ((DefaultHalResourceCache) cache).getSecondsToLive());
+    assertEquals(4, ((DefaultHalResourceCache) cache).getConcurrencyLevel());
   }
 
   @Test
@@ -80,4 +80,34 @@ public interface BatchStatistics extends Batch {
    */
   int getFailedJobs();
 
+  /**
+   * <p>
+   *   The number of batch execution jobs the batch throughput control aims
+   *   to execute at the same time. It depends on the number of job executor
+   *   threads and the configured target executor share.
+   * </p>
+   *
+   * @return the target number of concurrently executed batch execution jobs,
+   *   or <code>0</code> if the batch throughput control is disabled
+   */
+  int getTargetConcurrentJobs();
+
+  /**
+   * @return the execution time in milliseconds the batch throughput control aims
+   *   for a batch execution job, or <code>0</code> if it is disabled
+   */
+  long getTargetJobExecutionTime();
+
+  /**
+   * <p>
+   *   The average execution time of the batch execution jobs observed by this
+   *   process engine. The batch throughput control resizes the batch execution
+   *   jobs based on it.
+   * </p>
+   *
+   * @return the average execution time in milliseconds, or <code>0</code> if the
+   *   batch throughput control is disabled or no batch execution job was observed
+   */
+  long getAverageJobExecutionTime();
+
 }
@@ -12,6 +12,7 @@
  */
 package org.camunda.bpm.engine.dmn;
 
+import java.util.List;
 import java.util.Map;
 
 import org.camunda.bpm.dmn.engine.DmnDecisionResult;
@@ -66,4 +67,23 @@ public interface DecisionsEvaluationBuilder {
    */
   DmnDecisionResult evaluate();
 
+  /**
+   * Evaluates the decision once for each of the given input values. The decision
+   * definition is looked up and the permission is checked once for all evaluations.
+   * The input values set by {@link #variables(Map)} are ignored.
+   *
+   * @return the results of the evaluations in the order of the given input values.
+   *
+   * @throws NotFoundException
+   *           when no decision definition is deployed with the given id / key.
+   *
+   * @throws NotValidException
+   *           when the given decision definition id / key or the list of input values is null.
+   *
+   * @throws AuthorizationException
+   *           if the user has no {@link Permissions#CREATE_INSTANCE} permission
+   *           on {@link Resources#DECISION_DEFINITION}.
+   */
+  List<DmnDecisionResult> evaluateAll(List<Map<String, Object>> variablesList);
+
 }
@@ -15,7 +15,7 @@ package org.camunda.bpm.engine.history;
 
 import java.util.Date;
 
-import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.query.KeysetPaginatedQuery;
 
 
 /**
@@ -23,7 +23,7 @@ import org.camunda.bpm.engine.query.Query;
  *
  * @author Tom Baeyens
  */
-public interface HistoricActivityInstanceQuery extends Query<HistoricActivityInstanceQuery, HistoricActivityInstance>{
+public interface HistoricActivityInstanceQuery extends KeysetPaginatedQuery<HistoricActivityInstanceQuery, HistoricActivityInstance>{
 
   /** Only select historic activity instances with the given id (primary key within history tables). */
   HistoricActivityInstanceQuery activityInstanceId(String activityInstanceId);
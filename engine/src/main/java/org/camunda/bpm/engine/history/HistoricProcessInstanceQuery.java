@@ -18,7 +18,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import org.camunda.bpm.engine.ProcessEngineConfiguration;
-import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.query.KeysetPaginatedQuery;
 import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
 
 /**
@@ -28,7 +28,7 @@ import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
  * @author Joram Barrez
  * @author Falko Menge
  */
-public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance> {
+public interface HistoricProcessInstanceQuery extends KeysetPaginatedQuery<HistoricProcessInstanceQuery, HistoricProcessInstance> {
 
   /** Only select historic process instances with the given process instance.
    * {@link ProcessInstance) ids and {@link HistoricProcessInstance} ids match. */
@@ -307,4 +307,14 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
 
   /** Only select historic process instances that executed an job before the given date. */
   HistoricProcessInstanceQuery executedJobBefore(Date date);
+
+  /**
+   * Executes the query and counts the results, but stops counting after
+   * <code>maxCount + 1</code> results. The database only has to find the first
+   * <code>maxCount + 1</code> matching rows instead of all of them.
+   *
+   * @return the number of results if it is at most <code>maxCount</code>,
+   *   otherwise <code>maxCount + 1</code> meaning "more than <code>maxCount</code>"
+   */
+  long countUpTo(int maxCount);
 }
@@ -19,6 +19,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.impl.cfg.IdGenerator;
@@ -28,6 +32,7 @@ import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.core.model.Properties;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
+import org.camunda.bpm.engine.impl.persistence.deploy.NonThreadSafeParseListener;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
@@ -47,6 +52,9 @@ public abstract class AbstractDefinitionDeployer<DefinitionEntity extends Resour
 
   protected IdGenerator idGenerator;
 
+  /** parses the resources of a deployment in parallel if set */
+  protected ExecutorService parseExecutor;
+
   public IdGenerator getIdGenerator() {
     return idGenerator;
   }
@@ -55,6 +63,14 @@ public abstract class AbstractDefinitionDeployer<DefinitionEntity extends Resour
     this.idGenerator = idGenerator;
   }
 
+  public ExecutorService getParseExecutor() {
+    return parseExecutor;
+  }
+
+  public void setParseExecutor(ExecutorService parseExecutor) {
+    this.parseExecutor = parseExecutor;
+  }
+
   public void deploy(DeploymentEntity deployment) {
     LOG.debugProcessingDeployment(deployment.getName());
     Properties properties = new Properties();
@@ -64,16 +80,97 @@ public abstract class AbstractDefinitionDeployer<DefinitionEntity extends Resour
   }
 
   protected List<DefinitionEntity> parseDefinitionResources(DeploymentEntity deployment, Properties properties) {
-    List<DefinitionEntity> definitions = new ArrayList<DefinitionEntity>();
+    List<ResourceEntity> resources = new ArrayList<ResourceEntity>();
     for (ResourceEntity resource : deployment.getResources().values()) {
       LOG.debugProcessingResource(resource.getName());
       if (isResourceHandled(resource)) {
-        definitions.addAll(transformResource(deployment, resource, properties));
+        resources.add(resource);
+      }
+    }
+
+    if (parseExecutor != null && resources.size() > 1 && isParallelTransformationSupported()) {
+      return transformResourcesInParallel(deployment, resources, properties);
+    }
+
+    List<DefinitionEntity> definitions = new ArrayList<DefinitionEntity>();
+    for (ResourceEntity resource : resources) {
+      definitions.addAll(transformResource(deployment, resource, properties));
+    }
+    return definitions;
+  }
+
+  /**
+   * Transforms the resources on the parse executor. The definitions are returned in the order of
+   * the resources, persisting and caching them is left to the command thread.
+   */
+  protected List<DefinitionEntity> transformResourcesInParallel(final DeploymentEntity deployment, List<ResourceEntity> resources, final Properties properties) {
+    final ProcessEngineConfigurationImpl processEngineConfiguration = getProcessEngineConfiguration();
+
+    List<Future<Collection<DefinitionEntity>>> results = new ArrayList<Future<Collection<DefinitionEntity>>>();
+    for (final ResourceEntity resource : resources) {
+      results.add(parseExecutor.submit(new Callable<Collection<DefinitionEntity>>() {
+        public Collection<DefinitionEntity> call() throws Exception {
+          Context.setProcessEngineConfiguration(processEngineConfiguration);
+          try {
+            return transformResource(deployment, resource, properties);
+          }
+          finally {
+            Context.removeProcessEngineConfiguration();
+          }
+        }
+      }));
+    }
+
+    List<DefinitionEntity> definitions = new ArrayList<DefinitionEntity>();
+    try {
+      for (Future<Collection<DefinitionEntity>> result : results) {
+        definitions.addAll(result.get());
+      }
+    }
+    catch (InterruptedException e) {
+      cancel(results);
+      Thread.currentThread().interrupt();
+      throw new ProcessEngineException("Interrupted while parsing deployment '" + deployment.getName() + "'", e);
+    }
+    catch (ExecutionException e) {
+      cancel(results);
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      else {
+        throw new ProcessEngineException(cause);
       }
     }
+
     return definitions;
   }
 
+  protected void cancel(List<Future<Collection<DefinitionEntity>>> results) {
+    for (Future<Collection<DefinitionEntity>> result : results) {
+      result.cancel(true);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if different resources of a deployment can be transformed concurrently
+   */
+  protected boolean isParallelTransformationSupported() {
+    return true;
+  }
+
+  protected boolean containsNonThreadSafeListener(List<?> listeners) {
+    for (Object listener : listeners) {
+      if (listener instanceof NonThreadSafeParseListener) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   protected boolean isResourceHandled(ResourceEntity resource) {
     String resourceName = resource.getName();
 
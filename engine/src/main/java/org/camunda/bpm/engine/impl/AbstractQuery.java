@@ -14,6 +14,7 @@ package org.camunda.bpm.engine.impl;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNull;
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensurePositive;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
@@ -29,10 +30,12 @@ import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.impl.QueryValidators.AdhocQueryValidator;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.query.QueryProperty;
 import org.joda.time.DateTime;
@@ -50,8 +53,10 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
   public static final String SORTORDER_ASC = "asc";
   public static final String SORTORDER_DESC = "desc";
 
+  public static final QueryProperty KEYSET_ID_PROPERTY = new QueryPropertyImpl("ID_");
+
   protected enum ResultType {
-    LIST, LIST_PAGE, LIST_IDS, SINGLE_RESULT, COUNT
+    LIST, LIST_PAGE, LIST_IDS, SINGLE_RESULT, COUNT, COUNT_UP_TO
   }
   protected transient CommandExecutor commandExecutor;
 
@@ -61,6 +66,9 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
 
   protected Set<Validator<AbstractQuery<?, ?>>> validators = new HashSet<Validator<AbstractQuery<?, ?>>>();
 
+  /** only set while a page is fetched by {@link #listPageAfter(String, int)} */
+  protected KeysetPosition keysetPosition;
+
   protected AbstractQuery() {
   }
 
@@ -150,6 +158,106 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return evaluateExpressionsAndExecuteList(Context.getCommandContext(), new Page(firstResult, maxResults));
   }
 
+  public KeysetPage<U> listPageAfter(String continuationToken, int maxResults) {
+    ensurePositive(NotValidException.class, "maxResults", (long) maxResults);
+    if (!supportsKeysetPagination()) {
+      throw new NotValidException("Keyset pagination is not supported by " + getClass().getSimpleName());
+    }
+
+    // the id ordering is only appended for this page, so that later
+    // calls of list() or listPage() keep the ordering of the query
+    List<QueryOrderingProperty> queryOrderingProperties = orderingProperties;
+    orderingProperties = getKeysetOrderingProperties();
+
+    try {
+      if (continuationToken != null) {
+        keysetPosition = KeysetPosition.fromToken(continuationToken, orderingProperties);
+      }
+
+      // fetch one more result to know whether there is a next page
+      int lookAhead = maxResults < Integer.MAX_VALUE ? maxResults + 1 : maxResults;
+
+      List<U> results = listPage(0, lookAhead);
+
+      String nextToken = null;
+      if (results.size() > maxResults) {
+        results = new ArrayList<U>(results.subList(0, maxResults));
+        nextToken = keysetPositionOf(results.get(maxResults - 1)).toToken();
+      }
+
+      return new KeysetPageImpl<U>(results, nextToken);
+    }
+    finally {
+      keysetPosition = null;
+      orderingProperties = queryOrderingProperties;
+    }
+  }
+
+  /**
+   * Whether the mapping of the query renders the <code>Commons.keysetCondition</code>,
+   * so that the results can be paged by {@link #listPageAfter(String, int)}.
+   */
+  protected boolean supportsKeysetPagination() {
+    return false;
+  }
+
+  /**
+   * Ensures that all ordering properties can be used for keyset pagination and returns
+   * them followed by the id as tie-breaker, so that the ordering is total.
+   */
+  protected List<QueryOrderingProperty> getKeysetOrderingProperties() {
+    for (QueryOrderingProperty orderingProperty : orderingProperties) {
+      ensureNotNull(NotValidException.class, "Invalid query: call asc() or desc() after using orderByXX()", "direction", orderingProperty.getDirection());
+
+      QueryProperty queryProperty = orderingProperty.getQueryProperty();
+      if (!orderingProperty.isContainedProperty() || !isKeysetProperty(queryProperty)) {
+        throw new NotValidException("Keyset pagination is not supported when ordering by " + queryProperty);
+      }
+    }
+
+    List<QueryOrderingProperty> keysetOrderingProperties = new ArrayList<QueryOrderingProperty>(orderingProperties);
+    if (keysetOrderingProperties.isEmpty()
+        || !KEYSET_ID_PROPERTY.equals(keysetOrderingProperties.get(keysetOrderingProperties.size() - 1).getQueryProperty())) {
+      keysetOrderingProperties.add(new QueryOrderingProperty(KEYSET_ID_PROPERTY, Direction.ASCENDING));
+    }
+
+    return keysetOrderingProperties;
+  }
+
+  protected KeysetPosition keysetPositionOf(U result) {
+    List<Object> values = new ArrayList<Object>();
+    for (QueryOrderingProperty orderingProperty : orderingProperties) {
+      Object value = getKeysetValue(result, orderingProperty.getQueryProperty());
+      ensureNotNull(NotValidException.class, "Keyset pagination is not supported for null values of " + orderingProperty.getQueryProperty(), "value", value);
+      values.add(value);
+    }
+    return new KeysetPosition(orderingProperties, values);
+  }
+
+  /**
+   * Whether the query results can be paged by keyset pagination when ordered by the given property.
+   * Subclasses that support further properties must also provide their values
+   * in {@link #getKeysetValue(Object, QueryProperty)}. Only properties that
+   * are never <code>null</code> are eligible.
+   */
+  protected boolean isKeysetProperty(QueryProperty property) {
+    return KEYSET_ID_PROPERTY.equals(property);
+  }
+
+  /**
+   * @return the value of the given ordering property of the given query result
+   */
+  protected Object getKeysetValue(U result, QueryProperty property) {
+    if (KEYSET_ID_PROPERTY.equals(property) && result instanceof DbEntity) {
+      return ((DbEntity) result).getId();
+    }
+    throw new NotValidException("Keyset pagination is not supported when ordering by " + property);
+  }
+
+  public KeysetPosition getKeysetPosition() {
+    return keysetPosition;
+  }
+
   public long count() {
     this.resultType = ResultType.COUNT;
     if (commandExecutor!=null) {
@@ -158,6 +266,27 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return evaluateExpressionsAndExecuteCount(Context.getCommandContext());
   }
 
+  public long countUpTo(int maxCount) {
+    ensurePositive(NotValidException.class, "maxCount", (long) maxCount);
+
+    int previousFirstResult = firstResult;
+    int previousMaxResults = maxResults;
+
+    this.firstResult = 0;
+    this.maxResults = maxCount < Integer.MAX_VALUE ? maxCount + 1 : maxCount;
+    this.resultType = ResultType.COUNT_UP_TO;
+    try {
+      if (commandExecutor!=null) {
+        return (Long) commandExecutor.execute(this);
+      }
+      return evaluateExpressionsAndExecuteCountUpTo(Context.getCommandContext());
+    }
+    finally {
+      this.firstResult = previousFirstResult;
+      this.maxResults = previousMaxResults;
+    }
+  }
+
   public Object execute(CommandContext commandContext) {
     if (resultType==ResultType.LIST) {
       return evaluateExpressionsAndExecuteList(commandContext, null);
@@ -167,6 +296,8 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
       return evaluateExpressionsAndExecuteList(commandContext, null);
     } else if (resultType == ResultType.LIST_IDS) {
       return evaluateExpressionsAndExecuteIdsList(commandContext);
+    } else if (resultType == ResultType.COUNT_UP_TO) {
+      return evaluateExpressionsAndExecuteCountUpTo(commandContext);
     } else {
       return evaluateExpressionsAndExecuteCount(commandContext);
     }
@@ -180,6 +311,21 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
 
   public abstract long executeCount(CommandContext commandContext);
 
+  public long evaluateExpressionsAndExecuteCountUpTo(CommandContext commandContext) {
+    validate();
+    evaluateExpressions();
+    return !hasExcludingConditions() ? executeCountUpTo(commandContext) : 0l;
+  }
+
+  /**
+   * Counts the results up to {@link #getMaxResults()}. Queries that can limit the
+   * counted rows in the database override this method, all others fall back to
+   * an exact count.
+   */
+  public long executeCountUpTo(CommandContext commandContext) {
+    return Math.min(executeCount(commandContext), maxResults);
+  }
+
   public List<U> evaluateExpressionsAndExecuteList(CommandContext commandContext, Page page) {
     validate();
     evaluateExpressions();
@@ -19,14 +19,18 @@ import org.camunda.bpm.dmn.engine.DmnDecisionTableResult;
 import org.camunda.bpm.engine.DecisionService;
 import org.camunda.bpm.engine.dmn.DecisionEvaluationBuilder;
 import org.camunda.bpm.engine.dmn.DecisionsEvaluationBuilder;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.dmn.DecisionEvaluationBuilderImpl;
 import org.camunda.bpm.engine.impl.dmn.DecisionTableEvaluationBuilderImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 
 /**
  * @author Philipp Ossler
  */
 public class DecisionServiceImpl extends ServiceImpl implements DecisionService {
 
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
   public DmnDecisionTableResult evaluateDecisionTableById(String decisionDefinitionId, Map<String, Object> variables) {
     return evaluateDecisionTableById(decisionDefinitionId)
         .variables(variables)
@@ -47,19 +51,32 @@ public class DecisionServiceImpl extends ServiceImpl implements DecisionService
   }
 
   public DecisionEvaluationBuilder evaluateDecisionTableByKey(String decisionDefinitionKey) {
-    return DecisionTableEvaluationBuilderImpl.evaluateDecisionTableByKey(commandExecutor, decisionDefinitionKey);
+    return DecisionTableEvaluationBuilderImpl.evaluateDecisionTableByKey(getEvaluationCommandExecutor(), decisionDefinitionKey);
   }
 
   public DecisionEvaluationBuilder evaluateDecisionTableById(String decisionDefinitionId) {
-    return DecisionTableEvaluationBuilderImpl.evaluateDecisionTableById(commandExecutor, decisionDefinitionId);
+    return DecisionTableEvaluationBuilderImpl.evaluateDecisionTableById(getEvaluationCommandExecutor(), decisionDefinitionId);
   }
 
   public DecisionsEvaluationBuilder evaluateDecisionByKey(String decisionDefinitionKey) {
-    return DecisionEvaluationBuilderImpl.evaluateDecisionByKey(commandExecutor, decisionDefinitionKey);
+    return DecisionEvaluationBuilderImpl.evaluateDecisionByKey(getEvaluationCommandExecutor(), decisionDefinitionKey);
   }
 
   public DecisionsEvaluationBuilder evaluateDecisionById(String decisionDefinitionId) {
-    return DecisionEvaluationBuilderImpl.evaluateDecisionById(commandExecutor, decisionDefinitionId);
+    return DecisionEvaluationBuilderImpl.evaluateDecisionById(getEvaluationCommandExecutor(), decisionDefinitionId);
+  }
+
+  protected CommandExecutor getEvaluationCommandExecutor() {
+    if (processEngineConfiguration != null && processEngineConfiguration.isReadOnlyDecisionEvaluation()) {
+      return processEngineConfiguration.getCommandExecutorReadOnly();
+    }
+    else {
+      return commandExecutor;
+    }
+  }
+
+  public void setProcessEngineConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    this.processEngineConfiguration = processEngineConfiguration;
   }
 
 }
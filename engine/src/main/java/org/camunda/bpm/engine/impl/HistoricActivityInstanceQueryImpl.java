@@ -25,6 +25,7 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.pvm.runtime.ActivityInstanceState;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
+import org.camunda.bpm.engine.query.QueryProperty;
 
 /**
  * @author Tom Baeyens
@@ -73,6 +74,29 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
       .findHistoricActivityInstancesByQueryCriteria(this, page);
   }
 
+  @Override
+  protected boolean supportsKeysetPagination() {
+    return true;
+  }
+
+  @Override
+  protected boolean isKeysetProperty(QueryProperty property) {
+    return HistoricActivityInstanceQueryProperty.START.equals(property)
+        || HistoricActivityInstanceQueryProperty.ACTIVITY_ID.equals(property)
+        || super.isKeysetProperty(property);
+  }
+
+  @Override
+  protected Object getKeysetValue(HistoricActivityInstance activityInstance, QueryProperty property) {
+    if (HistoricActivityInstanceQueryProperty.START.equals(property)) {
+      return activityInstance.getStartTime();
+    }
+    else if (HistoricActivityInstanceQueryProperty.ACTIVITY_ID.equals(property)) {
+      return activityInstance.getActivityId();
+    }
+    return super.getKeysetValue(activityInstance, property);
+  }
+
   public HistoricActivityInstanceQueryImpl processInstanceId(String processInstanceId) {
     this.processInstanceId = processInstanceId;
     return this;
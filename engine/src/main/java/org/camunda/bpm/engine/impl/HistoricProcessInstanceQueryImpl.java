@@ -25,6 +25,7 @@ import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
+import org.camunda.bpm.engine.query.QueryProperty;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotContainsEmptyString;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotContainsNull;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotEmpty;
@@ -292,6 +293,15 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
       .findHistoricProcessInstanceCountByQueryCriteria(this);
   }
 
+  @Override
+  public long executeCountUpTo(CommandContext commandContext) {
+    checkQueryOk();
+    ensureVariablesInitialized();
+    return commandContext
+      .getHistoricProcessInstanceManager()
+      .findHistoricProcessInstanceCountUpToByQueryCriteria(this);
+  }
+
   public List<HistoricProcessInstance> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
     ensureVariablesInitialized();
@@ -300,6 +310,33 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
       .findHistoricProcessInstancesByQueryCriteria(this, page);
   }
 
+  @Override
+  protected boolean supportsKeysetPagination() {
+    return true;
+  }
+
+  @Override
+  protected boolean isKeysetProperty(QueryProperty property) {
+    return HistoricProcessInstanceQueryProperty.START_TIME.equals(property)
+        || HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_.equals(property)
+        || HistoricProcessInstanceQueryProperty.PROCESS_DEFINITION_ID.equals(property)
+        || super.isKeysetProperty(property);
+  }
+
+  @Override
+  protected Object getKeysetValue(HistoricProcessInstance processInstance, QueryProperty property) {
+    if (HistoricProcessInstanceQueryProperty.START_TIME.equals(property)) {
+      return processInstance.getStartTime();
+    }
+    else if (HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_.equals(property)) {
+      return processInstance.getId();
+    }
+    else if (HistoricProcessInstanceQueryProperty.PROCESS_DEFINITION_ID.equals(property)) {
+      return processInstance.getProcessDefinitionId();
+    }
+    return super.getKeysetValue(processInstance, property);
+  }
+
   public List<String> executeIdsList(CommandContext commandContext) {
     checkQueryOk();
     ensureVariablesInitialized();
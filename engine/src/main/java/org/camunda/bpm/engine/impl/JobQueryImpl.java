@@ -26,6 +26,7 @@ import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
+import org.camunda.bpm.engine.query.QueryProperty;
 import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.JobQuery;
 
@@ -312,6 +313,29 @@ public class JobQueryImpl extends AbstractQuery<JobQuery, Job> implements JobQue
       .findJobsByQueryCriteria(this, page);
   }
 
+  @Override
+  protected boolean supportsKeysetPagination() {
+    return true;
+  }
+
+  @Override
+  protected boolean isKeysetProperty(QueryProperty property) {
+    return JobQueryProperty.PRIORITY.equals(property)
+        || JobQueryProperty.RETRIES.equals(property)
+        || super.isKeysetProperty(property);
+  }
+
+  @Override
+  protected Object getKeysetValue(Job job, QueryProperty property) {
+    if (JobQueryProperty.PRIORITY.equals(property)) {
+      return job.getPriority();
+    }
+    else if (JobQueryProperty.RETRIES.equals(property)) {
+      return job.getRetries();
+    }
+    return super.getKeysetValue(job, property);
+  }
+
   //getters //////////////////////////////////////////
 
   public String getProcessInstanceId() {
@@ -0,0 +1,261 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.impl.db.sql.MybatisJoinHelper;
+import org.camunda.bpm.engine.impl.digest._apacheCommonsCodec.Base64;
+import org.camunda.bpm.engine.impl.digest._apacheCommonsCodec.StringUtils;
+
+/**
+ * The position of a query result in the ordering of the query, i.e. the values of
+ * all ordering properties of the result. Used by keyset pagination to fetch the
+ * results which follow the position without skipping the previous rows.
+ *
+ * <p>Provides the seek conditions that are rendered by the
+ * <code>Commons.keysetCondition</code> SQL snippet and can be encoded to and
+ * decoded from an opaque continuation token.</p>
+ */
+public class KeysetPosition implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected static final String TOKEN_VERSION = "1";
+
+  protected static final char TYPE_STRING = 's';
+  protected static final char TYPE_DATE = 'd';
+  protected static final char TYPE_INTEGER = 'i';
+  protected static final char TYPE_LONG = 'l';
+
+  protected List<QueryOrderingProperty> orderingProperties;
+  protected List<Object> values;
+
+  public KeysetPosition(List<QueryOrderingProperty> orderingProperties, List<Object> values) {
+    this.orderingProperties = orderingProperties;
+    this.values = values;
+  }
+
+  public List<QueryOrderingProperty> getOrderingProperties() {
+    return orderingProperties;
+  }
+
+  public List<Object> getValues() {
+    return values;
+  }
+
+  /**
+   * Returns the disjunction of conditions which select all rows that follow this position,
+   * e.g. for an ordering <code>(A asc, ID desc)</code>:
+   * <code>(RES.A &gt; a) or (RES.A = a and RES.ID_ &lt; id)</code>.
+   */
+  public List<KeysetCondition> getConditions() {
+    List<KeysetCondition> conditions = new ArrayList<KeysetCondition>();
+
+    for (int i = 0; i < orderingProperties.size(); i++) {
+      List<KeysetTerm> equalities = new ArrayList<KeysetTerm>();
+      for (int j = 0; j < i; j++) {
+        equalities.add(new KeysetTerm(column(j), "=", values.get(j)));
+      }
+
+      String operator = Direction.DESCENDING.getName().equals(orderingProperties.get(i).getDirection().getName()) ? "<" : ">";
+      conditions.add(new KeysetCondition(equalities, new KeysetTerm(column(i), operator, values.get(i))));
+    }
+
+    return conditions;
+  }
+
+  protected String column(int index) {
+    return MybatisJoinHelper.orderBySelection(orderingProperties.get(index), index);
+  }
+
+  // continuation token ///////////////////////////////////////////////////
+
+  public String toToken() {
+    StringBuilder builder = new StringBuilder(TOKEN_VERSION);
+
+    for (int i = 0; i < orderingProperties.size(); i++) {
+      QueryOrderingProperty orderingProperty = orderingProperties.get(i);
+      appendPart(builder, orderingProperty.getQueryProperty().getName());
+      appendPart(builder, orderingProperty.getDirection().getName());
+      appendValue(builder, values.get(i));
+    }
+
+    return Base64.encodeBase64URLSafeString(StringUtils.getBytesUtf8(builder.toString()));
+  }
+
+  /**
+   * Decodes the given token into the position it describes. The token only provides the
+   * values; the columns are always taken from the given ordering properties, so a token
+   * can never inject anything else than a parameter value into the query.
+   *
+   * @throws NotValidException if the token is malformed or does not match the ordering properties
+   */
+  public static KeysetPosition fromToken(String token, List<QueryOrderingProperty> orderingProperties) {
+    List<Object> values = new ArrayList<Object>();
+
+    try {
+      String decoded = StringUtils.newStringUtf8(Base64.decodeBase64(token));
+      if (!decoded.startsWith(TOKEN_VERSION)) {
+        throw invalidToken(token);
+      }
+
+      int[] offset = new int[] { TOKEN_VERSION.length() };
+      int index = 0;
+      while (offset[0] < decoded.length()) {
+        if (index >= orderingProperties.size()) {
+          throw orderingMismatch(token);
+        }
+
+        QueryOrderingProperty orderingProperty = orderingProperties.get(index);
+        String propertyName = readPart(decoded, offset);
+        String direction = readPart(decoded, offset);
+        if (!orderingProperty.getQueryProperty().getName().equals(propertyName)
+            || !orderingProperty.getDirection().getName().equals(direction)) {
+          throw orderingMismatch(token);
+        }
+
+        values.add(readValue(decoded, offset));
+        index++;
+      }
+    }
+    catch (NotValidException e) {
+      throw e;
+    }
+    catch (RuntimeException e) {
+      throw invalidToken(token);
+    }
+
+    if (values.size() != orderingProperties.size()) {
+      throw orderingMismatch(token);
+    }
+
+    return new KeysetPosition(orderingProperties, values);
+  }
+
+  protected static void appendPart(StringBuilder builder, String part) {
+    builder.append(part.length()).append(':').append(part);
+  }
+
+  protected static String readPart(String token, int[] offset) {
+    int separator = token.indexOf(':', offset[0]);
+    int length = Integer.parseInt(token.substring(offset[0], separator));
+    int end = separator + 1 + length;
+    String part = token.substring(separator + 1, end);
+    offset[0] = end;
+    return part;
+  }
+
+  protected static void appendValue(StringBuilder builder, Object value) {
+    if (value instanceof String) {
+      builder.append(TYPE_STRING);
+      appendPart(builder, (String) value);
+    }
+    else if (value instanceof Date) {
+      builder.append(TYPE_DATE);
+      appendPart(builder, String.valueOf(((Date) value).getTime()));
+    }
+    else if (value instanceof Integer) {
+      builder.append(TYPE_INTEGER);
+      appendPart(builder, value.toString());
+    }
+    else if (value instanceof Long) {
+      builder.append(TYPE_LONG);
+      appendPart(builder, value.toString());
+    }
+    else {
+      throw new NotValidException("Keyset pagination does not support ordering values of type '"
+          + (value != null ? value.getClass().getName() : null) + "'");
+    }
+  }
+
+  protected static Object readValue(String token, int[] offset) {
+    char type = token.charAt(offset[0]);
+    offset[0]++;
+    String value = readPart(token, offset);
+
+    switch (type) {
+    case TYPE_STRING:
+      return value;
+    case TYPE_DATE:
+      return new Date(Long.parseLong(value));
+    case TYPE_INTEGER:
+      return Integer.valueOf(value);
+    case TYPE_LONG:
+      return Long.valueOf(value);
+    default:
+      throw new IllegalArgumentException("unknown value type " + type);
+    }
+  }
+
+  protected static NotValidException invalidToken(String token) {
+    return new NotValidException("Invalid continuation token '" + token + "'");
+  }
+
+  protected static NotValidException orderingMismatch(String token) {
+    return new NotValidException("Continuation token '" + token + "' does not match the ordering of the query");
+  }
+
+  public static class KeysetCondition implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<KeysetTerm> equalities;
+    protected KeysetTerm comparison;
+
+    public KeysetCondition(List<KeysetTerm> equalities, KeysetTerm comparison) {
+      this.equalities = equalities;
+      this.comparison = comparison;
+    }
+
+    public List<KeysetTerm> getEqualities() {
+      return equalities;
+    }
+
+    public KeysetTerm getComparison() {
+      return comparison;
+    }
+  }
+
+  public static class KeysetTerm implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String column;
+    protected String operator;
+    protected Object value;
+
+    public KeysetTerm(String column, String operator, Object value) {
+      this.column = column;
+      this.operator = operator;
+      this.value = value;
+    }
+
+    public String getColumn() {
+      return column;
+    }
+
+    public String getOperator() {
+      return operator;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+}
@@ -146,6 +146,11 @@ public class ProcessEngineImpl implements ProcessEngine {
       jobExecutor.unregisterProcessEngine(this);
     }
 
+    if (processEngineConfiguration.getAsyncHistoricDecisionInstanceWriter() != null) {
+      // write the pending decision history before the schema may be dropped
+      processEngineConfiguration.getAsyncHistoricDecisionInstanceWriter().shutdown();
+    }
+
     commandExecutorSchemaOperations.execute(new SchemaOperationProcessEngineClose());
 
     processEngineConfiguration.close();
@@ -32,6 +32,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
 import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
+import org.camunda.bpm.engine.query.QueryProperty;
 import org.camunda.bpm.engine.task.DelegationState;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.task.TaskQuery;
@@ -1272,6 +1273,29 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
     return taskList;
   }
 
+  @Override
+  protected boolean supportsKeysetPagination() {
+    return true;
+  }
+
+  @Override
+  protected boolean isKeysetProperty(QueryProperty property) {
+    return TaskQueryProperty.CREATE_TIME.equals(property)
+        || TaskQueryProperty.PRIORITY.equals(property)
+        || super.isKeysetProperty(property);
+  }
+
+  @Override
+  protected Object getKeysetValue(Task task, QueryProperty property) {
+    if (TaskQueryProperty.CREATE_TIME.equals(property)) {
+      return task.getCreateTime();
+    }
+    else if (TaskQueryProperty.PRIORITY.equals(property)) {
+      return task.getPriority();
+    }
+    return super.getKeysetValue(task, property);
+  }
+
   @Override
   public long executeCount(CommandContext commandContext) {
     ensureOrExpressionsEvaluated();
@@ -1286,6 +1310,20 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
       .findTaskCountByQueryCriteria(this);
   }
 
+  @Override
+  public long executeCountUpTo(CommandContext commandContext) {
+    ensureOrExpressionsEvaluated();
+    ensureVariablesInitialized();
+    checkQueryOk();
+    //check if candidateGroup and candidateGroups intersect
+    if (getCandidateGroup() != null && getCandidateGroupsInternal() != null && getCandidateGroups().isEmpty()) {
+      return 0;
+    }
+    return commandContext
+      .getTaskManager()
+      .findTaskCountUpToByQueryCriteria(this);
+  }
+
   //getters ////////////////////////////////////////////////////////////////
 
   public String getName() {
@@ -23,6 +23,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
 import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
 import org.camunda.bpm.engine.impl.util.IoUtil;
+import org.camunda.bpm.engine.impl.util.JsonUtil;
 import org.camunda.bpm.engine.impl.util.StringUtil;
 import org.camunda.bpm.engine.impl.util.json.JSONObject;
 import org.camunda.bpm.engine.impl.util.json.JSONTokener;
@@ -30,6 +31,7 @@ import org.camunda.bpm.engine.impl.util.json.JSONTokener;
 import java.io.ByteArrayOutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -39,6 +41,10 @@ import java.util.List;
  */
 public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> implements BatchJobHandler<T> {
 
+  public static final String ID_CHUNK_ID = "idChunkId";
+  public static final String ID_CHUNK_IDS = "ids";
+  public static final String ID_CHUNK_NEXT = "next";
+
   public abstract JobDeclaration<BatchJobContext, MessageEntity> getJobDeclaration();
 
   @Override
@@ -52,7 +58,7 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
     int batchJobsPerSeed = batch.getBatchJobsPerSeed();
     int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
 
-    List<String> ids = configuration.getIds();
+    List<String> ids = loadIdsToProcess(configuration, invocationsPerBatchJob * batchJobsPerSeed);
     int numberOfItemsToProcess = Math.min(invocationsPerBatchJob * batchJobsPerSeed, ids.size());
     // view of process instances to process
     List<String> processIds = ids.subList(0, numberOfItemsToProcess);
@@ -80,7 +86,96 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
     // update batch configuration
     batch.setConfigurationBytes(writeConfiguration(configuration));
 
-    return ids.isEmpty();
+    return isAllIdsProcessed(configuration);
+  }
+
+  /**
+   * <p>Returns the ids of the configuration which contain at least the given number of
+   * ids to process, unless fewer ids are left.</p>
+   *
+   * <p>If the configuration contains more ids than the given number, the ids which are
+   * not processed by this seed job are moved to a linked list of byte arrays (chunks)
+   * once. Later seed jobs only load the next chunk, so that the batch configuration
+   * stays small and is not rewritten with all remaining ids on every seed job.</p>
+   */
+  protected List<String> loadIdsToProcess(T configuration, int numberOfIds) {
+    ByteArrayManager byteArrayManager = Context.getCommandContext().getByteArrayManager();
+    List<String> ids = configuration.getIds();
+
+    if (ids.size() > numberOfIds && numberOfIds > 0) {
+      List<String> remainingIds = ids.subList(numberOfIds, ids.size());
+      configuration.setIdChunkId(saveIdChunks(byteArrayManager, remainingIds, numberOfIds, configuration.getIdChunkId()));
+      remainingIds.clear();
+    }
+
+    while (ids.size() < numberOfIds && configuration.getIdChunkId() != null) {
+      ByteArrayEntity idChunk = Context.getCommandContext()
+          .getDbEntityManager()
+          .selectById(ByteArrayEntity.class, configuration.getIdChunkId());
+
+      JSONObject json = new JSONObject(new JSONTokener(StringUtil.readerFromBytes(idChunk.getBytes())));
+      for (Object id : JsonUtil.jsonArrayAsList(json.getJSONArray(ID_CHUNK_IDS))) {
+        ids.add((String) id);
+      }
+      configuration.setIdChunkId(json.has(ID_CHUNK_NEXT) ? json.getString(ID_CHUNK_NEXT) : null);
+
+      byteArrayManager.delete(idChunk);
+    }
+
+    return ids;
+  }
+
+  /**
+   * Saves the ids as chunks of the given size, in reverse order so that every chunk
+   * can reference the id of its successor.
+   *
+   * @return the id of the first chunk
+   */
+  protected String saveIdChunks(ByteArrayManager byteArrayManager, List<String> ids, int chunkSize, String nextChunkId) {
+    int chunkCount = (ids.size() + chunkSize - 1) / chunkSize;
+
+    for (int i = chunkCount - 1; i >= 0; i--) {
+      List<String> idsForChunk = ids.subList(i * chunkSize, Math.min((i + 1) * chunkSize, ids.size()));
+
+      JSONObject json = new JSONObject();
+      JsonUtil.addListField(json, ID_CHUNK_IDS, new ArrayList<String>(idsForChunk));
+      JsonUtil.addField(json, ID_CHUNK_NEXT, nextChunkId);
+
+      ByteArrayEntity idChunk = new ByteArrayEntity(writeJson(json));
+      byteArrayManager.insert(idChunk);
+      nextChunkId = idChunk.getId();
+    }
+
+    return nextChunkId;
+  }
+
+  protected boolean isAllIdsProcessed(T configuration) {
+    return configuration.getIds().isEmpty() && configuration.getIdChunkId() == null;
+  }
+
+  /**
+   * Deletes the chunks of ids which were not loaded by a seed job yet.
+   */
+  protected void deleteIdChunks(BatchEntity batch) {
+    byte[] configurationBytes = batch.getConfigurationBytes();
+    if (configurationBytes == null) {
+      return;
+    }
+
+    CommandContext commandContext = Context.getCommandContext();
+    String idChunkId = readConfiguration(configurationBytes).getIdChunkId();
+
+    while (idChunkId != null) {
+      ByteArrayEntity idChunk = commandContext.getDbEntityManager().selectById(ByteArrayEntity.class, idChunkId);
+      if (idChunk == null) {
+        break;
+      }
+
+      JSONObject json = new JSONObject(new JSONTokener(StringUtil.readerFromBytes(idChunk.getBytes())));
+      idChunkId = json.has(ID_CHUNK_NEXT) ? json.getString(ID_CHUNK_NEXT) : null;
+
+      commandContext.getByteArrayManager().delete(idChunk);
+    }
   }
 
   protected abstract T createJobConfiguration(T configuration, List<String> processIdsForJob);
@@ -97,6 +192,8 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
 
   @Override
   public void deleteJobs(BatchEntity batch) {
+    deleteIdChunks(batch);
+
     List<JobEntity> jobs = Context.getCommandContext()
         .getJobManager()
         .findJobsByJobDefinitionId(batch.getBatchJobDefinitionId());
@@ -130,7 +227,12 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
   @Override
   public byte[] writeConfiguration(T configuration) {
     JSONObject jsonObject = getJsonConverterInstance().toJsonObject(configuration);
+    JsonUtil.addField(jsonObject, ID_CHUNK_ID, configuration.getIdChunkId());
 
+    return writeJson(jsonObject);
+  }
+
+  protected byte[] writeJson(JSONObject jsonObject) {
     ByteArrayOutputStream outStream = new ByteArrayOutputStream();
     Writer writer = StringUtil.writerForStream(outStream);
 
@@ -143,7 +245,13 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
   @Override
   public T readConfiguration(byte[] serializedConfiguration) {
     Reader jsonReader = StringUtil.readerFromBytes(serializedConfiguration);
-    return getJsonConverterInstance().toObject(new JSONObject(new JSONTokener(jsonReader)));
+    JSONObject jsonObject = new JSONObject(new JSONTokener(jsonReader));
+
+    T configuration = getJsonConverterInstance().toObject(jsonObject);
+    if (jsonObject.has(ID_CHUNK_ID)) {
+      configuration.setIdChunkId(jsonObject.getString(ID_CHUNK_ID));
+    }
+    return configuration;
   }
 
   protected abstract JsonObjectConverter<T> getJsonConverterInstance();
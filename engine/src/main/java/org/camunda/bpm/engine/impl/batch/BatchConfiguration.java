@@ -20,6 +20,12 @@ public class BatchConfiguration {
 
   protected List<String> ids;
 
+  /**
+   * The id of the byte array which holds the next chunk of ids which are not
+   * contained in {@link #ids} yet, or <code>null</code> if all ids are contained.
+   */
+  protected String idChunkId;
+
   public BatchConfiguration(List<String> ids) {
     this.ids = ids;
   }
@@ -32,4 +38,12 @@ public class BatchConfiguration {
     this.ids = ids;
   }
 
+  public String getIdChunkId() {
+    return idChunkId;
+  }
+
+  public void setIdChunkId(String idChunkId) {
+    this.idChunkId = idChunkId;
+  }
+
 }
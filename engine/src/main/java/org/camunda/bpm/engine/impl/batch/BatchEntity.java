@@ -226,7 +226,10 @@ public class BatchEntity implements Batch, DbEntity, Nameable, HasDbRevision {
   @Override
   public Object getPersistentState() {
     HashMap<String, Object> persistentState = new HashMap<String, Object>();
+    persistentState.put("totalJobs", totalJobs);
     persistentState.put("jobsCreated", jobsCreated);
+    persistentState.put("batchJobsPerSeed", batchJobsPerSeed);
+    persistentState.put("invocationsPerBatchJob", invocationsPerBatchJob);
     return persistentState;
   }
 
@@ -267,7 +270,12 @@ public class BatchEntity implements Batch, DbEntity, Nameable, HasDbRevision {
   }
 
   public JobEntity createSeedJob() {
+    return createSeedJob(null);
+  }
+
+  public JobEntity createSeedJob(Date dueDate) {
     JobEntity seedJob = BATCH_SEED_JOB_DECLARATION.createJobInstance(this);
+    seedJob.setDuedate(dueDate);
 
     Context.getCommandContext().getJobManager().insertAndHintJobExecutor(seedJob);
 
@@ -14,12 +14,17 @@ package org.camunda.bpm.engine.impl.batch;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
+import java.util.Date;
+
+import org.camunda.bpm.engine.impl.JobQueryImpl;
 import org.camunda.bpm.engine.impl.batch.BatchSeedJobHandler.BatchSeedJobConfiguration;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.jobexecutor.JobHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.JobHandlerConfiguration;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
 
 /**
  * The batch seed job handler is responsible to
@@ -48,18 +53,57 @@ public class BatchSeedJobHandler implements JobHandler<BatchSeedJobConfiguration
         .getBatchHandlers()
         .get(batch.getType());
 
+    BatchThroughputController throughputController = commandContext.getProcessEngineConfiguration().getBatchThroughputController();
+    if (throughputController != null && !adjustThroughput(throughputController, batch, commandContext)) {
+      // enough batch jobs are waiting for execution
+      return;
+    }
+
     boolean done = batchJobHandler.createJobs(batch);
 
     if (!done) {
       batch.createSeedJob();
     }
     else {
+      if (throughputController != null) {
+        throughputController.seedingCompleted(batch);
+      }
+
       // create monitor job initially without due date to
       // enable rapid completion of simple batches
       batch.createMonitorJob(false);
     }
   }
 
+  /**
+   * @return <code>false</code> if the seed job was postponed because enough batch jobs are waiting
+   */
+  protected boolean adjustThroughput(BatchThroughputController throughputController, BatchEntity batch, CommandContext commandContext) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+
+    JobQueryImpl batchJobQuery = new JobQueryImpl();
+    batchJobQuery
+      .jobDefinitionId(batch.getBatchJobDefinitionId())
+      .withRetriesLeft();
+
+    long batchJobBacklog = commandContext
+      .getJobManager()
+      .findJobCountByQueryCriteria(batchJobQuery);
+
+    int executorCapacity = throughputController.getJobExecutorCapacity(processEngineConfiguration);
+
+    if (throughputController.adjust(batch, batchJobBacklog, executorCapacity, processEngineConfiguration.getBatchJobsPerSeed())) {
+      return true;
+    }
+    else {
+      long maxSeedJobDelay = processEngineConfiguration.getBatchPollTime() * 1000L;
+      long seedJobDelay = throughputController.calculateSeedJobDelay(batch, batchJobBacklog, executorCapacity, maxSeedJobDelay);
+
+      batch.createSeedJob(new Date(ClockUtil.getCurrentTime().getTime() + seedJobDelay));
+      return false;
+    }
+  }
+
   @Override
   public BatchSeedJobConfiguration newConfiguration(String canonicalString) {
     return new BatchSeedJobConfiguration(canonicalString);
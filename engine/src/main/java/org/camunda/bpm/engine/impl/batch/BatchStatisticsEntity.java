@@ -19,6 +19,9 @@ public class BatchStatisticsEntity extends BatchEntity implements BatchStatistic
 
   protected int remainingJobs;
   protected int failedJobs;
+  protected int targetConcurrentJobs;
+  protected long targetJobExecutionTime;
+  protected long averageJobExecutionTime;
 
   public int getRemainingJobs() {
     return remainingJobs + getJobsToCreate();
@@ -40,6 +43,30 @@ public class BatchStatisticsEntity extends BatchEntity implements BatchStatistic
     this.failedJobs = failedJobs;
   }
 
+  public int getTargetConcurrentJobs() {
+    return targetConcurrentJobs;
+  }
+
+  public void setTargetConcurrentJobs(int targetConcurrentJobs) {
+    this.targetConcurrentJobs = targetConcurrentJobs;
+  }
+
+  public long getTargetJobExecutionTime() {
+    return targetJobExecutionTime;
+  }
+
+  public void setTargetJobExecutionTime(long targetJobExecutionTime) {
+    this.targetJobExecutionTime = targetJobExecutionTime;
+  }
+
+  public long getAverageJobExecutionTime() {
+    return averageJobExecutionTime;
+  }
+
+  public void setAverageJobExecutionTime(long averageJobExecutionTime) {
+    this.averageJobExecutionTime = averageJobExecutionTime;
+  }
+
   public int getJobsToCreate() {
     return totalJobs - jobsCreated;
   }
@@ -22,6 +22,7 @@ import org.camunda.bpm.engine.batch.BatchStatisticsQuery;
 import org.camunda.bpm.engine.impl.AbstractQuery;
 import org.camunda.bpm.engine.impl.BatchQueryProperty;
 import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
@@ -113,9 +114,30 @@ public class BatchStatisticsQueryImpl extends AbstractQuery<BatchStatisticsQuery
 
   public List<BatchStatistics> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
-    return commandContext
+    List<BatchStatistics> statistics = commandContext
       .getStatisticsManager()
       .getStatisticsGroupedByBatch(this, page);
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    BatchThroughputController throughputController = processEngineConfiguration.getBatchThroughputController();
+    if (throughputController != null) {
+      addThroughputTargets(statistics, throughputController, processEngineConfiguration);
+    }
+
+    return statistics;
+  }
+
+  protected void addThroughputTargets(List<BatchStatistics> statistics, BatchThroughputController throughputController,
+      ProcessEngineConfigurationImpl processEngineConfiguration) {
+    int targetConcurrentJobs = throughputController.getTargetConcurrentJobs(
+        throughputController.getJobExecutorCapacity(processEngineConfiguration));
+
+    for (BatchStatistics batchStatistics : statistics) {
+      BatchStatisticsEntity entity = (BatchStatisticsEntity) batchStatistics;
+      entity.setTargetConcurrentJobs(targetConcurrentJobs);
+      entity.setTargetJobExecutionTime(throughputController.getTargetJobExecutionTime());
+      entity.setAverageJobExecutionTime(Math.round(throughputController.getAverageJobExecutionTime(entity.getBatchJobDefinitionId())));
+    }
   }
 
 }
@@ -0,0 +1,226 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch;
+
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.commons.utils.cache.Cache;
+import org.camunda.commons.utils.cache.ConcurrentLruCache;
+
+/**
+ * <p>Adapts the number of invocations per batch job and the number of batch jobs
+ * created per seed job invocation of a batch while it is executed.</p>
+ *
+ * <ul>
+ *   <li>The invocations per batch job are resized so that a batch job takes about
+ *   the target job execution time. Short jobs waste time on job acquisition and
+ *   locking, long jobs block job executor threads and are expensive to retry.</li>
+ *   <li>The seed job only creates as many batch jobs as are needed to keep the
+ *   target share of the job executor threads busy. If enough batch jobs are
+ *   waiting, the seed job is postponed until the waiting jobs are estimated to
+ *   be mostly executed, but at most by the batch poll time, so that other jobs
+ *   are not starved by the batch.</li>
+ * </ul>
+ *
+ * <p>The configured batch jobs per seed and the maximum invocations per batch job
+ * are upper bounds. The current values are stored with the batch and its history
+ * and are returned by the batch and batch statistics queries.</p>
+ */
+public class BatchThroughputController {
+
+  public static final int DEFAULT_JOB_EXECUTOR_CAPACITY = 3;
+
+  /** limits the change of the invocations per batch job by one adjustment */
+  protected static final int MAXIMUM_RESIZE_FACTOR = 2;
+
+  /** weight of a new observation in the average job execution time */
+  protected static final double SMOOTHING_FACTOR = 0.3;
+
+  /** lower bound of the delay of a postponed seed job in milliseconds */
+  protected static final long MIN_SEED_JOB_DELAY = 100;
+
+  protected double targetExecutorShare;
+  protected long targetJobExecutionTime;
+  protected int maxInvocationsPerBatchJob;
+
+  /** average execution time of the batch jobs by batch job definition id */
+  protected Cache<String, Observation> observations = new ConcurrentLruCache<String, Observation>(1000);
+
+  public BatchThroughputController(double targetExecutorShare, long targetJobExecutionTime, int maxInvocationsPerBatchJob) {
+    this.targetExecutorShare = targetExecutorShare;
+    this.targetJobExecutionTime = targetJobExecutionTime;
+    this.maxInvocationsPerBatchJob = maxInvocationsPerBatchJob;
+  }
+
+  public void recordBatchJobExecution(String batchJobDefinitionId, long executionTime) {
+    if (batchJobDefinitionId == null) {
+      return;
+    }
+
+    Observation observation = observations.get(batchJobDefinitionId);
+    if (observation == null) {
+      observation = new Observation();
+      observations.put(batchJobDefinitionId, observation);
+    }
+    observation.record(executionTime);
+  }
+
+  public double getAverageJobExecutionTime(String batchJobDefinitionId) {
+    Observation observation = observations.get(batchJobDefinitionId);
+    return observation != null ? observation.getAverage() : 0;
+  }
+
+  /**
+   * Adjusts the invocations per batch job and the batch jobs per seed of the batch.
+   *
+   * @param batch the batch to adjust
+   * @param batchJobBacklog the number of batch jobs of the batch which are waiting for execution
+   * @param executorCapacity the number of job executor threads
+   * @param maxBatchJobsPerSeed the maximum number of batch jobs a seed job creates
+   *
+   * @return <code>false</code> if the seed job should not create batch jobs now
+   */
+  public boolean adjust(BatchEntity batch, long batchJobBacklog, int executorCapacity, int maxBatchJobsPerSeed) {
+    boolean adjusted = resizeBatchJobs(batch);
+
+    // keep enough batch jobs waiting to occupy the target share of threads until the next seed job
+    long missingJobs = 2L * getTargetConcurrentJobs(executorCapacity) - batchJobBacklog;
+
+    int batchJobsPerSeed = (int) Math.min(maxBatchJobsPerSeed, Math.max(0, missingJobs));
+    if (batchJobsPerSeed > 0 && batchJobsPerSeed != batch.getBatchJobsPerSeed()) {
+      batch.setBatchJobsPerSeed(batchJobsPerSeed);
+      adjusted = true;
+    }
+
+    if (adjusted) {
+      Context.getCommandContext().getHistoricBatchManager().updateHistoricBatch(batch);
+    }
+
+    return batchJobsPerSeed > 0;
+  }
+
+  /**
+   * Calculates how long a seed job should wait if enough batch jobs are waiting. It should
+   * run again when about one round of batch jobs for the target concurrency is left, which
+   * is estimated from the average batch job execution time.
+   *
+   * @param batch the batch to seed
+   * @param batchJobBacklog the number of batch jobs of the batch which are waiting for execution
+   * @param executorCapacity the number of job executor threads
+   * @param maxSeedJobDelay the maximum delay in milliseconds
+   *
+   * @return the delay of the seed job in milliseconds
+   */
+  public long calculateSeedJobDelay(BatchEntity batch, long batchJobBacklog, int executorCapacity, long maxSeedJobDelay) {
+    double averageJobExecutionTime = getAverageJobExecutionTime(batch.getBatchJobDefinitionId());
+    if (averageJobExecutionTime <= 0) {
+      // no batch job was executed so far, so the batch jobs are expected to take the target time
+      averageJobExecutionTime = targetJobExecutionTime;
+    }
+
+    int targetConcurrentJobs = getTargetConcurrentJobs(executorCapacity);
+    long jobsToExecute = Math.max(0, batchJobBacklog - targetConcurrentJobs);
+    long delay = (long) (jobsToExecute * averageJobExecutionTime / targetConcurrentJobs);
+
+    return Math.min(maxSeedJobDelay, Math.max(MIN_SEED_JOB_DELAY, delay));
+  }
+
+  /**
+   * @return the number of batch jobs of a batch which should be executed at the same time
+   */
+  public int getTargetConcurrentJobs(int executorCapacity) {
+    return Math.max(1, (int) Math.round(executorCapacity * targetExecutorShare));
+  }
+
+  protected boolean resizeBatchJobs(BatchEntity batch) {
+    double averageJobExecutionTime = getAverageJobExecutionTime(batch.getBatchJobDefinitionId());
+    if (averageJobExecutionTime <= 0) {
+      return false;
+    }
+
+    int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
+    int resizedInvocations = (int) (invocationsPerBatchJob * targetJobExecutionTime / averageJobExecutionTime);
+
+    resizedInvocations = Math.min(resizedInvocations, invocationsPerBatchJob * MAXIMUM_RESIZE_FACTOR);
+    resizedInvocations = Math.max(resizedInvocations, invocationsPerBatchJob / MAXIMUM_RESIZE_FACTOR);
+    resizedInvocations = Math.min(resizedInvocations, maxInvocationsPerBatchJob);
+    resizedInvocations = Math.max(resizedInvocations, 1);
+
+    if (resizedInvocations != invocationsPerBatchJob) {
+      // the remaining invocations are estimated since only the loaded ids are known
+      long remainingInvocations = (long) (batch.getTotalJobs() - batch.getJobsCreated()) * invocationsPerBatchJob;
+      long remainingJobs = (remainingInvocations + resizedInvocations - 1) / resizedInvocations;
+
+      batch.setTotalJobs(batch.getJobsCreated() + (int) remainingJobs);
+      batch.setInvocationsPerBatchJob(resizedInvocations);
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Called when the seed job has created all batch jobs of the batch.
+   */
+  public void seedingCompleted(BatchEntity batch) {
+    // corrects the estimation of the remaining jobs
+    if (batch.getTotalJobs() != batch.getJobsCreated()) {
+      batch.setTotalJobs(batch.getJobsCreated());
+      Context.getCommandContext().getHistoricBatchManager().updateHistoricBatch(batch);
+    }
+  }
+
+  public int getJobExecutorCapacity(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    JobExecutor jobExecutor = processEngineConfiguration.getJobExecutor();
+    if (jobExecutor instanceof DefaultJobExecutor) {
+      return ((DefaultJobExecutor) jobExecutor).getMaxPoolSize();
+    }
+    else {
+      return DEFAULT_JOB_EXECUTOR_CAPACITY;
+    }
+  }
+
+  public double getTargetExecutorShare() {
+    return targetExecutorShare;
+  }
+
+  public long getTargetJobExecutionTime() {
+    return targetJobExecutionTime;
+  }
+
+  public int getMaxInvocationsPerBatchJob() {
+    return maxInvocationsPerBatchJob;
+  }
+
+  protected static class Observation {
+
+    protected double average;
+
+    public synchronized void record(long executionTime) {
+      executionTime = Math.max(1, executionTime);
+      if (average == 0) {
+        average = executionTime;
+      }
+      else {
+        average = SMOOTHING_FACTOR * executionTime + (1 - SMOOTHING_FACTOR) * average;
+      }
+    }
+
+    public synchronized double getAverage() {
+      return average;
+    }
+  }
+
+}
@@ -87,12 +87,13 @@ public class DeleteProcessInstancesJobHandler extends AbstractBatchJobHandler<De
   public boolean createJobs(BatchEntity batch) {
     DeleteProcessInstanceBatchConfiguration configuration = readConfiguration(batch.getConfigurationBytes());
 
-    List<String> ids = configuration.getIds();
     final CommandContext commandContext = Context.getCommandContext();
 
     int batchJobsPerSeed = batch.getBatchJobsPerSeed();
     int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
 
+    List<String> ids = loadIdsToProcess(configuration, invocationsPerBatchJob * batchJobsPerSeed);
+
     int numberOfItemsToProcess = Math.min(invocationsPerBatchJob * batchJobsPerSeed, ids.size());
     // view of process instances to process
     final List<String> processIds = ids.subList(0, numberOfItemsToProcess);
@@ -125,7 +126,7 @@ public class DeleteProcessInstancesJobHandler extends AbstractBatchJobHandler<De
       createJobEntities(batch, configuration, null, processIds, invocationsPerBatchJob);
     }
 
-    return ids.isEmpty();
+    return isAllIdsProcessed(configuration);
   }
 
   protected void createJobEntities(BatchEntity batch, DeleteProcessInstanceBatchConfiguration configuration, String deploymentId,
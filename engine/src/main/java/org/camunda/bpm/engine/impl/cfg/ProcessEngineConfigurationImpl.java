@@ -16,6 +16,7 @@ package org.camunda.bpm.engine.impl.cfg;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
+import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -35,6 +36,10 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.naming.InitialContext;
 import javax.sql.DataSource;
@@ -70,6 +75,7 @@ import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.authorization.Permission;
 import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.impl.AbstractDefinitionDeployer;
 import org.camunda.bpm.engine.impl.AuthorizationServiceImpl;
 import org.camunda.bpm.engine.impl.DecisionServiceImpl;
 import org.camunda.bpm.engine.impl.DefaultArtifactFactory;
@@ -90,6 +96,7 @@ import org.camunda.bpm.engine.impl.TaskServiceImpl;
 import org.camunda.bpm.engine.impl.application.ProcessApplicationManager;
 import org.camunda.bpm.engine.impl.batch.BatchJobHandler;
 import org.camunda.bpm.engine.impl.batch.BatchMonitorJobHandler;
+import org.camunda.bpm.engine.impl.batch.BatchThroughputController;
 import org.camunda.bpm.engine.impl.batch.BatchSeedJobHandler;
 import org.camunda.bpm.engine.impl.batch.deletion.DeleteHistoricProcessInstancesJobHandler;
 import org.camunda.bpm.engine.impl.batch.deletion.DeleteProcessInstancesJobHandler;
@@ -122,9 +129,12 @@ import org.camunda.bpm.engine.impl.cmmn.transformer.CmmnTransformFactory;
 import org.camunda.bpm.engine.impl.cmmn.transformer.CmmnTransformListener;
 import org.camunda.bpm.engine.impl.cmmn.transformer.CmmnTransformer;
 import org.camunda.bpm.engine.impl.cmmn.transformer.DefaultCmmnTransformFactory;
+import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.DbIdGenerator;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManagerFactory;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheKeyMapping;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SharedDbEntityCache;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SharedDbEntityCacheInvalidationListener;
 import org.camunda.bpm.engine.impl.db.sql.DbSqlPersistenceProviderFactory;
 import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.camunda.bpm.engine.impl.delegate.DefaultDelegateInterceptor;
@@ -167,7 +177,9 @@ import org.camunda.bpm.engine.impl.form.validator.MinValidator;
 import org.camunda.bpm.engine.impl.form.validator.ReadOnlyValidator;
 import org.camunda.bpm.engine.impl.form.validator.RequiredValidator;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.history.event.AsyncHistoricDecisionInstanceWriter;
 import org.camunda.bpm.engine.impl.history.event.HistoricDecisionInstanceManager;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
 import org.camunda.bpm.engine.impl.history.handler.DbHistoryEventHandler;
 import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
 import org.camunda.bpm.engine.impl.history.parser.HistoryParseListener;
@@ -184,10 +196,13 @@ import org.camunda.bpm.engine.impl.identity.db.DbIdentityServiceProvider;
 import org.camunda.bpm.engine.impl.incident.DefaultIncidentHandler;
 import org.camunda.bpm.engine.impl.incident.IncidentHandler;
 import org.camunda.bpm.engine.impl.interceptor.CommandContextFactory;
+import org.camunda.bpm.engine.impl.interceptor.CommandContextInterceptor;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutorImpl;
 import org.camunda.bpm.engine.impl.interceptor.CommandInterceptor;
 import org.camunda.bpm.engine.impl.interceptor.DelegateInterceptor;
+import org.camunda.bpm.engine.impl.interceptor.LogInterceptor;
+import org.camunda.bpm.engine.impl.interceptor.ProcessApplicationContextInterceptor;
 import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 import org.camunda.bpm.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
@@ -252,12 +267,15 @@ import org.camunda.bpm.engine.impl.persistence.GenericManagerFactory;
 import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.CacheFactory;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DefaultCacheFactory;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.WeightedCacheFactory;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.camunda.bpm.engine.impl.persistence.entity.AttachmentManager;
+import org.camunda.bpm.engine.impl.persistence.entity.AuthorizationDecisionCache;
 import org.camunda.bpm.engine.impl.persistence.entity.AuthorizationManager;
 import org.camunda.bpm.engine.impl.persistence.entity.BatchManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayManager;
 import org.camunda.bpm.engine.impl.persistence.entity.CommentManager;
+import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentManager;
 import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionManager;
@@ -279,6 +297,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.HistoricVariableInstanceMa
 import org.camunda.bpm.engine.impl.persistence.entity.IdentityInfoManager;
 import org.camunda.bpm.engine.impl.persistence.entity.IdentityLinkManager;
 import org.camunda.bpm.engine.impl.persistence.entity.IncidentManager;
+import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
 import org.camunda.bpm.engine.impl.persistence.entity.MeterLogManager;
@@ -308,6 +327,7 @@ import org.camunda.bpm.engine.impl.scripting.env.ScriptingEnvironment;
 import org.camunda.bpm.engine.impl.util.IoUtil;
 import org.camunda.bpm.engine.impl.util.ParseUtil;
 import org.camunda.bpm.engine.impl.util.ReflectUtil;
+import org.camunda.bpm.engine.impl.util.xml.ParseSnapshotCache;
 import org.camunda.bpm.engine.impl.variable.ValueTypeResolverImpl;
 import org.camunda.bpm.engine.impl.variable.serializer.BooleanValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.ByteArrayValueSerializer;
@@ -407,6 +427,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected CommandExecutor commandExecutorSchemaOperations;
 
+  /**
+   * Command executor without transaction interceptors and custom interceptors, used by the
+   * decision evaluation fast path if the evaluation writes nothing to the database.
+   */
+  protected CommandExecutor commandExecutorReadOnly;
+
   // SESSION FACTORIES ////////////////////////////////////////////////////////
 
   protected List<SessionFactory> customSessionFactories;
@@ -420,12 +446,35 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected List<Deployer> deployers;
   protected DeploymentCache deploymentCache;
 
+  /**
+   * The number of threads which parse the BPMN, CMMN and DMN resources of a deployment in
+   * parallel. The resources are parsed one after another if it is less than two.
+   */
+  protected int deploymentParseThreads = 0;
+  protected ExecutorService deploymentParseExecutor;
+  /** only an executor created by the engine is shut down when the engine is closed */
+  protected boolean deploymentParseExecutorCreated = false;
+
+  /**
+   * The directory in which snapshots of parsed BPMN resources are kept, so that
+   * a resource does not need to be parsed again when its process definitions are
+   * loaded into the deployment cache. No snapshots are kept if it is not set.
+   */
+  protected String parseSnapshotDirectory;
+  protected ParseSnapshotCache parseSnapshotCache;
+
   // CACHE ////////////////////////////////////////////////////////////////////
 
   protected CacheFactory cacheFactory;
   protected int cacheCapacity = 1000;
   protected boolean enableFetchProcessDefinitionDescription = true;
 
+  /**
+   * If disabled, the BPMN, CMMN and DMN model instances are not kept in the deployment
+   * cache but read from the resource whenever the model API is accessed.
+   */
+  protected boolean enableModelInstanceCache = true;
+
   // JOB EXECUTOR /////////////////////////////////////////////////////////////
 
   protected List<JobHandler> customJobHandlers;
@@ -474,6 +523,29 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    * default priority for batch jobs
    */
   protected long batchJobPriority = DefaultJobPriorityProvider.DEFAULT_PRIORITY;
+  /**
+   * adapts the invocations per batch job and the batch jobs per seed to the
+   * observed job execution time and the number of waiting batch jobs
+   */
+  protected boolean batchThroughputControlEnabled = false;
+  /**
+   * share of the job executor threads a batch should occupy
+   */
+  protected double batchTargetExecutorShare = 0.5;
+  /**
+   * milliseconds a batch job should take
+   */
+  protected long batchTargetJobExecutionTime = 2000;
+  /**
+   * upper bound of the invocations per batch job set by the throughput controller
+   */
+  protected int batchMaxInvocationsPerBatchJob = 1000;
+  protected BatchThroughputController batchThroughputController;
+  /**
+   * deletes the process instances of a deletion batch with set-based statements
+   * if they have no custom end listeners; their history is removed as well
+   */
+  protected boolean bulkProcessInstanceDeletionEnabled = false;
 
   // OTHER ////////////////////////////////////////////////////////////////////
   protected List<FormEngine> customFormEngines;
@@ -526,6 +598,44 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected DefaultDmnEngineConfiguration dmnEngineConfiguration;
   protected DmnEngine dmnEngine;
 
+  /**
+   * If true, the rules of decision tables are indexed by their input entries when
+   * the decision is added to the deployment cache, so that only the rules which may
+   * match the input values are evaluated.
+   */
+  protected boolean decisionTableIndexEnabled = false;
+
+  /**
+   * If true, decisions evaluated by the {@link DecisionService} reuse the decision
+   * definition of a recent lookup from the deployment cache instead of querying the
+   * database again, and are evaluated by the {@link #commandExecutorReadOnly} if no
+   * history is produced for the evaluation and no authorization check is required.
+   */
+  protected boolean decisionEvaluationFastPathEnabled = false;
+  /**
+   * time in milliseconds for which the decision evaluation fast path reuses a lookup.
+   * Deployments on other process engines are not evaluated before the time expired.
+   */
+  protected long decisionEvaluationFastPathLookupTimeToLive = 10000;
+
+  /**
+   * keys of the decision definitions whose historic decision instances store
+   * their inputs and outputs in one serialized byte array instead of one row
+   * per input and output
+   */
+  protected Set<String> compactDecisionHistoryDecisionKeys;
+  /**
+   * if true, the compact historic decision instances are written by a background
+   * thread after the evaluating transaction is committed
+   */
+  protected boolean compactDecisionHistoryAsync = false;
+  /**
+   * maximum number of evaluations whose history is written in one transaction
+   * by the asynchronous writer
+   */
+  protected int compactDecisionHistoryAsyncBatchSize = 100;
+  protected AsyncHistoricDecisionInstanceWriter asyncHistoricDecisionInstanceWriter;
+
   protected HistoryLevel historyLevel;
 
   /**
@@ -594,6 +704,38 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected ResourceAuthorizationProvider resourceAuthorizationProvider;
 
+  /**
+   * The time in milliseconds authorization decisions are shared between commands.
+   * Decisions are only cached within a command if it is not positive.
+   */
+  protected long authorizationDecisionCacheTimeToLive = 0;
+  protected int authorizationDecisionCacheCapacity = 10000;
+  protected AuthorizationDecisionCache authorizationDecisionCache;
+
+  /**
+   * If true, the entities of the shared entity cache types are cached between commands
+   * when they are selected by id. The cache is invalidated on updates and deletes of this
+   * process engine only, unless invalidation listeners propagate them to the other engines.
+   */
+  protected boolean sharedEntityCacheEnabled = false;
+  protected int sharedEntityCacheCapacity = 1000;
+  protected List<Class<? extends DbEntity>> sharedEntityCacheTypes;
+  protected List<SharedDbEntityCacheInvalidationListener> sharedEntityCacheInvalidationListeners;
+  protected SharedDbEntityCache sharedEntityCache;
+
+  /**
+   * If true, the authorizations of the authenticated user and groups are loaded once per
+   * command and authorization checks are evaluated in memory.
+   */
+  protected boolean preloadAuthorizations = false;
+
+  /**
+   * If true, the task and process instance queries compute the effective permissions of the
+   * authenticated user and groups before the query is executed and filter by the resulting
+   * resource ids instead of evaluating the authorizations in the query.
+   */
+  protected boolean precomputeQueryAuthorizations = false;
+
   protected List<ProcessEnginePlugin> processEnginePlugins = new ArrayList<ProcessEnginePlugin>();
 
   protected HistoryEventProducer historyEventProducer;
@@ -783,6 +925,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initPasswordDigest();
     initDeploymentRegistration();
     initResourceAuthorizationProvider();
+    initAuthorizationDecisionCache();
+    initSharedEntityCache();
+    initBatchThroughputController();
+    initAsyncHistoricDecisionInstanceWriter();
     initMetrics();
     initMigration();
     initCommandCheckers();
@@ -977,6 +1123,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initCommandInterceptorsTxRequiresNew();
     initCommandExecutorTxRequiresNew();
     initCommandExecutorDbSchemaOperations();
+    initCommandExecutorReadOnly();
   }
 
   protected void initActualCommandExecutor() {
@@ -1034,6 +1181,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initCommandExecutorReadOnly() {
+    if (commandExecutorReadOnly == null) {
+      List<CommandInterceptor> commandInterceptorsReadOnly = new ArrayList<CommandInterceptor>(getDefaultCommandInterceptorsReadOnly());
+      commandInterceptorsReadOnly.add(actualCommandExecutor);
+      commandExecutorReadOnly = initInterceptorChain(commandInterceptorsReadOnly);
+    }
+  }
+
+  protected Collection<? extends CommandInterceptor> getDefaultCommandInterceptorsReadOnly() {
+    List<CommandInterceptor> defaultCommandInterceptorsReadOnly = new ArrayList<CommandInterceptor>();
+    defaultCommandInterceptorsReadOnly.add(new LogInterceptor());
+    defaultCommandInterceptorsReadOnly.add(new ProcessApplicationContextInterceptor(this));
+    defaultCommandInterceptorsReadOnly.add(new CommandContextInterceptor(commandContextFactory, this));
+    return defaultCommandInterceptorsReadOnly;
+  }
+
   protected CommandInterceptor initInterceptorChain(List<CommandInterceptor> chain) {
     if (chain == null || chain.isEmpty()) {
       throw new ProcessEngineException("invalid command interceptor chain configuration: " + chain);
@@ -1065,6 +1228,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (service instanceof ServiceImpl) {
       ((ServiceImpl) service).setCommandExecutor(commandExecutorTxRequired);
     }
+    if (service instanceof DecisionServiceImpl) {
+      ((DecisionServiceImpl) service).setProcessEngineConfiguration(this);
+    }
     if (service instanceof RepositoryServiceImpl) {
       ((RepositoryServiceImpl) service).setDeploymentCharset(getDefaultCharset());
     }
@@ -1518,6 +1684,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   // deployers ////////////////////////////////////////////////////////////////
 
   protected void initDeployers() {
+    initDeploymentParseExecutor();
+    initParseSnapshotCache();
+
     if (this.deployers == null) {
       this.deployers = new ArrayList<Deployer>();
       if (customPreDeployers != null) {
@@ -1541,6 +1710,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       initCacheFactory();
       deploymentCache = new DeploymentCache(cacheFactory, cacheCapacity);
       deploymentCache.setDeployers(deployers);
+      deploymentCache.setModelInstanceCacheEnabled(enableModelInstanceCache);
     }
   }
 
@@ -1563,9 +1733,36 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       defaultDeployers.add(decisionDefinitionDeployer);
     }
 
+    for (Deployer deployer : defaultDeployers) {
+      if (deployer instanceof AbstractDefinitionDeployer) {
+        ((AbstractDefinitionDeployer<?>) deployer).setParseExecutor(deploymentParseExecutor);
+      }
+    }
+
     return defaultDeployers;
   }
 
+  protected void initDeploymentParseExecutor() {
+    if (deploymentParseExecutor == null && deploymentParseThreads > 1) {
+      deploymentParseExecutor = Executors.newFixedThreadPool(deploymentParseThreads, new ThreadFactory() {
+        protected final AtomicInteger threadNumber = new AtomicInteger();
+
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "camunda-deployment-parser-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      deploymentParseExecutorCreated = true;
+    }
+  }
+
+  protected void initParseSnapshotCache() {
+    if (parseSnapshotCache == null && parseSnapshotDirectory != null) {
+      parseSnapshotCache = new ParseSnapshotCache(new File(parseSnapshotDirectory));
+    }
+  }
+
   protected BpmnDeployer getBpmnDeployer() {
     BpmnDeployer bpmnDeployer = new BpmnDeployer();
     bpmnDeployer.setExpressionManager(expressionManager);
@@ -1586,6 +1783,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
 
     bpmnDeployer.setBpmnParser(bpmnParser);
+    bpmnDeployer.setParseSnapshotCache(parseSnapshotCache);
 
     return bpmnDeployer;
   }
@@ -1662,6 +1860,80 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.dmnEngine = dmnEngine;
   }
 
+  public boolean isDecisionTableIndexEnabled() {
+    return decisionTableIndexEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setDecisionTableIndexEnabled(boolean decisionTableIndexEnabled) {
+    this.decisionTableIndexEnabled = decisionTableIndexEnabled;
+    return this;
+  }
+
+  public boolean isDecisionEvaluationFastPathEnabled() {
+    return decisionEvaluationFastPathEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setDecisionEvaluationFastPathEnabled(boolean decisionEvaluationFastPathEnabled) {
+    this.decisionEvaluationFastPathEnabled = decisionEvaluationFastPathEnabled;
+    return this;
+  }
+
+  public long getDecisionEvaluationFastPathLookupTimeToLive() {
+    return decisionEvaluationFastPathLookupTimeToLive;
+  }
+
+  public ProcessEngineConfigurationImpl setDecisionEvaluationFastPathLookupTimeToLive(long decisionEvaluationFastPathLookupTimeToLive) {
+    this.decisionEvaluationFastPathLookupTimeToLive = decisionEvaluationFastPathLookupTimeToLive;
+    return this;
+  }
+
+  /**
+   * @return true if decisions evaluated by the {@link DecisionService} on the current thread
+   *   can use the {@link #commandExecutorReadOnly}, i.e. the evaluation neither produces
+   *   history nor requires an authorization check
+   */
+  public boolean isReadOnlyDecisionEvaluation() {
+    return decisionEvaluationFastPathEnabled
+        && !historyLevel.isHistoryEventProduced(HistoryEventTypes.DMN_DECISION_EVALUATE, null)
+        && !(authorizationEnabled && identityService.getCurrentAuthentication() != null);
+  }
+
+  public Set<String> getCompactDecisionHistoryDecisionKeys() {
+    return compactDecisionHistoryDecisionKeys;
+  }
+
+  public ProcessEngineConfigurationImpl setCompactDecisionHistoryDecisionKeys(Set<String> compactDecisionHistoryDecisionKeys) {
+    this.compactDecisionHistoryDecisionKeys = compactDecisionHistoryDecisionKeys;
+    return this;
+  }
+
+  public boolean isCompactDecisionHistoryAsync() {
+    return compactDecisionHistoryAsync;
+  }
+
+  public ProcessEngineConfigurationImpl setCompactDecisionHistoryAsync(boolean compactDecisionHistoryAsync) {
+    this.compactDecisionHistoryAsync = compactDecisionHistoryAsync;
+    return this;
+  }
+
+  public int getCompactDecisionHistoryAsyncBatchSize() {
+    return compactDecisionHistoryAsyncBatchSize;
+  }
+
+  public ProcessEngineConfigurationImpl setCompactDecisionHistoryAsyncBatchSize(int compactDecisionHistoryAsyncBatchSize) {
+    this.compactDecisionHistoryAsyncBatchSize = compactDecisionHistoryAsyncBatchSize;
+    return this;
+  }
+
+  public AsyncHistoricDecisionInstanceWriter getAsyncHistoricDecisionInstanceWriter() {
+    return asyncHistoricDecisionInstanceWriter;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoricDecisionInstanceWriter(AsyncHistoricDecisionInstanceWriter asyncHistoricDecisionInstanceWriter) {
+    this.asyncHistoricDecisionInstanceWriter = asyncHistoricDecisionInstanceWriter;
+    return this;
+  }
+
   public DefaultDmnEngineConfiguration getDmnEngineConfiguration() {
     return dmnEngineConfiguration;
   }
@@ -1880,6 +2152,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     metricsRegistry.createMeter(Metrics.JOB_EXECUTION_REJECTED);
 
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_ELEMENTS);
+
+    // only the weighted deployment caches keep track of their usage
+    if (cacheFactory instanceof WeightedCacheFactory) {
+      metricsRegistry.createMeter(Metrics.DEPLOYMENT_CACHE_HIT);
+      metricsRegistry.createMeter(Metrics.DEPLOYMENT_CACHE_MISS);
+      metricsRegistry.createMeter(Metrics.DEPLOYMENT_CACHE_EVICTION);
+      metricsRegistry.createMeter(Metrics.DEPLOYMENT_CACHE_LOAD_TIME);
+    }
   }
 
   protected void initSerialization() {
@@ -2192,6 +2472,46 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initAuthorizationDecisionCache() {
+    if (authorizationDecisionCache == null && authorizationDecisionCacheTimeToLive > 0) {
+      authorizationDecisionCache = new AuthorizationDecisionCache(authorizationDecisionCacheTimeToLive, authorizationDecisionCacheCapacity);
+    }
+  }
+
+  protected void initSharedEntityCache() {
+    if (sharedEntityCache == null && sharedEntityCacheEnabled) {
+      if (sharedEntityCacheTypes == null) {
+        sharedEntityCacheTypes = getDefaultSharedEntityCacheTypes();
+      }
+      sharedEntityCache = new SharedDbEntityCache(sharedEntityCacheCapacity, sharedEntityCacheTypes);
+
+      if (sharedEntityCacheInvalidationListeners != null) {
+        for (SharedDbEntityCacheInvalidationListener listener : sharedEntityCacheInvalidationListeners) {
+          sharedEntityCache.addInvalidationListener(listener);
+        }
+      }
+    }
+  }
+
+  protected void initBatchThroughputController() {
+    if (batchThroughputController == null && batchThroughputControlEnabled) {
+      batchThroughputController = new BatchThroughputController(batchTargetExecutorShare, batchTargetJobExecutionTime, batchMaxInvocationsPerBatchJob);
+    }
+  }
+
+  protected void initAsyncHistoricDecisionInstanceWriter() {
+    if (asyncHistoricDecisionInstanceWriter == null && compactDecisionHistoryAsync) {
+      asyncHistoricDecisionInstanceWriter = new AsyncHistoricDecisionInstanceWriter(commandExecutorTxRequired, compactDecisionHistoryAsyncBatchSize);
+    }
+  }
+
+  protected List<Class<? extends DbEntity>> getDefaultSharedEntityCacheTypes() {
+    List<Class<? extends DbEntity>> types = new ArrayList<Class<? extends DbEntity>>();
+    types.add(JobDefinitionEntity.class);
+    types.add(DeploymentEntity.class);
+    return types;
+  }
+
   protected void initDefaultUserPermissionForTask() {
     if (defaultUserPermissionForTask == null) {
       if (Permissions.UPDATE.getName().equals(defaultUserPermissionNameForTask)) {
@@ -2579,6 +2899,38 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.cacheCapacity = cacheCapacity;
   }
 
+  public int getDeploymentParseThreads() {
+    return deploymentParseThreads;
+  }
+
+  public void setDeploymentParseThreads(int deploymentParseThreads) {
+    this.deploymentParseThreads = deploymentParseThreads;
+  }
+
+  public ExecutorService getDeploymentParseExecutor() {
+    return deploymentParseExecutor;
+  }
+
+  public void setDeploymentParseExecutor(ExecutorService deploymentParseExecutor) {
+    this.deploymentParseExecutor = deploymentParseExecutor;
+  }
+
+  public String getParseSnapshotDirectory() {
+    return parseSnapshotDirectory;
+  }
+
+  public void setParseSnapshotDirectory(String parseSnapshotDirectory) {
+    this.parseSnapshotDirectory = parseSnapshotDirectory;
+  }
+
+  public ParseSnapshotCache getParseSnapshotCache() {
+    return parseSnapshotCache;
+  }
+
+  public void setParseSnapshotCache(ParseSnapshotCache parseSnapshotCache) {
+    this.parseSnapshotCache = parseSnapshotCache;
+  }
+
   public void setEnableFetchProcessDefinitionDescription(boolean enableFetchProcessDefinitionDescription){
     this.enableFetchProcessDefinitionDescription = enableFetchProcessDefinitionDescription;
   }
@@ -2587,6 +2939,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this.enableFetchProcessDefinitionDescription;
   }
 
+  public boolean isEnableModelInstanceCache() {
+    return enableModelInstanceCache;
+  }
+
+  public void setEnableModelInstanceCache(boolean enableModelInstanceCache) {
+    this.enableModelInstanceCache = enableModelInstanceCache;
+  }
+
   public Permission getDefaultUserPermissionForTask() {
     return defaultUserPermissionForTask;
   }
@@ -3085,6 +3445,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.commandExecutorSchemaOperations = commandExecutorSchemaOperations;
   }
 
+  public CommandExecutor getCommandExecutorReadOnly() {
+    return commandExecutorReadOnly;
+  }
+
+  public void setCommandExecutorReadOnly(CommandExecutor commandExecutorReadOnly) {
+    this.commandExecutorReadOnly = commandExecutorReadOnly;
+  }
+
   public CorrelationHandler getCorrelationHandler() {
     return correlationHandler;
   }
@@ -3170,6 +3538,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.batchPollTime = batchPollTime;
   }
 
+  public boolean isBatchThroughputControlEnabled() {
+    return batchThroughputControlEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setBatchThroughputControlEnabled(boolean batchThroughputControlEnabled) {
+    this.batchThroughputControlEnabled = batchThroughputControlEnabled;
+    return this;
+  }
+
+  public double getBatchTargetExecutorShare() {
+    return batchTargetExecutorShare;
+  }
+
+  public ProcessEngineConfigurationImpl setBatchTargetExecutorShare(double batchTargetExecutorShare) {
+    this.batchTargetExecutorShare = batchTargetExecutorShare;
+    return this;
+  }
+
+  public long getBatchTargetJobExecutionTime() {
+    return batchTargetJobExecutionTime;
+  }
+
+  public ProcessEngineConfigurationImpl setBatchTargetJobExecutionTime(long batchTargetJobExecutionTime) {
+    this.batchTargetJobExecutionTime = batchTargetJobExecutionTime;
+    return this;
+  }
+
+  public int getBatchMaxInvocationsPerBatchJob() {
+    return batchMaxInvocationsPerBatchJob;
+  }
+
+  public ProcessEngineConfigurationImpl setBatchMaxInvocationsPerBatchJob(int batchMaxInvocationsPerBatchJob) {
+    this.batchMaxInvocationsPerBatchJob = batchMaxInvocationsPerBatchJob;
+    return this;
+  }
+
+  public BatchThroughputController getBatchThroughputController() {
+    return batchThroughputController;
+  }
+
+  public ProcessEngineConfigurationImpl setBatchThroughputController(BatchThroughputController batchThroughputController) {
+    this.batchThroughputController = batchThroughputController;
+    return this;
+  }
+
+  public boolean isBulkProcessInstanceDeletionEnabled() {
+    return bulkProcessInstanceDeletionEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setBulkProcessInstanceDeletionEnabled(boolean bulkProcessInstanceDeletionEnabled) {
+    this.bulkProcessInstanceDeletionEnabled = bulkProcessInstanceDeletionEnabled;
+    return this;
+  }
+
   public long getBatchJobPriority() {
     return batchJobPriority;
   }
@@ -3234,6 +3656,91 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.resourceAuthorizationProvider = resourceAuthorizationProvider;
   }
 
+  public long getAuthorizationDecisionCacheTimeToLive() {
+    return authorizationDecisionCacheTimeToLive;
+  }
+
+  public void setAuthorizationDecisionCacheTimeToLive(long authorizationDecisionCacheTimeToLive) {
+    this.authorizationDecisionCacheTimeToLive = authorizationDecisionCacheTimeToLive;
+  }
+
+  public int getAuthorizationDecisionCacheCapacity() {
+    return authorizationDecisionCacheCapacity;
+  }
+
+  public void setAuthorizationDecisionCacheCapacity(int authorizationDecisionCacheCapacity) {
+    this.authorizationDecisionCacheCapacity = authorizationDecisionCacheCapacity;
+  }
+
+  public AuthorizationDecisionCache getAuthorizationDecisionCache() {
+    return authorizationDecisionCache;
+  }
+
+  public void setAuthorizationDecisionCache(AuthorizationDecisionCache authorizationDecisionCache) {
+    this.authorizationDecisionCache = authorizationDecisionCache;
+  }
+
+  public boolean isSharedEntityCacheEnabled() {
+    return sharedEntityCacheEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCacheEnabled(boolean sharedEntityCacheEnabled) {
+    this.sharedEntityCacheEnabled = sharedEntityCacheEnabled;
+    return this;
+  }
+
+  public int getSharedEntityCacheCapacity() {
+    return sharedEntityCacheCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCacheCapacity(int sharedEntityCacheCapacity) {
+    this.sharedEntityCacheCapacity = sharedEntityCacheCapacity;
+    return this;
+  }
+
+  public List<Class<? extends DbEntity>> getSharedEntityCacheTypes() {
+    return sharedEntityCacheTypes;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCacheTypes(List<Class<? extends DbEntity>> sharedEntityCacheTypes) {
+    this.sharedEntityCacheTypes = sharedEntityCacheTypes;
+    return this;
+  }
+
+  public List<SharedDbEntityCacheInvalidationListener> getSharedEntityCacheInvalidationListeners() {
+    return sharedEntityCacheInvalidationListeners;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCacheInvalidationListeners(List<SharedDbEntityCacheInvalidationListener> sharedEntityCacheInvalidationListeners) {
+    this.sharedEntityCacheInvalidationListeners = sharedEntityCacheInvalidationListeners;
+    return this;
+  }
+
+  public SharedDbEntityCache getSharedEntityCache() {
+    return sharedEntityCache;
+  }
+
+  public ProcessEngineConfigurationImpl setSharedEntityCache(SharedDbEntityCache sharedEntityCache) {
+    this.sharedEntityCache = sharedEntityCache;
+    return this;
+  }
+
+  public boolean isPreloadAuthorizations() {
+    return preloadAuthorizations;
+  }
+
+  public void setPreloadAuthorizations(boolean preloadAuthorizations) {
+    this.preloadAuthorizations = preloadAuthorizations;
+  }
+
+  public boolean isPrecomputeQueryAuthorizations() {
+    return precomputeQueryAuthorizations;
+  }
+
+  public void setPrecomputeQueryAuthorizations(boolean precomputeQueryAuthorizations) {
+    this.precomputeQueryAuthorizations = precomputeQueryAuthorizations;
+  }
+
   public List<ProcessEnginePlugin> getProcessEnginePlugins() {
     return processEnginePlugins;
   }
@@ -3498,6 +4005,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   }
 
   public void close() {
+    if (deploymentParseExecutor != null && deploymentParseExecutorCreated) {
+      deploymentParseExecutor.shutdown();
+    }
+
     if (forceCloseMybatisConnectionPool
         && dataSource instanceof PooledDataSource) {
 
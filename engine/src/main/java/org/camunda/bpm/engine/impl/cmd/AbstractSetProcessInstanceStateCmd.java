@@ -27,10 +27,12 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.management.UpdateJobSuspensionStateBuilderImpl;
 import org.camunda.bpm.engine.impl.persistence.entity.*;
 import org.camunda.bpm.engine.impl.runtime.UpdateProcessInstanceSuspensionStateBuilderImpl;
+import org.camunda.bpm.engine.impl.util.CollectionUtil;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -40,7 +42,11 @@ import java.util.List;
  */
 public abstract class AbstractSetProcessInstanceStateCmd extends AbstractSetStateCmd {
 
+  /** the number of ids after which Oracle rejects an IN clause */
+  protected static final int MAX_IDS_PER_QUERY = 1000;
+
   protected final String processInstanceId;
+  protected List<String> processInstanceIds;
   protected String processDefinitionId;
   protected String processDefinitionKey;
 
@@ -57,9 +63,20 @@ public abstract class AbstractSetProcessInstanceStateCmd extends AbstractSetStat
     this.isProcessDefinitionTenantIdSet = builder.isProcessDefinitionTenantIdSet();
   }
 
+  /**
+   * Updates the suspension state of the given process instances and their jobs
+   * with one bulk update per table instead of one command per process instance.
+   */
+  public AbstractSetProcessInstanceStateCmd(List<String> processInstanceIds) {
+    super(true, null);
+
+    this.processInstanceId = null;
+    this.processInstanceIds = processInstanceIds;
+  }
+
   @Override
   protected void checkParameters(CommandContext commandContext) {
-    if(processInstanceId == null && processDefinitionId == null && processDefinitionKey == null) {
+    if(processInstanceId == null && processInstanceIds == null && processDefinitionId == null && processDefinitionKey == null) {
       throw new ProcessEngineException("ProcessInstanceId, ProcessDefinitionId nor ProcessDefinitionKey cannot be null.");
     }
   }
@@ -72,6 +89,12 @@ public abstract class AbstractSetProcessInstanceStateCmd extends AbstractSetStat
         checker.checkUpdateProcessInstanceById(processInstanceId);
       } else
 
+      if (processInstanceIds != null) {
+        for (String id : processInstanceIds) {
+          checker.checkUpdateProcessInstanceById(id);
+        }
+      } else
+
       if (processDefinitionId != null) {
         checker.checkUpdateProcessInstanceByProcessDefinitionId(processDefinitionId);
       } else
@@ -93,6 +116,14 @@ public abstract class AbstractSetProcessInstanceStateCmd extends AbstractSetStat
       taskManager.updateTaskSuspensionStateByProcessInstanceId(processInstanceId, suspensionState);
       externalTaskManager.updateExternalTaskSuspensionStateByProcessInstanceId(processInstanceId, suspensionState);
 
+    } else if (processInstanceIds != null) {
+      if (!processInstanceIds.isEmpty()) {
+        executionManager.updateExecutionSuspensionStateByProcessInstanceIds(processInstanceIds, suspensionState);
+        taskManager.updateTaskSuspensionStateByProcessInstanceIds(processInstanceIds, suspensionState);
+        externalTaskManager.updateExternalTaskSuspensionStateByProcessInstanceIds(processInstanceIds, suspensionState);
+        commandContext.getJobManager().updateJobSuspensionStateByProcessInstanceIds(processInstanceIds, suspensionState);
+      }
+
     } else if (processDefinitionId != null) {
       executionManager.updateExecutionSuspensionStateByProcessDefinitionId(processDefinitionId, suspensionState);
       taskManager.updateTaskSuspensionStateByProcessDefinitionId(processDefinitionId, suspensionState);
@@ -138,6 +169,10 @@ public abstract class AbstractSetProcessInstanceStateCmd extends AbstractSetStat
   }
 
   protected List<ProcessInstance> obtainProcessInstances(CommandContext commandContext) {
+    if (processInstanceIds != null) {
+      return obtainProcessInstancesByIds(commandContext);
+    }
+
     ProcessInstanceQueryImpl query = new ProcessInstanceQueryImpl();
     if (processInstanceId != null) {
       query.processInstanceId(processInstanceId);
@@ -158,12 +193,30 @@ public abstract class AbstractSetProcessInstanceStateCmd extends AbstractSetStat
     return result;
   }
 
+  protected List<ProcessInstance> obtainProcessInstancesByIds(CommandContext commandContext) {
+    List<ProcessInstance> result = new ArrayList<ProcessInstance>();
+    // the query does not split the ids into several IN clauses
+    for (List<String> ids : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_QUERY)) {
+      ProcessInstanceQueryImpl query = new ProcessInstanceQueryImpl();
+      query.processInstanceIds(new HashSet<String>(ids));
+      result.addAll(commandContext.getExecutionManager().findProcessInstancesByQueryCriteria(query, null));
+    }
+    return result;
+  }
+
   @Override
   protected void logUserOperation(CommandContext commandContext) {
     PropertyChange propertyChange = new PropertyChange(SUSPENSION_STATE_PROPERTY, null, getNewSuspensionState().getName());
-    commandContext.getOperationLogManager()
-      .logProcessInstanceOperation(getLogEntryOperation(), processInstanceId, processDefinitionId,
-        processDefinitionKey, Collections.singletonList(propertyChange));
+    if (processInstanceIds != null) {
+      for (String id : processInstanceIds) {
+        commandContext.getOperationLogManager()
+          .logProcessInstanceOperation(getLogEntryOperation(), id, null, null, Collections.singletonList(propertyChange));
+      }
+    } else {
+      commandContext.getOperationLogManager()
+        .logProcessInstanceOperation(getLogEntryOperation(), processInstanceId, processDefinitionId,
+          processDefinitionKey, Collections.singletonList(propertyChange));
+    }
   }
 
   protected UpdateJobSuspensionStateBuilderImpl createJobCommandBuilder() {
@@ -190,6 +243,11 @@ public abstract class AbstractSetProcessInstanceStateCmd extends AbstractSetStat
 
   @Override
   protected AbstractSetJobStateCmd getNextCommand() {
+    if (processInstanceIds != null) {
+      // the jobs are updated together with the process instances
+      return null;
+    }
+
     UpdateJobSuspensionStateBuilderImpl jobCommandBuilder = createJobCommandBuilder();
 
     return getNextCommand(jobCommandBuilder);
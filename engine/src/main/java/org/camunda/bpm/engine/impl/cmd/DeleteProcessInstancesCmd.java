@@ -12,11 +12,26 @@
  */
 package org.camunda.bpm.engine.impl.cmd;
 
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.camunda.bpm.engine.delegate.TaskListener;
+import org.camunda.bpm.engine.history.UserOperationLogEntry;
+import org.camunda.bpm.engine.impl.bpmn.behavior.CallableElementActivityBehavior;
+import org.camunda.bpm.engine.impl.bpmn.behavior.UserTaskActivityBehavior;
+import org.camunda.bpm.engine.impl.core.variable.mapping.IoMapping;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyChange;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
+import org.camunda.bpm.engine.impl.task.TaskDefinition;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -41,10 +56,125 @@ public class DeleteProcessInstancesCmd extends AbstractDeleteProcessInstanceCmd
   }
 
   public Void execute(CommandContext commandContext) {
-    for (String processInstanceId : this.processInstanceIds) {
+    List<String> remainingProcessInstanceIds = processInstanceIds;
+
+    if (commandContext.getProcessEngineConfiguration().isBulkProcessInstanceDeletionEnabled() && processInstanceIds.size() > 1) {
+      remainingProcessInstanceIds = deleteProcessInstancesInBulk(commandContext);
+    }
+
+    if (remainingProcessInstanceIds.size() > 1) {
+      // load the process instances at once instead of one by one
+      commandContext.getExecutionManager().restoreProcessInstances(remainingProcessInstanceIds);
+    }
+
+    for (String processInstanceId : remainingProcessInstanceIds) {
       deleteProcessInstance(commandContext, processInstanceId, deleteReason, skipCustomListeners, externallyTerminated, false, skipSubprocesses);
     }
     return null;
   }
 
+  /**
+   * Deletes the process instances which can be removed without executing their
+   * execution trees with set-based statements, together with their history.
+   *
+   * @return the ids of the process instances which have to be deleted one by one
+   */
+  protected List<String> deleteProcessInstancesInBulk(CommandContext commandContext) {
+    Map<String, ExecutionEntity> processInstances = new HashMap<String, ExecutionEntity>();
+    for (ExecutionEntity processInstance : commandContext.getExecutionManager().findProcessInstancesByIds(processInstanceIds)) {
+      processInstances.put(processInstance.getId(), processInstance);
+    }
+
+    Map<String, Boolean> bulkDeletableDefinitions = new HashMap<String, Boolean>();
+    List<String> bulkDeletableIds = new ArrayList<String>();
+    List<String> remainingIds = new ArrayList<String>();
+
+    for (String processInstanceId : processInstanceIds) {
+      ExecutionEntity processInstance = processInstances.get(processInstanceId);
+
+      if (processInstance != null && isBulkDeletable(processInstance, bulkDeletableDefinitions)) {
+        checkDeleteProcessInstance(processInstance, commandContext);
+        bulkDeletableIds.add(processInstanceId);
+      } else {
+        remainingIds.add(processInstanceId);
+      }
+    }
+
+    if (!bulkDeletableIds.isEmpty()) {
+      commandContext.getExecutionManager().deleteProcessInstancesInBulk(bulkDeletableIds);
+
+      for (String processInstanceId : bulkDeletableIds) {
+        commandContext.getOperationLogManager()
+            .logProcessInstanceOperation(UserOperationLogEntry.OPERATION_TYPE_DELETE, processInstanceId,
+                null, null, Collections.singletonList(PropertyChange.EMPTY_CHANGE));
+      }
+    }
+
+    return remainingIds;
+  }
+
+  protected boolean isBulkDeletable(ExecutionEntity processInstance, Map<String, Boolean> bulkDeletableDefinitions) {
+    if (processInstance.getSuperExecutionId() != null || processInstance.getSuperCaseExecutionId() != null) {
+      return false;
+    }
+
+    String processDefinitionId = processInstance.getProcessDefinitionId();
+    Boolean bulkDeletable = bulkDeletableDefinitions.get(processDefinitionId);
+    if (bulkDeletable == null) {
+      bulkDeletable = isBulkDeletable(processInstance.getProcessDefinition());
+      bulkDeletableDefinitions.put(processDefinitionId, bulkDeletable);
+    }
+    return bulkDeletable;
+  }
+
+  /**
+   * A scope is bulk deletable if no custom end listener or output mapping would be executed
+   * on deletion and no activity can call another process or case instance.
+   */
+  protected boolean isBulkDeletable(ScopeImpl scope) {
+    if (!skipCustomListeners && hasCustomListeners(scope)) {
+      return false;
+    }
+
+    for (ActivityImpl activity : scope.getActivities()) {
+      if (activity.getActivityBehavior() instanceof CallableElementActivityBehavior) {
+        return false;
+      }
+
+      IoMapping ioMapping = activity.getIoMapping();
+      if (ioMapping != null && !ioMapping.getOutputParameters().isEmpty()) {
+        return false;
+      }
+
+      if (!skipCustomListeners && activity.getActivityBehavior() instanceof UserTaskActivityBehavior) {
+        TaskDefinition taskDefinition = ((UserTaskActivityBehavior) activity.getActivityBehavior()).getTaskDefinition();
+        if (hasCustomListeners(taskDefinition)) {
+          return false;
+        }
+      }
+
+      if (!isBulkDeletable(activity)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  protected boolean hasCustomListeners(ScopeImpl scope) {
+    return scope.getListeners(ExecutionListener.EVENTNAME_END).size()
+        > scope.getBuiltInListeners(ExecutionListener.EVENTNAME_END).size();
+  }
+
+  protected boolean hasCustomListeners(TaskDefinition taskDefinition) {
+    List<TaskListener> listeners = taskDefinition.getTaskListeners(TaskListener.EVENTNAME_DELETE);
+    List<TaskListener> builtInListeners = taskDefinition.getBuiltinTaskListeners(TaskListener.EVENTNAME_DELETE);
+
+    int customListenerCount = listeners != null ? listeners.size() : 0;
+    if (builtInListeners != null) {
+      customListenerCount -= builtInListeners.size();
+    }
+    return customListenerCount > 0;
+  }
+
 }
@@ -15,7 +15,6 @@ package org.camunda.bpm.engine.impl.cmd;
 import java.io.ByteArrayInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -440,7 +439,7 @@ public class DeployCmd implements Command<DeploymentWithDefinitions>, Serializab
 
       Map<String, ResourceEntity> existingResources = commandContext
           .getResourceManager()
-          .findLatestResourcesByDeploymentName(deployment.getName(), containedResources.keySet(), source, deployment.getTenantId());
+          .findLatestResourceHashesByDeploymentName(deployment.getName(), containedResources.keySet(), source, deployment.getTenantId());
 
       for (ResourceEntity deployedResource : containedResources.values()) {
         String resourceName = deployedResource.getName();
@@ -469,9 +468,10 @@ public class DeployCmd implements Command<DeploymentWithDefinitions>, Serializab
   }
 
   protected boolean resourcesDiffer(ResourceEntity resource, ResourceEntity existing) {
-    byte[] bytes = resource.getBytes();
-    byte[] savedBytes = existing.getBytes();
-    return !Arrays.equals(bytes, savedBytes);
+    // the existing resource provides the hash only, see ResourceManager
+    String hash = resource.getHash();
+    String savedHash = existing.getHash();
+    return hash == null ? savedHash != null : !hash.equals(savedHash);
   }
 
   protected void deploy(DeploymentEntity deployment) {
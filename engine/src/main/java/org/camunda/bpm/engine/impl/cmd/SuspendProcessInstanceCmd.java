@@ -12,6 +12,8 @@
  */
 package org.camunda.bpm.engine.impl.cmd;
 
+import java.util.List;
+
 import org.camunda.bpm.engine.history.UserOperationLogEntry;
 import org.camunda.bpm.engine.impl.management.UpdateJobSuspensionStateBuilderImpl;
 import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
@@ -27,6 +29,10 @@ public class SuspendProcessInstanceCmd extends AbstractSetProcessInstanceStateCm
     super(builder);
   }
 
+  public SuspendProcessInstanceCmd(List<String> processInstanceIds) {
+    super(processInstanceIds);
+  }
+
   @Override
   protected SuspensionState getNewSuspensionState() {
     return SuspensionState.SUSPENDED;
@@ -12,12 +12,14 @@
  */
 package org.camunda.bpm.engine.impl.cmd;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.impl.UpdateProcessInstancesSuspensionStateBuilderImpl;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
-import org.camunda.bpm.engine.impl.runtime.UpdateProcessInstanceSuspensionStateBuilderImpl;
 import org.camunda.bpm.engine.impl.util.EnsureUtil;
 
 public class UpdateProcessInstancesSuspendStateCmd extends AbstractUpdateProcessInstancesSuspendStateCmd<Void> {
@@ -35,17 +37,12 @@ public class UpdateProcessInstancesSuspendStateCmd extends AbstractUpdateProcess
 
     writeUserOperationLog(commandContext, processInstanceIds.size(), false);
 
-    UpdateProcessInstanceSuspensionStateBuilderImpl suspensionStateBuilder = new UpdateProcessInstanceSuspensionStateBuilderImpl(commandExecutor);
+    // updates all process instances with one statement per table
+    List<String> ids = new ArrayList<String>(processInstanceIds);
     if (suspending) {
-      // suspending
-      for (String processInstanceId : processInstanceIds) {
-        suspensionStateBuilder.byProcessInstanceId(processInstanceId).suspend();
-      }
+      commandExecutor.execute(new SuspendProcessInstanceCmd(ids));
     } else {
-      // activating
-      for (String processInstanceId : processInstanceIds) {
-        suspensionStateBuilder.byProcessInstanceId(processInstanceId).activate();
-      }
+      commandExecutor.execute(new ActivateProcessInstanceCmd(ids));
     }
 
     return null;
@@ -100,6 +100,9 @@ public class CaseExecutionEntity extends CmmnExecution implements CaseExecution,
   protected List<CaseSentryPartEntity> caseSentryParts;
   protected Map<String, List<CmmnSentryPart>> sentries;
 
+  /** case sentry parts of all case executions of this case instance, loaded together */
+  protected transient Map<String, List<CaseSentryPartEntity>> caseSentryPartsByCaseExecutionId;
+
   /** reference to a sub process instance, not-null if currently subprocess is started from this execution */
   protected transient ExecutionEntity subProcessInstance;
 
@@ -634,10 +637,16 @@ public class CaseExecutionEntity extends CmmnExecution implements CaseExecution,
   protected void ensureCaseSentryPartsInitialized() {
     if (caseSentryParts == null) {
 
-      caseSentryParts = Context
-        .getCommandContext()
-        .getCaseSentryPartManager()
-        .findCaseSentryPartsByCaseExecutionId(id);
+      CaseExecutionEntity caseInstance = getCaseInstance();
+      if (caseInstance != null) {
+        caseSentryParts = caseInstance.getCaseSentryPartsOfCaseExecution(id);
+      }
+      else {
+        caseSentryParts = Context
+          .getCommandContext()
+          .getCaseSentryPartManager()
+          .findCaseSentryPartsByCaseExecutionId(id);
+      }
 
       // create a map sentries: sentryId -> caseSentryParts
       // for simple select to get all parts for one sentry
@@ -658,6 +667,44 @@ public class CaseExecutionEntity extends CmmnExecution implements CaseExecution,
     }
   }
 
+  /**
+   * Returns the case sentry parts of the given case execution of this case instance.
+   * The case sentry parts of all case executions are selected with the first call,
+   * so that each case execution does not select its own case sentry parts.
+   */
+  protected List<CaseSentryPartEntity> getCaseSentryPartsOfCaseExecution(String caseExecutionId) {
+    if (caseSentryPartsByCaseExecutionId == null) {
+
+      List<CaseSentryPartEntity> sentryParts = Context
+        .getCommandContext()
+        .getCaseSentryPartManager()
+        .findCaseSentryPartsByCaseInstanceId(id);
+
+      caseSentryPartsByCaseExecutionId = new HashMap<String, List<CaseSentryPartEntity>>();
+
+      for (CaseSentryPartEntity sentryPart : sentryParts) {
+
+        String sentryPartCaseExecutionId = sentryPart.getCaseExecutionId();
+        List<CaseSentryPartEntity> parts = caseSentryPartsByCaseExecutionId.get(sentryPartCaseExecutionId);
+
+        if (parts == null) {
+          parts = new ArrayList<CaseSentryPartEntity>();
+          caseSentryPartsByCaseExecutionId.put(sentryPartCaseExecutionId, parts);
+        }
+
+        parts.add(sentryPart);
+      }
+    }
+
+    List<CaseSentryPartEntity> parts = caseSentryPartsByCaseExecutionId.get(caseExecutionId);
+    if (parts != null) {
+      return new ArrayList<CaseSentryPartEntity>(parts);
+    }
+    else {
+      return new ArrayList<CaseSentryPartEntity>();
+    }
+  }
+
   protected void addSentryPart(CmmnSentryPart sentryPart) {
     CaseSentryPartEntity entity = (CaseSentryPartEntity) sentryPart;
 
@@ -36,6 +36,11 @@ public class CaseSentryPartManager extends AbstractManager {
     return getDbEntityManager().selectList("selectCaseSentryPartsByCaseExecutionId", caseExecutionId);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<CaseSentryPartEntity> findCaseSentryPartsByCaseInstanceId(String caseInstanceId) {
+    return getDbEntityManager().selectList("selectCaseSentryPartsByCaseInstanceId", caseInstanceId);
+  }
+
   public long findCaseSentryPartCountByQueryCriteria(CaseSentryPartQueryImpl caseSentryPartQuery) {
     return (Long) getDbEntityManager().selectOne("selectCaseSentryPartsCountByQueryCriteria", caseSentryPartQuery);
   }
@@ -352,7 +352,7 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
   }
 
   public void handleVariableTransition(String variableName, String transition) {
-    Map<String, List<CmmnSentryPart>> sentries = collectAllSentries();
+    Map<String, List<CmmnSentryPart>> sentries = collectAllSentries(variableName, transition);
 
     List<CmmnSentryPart> sentryParts = collectSentryParts(sentries);
 
@@ -373,8 +373,32 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
   }
 
   protected List<String> collectAffectedSentries(CmmnExecution child, String transition) {
-    List<? extends CmmnSentryPart> sentryParts = getCaseSentryParts();
+    CmmnActivity activity = getActivity();
+    List<String> dependentSentries = null;
+    if (activity != null) {
+      dependentSentries = activity.getDependentSentries(child.getActivityId(), transition);
+    }
+
+    if (dependentSentries == null) {
+      // the sentries are not indexed: check all sentry parts
+      return collectAffectedSentries(getCaseSentryParts(), child, transition);
+    }
+
+    List<String> affectedSentries = new ArrayList<String>();
+
+    // only the sentries with an on part on the transition of the child
+    // are affected, so that the sentry parts of no other sentry are checked
+    for (String sentryId : dependentSentries) {
+      List<? extends CmmnSentryPart> sentryParts = findSentry(sentryId);
+      if (sentryParts != null) {
+        affectedSentries.addAll(collectAffectedSentries(sentryParts, child, transition));
+      }
+    }
+
+    return affectedSentries;
+  }
 
+  protected List<String> collectAffectedSentries(List<? extends CmmnSentryPart> sentryParts, CmmnExecution child, String transition) {
     List<String> affectedSentries = new ArrayList<String>();
 
     for (CmmnSentryPart sentryPart : sentryParts) {
@@ -458,6 +482,41 @@ public abstract class CmmnExecution extends CoreExecution implements CmmnCaseIns
     return sentries;
   }
 
+  /**
+   * Collects the sentries in the execution tree which can be satisfied by the given
+   * event of the given variable. A sentry without a variable on part on it and without
+   * an if part cannot be satisfied by the event, so that its sentry parts are not checked.
+   */
+  protected Map<String,List<CmmnSentryPart>> collectAllSentries(String variableName, String variableEvent) {
+    Map<String,List<CmmnSentryPart>> sentries = new HashMap<String, List<CmmnSentryPart>>();
+    List<? extends CmmnExecution> caseExecutions = getCaseExecutions();
+    for(CmmnExecution caseExecution: caseExecutions) {
+      sentries.putAll(caseExecution.collectAllSentries(variableName, variableEvent));
+    }
+
+    CmmnActivity activity = getActivity();
+    List<String> dependentSentries = null;
+    if (activity != null) {
+      dependentSentries = activity.getVariableDependentSentries(variableName, variableEvent);
+    }
+
+    if (dependentSentries == null) {
+      // the sentries are not indexed
+      sentries.putAll(getSentries());
+    }
+    else if (!dependentSentries.isEmpty()) {
+      Map<String, List<CmmnSentryPart>> ownSentries = getSentries();
+      for (String sentryId : dependentSentries) {
+        List<CmmnSentryPart> sentryParts = ownSentries.get(sentryId);
+        if (sentryParts != null) {
+          sentries.put(sentryId, sentryParts);
+        }
+      }
+    }
+
+    return sentries;
+  }
+
   protected List<CmmnSentryPart> getAffectedSentryParts(Map<String,List<CmmnSentryPart>> allSentries, List<String> affectedSentries) {
     List<CmmnSentryPart> affectedSentryParts = new ArrayList<CmmnSentryPart>();
     for(String affectedSentryId: affectedSentries) {
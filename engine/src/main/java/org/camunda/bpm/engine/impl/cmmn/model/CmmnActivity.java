@@ -13,6 +13,7 @@
 package org.camunda.bpm.engine.impl.cmmn.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +48,15 @@ public class CmmnActivity extends CoreActivity {
   protected List<CmmnSentryDeclaration> entryCriteria = new ArrayList<CmmnSentryDeclaration>();
   protected List<CmmnSentryDeclaration> exitCriteria = new ArrayList<CmmnSentryDeclaration>();
 
+  // source activity id => standard event => ids of the sentries with an on part on it
+  // (null if the sentries are not indexed)
+  protected Map<String, Map<String, List<String>>> dependentSentries;
+
+  // variable name => variable event => ids of the sentries with a variable on part on it
+  // (null if the sentries are not indexed)
+  protected Map<String, Map<String, List<String>>> variableDependentSentries;
+  protected List<String> sentriesWithIfPart;
+
   // eventName => activity id => variable listeners
   protected Map<String, Map<String, List<VariableListener<?>>>> resolvedVariableListeners;
   protected Map<String, Map<String, List<VariableListener<?>>>> resolvedBuiltInVariableListeners;
@@ -139,6 +149,108 @@ public class CmmnActivity extends CoreActivity {
     sentries.add(sentry);
   }
 
+  /**
+   * Indexes the sentries of this activity by the source and the standard event
+   * of their on parts and by the variable name and the variable event of their
+   * variable on parts. Must be called after the on parts are initialized.
+   */
+  public void indexDependentSentries() {
+    dependentSentries = new HashMap<String, Map<String, List<String>>>();
+    variableDependentSentries = new HashMap<String, Map<String, List<String>>>();
+    sentriesWithIfPart = new ArrayList<String>();
+
+    for (CmmnSentryDeclaration sentry : sentries) {
+      for (CmmnOnPartDeclaration onPart : sentry.getOnParts()) {
+        CmmnActivity source = onPart.getSource();
+        String standardEvent = onPart.getStandardEvent();
+        if (source != null && standardEvent != null) {
+          addSentryId(dependentSentries, source.getId(), standardEvent, sentry.getId());
+        }
+      }
+
+      for (CmmnVariableOnPartDeclaration variableOnPart : sentry.getVariableOnParts()) {
+        String variableName = variableOnPart.getVariableName();
+        String variableEvent = variableOnPart.getVariableEvent();
+        if (variableName != null && variableEvent != null) {
+          addSentryId(variableDependentSentries, variableName, variableEvent, sentry.getId());
+        }
+      }
+
+      if (sentry.getIfPart() != null) {
+        sentriesWithIfPart.add(sentry.getId());
+      }
+    }
+  }
+
+  protected void addSentryId(Map<String, Map<String, List<String>>> index, String key, String event, String sentryId) {
+    Map<String, List<String>> sentriesByEvent = index.get(key);
+    if (sentriesByEvent == null) {
+      sentriesByEvent = new HashMap<String, List<String>>();
+      index.put(key, sentriesByEvent);
+    }
+
+    List<String> sentryIds = sentriesByEvent.get(event);
+    if (sentryIds == null) {
+      sentryIds = new ArrayList<String>();
+      sentriesByEvent.put(event, sentryIds);
+    }
+
+    if (!sentryIds.contains(sentryId)) {
+      sentryIds.add(sentryId);
+    }
+  }
+
+  /**
+   * @return the ids of the sentries of this activity which have an on part on the given
+   *   standard event of the given source, or <code>null</code> if the sentries are not indexed
+   */
+  public List<String> getDependentSentries(String sourceActivityId, String standardEvent) {
+    if (dependentSentries == null) {
+      return null;
+    }
+
+    return getSentryIds(dependentSentries, sourceActivityId, standardEvent);
+  }
+
+  /**
+   * @return the ids of the sentries of this activity which can be satisfied by the given
+   *   event of the given variable: the sentries which have a variable on part on it and
+   *   the sentries which have an if part. Returns <code>null</code> if the sentries are not indexed.
+   */
+  public List<String> getVariableDependentSentries(String variableName, String variableEvent) {
+    if (variableDependentSentries == null) {
+      return null;
+    }
+
+    List<String> sentryIds = getSentryIds(variableDependentSentries, variableName, variableEvent);
+    if (sentriesWithIfPart.isEmpty()) {
+      return sentryIds;
+    }
+
+    List<String> result = new ArrayList<String>(sentryIds);
+    for (String sentryId : sentriesWithIfPart) {
+      if (!result.contains(sentryId)) {
+        result.add(sentryId);
+      }
+    }
+
+    return result;
+  }
+
+  protected List<String> getSentryIds(Map<String, Map<String, List<String>>> index, String key, String event) {
+    Map<String, List<String>> sentriesByEvent = index.get(key);
+    if (sentriesByEvent == null) {
+      return Collections.emptyList();
+    }
+
+    List<String> sentryIds = sentriesByEvent.get(event);
+    if (sentryIds == null) {
+      return Collections.emptyList();
+    }
+
+    return sentryIds;
+  }
+
   // entryCriteria
 
   public List<CmmnSentryDeclaration> getEntryCriteria() {
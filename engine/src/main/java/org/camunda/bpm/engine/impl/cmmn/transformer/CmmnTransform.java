@@ -203,6 +203,9 @@ public class CmmnTransform implements Transform<CaseDefinitionEntity> {
     // transform the onParts of the existing sentries
     transformSentryOnParts(stage);
 
+    // index the sentries by their onParts
+    parent.indexDependentSentries();
+
     // parse planningTable (not yet implemented)
     transformPlanningTable(stage.getPlanningTable(), parent);
 
@@ -37,17 +37,20 @@ public abstract class CoreModelElement implements Serializable {
   protected String name;
   protected Properties properties = new Properties();
 
+  /*
+   * The listener maps are only created when the first listener is added since
+   * most elements of a model do not have any listeners.
+   */
+
   /** contains built-in listeners */
-  protected Map<String, List<DelegateListener<? extends BaseDelegateExecution>>> builtInListeners = new HashMap<String, List<DelegateListener<? extends BaseDelegateExecution>>>();
+  protected Map<String, List<DelegateListener<? extends BaseDelegateExecution>>> builtInListeners;
 
   /** contains all listeners (built-in + user-provided) */
-  protected Map<String, List<DelegateListener<? extends BaseDelegateExecution>>> listeners = new HashMap<String, List<DelegateListener<? extends BaseDelegateExecution>>>();
+  protected Map<String, List<DelegateListener<? extends BaseDelegateExecution>>> listeners;
 
-  protected Map<String, List<VariableListener<?>>> builtInVariableListeners =
-      new HashMap<String, List<VariableListener<?>>>();
+  protected Map<String, List<VariableListener<?>>> builtInVariableListeners;
 
-  protected Map<String, List<VariableListener<?>>> variableListeners =
-      new HashMap<String, List<VariableListener<?>>>();
+  protected Map<String, List<VariableListener<?>>> variableListeners;
 
   public CoreModelElement(String id) {
     this.id = id;
@@ -99,7 +102,7 @@ public abstract class CoreModelElement implements Serializable {
   //event listeners //////////////////////////////////////////////////////////
 
   public List<DelegateListener<? extends BaseDelegateExecution>> getListeners(String eventName) {
-    List<DelegateListener<? extends BaseDelegateExecution>> listenerList = getListeners().get(eventName);
+    List<DelegateListener<? extends BaseDelegateExecution>> listenerList = getListFromMap(listeners, eventName);
     if (listenerList != null) {
       return listenerList;
     }
@@ -107,7 +110,7 @@ public abstract class CoreModelElement implements Serializable {
   }
 
   public List<DelegateListener<? extends BaseDelegateExecution>> getBuiltInListeners(String eventName) {
-    List<DelegateListener<? extends BaseDelegateExecution>> listenerList = getBuiltInListeners().get(eventName);
+    List<DelegateListener<? extends BaseDelegateExecution>> listenerList = getListFromMap(builtInListeners, eventName);
     if (listenerList != null) {
       return listenerList;
     }
@@ -115,7 +118,7 @@ public abstract class CoreModelElement implements Serializable {
   }
 
   public List<VariableListener<?>> getVariableListenersLocal(String eventName) {
-    List<VariableListener<?>> listenerList = getVariableListeners().get(eventName);
+    List<VariableListener<?>> listenerList = getListFromMap(variableListeners, eventName);
     if (listenerList != null) {
       return listenerList;
     }
@@ -123,7 +126,7 @@ public abstract class CoreModelElement implements Serializable {
   }
 
   public List<VariableListener<?>> getBuiltInVariableListenersLocal(String eventName) {
-    List<VariableListener<?>> listenerList = getBuiltInVariableListeners().get(eventName);
+    List<VariableListener<?>> listenerList = getListFromMap(builtInVariableListeners, eventName);
     if (listenerList != null) {
       return listenerList;
     }
@@ -139,18 +142,18 @@ public abstract class CoreModelElement implements Serializable {
   }
 
   public void addBuiltInListener(String eventName, DelegateListener<? extends BaseDelegateExecution> listener, int index) {
-    addListenerToMap(listeners, eventName, listener, index);
-    addListenerToMap(builtInListeners, eventName, listener, index);
+    addListenerToMap(getOrCreateListeners(), eventName, listener, index);
+    addListenerToMap(getOrCreateBuiltInListeners(), eventName, listener, index);
   }
 
   public void addListener(String eventName, DelegateListener<? extends BaseDelegateExecution> listener, int index) {
-    addListenerToMap(listeners, eventName, listener, index);
+    addListenerToMap(getOrCreateListeners(), eventName, listener, index);
   }
 
   protected <T> void addListenerToMap(Map<String, List<T>> listenerMap, String eventName, T listener, int index) {
     List<T> listeners = listenerMap.get(eventName);
     if (listeners == null) {
-      listeners = new ArrayList<T>();
+      listeners = new ArrayList<T>(2);
       listenerMap.put(eventName, listeners);
     }
     if (index < 0) {
@@ -160,12 +163,19 @@ public abstract class CoreModelElement implements Serializable {
     }
   }
 
+  protected <T> List<T> getListFromMap(Map<String, List<T>> listenerMap, String eventName) {
+    if (listenerMap == null) {
+      return null;
+    }
+    return listenerMap.get(eventName);
+  }
+
   public void addVariableListener(String eventName, VariableListener<?> listener) {
     addVariableListener(eventName, listener, -1);
   }
 
   public void addVariableListener(String eventName, VariableListener<?> listener, int index) {
-    addListenerToMap(variableListeners, eventName, listener, index);
+    addListenerToMap(getOrCreateVariableListeners(), eventName, listener, index);
   }
 
   public void addBuiltInVariableListener(String eventName, VariableListener<?> listener) {
@@ -173,23 +183,75 @@ public abstract class CoreModelElement implements Serializable {
   }
 
   public void addBuiltInVariableListener(String eventName, VariableListener<?> listener, int index) {
-    addListenerToMap(variableListeners, eventName, listener, index);
-    addListenerToMap(builtInVariableListeners, eventName, listener, index);
+    addListenerToMap(getOrCreateVariableListeners(), eventName, listener, index);
+    addListenerToMap(getOrCreateBuiltInVariableListeners(), eventName, listener, index);
   }
 
+  /**
+   * @return the listeners of the element, or an empty immutable map if it has no listeners
+   */
   public Map<String, List<DelegateListener<? extends BaseDelegateExecution>>> getListeners() {
+    if (listeners == null) {
+      return Collections.emptyMap();
+    }
     return listeners;
   }
 
+  /**
+   * @return the built-in listeners of the element, or an empty immutable map if it has no built-in listeners
+   */
   public Map<String, List<DelegateListener<? extends BaseDelegateExecution>>> getBuiltInListeners() {
+    if (builtInListeners == null) {
+      return Collections.emptyMap();
+    }
     return builtInListeners;
   }
 
+  /**
+   * @return the built-in variable listeners of the element, or an empty immutable map if it has no built-in variable listeners
+   */
   public Map<String, List<VariableListener<?>>> getBuiltInVariableListeners() {
+    if (builtInVariableListeners == null) {
+      return Collections.emptyMap();
+    }
     return builtInVariableListeners;
   }
 
+  /**
+   * @return the variable listeners of the element, or an empty immutable map if it has no variable listeners
+   */
   public Map<String, List<VariableListener<?>>> getVariableListeners() {
+    if (variableListeners == null) {
+      return Collections.emptyMap();
+    }
+    return variableListeners;
+  }
+
+  protected Map<String, List<DelegateListener<? extends BaseDelegateExecution>>> getOrCreateListeners() {
+    if (listeners == null) {
+      listeners = new HashMap<String, List<DelegateListener<? extends BaseDelegateExecution>>>();
+    }
+    return listeners;
+  }
+
+  protected Map<String, List<DelegateListener<? extends BaseDelegateExecution>>> getOrCreateBuiltInListeners() {
+    if (builtInListeners == null) {
+      builtInListeners = new HashMap<String, List<DelegateListener<? extends BaseDelegateExecution>>>();
+    }
+    return builtInListeners;
+  }
+
+  protected Map<String, List<VariableListener<?>>> getOrCreateBuiltInVariableListeners() {
+    if (builtInVariableListeners == null) {
+      builtInVariableListeners = new HashMap<String, List<VariableListener<?>>>();
+    }
+    return builtInVariableListeners;
+  }
+
+  protected Map<String, List<VariableListener<?>>> getOrCreateVariableListeners() {
+    if (variableListeners == null) {
+      variableListeners = new HashMap<String, List<VariableListener<?>>>();
+    }
     return variableListeners;
   }
 
@@ -53,6 +53,10 @@ public class AuthorizationCheck implements Serializable {
 
   protected CompositePermissionCheck permissionChecks = new CompositePermissionCheck();
 
+  /** the precomputed results of the disjunctive permission checks of a query,
+   * <code>null</code> if the query evaluates the authorizations */
+  protected List<EffectivePermissionCheck> effectivePermissionChecks;
+
   public AuthorizationCheck() {
   }
 
@@ -127,6 +131,14 @@ public class AuthorizationCheck implements Serializable {
     this.permissionChecks = permissionChecks;
   }
   
+  public List<EffectivePermissionCheck> getEffectivePermissionChecks() {
+    return effectivePermissionChecks;
+  }
+
+  public void setEffectivePermissionChecks(List<EffectivePermissionCheck> effectivePermissionChecks) {
+    this.effectivePermissionChecks = effectivePermissionChecks;
+  }
+
   public boolean isRevokeAuthorizationCheckEnabled() {
     return isRevokeAuthorizationCheckEnabled;
   }
@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>The precomputed result of a {@link PermissionCheck} which refers to a query
+ * parameter. The resource ids which are granted or revoked by a specific
+ * authorization are listed explicitly, all other resources get the default
+ * value which results from the authorizations for any resource.</p>
+ *
+ * <p>A query can filter by the resource ids instead of evaluating the
+ * authorizations, see the <code>effectivePermissionCheck</code> statement of
+ * the authorization mapping.</p>
+ */
+public class EffectivePermissionCheck implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /** query parameter for resource Id. Is injected as RAW parameter into the query */
+  protected String resourceIdQueryParam;
+
+  protected List<String> grantedResourceIds = new ArrayList<String>();
+  protected List<String> revokedResourceIds = new ArrayList<String>();
+
+  /** the result for all other resources, <code>null</code> if no authorization matches */
+  protected Long defaultValue;
+
+  /** the checks which have to evaluate to <code>null</code> before this check is considered */
+  protected List<EffectivePermissionCheck> precedingChecks = new ArrayList<EffectivePermissionCheck>();
+
+  public EffectivePermissionCheck(String resourceIdQueryParam) {
+    this.resourceIdQueryParam = resourceIdQueryParam;
+  }
+
+  public String getResourceIdQueryParam() {
+    return resourceIdQueryParam;
+  }
+
+  public List<String> getGrantedResourceIds() {
+    return grantedResourceIds;
+  }
+
+  public List<String> getRevokedResourceIds() {
+    return revokedResourceIds;
+  }
+
+  /**
+   * @return the granted and the revoked resource ids
+   */
+  public List<String> getResourceIds() {
+    List<String> resourceIds = new ArrayList<String>(grantedResourceIds);
+    resourceIds.addAll(revokedResourceIds);
+    return resourceIds;
+  }
+
+  public int getResourceIdCount() {
+    return grantedResourceIds.size() + revokedResourceIds.size();
+  }
+
+  public Long getDefaultValue() {
+    return defaultValue;
+  }
+
+  public void setDefaultValue(Long defaultValue) {
+    this.defaultValue = defaultValue;
+  }
+
+  public boolean isGrantedByDefault() {
+    return defaultValue != null && defaultValue == 1L;
+  }
+
+  public List<EffectivePermissionCheck> getPrecedingChecks() {
+    return precedingChecks;
+  }
+
+  public void setPrecedingChecks(List<EffectivePermissionCheck> precedingChecks) {
+    this.precedingChecks = precedingChecks;
+  }
+
+}
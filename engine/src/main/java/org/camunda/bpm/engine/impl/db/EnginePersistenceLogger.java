@@ -701,4 +701,12 @@ public class EnginePersistenceLogger extends ProcessEngineLogger {
     ));
   }
 
+  public void failedToWriteHistoricDecisionInstances(int numberOfEvaluations, Throwable cause) {
+    logError("085", "Could not write the historic decision instances of {} evaluations.", numberOfEvaluations, cause);
+  }
+
+  public void discardHistoricDecisionInstancesAfterShutdown(int numberOfEvaluations) {
+    logWarn("086", "Discarding the historic decision instances of {} evaluations since the history writer is shut down.", numberOfEvaluations);
+  }
+
 }
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db;
+
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+
+/**
+ * Implemented by a {@link DbEntity} which keeps track of the changes of its persistent
+ * state itself. The entity cache then checks the changed fields instead of comparing
+ * the {@link DbEntity#getPersistentState() persistent state} with a copy taken when the
+ * entity was loaded. Entities which do not implement this interface are still compared
+ * with their copy.
+ *
+ * <p>Every modification of a field which is part of the persistent state must mark
+ * the field as changed, otherwise the modification is not flushed.</p>
+ *
+ * @see CachedDbEntity#isDirty()
+ */
+public interface HasDbChangeTracking {
+
+  /**
+   * Bit set which contains all fields, i.e. the entity is updated completely
+   */
+  long ALL_FIELDS = -1L;
+
+  /**
+   * @return a bit set of the persistent fields which were changed since the last call
+   *   of {@link #resetChangedFields()} or <code>0</code> if no field was changed
+   */
+  long getChangedFields();
+
+  /**
+   * Called as soon as the entity state corresponds to the database state, i.e. when
+   * the entity is put into the cache and after it was flushed.
+   */
+  void resetChangedFields();
+
+  /**
+   * @return the fields written by the UPDATE statement of the entity, {@link #ALL_FIELDS} if no
+   *   update was prepared by the entity cache
+   */
+  long getUpdatedFields();
+
+  /**
+   * Called by the entity cache before an UPDATE of the entity is scheduled. The fields have to be
+   * kept until the statement is executed, which can happen after the changed fields were reset.
+   */
+  void setUpdatedFields(long updatedFields);
+
+}
@@ -26,8 +26,12 @@ import static org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.ibatis.executor.BatchResult;
 import org.camunda.bpm.engine.impl.DeploymentQueryImpl;
@@ -48,6 +52,8 @@ import org.camunda.bpm.engine.impl.UserQueryImpl;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.cfg.IdGenerator;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionQueryImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
@@ -60,6 +66,7 @@ import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SharedDbEntityCache;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
@@ -67,6 +74,7 @@ import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationManager
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
 import org.camunda.bpm.engine.impl.identity.db.DbGroupQueryImpl;
 import org.camunda.bpm.engine.impl.identity.db.DbUserQueryImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.Session;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorContext;
 import org.camunda.bpm.engine.impl.util.CollectionUtil;
@@ -90,6 +98,10 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
   protected DbEntityCache dbEntityCache;
 
+  protected SharedDbEntityCache sharedEntityCache;
+  /** the ids of the entities which are invalidated in the shared cache, a <code>null</code> id invalidates the type */
+  protected Map<Class<?>, Set<String>> sharedEntityCacheInvalidations;
+
   protected DbOperationManager dbOperationManager;
 
   protected PersistenceSession persistenceSession;
@@ -103,12 +115,20 @@ public class DbEntityManager implements Session, EntityLoadListener {
     }
     initializeEntityCache();
     initializeOperationManager();
+    initializeSharedEntityCache();
   }
 
   protected void initializeOperationManager() {
     dbOperationManager = new DbOperationManager();
   }
 
+  protected void initializeSharedEntityCache() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null) {
+      sharedEntityCache = processEngineConfiguration.getSharedEntityCache();
+    }
+  }
+
   protected void initializeEntityCache() {
 
     final JobExecutorContext jobExecutorContext = Context.getJobExecutorContext();
@@ -199,6 +219,10 @@ public class DbEntityManager implements Session, EntityLoadListener {
       return persistentObject;
     }
 
+    if (isSharedEntityCacheEnabled(entityClass)) {
+      return selectByIdFromSharedEntityCache(entityClass, id);
+    }
+
     persistentObject = persistenceSession.selectById(entityClass, id);
 
     if (persistentObject==null) {
@@ -208,6 +232,67 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return persistentObject;
   }
 
+  protected <T extends DbEntity> T selectByIdFromSharedEntityCache(Class<T> entityClass, String id) {
+    T persistentObject = sharedEntityCache.get(entityClass, id);
+    if (persistentObject != null) {
+      // the copy is handled as if it was loaded by the persistence session
+      onEntityLoaded(persistentObject);
+      return persistentObject;
+    }
+
+    long invalidationCount = sharedEntityCache.getInvalidationCount();
+    persistentObject = persistenceSession.selectById(entityClass, id);
+
+    // entities which are changed by this transaction may not be committed yet
+    if (persistentObject != null && sharedEntityCacheInvalidations == null) {
+      sharedEntityCache.put(persistentObject, invalidationCount);
+    }
+    return persistentObject;
+  }
+
+  protected boolean isSharedEntityCacheEnabled(Class<?> entityClass) {
+    return sharedEntityCache != null && sharedEntityCache.isCacheable(entityClass);
+  }
+
+  /**
+   * Invalidates the entity in the shared entity cache when it is flushed and again when
+   * the transaction is committed, since other transactions may have cached the previous
+   * state in between.
+   */
+  protected void invalidateSharedEntityCache(Class<?> entityClass, String id) {
+    if (!isSharedEntityCacheEnabled(entityClass)) {
+      return;
+    }
+
+    sharedEntityCache.invalidate(entityClass, id);
+
+    if (sharedEntityCacheInvalidations == null) {
+      sharedEntityCacheInvalidations = new HashMap<Class<?>, Set<String>>();
+
+      final SharedDbEntityCache cache = sharedEntityCache;
+      final Map<Class<?>, Set<String>> invalidations = sharedEntityCacheInvalidations;
+      CommandContext commandContext = Context.getCommandContext();
+      if (commandContext != null) {
+        commandContext.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+          public void execute(CommandContext commandContext) {
+            for (Map.Entry<Class<?>, Set<String>> invalidation : invalidations.entrySet()) {
+              for (String invalidatedId : invalidation.getValue()) {
+                cache.invalidate(invalidation.getKey(), invalidatedId);
+              }
+            }
+          }
+        });
+      }
+    }
+
+    Set<String> ids = sharedEntityCacheInvalidations.get(entityClass);
+    if (ids == null) {
+      ids = new HashSet<String>();
+      sharedEntityCacheInvalidations.put(entityClass, ids);
+    }
+    ids.add(id);
+  }
+
   public <T extends DbEntity> T getCachedEntity(Class<T> type, String id) {
     return dbEntityCache.get(type, id);
   }
@@ -432,11 +517,13 @@ public class DbEntityManager implements Session, EntityLoadListener {
       cachedDbEntity.setEntityState(PERSISTENT);
 
     } else if(cachedDbEntity.getEntityState() == PERSISTENT && cachedDbEntity.isDirty()) {
-      // object is dirty -> perform UPDATE
+      // object is dirty -> perform UPDATE of the changed fields
+      cachedDbEntity.determineUpdatedFields();
       performEntityOperation(cachedDbEntity, UPDATE);
 
     } else if(cachedDbEntity.getEntityState() == MERGED) {
       // perform UPDATE
+      cachedDbEntity.determineUpdatedFields();
       performEntityOperation(cachedDbEntity, UPDATE);
       // mark PERSISTENT
       cachedDbEntity.setEntityState(PERSISTENT);
@@ -553,6 +640,8 @@ public class DbEntityManager implements Session, EntityLoadListener {
   }
 
   private DbBulkOperation createDbBulkOperation(Class<? extends DbEntity> entityType, String statement, Object parameter, DbOperationType operationType) {
+    invalidateSharedEntityCache(entityType, null);
+
     // create operation
     DbBulkOperation bulkOperation = new DbBulkOperation();
 
@@ -565,6 +654,10 @@ public class DbEntityManager implements Session, EntityLoadListener {
   }
 
   protected void performEntityOperation(CachedDbEntity cachedDbEntity, DbOperationType type) {
+    if (type == UPDATE || type == DELETE) {
+      invalidateSharedEntityCache(cachedDbEntity.getEntityType(), cachedDbEntity.getEntity().getId());
+    }
+
     DbEntityOperation dbOperation = new DbEntityOperation();
     dbOperation.setEntity(cachedDbEntity.getEntity());
     dbOperation.setFlushRelevantEntityReferences(cachedDbEntity.getFlushRelevantEntityReferences());
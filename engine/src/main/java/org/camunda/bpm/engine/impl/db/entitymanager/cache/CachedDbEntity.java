@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.Set;
 
 import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.HasDbChangeTracking;
 import org.camunda.bpm.engine.impl.db.HasDbReferences;
 import org.camunda.bpm.engine.impl.db.entitymanager.Recyclable;
 
@@ -31,6 +32,11 @@ public class CachedDbEntity implements Recyclable {
 
   protected Object copy;
 
+  /**
+   * Marks an entity which tracks its changes itself as dirty, independent of its changed fields
+   */
+  protected boolean forcedDirty;
+
   protected DbEntityState entityState;
 
   /**
@@ -42,6 +48,7 @@ public class CachedDbEntity implements Recyclable {
     // clean out state
     dbEntity = null;
     copy = null;
+    forcedDirty = false;
     entityState = null;
   }
 
@@ -50,16 +57,50 @@ public class CachedDbEntity implements Recyclable {
    * @return true if the entity is dirty (state has changed since it was put into the cache)
    */
   public boolean isDirty() {
-    return !dbEntity.getPersistentState().equals(copy);
+    if (dbEntity instanceof HasDbChangeTracking) {
+      return forcedDirty || ((HasDbChangeTracking) dbEntity).getChangedFields() != 0;
+    }
+    else {
+      return !dbEntity.getPersistentState().equals(copy);
+    }
   }
 
   public void forceSetDirty() {
-    // set the value of the copy to some value which will always be different from the new entity state.
-    this.copy = -1;
+    if (dbEntity instanceof HasDbChangeTracking) {
+      forcedDirty = true;
+    }
+    else {
+      // set the value of the copy to some value which will always be different from the new entity state.
+      this.copy = -1;
+    }
   }
 
   public void makeCopy() {
-    copy = dbEntity.getPersistentState();
+    if (dbEntity instanceof HasDbChangeTracking) {
+      // the entity corresponds to the database state, no need to take a copy of it
+      ((HasDbChangeTracking) dbEntity).resetChangedFields();
+      forcedDirty = false;
+    }
+    else {
+      copy = dbEntity.getPersistentState();
+    }
+  }
+
+  /**
+   * Determines the fields which are written by the next UPDATE of an entity which
+   * tracks its changes. Merged entities and entities which were forced to be dirty
+   * are updated completely.
+   */
+  public void determineUpdatedFields() {
+    if (dbEntity instanceof HasDbChangeTracking) {
+      HasDbChangeTracking trackedEntity = (HasDbChangeTracking) dbEntity;
+      if (forcedDirty || entityState == DbEntityState.MERGED) {
+        trackedEntity.setUpdatedFields(HasDbChangeTracking.ALL_FIELDS);
+      }
+      else {
+        trackedEntity.setUpdatedFields(trackedEntity.getChangedFields());
+      }
+    }
   }
 
   public String toString() {
@@ -0,0 +1,201 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db.entitymanager.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+import org.camunda.commons.utils.cache.Cache;
+import org.camunda.commons.utils.cache.ConcurrentLruCache;
+
+/**
+ * <p>A cache for read-mostly entities which is shared by all commands of a process
+ * engine, in contrast to the {@link DbEntityCache} which lives for one command only.</p>
+ *
+ * <p>An entity is kept as serialized snapshot of its state when it was loaded. Every
+ * command gets its own copy, so that changes of a command are not visible to other
+ * commands before they are flushed.</p>
+ *
+ * <p>The {@link org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager} invalidates
+ * an entry when the entity is updated or deleted. Since other engines of a cluster share
+ * the database but not the cache, the invalidations can be propagated to them by a
+ * {@link SharedDbEntityCacheInvalidationListener}. Without a listener, the invalidation
+ * is local only and the cache should only be enabled for a single engine or for entity
+ * types which are not changed by other engines.</p>
+ */
+public class SharedDbEntityCache {
+
+  protected Set<Class<? extends DbEntity>> entityTypes;
+  protected Cache<String, byte[]> snapshots;
+
+  /** counts the invalidations to detect snapshots which were loaded before an invalidation */
+  protected AtomicLong invalidationCount = new AtomicLong();
+
+  protected List<SharedDbEntityCacheInvalidationListener> invalidationListeners = new CopyOnWriteArrayList<SharedDbEntityCacheInvalidationListener>();
+
+  public SharedDbEntityCache(int capacity, Collection<Class<? extends DbEntity>> entityTypes) {
+    this.snapshots = new ConcurrentLruCache<String, byte[]>(capacity);
+    this.entityTypes = new HashSet<Class<? extends DbEntity>>(entityTypes);
+  }
+
+  public boolean isCacheable(Class<?> entityType) {
+    return entityTypes.contains(entityType);
+  }
+
+  /**
+   * @return a new copy of the cached entity or <code>null</code> if it is not cached
+   */
+  public <T extends DbEntity> T get(Class<T> entityType, String id) {
+    String key = getKey(entityType, id);
+    byte[] snapshot = snapshots.get(key);
+    if (snapshot == null) {
+      return null;
+    }
+
+    ObjectInputStream inputStream = null;
+    try {
+      inputStream = new ObjectInputStream(new ByteArrayInputStream(snapshot));
+      return entityType.cast(inputStream.readObject());
+    }
+    catch (Exception e) {
+      // the snapshot cannot be restored, e.g. because the class has changed
+      snapshots.remove(key);
+      return null;
+    }
+    finally {
+      IoUtil.closeSilently(inputStream);
+    }
+  }
+
+  /**
+   * Caches the state of the given entity unless an entity was invalidated since the
+   * given invalidation count was obtained, since the entity may be outdated then.
+   */
+  public void put(DbEntity entity, long expectedInvalidationCount) {
+    if (!isCacheable(entity.getClass()) || !(entity instanceof Serializable)) {
+      return;
+    }
+
+    byte[] snapshot = createSnapshot(entity);
+    if (snapshot == null || invalidationCount.get() != expectedInvalidationCount) {
+      return;
+    }
+
+    String key = getKey(entity.getClass(), entity.getId());
+    snapshots.put(key, snapshot);
+
+    // an invalidation may have happened concurrently
+    if (invalidationCount.get() != expectedInvalidationCount) {
+      snapshots.remove(key);
+    }
+  }
+
+  protected byte[] createSnapshot(DbEntity entity) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutputStream = null;
+    try {
+      objectOutputStream = new ObjectOutputStream(outputStream);
+      objectOutputStream.writeObject(entity);
+      objectOutputStream.flush();
+      return outputStream.toByteArray();
+    }
+    catch (Exception e) {
+      // the entity references state which cannot be serialized and is not cached
+      return null;
+    }
+    finally {
+      IoUtil.closeSilently(objectOutputStream);
+    }
+  }
+
+  public long getInvalidationCount() {
+    return invalidationCount.get();
+  }
+
+  /**
+   * Invalidates the entity and notifies the invalidation listeners.
+   *
+   * @param id the id of the entity or <code>null</code> to invalidate all entities of the type
+   */
+  public void invalidate(Class<?> entityType, String id) {
+    if (!isCacheable(entityType)) {
+      return;
+    }
+
+    invalidateLocally(entityType, id);
+
+    for (SharedDbEntityCacheInvalidationListener listener : invalidationListeners) {
+      listener.onInvalidation(entityType, id);
+    }
+  }
+
+  /**
+   * Invalidates the entity without notifying the invalidation listeners, e.g. when
+   * the invalidation is received from another process engine.
+   *
+   * @param id the id of the entity or <code>null</code> to invalidate all entities of the type
+   */
+  public void invalidateLocally(Class<?> entityType, String id) {
+    invalidationCount.incrementAndGet();
+
+    if (id != null) {
+      snapshots.remove(getKey(entityType, id));
+    }
+    else {
+      String keyPrefix = getKey(entityType, "");
+      for (String key : new ArrayList<String>(snapshots.keySet())) {
+        if (key.startsWith(keyPrefix)) {
+          snapshots.remove(key);
+        }
+      }
+    }
+  }
+
+  public void clear() {
+    invalidationCount.incrementAndGet();
+    snapshots.clear();
+  }
+
+  public int size() {
+    return snapshots.size();
+  }
+
+  protected String getKey(Class<?> entityType, String id) {
+    return entityType.getName() + "#" + id;
+  }
+
+  public Set<Class<? extends DbEntity>> getEntityTypes() {
+    return entityTypes;
+  }
+
+  public List<SharedDbEntityCacheInvalidationListener> getInvalidationListeners() {
+    return invalidationListeners;
+  }
+
+  public void addInvalidationListener(SharedDbEntityCacheInvalidationListener listener) {
+    invalidationListeners.add(listener);
+  }
+
+}
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db.entitymanager.cache;
+
+/**
+ * <p>Is notified when an entry of the {@link SharedDbEntityCache} is invalidated by
+ * this process engine.</p>
+ *
+ * <p>Can be implemented to propagate the invalidation to the other process engines
+ * of a cluster which then call {@link SharedDbEntityCache#invalidateLocally(Class, String)}.</p>
+ */
+public interface SharedDbEntityCacheInvalidationListener {
+
+  /**
+   * @param id the id of the invalidated entity or <code>null</code> if all entities of the type are invalidated
+   */
+  void onInvalidation(Class<?> entityType, String id);
+
+}
@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.dmn.cmd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.identity.Authentication;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+
+/**
+ * Looks up the decision definition to evaluate by its id or by its key, version and tenant-id.
+ *
+ * If the decision evaluation fast path is enabled, the definition of a recent lookup
+ * is reused instead of querying the database.
+ */
+public class DecisionDefinitionLookup {
+
+  protected String decisionDefinitionId;
+  protected String decisionDefinitionKey;
+  protected Integer version;
+  protected String decisionDefinitionTenantId;
+  protected boolean isTenandIdSet;
+
+  public DecisionDefinitionLookup(String decisionDefinitionId, String decisionDefinitionKey, Integer version,
+      String decisionDefinitionTenantId, boolean isTenandIdSet) {
+    this.decisionDefinitionId = decisionDefinitionId;
+    this.decisionDefinitionKey = decisionDefinitionKey;
+    this.version = version;
+    this.decisionDefinitionTenantId = decisionDefinitionTenantId;
+    this.isTenandIdSet = isTenandIdSet;
+  }
+
+  public DecisionDefinition getDecisionDefinition(CommandContext commandContext) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+
+    if (!processEngineConfiguration.isDecisionEvaluationFastPathEnabled()) {
+      return findDecisionDefinition(deploymentCache);
+    }
+
+    String lookupKey = getLookupKey(commandContext);
+    DecisionDefinition decisionDefinition = deploymentCache.findResolvedDecisionDefinition(lookupKey,
+        processEngineConfiguration.getDecisionEvaluationFastPathLookupTimeToLive());
+
+    if (decisionDefinition == null) {
+      decisionDefinition = findDecisionDefinition(deploymentCache);
+      deploymentCache.addResolvedDecisionDefinition(lookupKey, decisionDefinition);
+    }
+
+    return decisionDefinition;
+  }
+
+  /**
+   * @return the key of the lookup in the resolved decision definitions. A lookup by key
+   *   without a tenant-id only returns definitions of the authenticated tenants, so the
+   *   authenticated tenants are part of the key if the tenant check is enabled.
+   */
+  protected String getLookupKey(CommandContext commandContext) {
+    if (decisionDefinitionId != null) {
+      return "id:" + decisionDefinitionId;
+    }
+
+    StringBuilder lookupKey = new StringBuilder("key:").append(decisionDefinitionKey);
+    if (version != null) {
+      lookupKey.append(":version:").append(version);
+    }
+
+    if (isTenandIdSet) {
+      lookupKey.append(":tenant-id:").append(decisionDefinitionTenantId);
+    }
+    else if (commandContext.getTenantManager().isTenantCheckEnabled()) {
+      lookupKey.append(":authenticated-tenant-ids:").append(getAuthenticatedTenantIds(commandContext));
+    }
+
+    return lookupKey.toString();
+  }
+
+  protected List<String> getAuthenticatedTenantIds(CommandContext commandContext) {
+    Authentication authentication = commandContext.getAuthentication();
+    if (authentication.getTenantIds() == null) {
+      return Collections.emptyList();
+    }
+
+    List<String> tenantIds = new ArrayList<String>(authentication.getTenantIds());
+    Collections.sort(tenantIds);
+    return tenantIds;
+  }
+
+  protected DecisionDefinition findDecisionDefinition(DeploymentCache deploymentCache) {
+    if (decisionDefinitionId != null) {
+      return findById(deploymentCache);
+    } else {
+      return findByKey(deploymentCache);
+    }
+  }
+
+  protected DecisionDefinition findById(DeploymentCache deploymentCache) {
+    return deploymentCache.findDeployedDecisionDefinitionById(decisionDefinitionId);
+  }
+
+  protected DecisionDefinition findByKey(DeploymentCache deploymentCache) {
+    DecisionDefinition decisionDefinition = null;
+
+    if (version == null && !isTenandIdSet) {
+      decisionDefinition = deploymentCache.findDeployedLatestDecisionDefinitionByKey(decisionDefinitionKey);
+    }
+    else if (version == null && isTenandIdSet) {
+      decisionDefinition = deploymentCache.findDeployedLatestDecisionDefinitionByKeyAndTenantId(decisionDefinitionKey, decisionDefinitionTenantId);
+    }
+    else if (version != null && !isTenandIdSet) {
+      decisionDefinition = deploymentCache.findDeployedDecisionDefinitionByKeyAndVersion(decisionDefinitionKey, version);
+    }
+    else if (version != null && isTenandIdSet) {
+      decisionDefinition = deploymentCache.findDeployedDecisionDefinitionByKeyVersionAndTenantId(decisionDefinitionKey, version, decisionDefinitionTenantId);
+    }
+
+    return decisionDefinition;
+  }
+
+}
@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.dmn.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureOnlyOneNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.engine.impl.cfg.CommandChecker;
+import org.camunda.bpm.engine.impl.dmn.DecisionEvaluationBuilderImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+
+/**
+ * Evaluates the decision with the given key or id once for each of the given variables.
+ *
+ * The decision definition is looked up and the evaluation is authorized once for all evaluations.
+ */
+public class EvaluateDecisionBatchCmd implements Command<List<DmnDecisionResult>> {
+
+  protected EvaluateDecisionCmd evaluateDecisionCmd;
+  protected List<Map<String, Object>> variablesList;
+
+  public EvaluateDecisionBatchCmd(DecisionEvaluationBuilderImpl builder, List<Map<String, Object>> variablesList) {
+    this.evaluateDecisionCmd = new EvaluateDecisionCmd(builder);
+    this.variablesList = variablesList;
+  }
+
+  @Override
+  public List<DmnDecisionResult> execute(CommandContext commandContext) {
+    ensureOnlyOneNotNull("either decision definition id or key must be set", evaluateDecisionCmd.decisionDefinitionId, evaluateDecisionCmd.decisionDefinitionKey);
+    ensureNotNull("variablesList", variablesList);
+
+    DecisionDefinition decisionDefinition = evaluateDecisionCmd.getDecisionDefinition(commandContext);
+
+    for(CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkEvaluateDecision(decisionDefinition);
+    }
+
+    List<DmnDecisionResult> decisionResults = new ArrayList<DmnDecisionResult>(variablesList.size());
+    for (Map<String, Object> variables : variablesList) {
+      VariableMap variableMap = Variables.fromMap(variables);
+      decisionResults.add(evaluateDecisionCmd.doEvaluateDecision(decisionDefinition, variableMap));
+    }
+
+    return decisionResults;
+  }
+
+}
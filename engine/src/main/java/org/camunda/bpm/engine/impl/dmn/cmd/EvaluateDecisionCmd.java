@@ -22,7 +22,6 @@ import org.camunda.bpm.engine.impl.cfg.CommandChecker;
 import org.camunda.bpm.engine.impl.dmn.DecisionEvaluationBuilderImpl;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
-import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.camunda.bpm.engine.repository.DecisionDefinition;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
@@ -75,36 +74,10 @@ public class EvaluateDecisionCmd implements Command<DmnDecisionResult> {
   }
 
   protected DecisionDefinition getDecisionDefinition(CommandContext commandContext) {
-    DeploymentCache deploymentCache = commandContext.getProcessEngineConfiguration().getDeploymentCache();
+    DecisionDefinitionLookup lookup = new DecisionDefinitionLookup(decisionDefinitionId, decisionDefinitionKey,
+        version, decisionDefinitionTenantId, isTenandIdSet);
 
-    if (decisionDefinitionId != null) {
-      return findById(deploymentCache);
-    } else {
-      return findByKey(deploymentCache);
-    }
-  }
-
-  protected DecisionDefinition findById(DeploymentCache deploymentCache) {
-    return deploymentCache.findDeployedDecisionDefinitionById(decisionDefinitionId);
-  }
-
-  protected DecisionDefinition findByKey(DeploymentCache deploymentCache) {
-    DecisionDefinition decisionDefinition = null;
-
-    if (version == null && !isTenandIdSet) {
-      decisionDefinition = deploymentCache.findDeployedLatestDecisionDefinitionByKey(decisionDefinitionKey);
-    }
-    else if (version == null && isTenandIdSet) {
-      decisionDefinition = deploymentCache.findDeployedLatestDecisionDefinitionByKeyAndTenantId(decisionDefinitionKey, decisionDefinitionTenantId);
-    }
-    else if (version != null && !isTenandIdSet) {
-      decisionDefinition = deploymentCache.findDeployedDecisionDefinitionByKeyAndVersion(decisionDefinitionKey, version);
-    }
-    else if (version != null && isTenandIdSet) {
-      decisionDefinition = deploymentCache.findDeployedDecisionDefinitionByKeyVersionAndTenantId(decisionDefinitionKey, version, decisionDefinitionTenantId);
-    }
-
-    return decisionDefinition;
+    return lookup.getDecisionDefinition(commandContext);
   }
 
 }
@@ -17,14 +17,17 @@ import java.util.Collection;
 import java.util.List;
 
 import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnTransformer;
 import org.camunda.bpm.engine.impl.AbstractDefinitionDeployer;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.core.model.Properties;
 import org.camunda.bpm.engine.impl.dmn.DecisionLogger;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionManager;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionEntity;
+import org.camunda.bpm.engine.impl.dmn.index.IndexedDecisionTable;
 import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
@@ -79,6 +82,12 @@ public class DecisionDefinitionDeployer extends AbstractDefinitionDeployer<Decis
     return decisions;
   }
 
+  @Override
+  protected boolean isParallelTransformationSupported() {
+    // the decisions are taken from the already parsed decision requirements definitions
+    return false;
+  }
+
   protected DecisionRequirementsDefinitionEntity findDeployedDrdForResource(DeploymentEntity deployment, String resourceName) {
     List<DecisionRequirementsDefinitionEntity> deployedDrds = deployment.getDeployedArtifacts(DecisionRequirementsDefinitionEntity.class);
     if (deployedDrds != null) {
@@ -109,6 +118,14 @@ public class DecisionDefinitionDeployer extends AbstractDefinitionDeployer<Decis
 
   @Override
   protected void addDefinitionToDeploymentCache(DeploymentCache deploymentCache, DecisionDefinitionEntity definition) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = getProcessEngineConfiguration();
+    if (processEngineConfiguration.isDecisionTableIndexEnabled()) {
+      DefaultDmnEngineConfiguration dmnEngineConfiguration = processEngineConfiguration.getDmnEngineConfiguration();
+      IndexedDecisionTable.index(definition,
+          dmnEngineConfiguration.getDefaultInputExpressionExpressionLanguage(),
+          dmnEngineConfiguration.getDefaultInputEntryExpressionLanguage());
+    }
+
     deploymentCache.addDecisionDefinition(definition);
   }
 
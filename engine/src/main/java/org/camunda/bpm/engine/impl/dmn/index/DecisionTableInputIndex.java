@@ -0,0 +1,307 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.dmn.index;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Indexes the input entries of one input column of a decision table.</p>
+ *
+ * <p>Simple unary tests are indexed: string, number and boolean literals and lists
+ * of them are looked up by value, comparisons and intervals of numbers by range.
+ * Empty entries and entries which are not understood by the index (e.g. negations,
+ * dates or expressions which reference other variables) are candidates for every
+ * input value. So are entries whose literals have another type than the input
+ * value, since comparing them may fail during the evaluation.</p>
+ */
+public class DecisionTableInputIndex {
+
+  protected static final Pattern STRING_LITERAL = Pattern.compile("\"([^\"\\\\]*)\"");
+  protected static final Pattern NUMBER_LITERAL = Pattern.compile("-?\\d+(\\.\\d+)?");
+  protected static final Pattern COMPARISON = Pattern.compile("(<=|>=|<|>)\\s*(-?\\d+(\\.\\d+)?)");
+  protected static final Pattern INTERVAL = Pattern.compile("([\\[\\]\\(])\\s*(-?\\d+(\\.\\d+)?)\\s*\\.\\.\\s*(-?\\d+(\\.\\d+)?)\\s*([\\[\\]\\)])");
+
+  protected int numberOfRules;
+
+  protected Map<Object, BitSet> rulesByValue = new HashMap<Object, BitSet>();
+  protected List<Range> ranges = new ArrayList<Range>();
+
+  /** rules which match any input value or which are not indexed */
+  protected BitSet unindexedRules = new BitSet();
+
+  protected BitSet stringRules = new BitSet();
+  protected BitSet numberRules = new BitSet();
+  protected BitSet booleanRules = new BitSet();
+
+  public DecisionTableInputIndex(List<String> inputEntries) {
+    this.numberOfRules = inputEntries.size();
+
+    for (int rule = 0; rule < inputEntries.size(); rule++) {
+      String inputEntry = inputEntries.get(rule);
+      if (inputEntry == null || !indexEntry(rule, inputEntry.trim())) {
+        unindexedRules.set(rule);
+      }
+    }
+
+    Collections.sort(ranges, new Comparator<Range>() {
+      public int compare(Range range, Range otherRange) {
+        return range.compareLowerBound(otherRange);
+      }
+    });
+  }
+
+  /**
+   * @return <code>true</code> if at least one input entry is indexed
+   */
+  public boolean isIndexed() {
+    return unindexedRules.cardinality() < numberOfRules;
+  }
+
+  /**
+   * @return the rules which may match the given input value or <code>null</code>
+   * if the value cannot be looked up and all rules are candidates
+   */
+  public BitSet getCandidateRules(Object value) {
+    Object key = toKey(value);
+    if (key == null) {
+      return null;
+    }
+
+    BitSet candidates = (BitSet) unindexedRules.clone();
+
+    BitSet rulesForValue = rulesByValue.get(key);
+    if (rulesForValue != null) {
+      candidates.or(rulesForValue);
+    }
+
+    if (key instanceof BigDecimal) {
+      BigDecimal number = (BigDecimal) key;
+      for (Range range : ranges) {
+        if (!range.isLowerBoundBelow(number)) {
+          // the ranges are sorted by their lower bound
+          break;
+        }
+        if (range.contains(number)) {
+          candidates.set(range.rule);
+        }
+      }
+
+      candidates.or(stringRules);
+      candidates.or(booleanRules);
+    }
+    else if (key instanceof String) {
+      candidates.or(numberRules);
+      candidates.or(booleanRules);
+    }
+    else {
+      candidates.or(stringRules);
+      candidates.or(numberRules);
+    }
+
+    return candidates;
+  }
+
+  protected boolean indexEntry(int rule, String inputEntry) {
+    if (inputEntry.isEmpty() || "-".equals(inputEntry)) {
+      return false;
+    }
+
+    if ("true".equals(inputEntry) || "false".equals(inputEntry)) {
+      addValue(rule, Boolean.valueOf(inputEntry));
+      booleanRules.set(rule);
+      return true;
+    }
+
+    Matcher comparison = COMPARISON.matcher(inputEntry);
+    if (comparison.matches()) {
+      addComparison(rule, comparison.group(1), new BigDecimal(comparison.group(2)));
+      numberRules.set(rule);
+      return true;
+    }
+
+    Matcher interval = INTERVAL.matcher(inputEntry);
+    if (interval.matches()) {
+      BigDecimal lowerBound = new BigDecimal(interval.group(2));
+      BigDecimal upperBound = new BigDecimal(interval.group(4));
+      ranges.add(new Range(rule, lowerBound, "[".equals(interval.group(1)), upperBound, "]".equals(interval.group(6))));
+      numberRules.set(rule);
+      return true;
+    }
+
+    return indexList(rule, inputEntry);
+  }
+
+  protected boolean indexList(int rule, String inputEntry) {
+    List<Object> values = new ArrayList<Object>();
+    for (String element : splitList(inputEntry)) {
+      Matcher string = STRING_LITERAL.matcher(element);
+      if (string.matches()) {
+        values.add(string.group(1));
+      }
+      else if (NUMBER_LITERAL.matcher(element).matches()) {
+        values.add(normalize(new BigDecimal(element)));
+      }
+      else {
+        return false;
+      }
+    }
+
+    boolean isStringList = values.get(0) instanceof String;
+    for (Object value : values) {
+      if ((value instanceof String) != isStringList) {
+        // mixed lists are evaluated as usual
+        return false;
+      }
+    }
+
+    for (Object value : values) {
+      addValue(rule, value);
+    }
+    if (isStringList) {
+      stringRules.set(rule);
+    }
+    else {
+      numberRules.set(rule);
+    }
+    return true;
+  }
+
+  protected List<String> splitList(String inputEntry) {
+    List<String> elements = new ArrayList<String>();
+    boolean inString = false;
+    int start = 0;
+    for (int i = 0; i < inputEntry.length(); i++) {
+      char c = inputEntry.charAt(i);
+      if (c == '"') {
+        inString = !inString;
+      }
+      else if (c == ',' && !inString) {
+        elements.add(inputEntry.substring(start, i).trim());
+        start = i + 1;
+      }
+    }
+    elements.add(inputEntry.substring(start).trim());
+    return elements;
+  }
+
+  protected void addValue(int rule, Object value) {
+    BitSet rules = rulesByValue.get(value);
+    if (rules == null) {
+      rules = new BitSet(numberOfRules);
+      rulesByValue.put(value, rules);
+    }
+    rules.set(rule);
+  }
+
+  protected void addComparison(int rule, String operator, BigDecimal bound) {
+    if (operator.startsWith("<")) {
+      ranges.add(new Range(rule, null, false, bound, operator.length() == 2));
+    }
+    else {
+      ranges.add(new Range(rule, bound, operator.length() == 2, null, false));
+    }
+  }
+
+  protected Object toKey(Object value) {
+    if (value instanceof String || value instanceof Boolean) {
+      return value;
+    }
+    else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      return normalize(BigDecimal.valueOf(((Number) value).longValue()));
+    }
+    else if (value instanceof Double || value instanceof Float) {
+      double number = ((Number) value).doubleValue();
+      if (Double.isNaN(number) || Double.isInfinite(number)) {
+        return null;
+      }
+      // uses the decimal representation of the number like the expression language does
+      return normalize(BigDecimal.valueOf(number));
+    }
+    else if (value instanceof BigDecimal) {
+      return normalize((BigDecimal) value);
+    }
+    else if (value instanceof BigInteger) {
+      return normalize(new BigDecimal((BigInteger) value));
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected BigDecimal normalize(BigDecimal number) {
+    if (number.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    return number.stripTrailingZeros();
+  }
+
+  protected static class Range {
+
+    protected int rule;
+    protected BigDecimal lowerBound;
+    protected boolean lowerBoundIncluded;
+    protected BigDecimal upperBound;
+    protected boolean upperBoundIncluded;
+
+    public Range(int rule, BigDecimal lowerBound, boolean lowerBoundIncluded, BigDecimal upperBound, boolean upperBoundIncluded) {
+      this.rule = rule;
+      this.lowerBound = lowerBound;
+      this.lowerBoundIncluded = lowerBoundIncluded;
+      this.upperBound = upperBound;
+      this.upperBoundIncluded = upperBoundIncluded;
+    }
+
+    public boolean isLowerBoundBelow(BigDecimal number) {
+      return lowerBound == null || lowerBound.compareTo(number) <= 0;
+    }
+
+    public boolean contains(BigDecimal number) {
+      if (lowerBound != null) {
+        int comparison = lowerBound.compareTo(number);
+        if (comparison > 0 || (comparison == 0 && !lowerBoundIncluded)) {
+          return false;
+        }
+      }
+      if (upperBound != null) {
+        int comparison = upperBound.compareTo(number);
+        if (comparison < 0 || (comparison == 0 && !upperBoundIncluded)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    public int compareLowerBound(Range other) {
+      if (lowerBound == null) {
+        return other.lowerBound == null ? 0 : -1;
+      }
+      else if (other.lowerBound == null) {
+        return 1;
+      }
+      else {
+        return lowerBound.compareTo(other.lowerBound);
+      }
+    }
+  }
+
+}
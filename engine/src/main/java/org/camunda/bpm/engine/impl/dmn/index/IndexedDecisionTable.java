@@ -0,0 +1,270 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.dmn.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnDecisionLogic;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.dmn.engine.impl.spi.type.DmnTypeDefinition;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * <p>A decision table which only evaluates the rules that may match the input values.</p>
+ *
+ * <p>The decision table is indexed when the decision is added to the deployment cache.
+ * An input is indexed if its expression is the name of a variable and its entries
+ * contain simple unary tests (see {@link DecisionTableInputIndex}). Before the decision
+ * is evaluated, the candidate rules are looked up by the values of the variables and
+ * {@link #getRules()} returns only these rules to the DMN engine for the evaluation on
+ * the current thread. The rules keep their order, so that the hit policies are applied
+ * as without the index.</p>
+ *
+ * <p>The rules are not restricted if the decision requires other decisions, since their
+ * results may be inputs of the decision table.</p>
+ */
+public class IndexedDecisionTable extends DmnDecisionTableImpl {
+
+  public static final String JUEL_EXPRESSION_LANGUAGE = "juel";
+  public static final String FEEL_EXPRESSION_LANGUAGE = "feel";
+  public static final String FEEL_EXPRESSION_LANGUAGE_DMN11 = "http://www.omg.org/spec/FEEL/20140401";
+
+  protected static final Pattern VARIABLE_NAME = Pattern.compile("\\$\\{\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*\\}|([A-Za-z_][A-Za-z0-9_]*)");
+
+  protected List<String> inputVariableNames;
+  protected List<String> inputTypeNames;
+  protected List<DecisionTableInputIndex> inputIndexes;
+
+  protected ThreadLocal<List<DmnDecisionTableRuleImpl>> candidateRules = new ThreadLocal<List<DmnDecisionTableRuleImpl>>();
+
+  public IndexedDecisionTable(DmnDecisionTableImpl decisionTable, List<String> inputVariableNames, List<String> inputTypeNames, List<DecisionTableInputIndex> inputIndexes) {
+    setHitPolicyHandler(decisionTable.getHitPolicyHandler());
+    setInputs(decisionTable.getInputs());
+    setOutputs(decisionTable.getOutputs());
+    setRules(decisionTable.getRules());
+
+    this.inputVariableNames = inputVariableNames;
+    this.inputTypeNames = inputTypeNames;
+    this.inputIndexes = inputIndexes;
+  }
+
+  /**
+   * Replaces the decision table of the decision by an indexed decision table
+   * if at least one input can be indexed.
+   *
+   * @return <code>true</code> if the decision table was indexed
+   */
+  public static boolean index(DmnDecisionImpl decision, String defaultInputExpressionLanguage, String defaultInputEntryExpressionLanguage) {
+    DmnDecisionLogic decisionLogic = decision.getDecisionLogic();
+    if (!(decisionLogic instanceof DmnDecisionTableImpl) || decisionLogic instanceof IndexedDecisionTable) {
+      return false;
+    }
+
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decisionLogic;
+    List<DmnDecisionTableInputImpl> inputs = decisionTable.getInputs();
+
+    List<String> variableNames = new ArrayList<String>();
+    List<String> typeNames = new ArrayList<String>();
+    List<DecisionTableInputIndex> indexes = new ArrayList<DecisionTableInputIndex>();
+
+    for (int inputIndex = 0; inputIndex < inputs.size(); inputIndex++) {
+      DmnExpressionImpl inputExpression = inputs.get(inputIndex).getExpression();
+      String variableName = getVariableName(inputExpression, defaultInputExpressionLanguage);
+      String typeName = getTypeName(inputExpression);
+
+      if (variableName == null || !isIndexableType(typeName)) {
+        continue;
+      }
+
+      List<String> inputEntries = new ArrayList<String>();
+      for (DmnDecisionTableRuleImpl rule : decisionTable.getRules()) {
+        DmnExpressionImpl condition = rule.getConditions().get(inputIndex);
+        String language = condition.getExpressionLanguage() != null ? condition.getExpressionLanguage() : defaultInputEntryExpressionLanguage;
+
+        if (language == null || isFeel(language)) {
+          inputEntries.add(condition.getExpression());
+        }
+        else {
+          inputEntries.add(null);
+        }
+      }
+
+      DecisionTableInputIndex index = new DecisionTableInputIndex(inputEntries);
+      if (index.isIndexed()) {
+        variableNames.add(variableName);
+        typeNames.add(typeName);
+        indexes.add(index);
+      }
+    }
+
+    if (indexes.isEmpty()) {
+      return false;
+    }
+
+    decision.setDecisionLogic(new IndexedDecisionTable(decisionTable, variableNames, typeNames, indexes));
+    return true;
+  }
+
+  /**
+   * @return the candidate rules during an evaluation on the current thread, all rules otherwise
+   */
+  @Override
+  public List<DmnDecisionTableRuleImpl> getRules() {
+    List<DmnDecisionTableRuleImpl> candidates = candidateRules.get();
+    if (candidates != null) {
+      return candidates;
+    }
+    else {
+      return super.getRules();
+    }
+  }
+
+  public List<DmnDecisionTableRuleImpl> getAllRules() {
+    return super.getRules();
+  }
+
+  /**
+   * Restricts the rules to the candidates for the given variables on the current thread.
+   *
+   * @return the previously selected candidates which must be restored after the evaluation
+   */
+  public List<DmnDecisionTableRuleImpl> selectCandidateRules(DmnDecision decision, VariableContext variableContext) {
+    List<DmnDecisionTableRuleImpl> previousCandidates = candidateRules.get();
+
+    if (decision.getRequiredDecisions().isEmpty()) {
+      candidateRules.set(findCandidateRules(variableContext));
+    }
+    else {
+      candidateRules.remove();
+    }
+
+    return previousCandidates;
+  }
+
+  public void restoreCandidateRules(List<DmnDecisionTableRuleImpl> previousCandidates) {
+    if (previousCandidates != null) {
+      candidateRules.set(previousCandidates);
+    }
+    else {
+      candidateRules.remove();
+    }
+  }
+
+  /**
+   * @return the candidate rules or <code>null</code> if all rules are candidates
+   */
+  protected List<DmnDecisionTableRuleImpl> findCandidateRules(VariableContext variableContext) {
+    BitSet candidates = null;
+
+    for (int i = 0; i < inputIndexes.size(); i++) {
+      String variableName = inputVariableNames.get(i);
+      if (!variableContext.containsVariable(variableName)) {
+        // the evaluation fails as without the index
+        return null;
+      }
+
+      TypedValue typedValue = variableContext.resolve(variableName);
+      Object value = typedValue != null ? typedValue.getValue() : null;
+      if (!isCompatibleValue(inputTypeNames.get(i), value)) {
+        continue;
+      }
+
+      BitSet inputCandidates = inputIndexes.get(i).getCandidateRules(value);
+      if (inputCandidates != null) {
+        if (candidates == null) {
+          candidates = inputCandidates;
+        }
+        else {
+          candidates.and(inputCandidates);
+        }
+      }
+    }
+
+    if (candidates == null) {
+      return null;
+    }
+
+    List<DmnDecisionTableRuleImpl> allRules = super.getRules();
+    List<DmnDecisionTableRuleImpl> candidateRules = new ArrayList<DmnDecisionTableRuleImpl>(candidates.cardinality());
+    for (int rule = candidates.nextSetBit(0); rule >= 0; rule = candidates.nextSetBit(rule + 1)) {
+      candidateRules.add(allRules.get(rule));
+    }
+    return candidateRules;
+  }
+
+  protected static String getVariableName(DmnExpressionImpl inputExpression, String defaultLanguage) {
+    if (inputExpression == null || inputExpression.getExpression() == null) {
+      return null;
+    }
+
+    String language = inputExpression.getExpressionLanguage() != null ? inputExpression.getExpressionLanguage() : defaultLanguage;
+    if (language != null && !JUEL_EXPRESSION_LANGUAGE.equalsIgnoreCase(language) && !isFeel(language)) {
+      return null;
+    }
+
+    Matcher matcher = VARIABLE_NAME.matcher(inputExpression.getExpression().trim());
+    if (!matcher.matches()) {
+      return null;
+    }
+    return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+  }
+
+  protected static String getTypeName(DmnExpressionImpl inputExpression) {
+    DmnTypeDefinition typeDefinition = inputExpression.getTypeDefinition();
+    return typeDefinition != null ? typeDefinition.getTypeName() : null;
+  }
+
+  protected static boolean isIndexableType(String typeName) {
+    return typeName == null
+        || "string".equals(typeName)
+        || "boolean".equals(typeName)
+        || isNumberType(typeName);
+  }
+
+  protected static boolean isNumberType(String typeName) {
+    return "integer".equals(typeName) || "long".equals(typeName) || "double".equals(typeName);
+  }
+
+  /**
+   * @return <code>false</code> if the type definition of the input converts the value
+   */
+  protected boolean isCompatibleValue(String typeName, Object value) {
+    if (typeName == null) {
+      return true;
+    }
+    else if ("string".equals(typeName)) {
+      return value instanceof String;
+    }
+    else if ("boolean".equals(typeName)) {
+      return value instanceof Boolean;
+    }
+    else {
+      return value instanceof Number;
+    }
+  }
+
+  protected static boolean isFeel(String language) {
+    return FEEL_EXPRESSION_LANGUAGE.equalsIgnoreCase(language) || FEEL_EXPRESSION_LANGUAGE_DMN11.equalsIgnoreCase(language);
+  }
+
+}
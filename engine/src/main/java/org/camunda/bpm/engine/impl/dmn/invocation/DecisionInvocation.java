@@ -12,12 +12,16 @@
  */
 package org.camunda.bpm.engine.impl.dmn.invocation;
 
+import java.util.List;
+
 import org.camunda.bpm.dmn.engine.DmnDecision;
 import org.camunda.bpm.dmn.engine.DmnDecisionResult;
 import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.delegate.DelegateInvocation;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
+import org.camunda.bpm.engine.impl.dmn.index.IndexedDecisionTable;
 import org.camunda.bpm.engine.repository.DecisionDefinition;
 import org.camunda.bpm.engine.variable.context.VariableContext;
 
@@ -50,7 +54,21 @@ public class DecisionInvocation extends DelegateInvocation {
     final DmnEngine dmnEngine = Context.getProcessEngineConfiguration()
       .getDmnEngine();
 
-    invocationResult = dmnEngine.evaluateDecision((DmnDecision) decisionDefinition, variableContext);
+    DmnDecision decision = (DmnDecision) decisionDefinition;
+
+    if (decision.getDecisionLogic() instanceof IndexedDecisionTable) {
+      IndexedDecisionTable decisionTable = (IndexedDecisionTable) decision.getDecisionLogic();
+      List<DmnDecisionTableRuleImpl> previousCandidates = decisionTable.selectCandidateRules(decision, variableContext);
+      try {
+        invocationResult = dmnEngine.evaluateDecision(decision, variableContext);
+      }
+      finally {
+        decisionTable.restoreCandidateRules(previousCandidates);
+      }
+    }
+    else {
+      invocationResult = dmnEngine.evaluateDecision(decision, variableContext);
+    }
   }
 
   @Override
@@ -0,0 +1,169 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+
+/**
+ * <p>Writes the historic decision instances in the compact format in a background thread,
+ * after the transaction which evaluated the decisions is committed. The evaluations
+ * which are waiting are written together, in one transaction.</p>
+ *
+ * <p>The history of evaluations which are waiting when the process engine stops is
+ * written by {@link #shutdown()}. Evaluations passed to the writer after it is shut
+ * down, or whose history cannot be written, are logged and dropped.</p>
+ */
+public class AsyncHistoricDecisionInstanceWriter {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  protected CommandExecutor commandExecutor;
+  protected int maxEvaluationsPerTransaction;
+
+  protected BlockingQueue<HistoricDecisionEvaluationEvent> pendingEvaluations = new LinkedBlockingQueue<HistoricDecisionEvaluationEvent>();
+  protected AtomicBoolean writeScheduled = new AtomicBoolean();
+  protected ExecutorService executorService;
+
+  public AsyncHistoricDecisionInstanceWriter(CommandExecutor commandExecutor, int maxEvaluationsPerTransaction) {
+    this.commandExecutor = commandExecutor;
+    this.maxEvaluationsPerTransaction = maxEvaluationsPerTransaction;
+
+    executorService = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "camunda-decision-history-writer");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
+  public void write(HistoricDecisionEvaluationEvent evaluation) {
+    if (executorService.isShutdown()) {
+      LOG.discardHistoricDecisionInstancesAfterShutdown(1);
+      return;
+    }
+
+    pendingEvaluations.add(evaluation);
+
+    if (writeScheduled.compareAndSet(false, true)) {
+      try {
+        executorService.execute(new Runnable() {
+          public void run() {
+            // evaluations added from now on schedule another run
+            writeScheduled.set(false);
+            writePendingEvaluations();
+          }
+        });
+      }
+      catch (RejectedExecutionException e) {
+        // the writer was shut down concurrently
+        discardPendingEvaluations();
+      }
+    }
+  }
+
+  /**
+   * Blocks until the evaluations passed to {@link #write(HistoricDecisionEvaluationEvent)} before are written.
+   */
+  public void flush() {
+    if (executorService.isShutdown()) {
+      return;
+    }
+
+    Future<?> written = executorService.submit(new Runnable() {
+      public void run() {
+        writePendingEvaluations();
+      }
+    });
+
+    try {
+      written.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    catch (ExecutionException e) {
+      throw new ProcessEngineException(e.getCause());
+    }
+  }
+
+  public void shutdown() {
+    flush();
+    executorService.shutdown();
+  }
+
+  protected void discardPendingEvaluations() {
+    List<HistoricDecisionEvaluationEvent> evaluations = new ArrayList<HistoricDecisionEvaluationEvent>();
+    pendingEvaluations.drainTo(evaluations);
+
+    if (!evaluations.isEmpty()) {
+      LOG.discardHistoricDecisionInstancesAfterShutdown(evaluations.size());
+    }
+  }
+
+  public int getPendingEvaluations() {
+    return pendingEvaluations.size();
+  }
+
+  protected void writePendingEvaluations() {
+    List<HistoricDecisionEvaluationEvent> evaluations = new ArrayList<HistoricDecisionEvaluationEvent>();
+
+    while (pendingEvaluations.drainTo(evaluations, maxEvaluationsPerTransaction) > 0) {
+      try {
+        commandExecutor.execute(new WriteEvaluationsCmd(evaluations));
+      }
+      catch (RuntimeException e) {
+        LOG.failedToWriteHistoricDecisionInstances(evaluations.size(), e);
+      }
+
+      evaluations = new ArrayList<HistoricDecisionEvaluationEvent>();
+    }
+  }
+
+  protected static class WriteEvaluationsCmd implements Command<Void> {
+
+    protected List<HistoricDecisionEvaluationEvent> evaluations;
+
+    public WriteEvaluationsCmd(List<HistoricDecisionEvaluationEvent> evaluations) {
+      this.evaluations = evaluations;
+    }
+
+    public Void execute(CommandContext commandContext) {
+      HistoricDecisionInstanceManager historicDecisionInstanceManager = commandContext.getHistoricDecisionInstanceManager();
+
+      for (HistoricDecisionEvaluationEvent evaluation : evaluations) {
+        historicDecisionInstanceManager.insertCompactHistoricDecisionInstances(evaluation);
+      }
+
+      return null;
+    }
+  }
+
+}
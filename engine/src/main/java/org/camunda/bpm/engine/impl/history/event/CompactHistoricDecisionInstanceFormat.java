@@ -0,0 +1,222 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.history.HistoricDecisionInputInstance;
+import org.camunda.bpm.engine.history.HistoricDecisionOutputInstance;
+
+/**
+ * <p>Writes the inputs and outputs of a {@link HistoricDecisionInstanceEntity} into a
+ * single byte array and reads them back.</p>
+ *
+ * <p>The values are stored with their value fields as written by the variable serializers,
+ * so that they are deserialized like the values of the input and output instance rows.
+ * Large binary values are not embedded but referenced by the id of their byte array.
+ * The ids of the inputs and outputs are derived from the id of the decision instance.</p>
+ */
+public class CompactHistoricDecisionInstanceFormat {
+
+  public static final String BYTE_ARRAY_NAME = "historicDecisionInstance";
+
+  protected static final int VERSION = 1;
+  protected static final Charset CHARSET = Charset.forName("UTF-8");
+
+  public static byte[] write(HistoricDecisionInstanceEntity decisionInstance) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+
+    try {
+      out.writeByte(VERSION);
+
+      List<HistoricDecisionInputInstance> inputs = decisionInstance.getInputs();
+      out.writeInt(inputs.size());
+      for (HistoricDecisionInputInstance input : inputs) {
+        HistoricDecisionInputInstanceEntity inputEntity = (HistoricDecisionInputInstanceEntity) input;
+        writeString(out, inputEntity.getClauseId());
+        writeString(out, inputEntity.getClauseName());
+        writeValueFields(out, inputEntity.getSerializerName(), inputEntity.getTextValue(), inputEntity.getTextValue2(),
+            inputEntity.getLongValue(), inputEntity.getDoubleValue(), inputEntity.getByteArrayValueId());
+      }
+
+      List<HistoricDecisionOutputInstance> outputs = decisionInstance.getOutputs();
+      out.writeInt(outputs.size());
+      for (HistoricDecisionOutputInstance output : outputs) {
+        HistoricDecisionOutputInstanceEntity outputEntity = (HistoricDecisionOutputInstanceEntity) output;
+        writeString(out, outputEntity.getClauseId());
+        writeString(out, outputEntity.getClauseName());
+        writeString(out, outputEntity.getRuleId());
+        writeLong(out, outputEntity.getRuleOrder() != null ? Long.valueOf(outputEntity.getRuleOrder()) : null);
+        writeString(out, outputEntity.getVariableName());
+        writeValueFields(out, outputEntity.getSerializerName(), outputEntity.getTextValue(), outputEntity.getTextValue2(),
+            outputEntity.getLongValue(), outputEntity.getDoubleValue(), outputEntity.getByteArrayValueId());
+      }
+
+      out.flush();
+    }
+    catch (IOException e) {
+      throw new ProcessEngineException("Could not write the inputs and outputs of historic decision instance " + decisionInstance.getId(), e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Sets the inputs and outputs read from the bytes on the given decision instance.
+   */
+  public static void read(HistoricDecisionInstanceEntity decisionInstance, byte[] bytes) {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+    String decisionInstanceId = decisionInstance.getId();
+
+    try {
+      int version = in.readByte();
+      if (version != VERSION) {
+        throw new ProcessEngineException("Unknown format version " + version + " of historic decision instance " + decisionInstanceId);
+      }
+
+      int numberOfInputs = in.readInt();
+      List<HistoricDecisionInputInstance> inputs = new ArrayList<HistoricDecisionInputInstance>(numberOfInputs);
+      for (int i = 0; i < numberOfInputs; i++) {
+        HistoricDecisionInputInstanceEntity input = new HistoricDecisionInputInstanceEntity();
+        input.setId(decisionInstanceId + "-in-" + i);
+        input.setDecisionInstanceId(decisionInstanceId);
+        input.setTenantId(decisionInstance.getTenantId());
+        input.setClauseId(readString(in));
+        input.setClauseName(readString(in));
+        input.setSerializerName(readString(in));
+        input.setTextValue(readString(in));
+        input.setTextValue2(readString(in));
+        input.setLongValue(readLong(in));
+        input.setDoubleValue(readDouble(in));
+        input.setByteArrayValueId(readString(in));
+        inputs.add(input);
+      }
+
+      int numberOfOutputs = in.readInt();
+      List<HistoricDecisionOutputInstance> outputs = new ArrayList<HistoricDecisionOutputInstance>(numberOfOutputs);
+      for (int i = 0; i < numberOfOutputs; i++) {
+        HistoricDecisionOutputInstanceEntity output = new HistoricDecisionOutputInstanceEntity();
+        output.setId(decisionInstanceId + "-out-" + i);
+        output.setDecisionInstanceId(decisionInstanceId);
+        output.setTenantId(decisionInstance.getTenantId());
+        output.setClauseId(readString(in));
+        output.setClauseName(readString(in));
+        output.setRuleId(readString(in));
+        Long ruleOrder = readLong(in);
+        output.setRuleOrder(ruleOrder != null ? Integer.valueOf(ruleOrder.intValue()) : null);
+        output.setVariableName(readString(in));
+        output.setSerializerName(readString(in));
+        output.setTextValue(readString(in));
+        output.setTextValue2(readString(in));
+        output.setLongValue(readLong(in));
+        output.setDoubleValue(readDouble(in));
+        output.setByteArrayValueId(readString(in));
+        outputs.add(output);
+      }
+
+      decisionInstance.setInputs(inputs);
+      decisionInstance.setOutputs(outputs);
+    }
+    catch (IOException e) {
+      throw new ProcessEngineException("Could not read the inputs and outputs of historic decision instance " + decisionInstanceId, e);
+    }
+  }
+
+  /**
+   * @return the ids of the byte arrays which hold the binary values of the inputs and outputs
+   */
+  public static List<String> getValueByteArrayIds(HistoricDecisionInstanceEntity decisionInstance) {
+    List<String> byteArrayIds = new ArrayList<String>();
+
+    for (HistoricDecisionInputInstance input : decisionInstance.getInputs()) {
+      String byteArrayId = ((HistoricDecisionInputInstanceEntity) input).getByteArrayValueId();
+      if (byteArrayId != null) {
+        byteArrayIds.add(byteArrayId);
+      }
+    }
+
+    for (HistoricDecisionOutputInstance output : decisionInstance.getOutputs()) {
+      String byteArrayId = ((HistoricDecisionOutputInstanceEntity) output).getByteArrayValueId();
+      if (byteArrayId != null) {
+        byteArrayIds.add(byteArrayId);
+      }
+    }
+
+    return byteArrayIds;
+  }
+
+  protected static void writeValueFields(DataOutputStream out, String serializerName, String textValue, String textValue2,
+      Long longValue, Double doubleValue, String byteArrayId) throws IOException {
+    writeString(out, serializerName);
+    writeString(out, textValue);
+    writeString(out, textValue2);
+    writeLong(out, longValue);
+    writeDouble(out, doubleValue);
+    writeString(out, byteArrayId);
+  }
+
+  protected static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+    }
+    else {
+      byte[] bytes = value.getBytes(CHARSET);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  protected static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    else {
+      byte[] bytes = new byte[length];
+      in.readFully(bytes);
+      return new String(bytes, CHARSET);
+    }
+  }
+
+  protected static void writeLong(DataOutputStream out, Long value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeLong(value);
+    }
+  }
+
+  protected static Long readLong(DataInputStream in) throws IOException {
+    return in.readBoolean() ? Long.valueOf(in.readLong()) : null;
+  }
+
+  protected static void writeDouble(DataOutputStream out, Double value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeDouble(value);
+    }
+  }
+
+  protected static Double readDouble(DataInputStream in) throws IOException {
+    return in.readBoolean() ? Double.valueOf(in.readDouble()) : null;
+  }
+
+}
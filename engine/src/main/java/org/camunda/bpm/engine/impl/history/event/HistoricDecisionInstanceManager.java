@@ -24,7 +24,11 @@ import org.camunda.bpm.engine.impl.HistoricDecisionInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.Page;
 import org.camunda.bpm.engine.impl.QueryOrderingProperty;
 import org.camunda.bpm.engine.impl.QueryPropertyImpl;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.AbstractHistoricManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
@@ -69,6 +73,7 @@ public class HistoricDecisionInstanceManager extends AbstractHistoricManager {
   }
 
   public void deleteHistoricDecisionInstanceByIds(List<String> decisionInstanceIds) {
+    deleteCompactHistoricDecisionInstanceByteArrays(decisionInstanceIds);
     getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteHistoricDecisionInputInstanceByteArraysByDecisionInstanceIds", decisionInstanceIds);
     getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteHistoricDecisionOutputInstanceByteArraysByDecisionInstanceIds", decisionInstanceIds);
     getDbEntityManager().deletePreserveOrder(HistoricDecisionInputInstanceEntity.class, "deleteHistoricDecisionInputInstanceByDecisionInstanceIds", decisionInstanceIds);
@@ -76,25 +81,77 @@ public class HistoricDecisionInstanceManager extends AbstractHistoricManager {
     getDbEntityManager().deletePreserveOrder(HistoricDecisionInstanceEntity.class, "deleteHistoricDecisionInstanceByIds", decisionInstanceIds);
   }
 
-  public void insertHistoricDecisionInstances(HistoricDecisionEvaluationEvent event) {
+  public void insertHistoricDecisionInstances(final HistoricDecisionEvaluationEvent event) {
     if (isHistoryEnabled()) {
 
-      HistoricDecisionInstanceEntity rootHistoricDecisionInstance = event.getRootHistoricDecisionInstance();
-      insertHistoricDecisionInstance(rootHistoricDecisionInstance);
+      if (!isCompactFormat(event)) {
+        insertHistoricDecisionInstances(event, false);
+      }
+      else {
+        final AsyncHistoricDecisionInstanceWriter writer = Context.getProcessEngineConfiguration().getAsyncHistoricDecisionInstanceWriter();
+
+        if (writer == null) {
+          insertHistoricDecisionInstances(event, true);
+        }
+        else {
+          getCommandContext().getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+            public void execute(CommandContext commandContext) {
+              writer.write(event);
+            }
+          });
+        }
+      }
+    }
+  }
 
-      for (HistoricDecisionInstanceEntity requiredHistoricDecisionInstances : event.getRequiredHistoricDecisionInstances()) {
-        requiredHistoricDecisionInstances.setRootDecisionInstanceId(rootHistoricDecisionInstance.getId());
+  /**
+   * Inserts the historic decision instances of the evaluation with their inputs and outputs
+   * in the compact format.
+   */
+  public void insertCompactHistoricDecisionInstances(HistoricDecisionEvaluationEvent event) {
+    if (isHistoryEnabled()) {
+      insertHistoricDecisionInstances(event, true);
+    }
+  }
 
-        insertHistoricDecisionInstance(requiredHistoricDecisionInstances);
-      }
+  protected void insertHistoricDecisionInstances(HistoricDecisionEvaluationEvent event, boolean compactFormat) {
+    HistoricDecisionInstanceEntity rootHistoricDecisionInstance = event.getRootHistoricDecisionInstance();
+    insertHistoricDecisionInstance(rootHistoricDecisionInstance, compactFormat);
+
+    for (HistoricDecisionInstanceEntity requiredHistoricDecisionInstances : event.getRequiredHistoricDecisionInstances()) {
+      requiredHistoricDecisionInstances.setRootDecisionInstanceId(rootHistoricDecisionInstance.getId());
+
+      insertHistoricDecisionInstance(requiredHistoricDecisionInstances, compactFormat);
     }
   }
 
-  protected void insertHistoricDecisionInstance(HistoricDecisionInstanceEntity historicDecisionInstance) {
+  protected boolean isCompactFormat(HistoricDecisionEvaluationEvent event) {
+    Set<String> decisionKeys = Context.getProcessEngineConfiguration().getCompactDecisionHistoryDecisionKeys();
+    return decisionKeys != null
+        && decisionKeys.contains(event.getRootHistoricDecisionInstance().getDecisionDefinitionKey());
+  }
+
+  protected void insertHistoricDecisionInstance(HistoricDecisionInstanceEntity historicDecisionInstance, boolean compactFormat) {
     getDbEntityManager().insert(historicDecisionInstance);
 
-    insertHistoricDecisionInputInstances(historicDecisionInstance.getInputs(), historicDecisionInstance.getId());
-    insertHistoricDecisionOutputInstances(historicDecisionInstance.getOutputs(), historicDecisionInstance.getId());
+    if (compactFormat) {
+      insertCompactHistoricDecisionInputAndOutputInstances(historicDecisionInstance);
+    }
+    else {
+      insertHistoricDecisionInputInstances(historicDecisionInstance.getInputs(), historicDecisionInstance.getId());
+      insertHistoricDecisionOutputInstances(historicDecisionInstance.getOutputs(), historicDecisionInstance.getId());
+    }
+  }
+
+  protected void insertCompactHistoricDecisionInputAndOutputInstances(HistoricDecisionInstanceEntity historicDecisionInstance) {
+    byte[] bytes = CompactHistoricDecisionInstanceFormat.write(historicDecisionInstance);
+
+    // the byte array shares the id of the decision instance to be found without a reference
+    ByteArrayEntity byteArray = new ByteArrayEntity(CompactHistoricDecisionInstanceFormat.BYTE_ARRAY_NAME, bytes);
+    byteArray.setId(historicDecisionInstance.getId());
+    byteArray.setTenantId(historicDecisionInstance.getTenantId());
+
+    getDbEntityManager().insert(byteArray);
   }
 
   protected void insertHistoricDecisionInputInstances(List<HistoricDecisionInputInstance> inputs, String decisionInstanceId) {
@@ -135,6 +192,10 @@ public class HistoricDecisionInstanceManager extends AbstractHistoricManager {
         appendHistoricDecisionOutputInstances(decisionInstancesById, query);
       }
 
+      if (!decisionInstances.isEmpty() && (query.isIncludeInput() || query.isIncludeOutputs())) {
+        appendCompactHistoricDecisionInputAndOutputInstances(decisionInstancesById, query);
+      }
+
       return decisionInstances;
     } else {
       return Collections.emptyList();
@@ -232,6 +293,64 @@ public class HistoricDecisionInstanceManager extends AbstractHistoricManager {
     }
   }
 
+  protected void appendCompactHistoricDecisionInputAndOutputInstances(Map<String, HistoricDecisionInstanceEntity> decisionInstancesById, HistoricDecisionInstanceQueryImpl query) {
+    List<ByteArrayEntity> byteArrays = findCompactHistoricDecisionInstanceByteArrays(new ArrayList<String>(decisionInstancesById.keySet()));
+
+    for (ByteArrayEntity byteArray : byteArrays) {
+      HistoricDecisionInstanceEntity historicDecisionInstance = decisionInstancesById.get(byteArray.getId());
+
+      // keeps the inputs or outputs of the decision instance if they are not requested
+      HistoricDecisionInstanceEntity compactDecisionInstance = new HistoricDecisionInstanceEntity();
+      compactDecisionInstance.setId(historicDecisionInstance.getId());
+      compactDecisionInstance.setTenantId(historicDecisionInstance.getTenantId());
+      CompactHistoricDecisionInstanceFormat.read(compactDecisionInstance, byteArray.getBytes());
+
+      if (query.isIncludeInput()) {
+        historicDecisionInstance.setInputs(compactDecisionInstance.getInputs());
+
+        for (HistoricDecisionInputInstance decisionInputInstance : compactDecisionInstance.getInputs()) {
+          if (!isBinaryValue(decisionInputInstance) || query.isByteArrayFetchingEnabled()) {
+            fetchVariableValue((HistoricDecisionInputInstanceEntity) decisionInputInstance, query.isCustomObjectDeserializationEnabled());
+          }
+        }
+      }
+
+      if (query.isIncludeOutputs()) {
+        historicDecisionInstance.setOutputs(compactDecisionInstance.getOutputs());
+
+        for (HistoricDecisionOutputInstance decisionOutputInstance : compactDecisionInstance.getOutputs()) {
+          if (!isBinaryValue(decisionOutputInstance) || query.isByteArrayFetchingEnabled()) {
+            fetchVariableValue((HistoricDecisionOutputInstanceEntity) decisionOutputInstance, query.isCustomObjectDeserializationEnabled());
+          }
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List<ByteArrayEntity> findCompactHistoricDecisionInstanceByteArrays(List<String> decisionInstanceIds) {
+    return getDbEntityManager().selectList("selectHistoricDecisionInstanceCompactByteArrays", decisionInstanceIds);
+  }
+
+  protected void deleteCompactHistoricDecisionInstanceByteArrays(List<String> decisionInstanceIds) {
+    List<ByteArrayEntity> byteArrays = findCompactHistoricDecisionInstanceByteArrays(decisionInstanceIds);
+    if (byteArrays.isEmpty()) {
+      return;
+    }
+
+    List<String> byteArrayIds = new ArrayList<String>();
+    for (ByteArrayEntity byteArray : byteArrays) {
+      HistoricDecisionInstanceEntity compactDecisionInstance = new HistoricDecisionInstanceEntity();
+      compactDecisionInstance.setId(byteArray.getId());
+      CompactHistoricDecisionInstanceFormat.read(compactDecisionInstance, byteArray.getBytes());
+
+      byteArrayIds.add(byteArray.getId());
+      byteArrayIds.addAll(CompactHistoricDecisionInstanceFormat.getValueByteArrayIds(compactDecisionInstance));
+    }
+
+    getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteHistoricDecisionInstanceCompactByteArraysByIds", byteArrayIds);
+  }
+
   public HistoricDecisionInstanceEntity findHistoricDecisionInstance(String historicDecisionInstanceId) {
     if (isHistoryEnabled()) {
       return (HistoricDecisionInstanceEntity) getDbEntityManager().selectOne(
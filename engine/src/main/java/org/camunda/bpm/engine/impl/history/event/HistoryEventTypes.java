@@ -136,6 +136,13 @@ public enum HistoryEventTypes implements HistoryEventType {
    */
   BATCH_END("batch", "end"),
 
+  /**
+   * fired when the invocations per batch job or the number of batch jobs of a batch were adjusted.
+   *
+   * @since 7.9
+   */
+  BATCH_UPDATE("batch", "update"),
+
   /**
    * fired when an identity link is added
    *
@@ -857,6 +857,11 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
     return createBatchEvent((BatchEntity) batch, HistoryEventTypes.BATCH_END);
   }
 
+  @Override
+  public HistoryEvent createBatchUpdateEvent(Batch batch) {
+    return createBatchEvent((BatchEntity) batch, HistoryEventTypes.BATCH_UPDATE);
+  }
+
   protected HistoryEvent createBatchEvent(BatchEntity batch, HistoryEventTypes eventType) {
     HistoricBatchEntity event = new HistoricBatchEntity();
 
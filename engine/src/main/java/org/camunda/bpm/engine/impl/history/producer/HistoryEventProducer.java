@@ -271,6 +271,14 @@ public interface HistoryEventProducer {
    */
   HistoryEvent createBatchEndEvent(Batch batch);
 
+  /**
+   * Creates the history event fired when the invocations per batch job or the number of
+   * batch jobs of a batch have been <strong>adjusted</strong>.
+   *
+   * @since 7.9
+   */
+  HistoryEvent createBatchUpdateEvent(Batch batch);
+
   /**
    * Fired when an identity link is added
    * @param identitylink
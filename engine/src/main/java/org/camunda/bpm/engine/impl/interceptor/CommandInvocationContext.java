@@ -12,8 +12,8 @@
  */
 package org.camunda.bpm.engine.impl.interceptor;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.Callable;
 
 import org.apache.ibatis.exceptions.PersistenceException;
@@ -25,6 +25,7 @@ import org.camunda.bpm.engine.impl.cmd.CommandLogger;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.context.ProcessApplicationContextUtil;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.camunda.bpm.engine.impl.pvm.runtime.AtomicOperation;
 
 /**
@@ -41,9 +42,16 @@ public class CommandInvocationContext {
   protected Throwable throwable;
   protected Command< ? > command;
   protected boolean isExecuting = false;
-  protected List<AtomicOperationInvocation> queuedInvocations = new ArrayList<AtomicOperationInvocation>();
+  /**
+   * the invocations which are not performed yet, the next invocation is at the head
+   */
+  protected Deque<AtomicOperationInvocation> queuedInvocations = new ArrayDeque<AtomicOperationInvocation>();
   protected BpmnStackTrace bpmnStackTrace = new BpmnStackTrace();
 
+  // the target process application of the last resolved process definition
+  protected ProcessDefinitionEntity lastProcessDefinition;
+  protected ProcessApplicationReference lastTargetProcessApplication;
+
   public CommandInvocationContext(Command<?> command) {
     this.command = command;
   }
@@ -75,12 +83,12 @@ public class CommandInvocationContext {
 
   public void performOperation(final AtomicOperation executionOperation, final ExecutionEntity execution, final boolean performAsync) {
     AtomicOperationInvocation invocation = new AtomicOperationInvocation(executionOperation, execution, performAsync);
-    queuedInvocations.add(0, invocation);
+    queuedInvocations.push(invocation);
     performNext();
   }
 
   protected void performNext() {
-    AtomicOperationInvocation nextInvocation = queuedInvocations.get(0);
+    AtomicOperationInvocation nextInvocation = queuedInvocations.peek();
 
     if(nextInvocation.operation.isAsyncCapable() && isExecuting) {
       // will be picked up by while loop below
@@ -108,7 +116,6 @@ public class CommandInvocationContext {
           isExecuting = true;
           while (! queuedInvocations.isEmpty()) {
             // assumption: all operations are executed within the same process application...
-            nextInvocation = queuedInvocations.get(0);
             invokeNext();
           }
         }
@@ -120,7 +127,7 @@ public class CommandInvocationContext {
   }
 
   protected void invokeNext() {
-    AtomicOperationInvocation invocation = queuedInvocations.remove(0);
+    AtomicOperationInvocation invocation = queuedInvocations.pop();
     try {
       invocation.execute(bpmnStackTrace);
     }
@@ -136,8 +143,19 @@ public class CommandInvocationContext {
     return ProcessApplicationContextUtil.requiresContextSwitch(processApplicationReference);
   }
 
+  /**
+   * The target process application is resolved once for the process definition of
+   * consecutive invocations, since the registrations do not change during a command.
+   */
   protected ProcessApplicationReference getTargetProcessApplication(ExecutionEntity execution) {
-    return ProcessApplicationContextUtil.getTargetProcessApplication(execution);
+    ProcessDefinitionEntity processDefinition = execution != null ? execution.getProcessDefinition() : null;
+
+    if (processDefinition == null || processDefinition != lastProcessDefinition) {
+      lastTargetProcessApplication = ProcessApplicationContextUtil.getTargetProcessApplication(execution);
+      lastProcessDefinition = processDefinition;
+    }
+
+    return lastTargetProcessApplication;
   }
 
   public void rethrow() {
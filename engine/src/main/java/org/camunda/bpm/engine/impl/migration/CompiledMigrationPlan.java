@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.migration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.util.CollectionUtil;
+import org.camunda.bpm.engine.migration.MigrationInstruction;
+import org.camunda.bpm.engine.migration.MigrationPlan;
+
+/**
+ * <p>A {@link MigrationPlan} prepared for the migration of many process instances:
+ * the instructions are organized by their source activity and the target process
+ * definition and its job definitions are resolved only once instead of once per
+ * process instance.</p>
+ *
+ * <p>A compiled plan references the job definitions loaded by the command it was
+ * compiled in and must not be used by another command.</p>
+ */
+public class CompiledMigrationPlan {
+
+  protected MigrationPlan migrationPlan;
+  protected ProcessDefinitionEntity targetProcessDefinition;
+  protected Map<String, List<MigrationInstruction>> instructionsBySourceScope = new HashMap<String, List<MigrationInstruction>>();
+  protected Map<String, List<JobDefinitionEntity>> targetJobDefinitions = new HashMap<String, List<JobDefinitionEntity>>();
+
+  public CompiledMigrationPlan(MigrationPlan migrationPlan, ProcessDefinitionEntity targetProcessDefinition, List<JobDefinitionEntity> targetJobDefinitions) {
+    this.migrationPlan = migrationPlan;
+    this.targetProcessDefinition = targetProcessDefinition;
+
+    for (MigrationInstruction instruction : migrationPlan.getInstructions()) {
+      CollectionUtil.addToMapOfLists(instructionsBySourceScope, instruction.getSourceActivityId(), instruction);
+    }
+
+    for (JobDefinitionEntity jobDefinition : targetJobDefinitions) {
+      CollectionUtil.addToMapOfLists(this.targetJobDefinitions, jobDefinition.getActivityId(), jobDefinition);
+    }
+  }
+
+  public static CompiledMigrationPlan compile(CommandContext commandContext, MigrationPlan migrationPlan) {
+    ProcessDefinitionEntity targetProcessDefinition = commandContext
+      .getProcessEngineConfiguration()
+      .getDeploymentCache()
+      .findDeployedProcessDefinitionById(migrationPlan.getTargetProcessDefinitionId());
+
+    return compile(commandContext, migrationPlan, targetProcessDefinition);
+  }
+
+  public static CompiledMigrationPlan compile(CommandContext commandContext, MigrationPlan migrationPlan, ProcessDefinitionEntity targetProcessDefinition) {
+    List<JobDefinitionEntity> targetJobDefinitions = commandContext
+      .getJobDefinitionManager()
+      .findByProcessDefinitionId(targetProcessDefinition.getId());
+
+    return new CompiledMigrationPlan(migrationPlan, targetProcessDefinition, targetJobDefinitions);
+  }
+
+  public MigrationPlan getMigrationPlan() {
+    return migrationPlan;
+  }
+
+  public ProcessDefinitionEntity getTargetProcessDefinition() {
+    return targetProcessDefinition;
+  }
+
+  public Map<String, List<MigrationInstruction>> getInstructionsBySourceScope() {
+    return instructionsBySourceScope;
+  }
+
+  public Map<String, List<JobDefinitionEntity>> getTargetJobDefinitions() {
+    return targetJobDefinitions;
+  }
+
+}
@@ -103,12 +103,15 @@ public class MigrateProcessInstanceCmd extends AbstractMigrationCmd<Void> {
           false);
     }
 
+    // organizes the instructions and loads the target job definitions once for all process instances
+    final CompiledMigrationPlan compiledMigrationPlan = CompiledMigrationPlan.compile(commandContext, migrationPlan, targetDefinition);
+
     commandContext.runWithoutAuthorization(new Callable<Void>() {
 
       @Override
       public Void call() throws Exception {
         for (String processInstanceId : processInstanceIds) {
-          migrateProcessInstance(commandContext, processInstanceId, migrationPlan, targetDefinition);
+          migrateProcessInstance(commandContext, processInstanceId, compiledMigrationPlan);
         }
         return null;
       }
@@ -119,6 +122,14 @@ public class MigrateProcessInstanceCmd extends AbstractMigrationCmd<Void> {
   }
 
   public Void migrateProcessInstance(CommandContext commandContext, String processInstanceId, MigrationPlan migrationPlan, ProcessDefinitionEntity targetProcessDefinition) {
+    CompiledMigrationPlan compiledMigrationPlan = CompiledMigrationPlan.compile(commandContext, migrationPlan, targetProcessDefinition);
+    return migrateProcessInstance(commandContext, processInstanceId, compiledMigrationPlan);
+  }
+
+  public Void migrateProcessInstance(CommandContext commandContext, String processInstanceId, CompiledMigrationPlan compiledMigrationPlan) {
+    MigrationPlan migrationPlan = compiledMigrationPlan.getMigrationPlan();
+    ProcessDefinitionEntity targetProcessDefinition = compiledMigrationPlan.getTargetProcessDefinition();
+
     ensureNotNull(BadUserRequestException.class, "Process instance id cannot be null", "process instance id", processInstanceId);
 
     final ExecutionEntity processInstance = commandContext.getExecutionManager().findExecutionById(processInstanceId);
@@ -131,7 +142,7 @@ public class MigrateProcessInstanceCmd extends AbstractMigrationCmd<Void> {
 
     // Initialize migration: match migration instructions to activity instances and collect required entities
     MigratingInstanceParser migratingInstanceParser = new MigratingInstanceParser(Context.getProcessEngineConfiguration().getProcessEngine());
-    final MigratingProcessInstance migratingProcessInstance = migratingInstanceParser.parse(processInstance.getId(), migrationPlan, processInstanceReport);
+    final MigratingProcessInstance migratingProcessInstance = migratingInstanceParser.parse(processInstance.getId(), compiledMigrationPlan, processInstanceReport);
 
     validateInstructions(commandContext, migratingProcessInstance, processInstanceReport);
 
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.camunda.bpm.engine.impl.ActivityExecutionTreeMapping;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.migration.CompiledMigrationPlan;
 import org.camunda.bpm.engine.impl.migration.instance.MigratingActivityInstance;
 import org.camunda.bpm.engine.impl.migration.instance.MigratingEventScopeInstance;
 import org.camunda.bpm.engine.impl.migration.instance.MigratingExternalTaskInstance;
@@ -88,6 +89,19 @@ public class MigratingInstanceParseContext {
     this.instructionsBySourceScope = organizeInstructionsBySourceScope(migrationPlan);
   }
 
+  public MigratingInstanceParseContext(
+      MigratingInstanceParser parser,
+      CompiledMigrationPlan compiledMigrationPlan,
+      ExecutionEntity processInstance) {
+    this.parser = parser;
+    this.sourceProcessDefinition = processInstance.getProcessDefinition();
+    this.targetProcessDefinition = compiledMigrationPlan.getTargetProcessDefinition();
+    this.migratingProcessInstance = new MigratingProcessInstance(processInstance.getId(), sourceProcessDefinition, targetProcessDefinition);
+    this.mapping = new ActivityExecutionTreeMapping(Context.getCommandContext(), processInstance.getId());
+    this.instructionsBySourceScope = compiledMigrationPlan.getInstructionsBySourceScope();
+    this.targetJobDefinitions = compiledMigrationPlan.getTargetJobDefinitions();
+  }
+
   public MigratingInstanceParseContext jobs(Collection<JobEntity> jobs) {
     this.jobs = new HashSet<JobEntity>(jobs);
     return this;
@@ -17,6 +17,7 @@ import java.util.List;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.migration.CompiledMigrationPlan;
 import org.camunda.bpm.engine.impl.migration.instance.MigratingActivityInstance;
 import org.camunda.bpm.engine.impl.migration.instance.MigratingProcessElementInstance;
 import org.camunda.bpm.engine.impl.migration.instance.MigratingProcessInstance;
@@ -26,9 +27,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.IncidentEntity;
-import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
-import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.camunda.bpm.engine.impl.tree.TreeVisitor;
@@ -69,6 +68,11 @@ public class MigratingInstanceParser {
   }
 
   public MigratingProcessInstance parse(String processInstanceId, MigrationPlan migrationPlan, MigratingProcessInstanceValidationReportImpl processInstanceReport) {
+    CompiledMigrationPlan compiledMigrationPlan = CompiledMigrationPlan.compile(Context.getCommandContext(), migrationPlan);
+    return parse(processInstanceId, compiledMigrationPlan, processInstanceReport);
+  }
+
+  public MigratingProcessInstance parse(String processInstanceId, CompiledMigrationPlan compiledMigrationPlan, MigratingProcessInstanceValidationReportImpl processInstanceReport) {
 
     CommandContext commandContext = Context.getCommandContext();
     List<EventSubscriptionEntity> eventSubscriptions = fetchEventSubscriptions(commandContext, processInstanceId);
@@ -82,19 +86,12 @@ public class MigratingInstanceParser {
     ExecutionEntity processInstance = commandContext.getExecutionManager().findExecutionById(processInstanceId);
     processInstance.restoreProcessInstance(executions, eventSubscriptions, variables, tasks, jobs, incidents, externalTasks);
 
-    ProcessDefinitionEntity targetProcessDefinition = Context
-      .getProcessEngineConfiguration()
-      .getDeploymentCache()
-      .findDeployedProcessDefinitionById(migrationPlan.getTargetProcessDefinitionId());
-    List<JobDefinitionEntity> targetJobDefinitions = fetchJobDefinitions(commandContext, targetProcessDefinition.getId());
-
-    final MigratingInstanceParseContext parseContext = new MigratingInstanceParseContext(this, migrationPlan, processInstance, targetProcessDefinition)
+    final MigratingInstanceParseContext parseContext = new MigratingInstanceParseContext(this, compiledMigrationPlan, processInstance)
       .eventSubscriptions(eventSubscriptions)
       .externalTasks(externalTasks)
       .incidents(incidents)
       .jobs(jobs)
       .tasks(tasks)
-      .targetJobDefinitions(targetJobDefinitions)
       .variables(variables);
 
     ActivityInstance activityInstance = engine.getRuntimeService().getActivityInstance(processInstanceId);
@@ -183,10 +180,6 @@ public class MigratingInstanceParser {
     return commandContext.getTaskManager().findTasksByProcessInstanceId(processInstanceId);
   }
 
-  protected List<JobDefinitionEntity> fetchJobDefinitions(CommandContext commandContext, String processDefinitionId) {
-    return commandContext.getJobDefinitionManager().findByProcessDefinitionId(processDefinitionId);
-  }
-
   protected List<VariableInstanceEntity> fetchVariables(CommandContext commandContext, String processInstanceId) {
     return commandContext.getVariableInstanceManager().findVariableInstancesByProcessInstanceId(processInstanceId);
   }
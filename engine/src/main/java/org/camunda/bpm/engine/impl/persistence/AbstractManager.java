@@ -38,6 +38,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.BatchManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayManager;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentManager;
 import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
+import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricActivityInstanceManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricBatchManager;
@@ -139,6 +140,10 @@ public abstract class AbstractManager implements Session {
     return getSession(TaskManager.class);
   }
 
+  protected ExternalTaskManager getExternalTaskManager() {
+    return getSession(ExternalTaskManager.class);
+  }
+
   protected TaskReportManager getTaskReportManager() {
     return getSession(TaskReportManager.class);
   }
@@ -39,6 +39,10 @@ public class CacheDeployer {
     this.deployers = Collections.emptyList();
   }
 
+  public List<Deployer> getDeployers() {
+    return deployers;
+  }
+
   public void setDeployers(List<Deployer> deployers) {
     this.deployers = deployers;
   }
@@ -12,11 +12,17 @@
  */
 package org.camunda.bpm.engine.impl.persistence.deploy.cache;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.camunda.bpm.engine.exception.dmn.DecisionDefinitionNotFoundException;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionManager;
 import org.camunda.bpm.engine.impl.persistence.AbstractResourceDefinitionManager;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
@@ -25,6 +31,12 @@ import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
  */
 public class DecisionDefinitionCache extends ResourceDefinitionCache<DecisionDefinitionEntity> {
 
+  /**
+   * The definitions which were resolved for a lookup (e.g. the latest version of a key)
+   * by the decision evaluation fast path, so that the lookup is not repeated against the
+   * database while the definition is cached.
+   */
+  protected Map<String, ResolvedDefinition> resolvedDefinitions = new ConcurrentHashMap<String, ResolvedDefinition>();
 
   public DecisionDefinitionCache(CacheFactory factory, int cacheCapacity, CacheDeployer cacheDeployer) {
     super(factory, cacheCapacity, cacheDeployer);
@@ -39,6 +51,56 @@ public class DecisionDefinitionCache extends ResourceDefinitionCache<DecisionDef
     return definition;
   }
 
+  /**
+   * @return the definition which was resolved for the lookup not longer than the time to live
+   *   (in milliseconds) ago, or <code>null</code> if the lookup has to be resolved again
+   */
+  public DecisionDefinitionEntity findResolvedDefinition(String lookupKey, long timeToLive) {
+    ResolvedDefinition resolvedDefinition = resolvedDefinitions.get(lookupKey);
+
+    if (resolvedDefinition != null && ClockUtil.getCurrentTime().getTime() - resolvedDefinition.resolveTime < timeToLive) {
+      return cache.get(resolvedDefinition.definitionId);
+    }
+    else {
+      return null;
+    }
+  }
+
+  public void addResolvedDefinition(String lookupKey, DecisionDefinition definition) {
+    resolvedDefinitions.put(lookupKey, new ResolvedDefinition(definition, ClockUtil.getCurrentTime().getTime()));
+  }
+
+  @Override
+  public void addDefinition(DecisionDefinitionEntity definition) {
+    super.addDefinition(definition);
+
+    // a new version may be the latest version now
+    Iterator<ResolvedDefinition> iterator = resolvedDefinitions.values().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().definitionKey.equals(definition.getKey())) {
+        iterator.remove();
+      }
+    }
+  }
+
+  @Override
+  public void removeDefinitionFromCache(String id) {
+    super.removeDefinitionFromCache(id);
+
+    Iterator<ResolvedDefinition> iterator = resolvedDefinitions.values().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().definitionId.equals(id)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    resolvedDefinitions.clear();
+  }
+
   @Override
   protected AbstractResourceDefinitionManager<DecisionDefinitionEntity> getManager() {
     return Context.getCommandContext().getDecisionDefinitionManager();
@@ -82,4 +144,18 @@ public class DecisionDefinitionCache extends ResourceDefinitionCache<DecisionDef
   protected void checkInvalidDefinitionWasCached(String deploymentId, String definitionId, DecisionDefinitionEntity definition) {
     ensureNotNull("deployment '" + deploymentId + "' didn't put decision definition '" + definitionId + "' in the cache", "cachedDecisionDefinition", definition);
   }
+
+  protected static class ResolvedDefinition {
+
+    protected String definitionId;
+    protected String definitionKey;
+    protected long resolveTime;
+
+    public ResolvedDefinition(DecisionDefinition definition, long resolveTime) {
+      this.definitionId = definition.getId();
+      this.definitionKey = definition.getKey();
+      this.resolveTime = resolveTime;
+    }
+  }
+
 }
@@ -213,6 +213,14 @@ public class DeploymentCache {
     return decisionDefinitionCache.findDeployedDefinitionByKeyVersionAndTenantId(decisionDefinitionKey, decisionDefinitionVersion, tenantId);
   }
 
+  public DecisionDefinitionEntity findResolvedDecisionDefinition(String lookupKey, long timeToLive) {
+    return decisionDefinitionCache.findResolvedDefinition(lookupKey, timeToLive);
+  }
+
+  public void addResolvedDecisionDefinition(String lookupKey, DecisionDefinition decisionDefinition) {
+    decisionDefinitionCache.addResolvedDefinition(lookupKey, decisionDefinition);
+  }
+
   public DecisionDefinitionEntity resolveDecisionDefinition(DecisionDefinitionEntity decisionDefinition) {
     return decisionDefinitionCache.resolveDefinition(decisionDefinition);
   }
@@ -291,6 +299,22 @@ public class DeploymentCache {
     return caseDefinitionCache.getCache();
   }
 
+  /**
+   * Enables or disables caching of the BPMN, CMMN and DMN model instances. The
+   * model instances hold the complete DOM of a resource and are only needed
+   * by the model API, e.g. {@link org.camunda.bpm.engine.delegate.BpmnModelExecutionContext}.
+   * If caching is disabled, they are read on each access instead.
+   */
+  public void setModelInstanceCacheEnabled(boolean enabled) {
+    bpmnModelInstanceCache.setEnabled(enabled);
+    cmmnModelInstanceCache.setEnabled(enabled);
+    dmnModelInstanceCache.setEnabled(enabled);
+  }
+
+  public List<Deployer> getDeployers() {
+    return cacheDeployer.getDeployers();
+  }
+
   public void setDeployers(List<Deployer> deployers) {
     this.cacheDeployer.setDeployers(deployers);
   }
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.engine.impl.core.model.CoreActivity;
+import org.camunda.bpm.model.xml.ModelInstance;
+import org.camunda.bpm.model.xml.instance.DomElement;
+
+/**
+ * <p>Weighs the entries of the deployment caches by the number of elements they
+ * consist of: the activities of a process or case definition, the rules of a
+ * decision table and the DOM elements of a model instance.</p>
+ */
+public class DeploymentCacheWeigher implements CacheWeigher {
+
+  public int weigh(Object value) {
+    if (value instanceof CoreActivity) {
+      return countActivities((CoreActivity) value);
+    }
+    else if (value instanceof DmnDecisionImpl) {
+      return weighDecision((DmnDecisionImpl) value);
+    }
+    else if (value instanceof ModelInstance) {
+      DomElement rootElement = ((ModelInstance) value).getDocument().getRootElement();
+      return rootElement != null ? countElements(rootElement) : 1;
+    }
+    else {
+      return 1;
+    }
+  }
+
+  protected int countActivities(CoreActivity activity) {
+    int count = 1;
+    for (CoreActivity childActivity : activity.getActivities()) {
+      count += countActivities(childActivity);
+    }
+    return count;
+  }
+
+  protected int weighDecision(DmnDecisionImpl decision) {
+    if (decision.getDecisionLogic() instanceof DmnDecisionTableImpl) {
+      return 1 + ((DmnDecisionTableImpl) decision.getDecisionLogic()).getRules().size();
+    }
+    return 1;
+  }
+
+  protected int countElements(DomElement element) {
+    int count = 1;
+    for (DomElement childElement : element.getChildElements()) {
+      count += countElements(childElement);
+    }
+    return count;
+  }
+
+}
@@ -36,6 +36,9 @@ public abstract class ModelInstanceCache<InstanceType extends ModelInstance, Def
   protected Cache<String, InstanceType> instanceCache;
   protected ResourceDefinitionCache<DefinitionType> definitionCache;
 
+  /** if disabled, model instances are read on each access and dropped afterwards */
+  protected boolean enabled = true;
+
   public ModelInstanceCache(CacheFactory factory, int cacheCapacity, ResourceDefinitionCache<DefinitionType> definitionCache) {
     this.instanceCache = factory.createCache(cacheCapacity);
     this.definitionCache = definitionCache;
@@ -68,7 +71,9 @@ public abstract class ModelInstanceCache<InstanceType extends ModelInstance, Def
 
     try {
       InstanceType bpmnModelInstance = readModelFromStream(bpmnResourceInputStream);
-      instanceCache.put(definitionEntity.getId(), bpmnModelInstance);
+      if (enabled) {
+        instanceCache.put(definitionEntity.getId(), bpmnModelInstance);
+      }
       return bpmnModelInstance;
     } catch (Exception e) {
       throwLoadModelException(definitionEntity.getId(), e);
@@ -102,6 +107,17 @@ public abstract class ModelInstanceCache<InstanceType extends ModelInstance, Def
     return instanceCache;
   }
 
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) {
+      instanceCache.clear();
+    }
+  }
+
   protected abstract void throwLoadModelException(String definitionId, Exception e);
 
   protected abstract void logRemoveEntryFromDeploymentCacheFailure(String definitionId, Exception e);
@@ -13,11 +13,13 @@
 package org.camunda.bpm.engine.impl.persistence.deploy.cache;
 
 import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.AbstractResourceDefinitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.repository.ResourceDefinitionEntity;
+import org.camunda.bpm.engine.management.Metrics;
 import org.camunda.commons.utils.cache.Cache;
 
 import java.util.concurrent.Callable;
@@ -100,7 +102,11 @@ public T findDeployedDefinitionByKeyVersionAndTenantId(final String definitionKe
               .getDeploymentManager()
               .findDeploymentById(deploymentId);
           deployment.setNew(false);
+
+          long startTime = System.currentTimeMillis();
           cacheDeployer.deployOnlyGivenResourcesOfDeployment(deployment, definition.getResourceName(), definition.getDiagramResourceName());
+          markLoadTime(System.currentTimeMillis() - startTime);
+
           cachedDefinition = cache.get(definitionId);
         }
       }
@@ -112,6 +118,13 @@ public T findDeployedDefinitionByKeyVersionAndTenantId(final String definitionKe
     return cachedDefinition;
   }
 
+  protected void markLoadTime(long loadTime) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration.isMetricsEnabled()) {
+      processEngineConfiguration.getMetricsRegistry().markOccurrence(Metrics.DEPLOYMENT_CACHE_LOAD_TIME, loadTime);
+    }
+  }
+
   public void addDefinition(T definition) {
     cache.put(definition.getId(), definition);
   }
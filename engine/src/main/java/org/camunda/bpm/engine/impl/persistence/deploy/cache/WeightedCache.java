@@ -0,0 +1,312 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.management.Metrics;
+import org.camunda.commons.utils.cache.Cache;
+
+/**
+ * <p>A cache which is bounded by the total weight of its entries and decides by
+ * the access frequency which entries are kept (W-TinyLFU).</p>
+ *
+ * <p>New entries are added to a small LRU window. Entries which leave the window
+ * are only admitted to the main LRU space if they were accessed more frequently
+ * than the entry they would evict from it. The access frequencies are estimated
+ * by a count-min sketch which is aged periodically. This way, a scan over many
+ * rarely used entries does not evict the frequently used ones.</p>
+ *
+ * <p>The most recently added entries are always kept, so that a definition which
+ * was just loaded into the cache can be resolved even if it is heavier than the
+ * whole cache.</p>
+ *
+ * <p>Hits, misses and evictions are reported to the metrics registry of the
+ * current process engine if metrics are enabled.</p>
+ */
+public class WeightedCache<K, V> implements Cache<K, V> {
+
+  protected static final int MINIMUM_WINDOW_SIZE = 16;
+  protected static final int WINDOW_PERCENTAGE = 1;
+
+  protected final long maximumWeight;
+  protected final long maximumWindowWeight;
+  protected final CacheWeigher weigher;
+
+  protected final LinkedHashMap<K, Entry<V>> window = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true);
+  protected final LinkedHashMap<K, Entry<V>> main = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true);
+  protected long windowWeight;
+  protected long mainWeight;
+
+  protected final FrequencySketch sketch;
+
+  protected long hitCount;
+  protected long missCount;
+  protected long evictionCount;
+
+  public WeightedCache(long maximumWeight, CacheWeigher weigher) {
+    if (maximumWeight <= 0) {
+      throw new IllegalArgumentException("Maximum weight must be greater than zero");
+    }
+    this.maximumWeight = maximumWeight;
+    this.maximumWindowWeight = Math.max(1, maximumWeight * WINDOW_PERCENTAGE / 100);
+    this.weigher = weigher;
+    this.sketch = new FrequencySketch((int) Math.min(maximumWeight, 1 << 16));
+  }
+
+  public V get(K key) {
+    Entry<V> entry;
+    synchronized (this) {
+      sketch.increment(key);
+
+      entry = window.get(key);
+      if (entry == null) {
+        entry = main.get(key);
+      }
+
+      if (entry != null) {
+        hitCount++;
+      }
+      else {
+        missCount++;
+      }
+    }
+
+    markOccurrence(entry != null ? Metrics.DEPLOYMENT_CACHE_HIT : Metrics.DEPLOYMENT_CACHE_MISS, 1);
+    return entry != null ? entry.value : null;
+  }
+
+  public void put(K key, V value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+    Entry<V> entry = new Entry<V>(value, Math.max(1, weigher.weigh(value)));
+
+    int evictions;
+    synchronized (this) {
+      removeEntry(key);
+      sketch.increment(key);
+
+      window.put(key, entry);
+      windowWeight += entry.weight;
+
+      evictions = evict();
+      evictionCount += evictions;
+    }
+
+    if (evictions > 0) {
+      markOccurrence(Metrics.DEPLOYMENT_CACHE_EVICTION, evictions);
+    }
+  }
+
+  public synchronized void remove(K key) {
+    removeEntry(key);
+  }
+
+  public synchronized void clear() {
+    window.clear();
+    main.clear();
+    windowWeight = 0;
+    mainWeight = 0;
+  }
+
+  public synchronized boolean isEmpty() {
+    return window.isEmpty() && main.isEmpty();
+  }
+
+  public synchronized Set<K> keySet() {
+    Set<K> keys = new HashSet<K>(window.keySet());
+    keys.addAll(main.keySet());
+    return keys;
+  }
+
+  public synchronized int size() {
+    return window.size() + main.size();
+  }
+
+  public synchronized long getWeight() {
+    return windowWeight + mainWeight;
+  }
+
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  protected void removeEntry(K key) {
+    Entry<V> entry = window.remove(key);
+    if (entry != null) {
+      windowWeight -= entry.weight;
+    }
+    entry = main.remove(key);
+    if (entry != null) {
+      mainWeight -= entry.weight;
+    }
+  }
+
+  /**
+   * @return the number of evicted entries
+   */
+  protected int evict() {
+    int evictions = 0;
+
+    // the least recently used entries of the window are candidates for the main space
+    while (windowWeight > maximumWindowWeight && window.size() > MINIMUM_WINDOW_SIZE) {
+      Map.Entry<K, Entry<V>> candidate = removeEldest(window);
+      windowWeight -= candidate.getValue().weight;
+
+      if (admit(candidate.getKey(), candidate.getValue())) {
+        main.put(candidate.getKey(), candidate.getValue());
+        mainWeight += candidate.getValue().weight;
+      }
+      else {
+        evictions++;
+      }
+    }
+
+    while (windowWeight + mainWeight > maximumWeight && !main.isEmpty()) {
+      mainWeight -= removeEldest(main).getValue().weight;
+      evictions++;
+    }
+
+    while (windowWeight + mainWeight > maximumWeight && window.size() > MINIMUM_WINDOW_SIZE) {
+      windowWeight -= removeEldest(window).getValue().weight;
+      evictions++;
+    }
+
+    return evictions;
+  }
+
+  protected boolean admit(K candidateKey, Entry<V> candidate) {
+    if (windowWeight + mainWeight + candidate.weight <= maximumWeight || main.isEmpty()) {
+      return true;
+    }
+
+    K victimKey = main.keySet().iterator().next();
+    return sketch.frequency(candidateKey) > sketch.frequency(victimKey);
+  }
+
+  protected Map.Entry<K, Entry<V>> removeEldest(LinkedHashMap<K, Entry<V>> map) {
+    Iterator<Map.Entry<K, Entry<V>>> iterator = map.entrySet().iterator();
+    Map.Entry<K, Entry<V>> eldest = iterator.next();
+    iterator.remove();
+    return eldest;
+  }
+
+  protected void markOccurrence(String name, long times) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null && processEngineConfiguration.isMetricsEnabled()) {
+      processEngineConfiguration.getMetricsRegistry().markOccurrence(name, times);
+    }
+  }
+
+  protected static class Entry<V> {
+
+    protected final V value;
+    protected final int weight;
+
+    public Entry(V value, int weight) {
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+
+  /**
+   * Estimates how often a key was accessed by the minimum of four hashed
+   * counters which saturate at 15. All counters are halved after a number of
+   * increments, so that the estimate follows changes of the working set.
+   */
+  protected static class FrequencySketch {
+
+    protected static final int MAXIMUM_FREQUENCY = 15;
+    protected static final int[] SEEDS = new int[] { 0x97cb3127, 0xa5b3c1d7, 0xc2b2ae35, 0x27d4eb2f };
+
+    protected final byte[] counters;
+    protected final int mask;
+    protected final int sampleSize;
+    protected int additions;
+
+    public FrequencySketch(int expectedSize) {
+      int length = 1024;
+      while (length < expectedSize) {
+        length <<= 1;
+      }
+      counters = new byte[length];
+      mask = length - 1;
+      sampleSize = 10 * length;
+    }
+
+    public void increment(Object key) {
+      int hash = spread(key.hashCode());
+      boolean incremented = false;
+      for (int seed : SEEDS) {
+        int index = indexOf(hash, seed);
+        if (counters[index] < MAXIMUM_FREQUENCY) {
+          counters[index]++;
+          incremented = true;
+        }
+      }
+
+      if (incremented && ++additions >= sampleSize) {
+        reset();
+      }
+    }
+
+    public int frequency(Object key) {
+      int hash = spread(key.hashCode());
+      int frequency = MAXIMUM_FREQUENCY;
+      for (int seed : SEEDS) {
+        frequency = Math.min(frequency, counters[indexOf(hash, seed)]);
+      }
+      return frequency;
+    }
+
+    protected void reset() {
+      for (int i = 0; i < counters.length; i++) {
+        counters[i] = (byte) (counters[i] >>> 1);
+      }
+      additions /= 2;
+    }
+
+    protected int indexOf(int hash, int seed) {
+      int h = hash * seed;
+      h ^= h >>> 16;
+      return h & mask;
+    }
+
+    protected int spread(int hash) {
+      hash ^= hash >>> 17;
+      hash *= 0xed5ad4bb;
+      hash ^= hash >>> 11;
+      return hash;
+    }
+  }
+
+}
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import org.camunda.commons.utils.cache.Cache;
+
+/**
+ * <p>Builds deployment caches which are bounded by the weight of their entries
+ * instead of the number of entries, see {@link WeightedCache}. The weight of an
+ * entry is estimated by the {@link CacheWeigher}, by default the number of
+ * activities, decision rules or model elements.</p>
+ *
+ * <p>The maximum number of elements passed by the {@link DeploymentCache} is
+ * ignored.</p>
+ */
+public class WeightedCacheFactory implements CacheFactory {
+
+  public static final long DEFAULT_MAXIMUM_WEIGHT = 100000;
+
+  protected long maximumWeight;
+  protected CacheWeigher weigher;
+
+  public WeightedCacheFactory() {
+    this(DEFAULT_MAXIMUM_WEIGHT);
+  }
+
+  public WeightedCacheFactory(long maximumWeight) {
+    this(maximumWeight, new DeploymentCacheWeigher());
+  }
+
+  public WeightedCacheFactory(long maximumWeight, CacheWeigher weigher) {
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+  }
+
+  @Override
+  public <T> Cache<String, T> createCache(int maxNumberOfElementsInCache) {
+    return new WeightedCache<String, T>(maximumWeight, weigher);
+  }
+
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  public CacheWeigher getWeigher() {
+    return weigher;
+  }
+
+}
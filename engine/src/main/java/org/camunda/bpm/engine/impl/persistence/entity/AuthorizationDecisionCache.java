@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * Engine wide cache of authorization decisions which keeps a decision for a
+ * short time only. It is cleared whenever an authorization is created, updated
+ * or deleted by this engine. Changes made by other engines of a cluster become
+ * visible after the time to live at the latest.
+ *
+ * <p>A decision is only cached if the cache was not cleared since the decision
+ * was computed, see {@link #getVersion()}. This prevents that a decision which
+ * is based on an outdated state of the authorizations is cached after the
+ * authorizations were changed.</p>
+ */
+public class AuthorizationDecisionCache {
+
+  protected final ConcurrentMap<String, Decision> decisions = new ConcurrentHashMap<String, Decision>();
+  protected final AtomicLong version = new AtomicLong();
+
+  protected long timeToLive;
+  protected int capacity;
+
+  /**
+   * @param timeToLive the time in milliseconds a decision is kept
+   * @param capacity the maximal number of decisions, the cache is cleared if it is exceeded
+   */
+  public AuthorizationDecisionCache(long timeToLive, int capacity) {
+    this.timeToLive = timeToLive;
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return the cached decision or <code>null</code> if no decision was cached or it expired
+   */
+  public Boolean get(String key) {
+    Decision decision = decisions.get(key);
+    if (decision == null) {
+      return null;
+    }
+    else if (decision.expirationTime < now()) {
+      decisions.remove(key, decision);
+      return null;
+    }
+    else {
+      return decision.authorized;
+    }
+  }
+
+  /**
+   * Caches the decision if the cache was not cleared since the given version was obtained.
+   */
+  public void put(String key, boolean authorized, long version) {
+    if (decisions.size() >= capacity) {
+      decisions.clear();
+    }
+
+    if (this.version.get() == version) {
+      decisions.put(key, new Decision(authorized, now() + timeToLive));
+
+      if (this.version.get() != version) {
+        // cleared concurrently, the decision may already be outdated
+        decisions.remove(key);
+      }
+    }
+  }
+
+  /**
+   * @return the version of the cache which has to be obtained before a decision is computed
+   */
+  public long getVersion() {
+    return version.get();
+  }
+
+  public void clear() {
+    version.incrementAndGet();
+    decisions.clear();
+  }
+
+  public int size() {
+    return decisions.size();
+  }
+
+  public long getTimeToLive() {
+    return timeToLive;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  protected long now() {
+    return ClockUtil.getCurrentTime().getTime();
+  }
+
+  protected static class Decision {
+
+    protected final boolean authorized;
+    protected final long expirationTime;
+
+    public Decision(boolean authorized, long expirationTime) {
+      this.authorized = authorized;
+      this.expirationTime = expirationTime;
+    }
+  }
+
+}
@@ -31,6 +31,7 @@ import static org.camunda.bpm.engine.authorization.Resources.TASK;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -75,10 +76,14 @@ import org.camunda.bpm.engine.impl.VariableInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.batch.BatchQueryImpl;
 import org.camunda.bpm.engine.impl.batch.BatchStatisticsQueryImpl;
 import org.camunda.bpm.engine.impl.batch.history.HistoricBatchQueryImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.AuthorizationCheck;
 import org.camunda.bpm.engine.impl.db.CompositePermissionCheck;
 import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.EffectivePermissionCheck;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.db.PermissionCheck;
@@ -103,6 +108,9 @@ public class AuthorizationManager extends AbstractManager {
   // like size() which can lead to problems as Collections.EmptyList is a private implementation
   protected static final List<String> EMPTY_LIST = new ArrayList<String>();
 
+  /** the maximal number of resource ids of an effective permission check, corresponds to the limit of an IN clause */
+  protected static final int MAX_EFFECTIVE_RESOURCE_IDS = 1000;
+
   /**
    * Group ids for which authorizations exist in the database.
    * This is initialized once per command by the {@link #filterAuthenticatedGroupIds(List)} method. (Manager
@@ -114,6 +122,25 @@ public class AuthorizationManager extends AbstractManager {
 
   protected Boolean isRevokeAuthCheckUsed = null;
 
+  /**
+   * Authorization decisions made during the command, by a key created from the user id, the group ids
+   * and the permission checks. Cleared when authorizations are changed.
+   */
+  protected Map<String, Boolean> authorizationDecisions = new HashMap<String, Boolean>();
+
+  /**
+   * Authorizations of the authenticated user and groups, loaded once per command if
+   * {@link ProcessEngineConfigurationImpl#isPreloadAuthorizations()} is enabled.
+   */
+  protected PreloadedAuthorizations preloadedAuthorizations = null;
+  protected String preloadedAuthorizationsKey = null;
+
+  /**
+   * Is set if authorizations were changed during the command. The decisions of such a command are not
+   * shared with other commands, since they may depend on a state which is not committed yet.
+   */
+  protected boolean isAuthorizationChanged = false;
+
   public PermissionCheck newPermissionCheck() {
     return new PermissionCheck();
   }
@@ -131,6 +158,7 @@ public class AuthorizationManager extends AbstractManager {
   public void insert(DbEntity authorization) {
     checkAuthorization(CREATE, AUTHORIZATION, null);
     getDbEntityManager().insert(authorization);
+    authorizationChanged();
   }
 
   public List<Authorization> selectAuthorizationByQueryCriteria(AuthorizationQueryImpl authorizationQuery) {
@@ -169,6 +197,7 @@ public class AuthorizationManager extends AbstractManager {
   public void update(AuthorizationEntity authorization) {
     checkAuthorization(UPDATE, AUTHORIZATION, authorization.getId());
     getDbEntityManager().merge(authorization);
+    authorizationChanged();
   }
 
   @Override
@@ -176,6 +205,7 @@ public class AuthorizationManager extends AbstractManager {
     checkAuthorization(DELETE, AUTHORIZATION, authorization.getId());
     deleteAuthorizationsByResourceId(AUTHORIZATION, authorization.getId());
     super.delete(authorization);
+    authorizationChanged();
   }
 
   // authorization checks ///////////////////////////////////////////
@@ -291,7 +321,7 @@ public class AuthorizationManager extends AbstractManager {
 
     boolean isRevokeAuthorizationCheckEnabled = isRevokeAuthCheckEnabled(userId, groupIds);
     AuthorizationCheck authCheck = new AuthorizationCheck(userId, filteredGroupIds, permissionChecks, isRevokeAuthorizationCheckEnabled);
-    return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    return isAuthorized(authCheck);
   }
 
   protected boolean isRevokeAuthCheckEnabled(String userId, List<String> groupIds) {
@@ -325,7 +355,7 @@ public class AuthorizationManager extends AbstractManager {
 
     boolean isRevokeAuthorizationCheckEnabled = isRevokeAuthCheckEnabled(userId, groupIds);
     AuthorizationCheck authCheck = new AuthorizationCheck(userId, filteredGroupIds, compositePermissionCheck, isRevokeAuthorizationCheckEnabled);
-    return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    return isAuthorized(authCheck);
   }
 
   public boolean isAuthorized(CompositePermissionCheck compositePermissionCheck) {
@@ -339,6 +369,133 @@ public class AuthorizationManager extends AbstractManager {
     }
   }
 
+  /**
+   * Decides the check once per command. The decision is looked up in the engine wide
+   * {@link AuthorizationDecisionCache} if one is configured and is evaluated against the
+   * preloaded authorizations if {@link ProcessEngineConfigurationImpl#isPreloadAuthorizations()}
+   * is enabled. Checks which refer to query parameters are always executed in the database.
+   */
+  protected boolean isAuthorized(AuthorizationCheck authCheck) {
+    CompositePermissionCheck permissionCheck = authCheck.getPermissionChecks();
+    if (!PreloadedAuthorizations.canEvaluate(permissionCheck)) {
+      return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    }
+
+    String decisionKey = createDecisionKey(authCheck);
+    Boolean decision = authorizationDecisions.get(decisionKey);
+
+    if (decision == null) {
+      AuthorizationDecisionCache decisionCache = Context.getProcessEngineConfiguration().getAuthorizationDecisionCache();
+
+      if (decisionCache != null && !isAuthorizationChanged) {
+        decision = decisionCache.get(decisionKey);
+        if (decision == null) {
+          long version = decisionCache.getVersion();
+          decision = evaluateAuthorizationCheck(authCheck);
+          decisionCache.put(decisionKey, decision, version);
+        }
+      }
+      else {
+        decision = evaluateAuthorizationCheck(authCheck);
+      }
+
+      authorizationDecisions.put(decisionKey, decision);
+    }
+
+    return decision;
+  }
+
+  protected boolean evaluateAuthorizationCheck(AuthorizationCheck authCheck) {
+    if (Context.getProcessEngineConfiguration().isPreloadAuthorizations()) {
+      PreloadedAuthorizations authorizations = getPreloadedAuthorizations(authCheck);
+      return authorizations.isAuthorized(authCheck.getPermissionChecks());
+    }
+    else {
+      return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  protected PreloadedAuthorizations getPreloadedAuthorizations(AuthorizationCheck authCheck) {
+    String key = createAuthenticationKey(authCheck);
+
+    if (preloadedAuthorizations == null || !key.equals(preloadedAuthorizationsKey)) {
+      Map<String, Object> params = new HashMap<String, Object>();
+      params.put("userId", authCheck.getAuthUserId());
+      params.put("authGroupIds", authCheck.getAuthGroupIds());
+      List<AuthorizationEntity> authorizations = getDbEntityManager().selectList("selectAuthorizationsForUserAndGroups", params);
+
+      preloadedAuthorizations = new PreloadedAuthorizations(authCheck.getAuthUserId(), authCheck.getAuthGroupIds(),
+          authorizations, authCheck.isRevokeAuthorizationCheckEnabled());
+      preloadedAuthorizationsKey = key;
+    }
+
+    return preloadedAuthorizations;
+  }
+
+  protected String createDecisionKey(AuthorizationCheck authCheck) {
+    StringBuilder key = new StringBuilder(createAuthenticationKey(authCheck));
+    appendPermissionCheck(key, authCheck.getPermissionChecks());
+    return key.toString();
+  }
+
+  protected String createAuthenticationKey(AuthorizationCheck authCheck) {
+    StringBuilder key = new StringBuilder();
+    key.append(authCheck.getAuthUserId()).append('|');
+
+    List<String> groupIds = authCheck.getAuthGroupIds();
+    if (groupIds != null && !groupIds.isEmpty()) {
+      List<String> sortedGroupIds = new ArrayList<String>(groupIds);
+      Collections.sort(sortedGroupIds);
+      for (String groupId : sortedGroupIds) {
+        key.append(groupId).append(',');
+      }
+    }
+
+    key.append('|').append(authCheck.isRevokeAuthorizationCheckEnabled()).append('|');
+    return key.toString();
+  }
+
+  protected void appendPermissionCheck(StringBuilder key, CompositePermissionCheck permissionCheck) {
+    key.append(permissionCheck.isDisjunctive() ? "or(" : "and(");
+    for (PermissionCheck atomicCheck : permissionCheck.getAtomicChecks()) {
+      key.append(atomicCheck.getPerms()).append(':')
+        .append(atomicCheck.getResourceType()).append(':')
+        .append(atomicCheck.getResourceId()).append(':')
+        .append(atomicCheck.getAuthorizationNotFoundReturnValue()).append(';');
+    }
+    for (CompositePermissionCheck compositeCheck : permissionCheck.getCompositeChecks()) {
+      appendPermissionCheck(key, compositeCheck);
+    }
+    key.append(')');
+  }
+
+  /**
+   * Invalidates the decisions of the command and of the engine wide cache. The engine wide
+   * cache is cleared again after the commit, since other commands may have cached decisions
+   * based on the previous state in the meantime.
+   */
+  protected void authorizationChanged() {
+    authorizationDecisions.clear();
+    preloadedAuthorizations = null;
+    preloadedAuthorizationsKey = null;
+
+    final AuthorizationDecisionCache decisionCache = Context.getProcessEngineConfiguration().getAuthorizationDecisionCache();
+    if (decisionCache != null) {
+      decisionCache.clear();
+
+      if (!isAuthorizationChanged) {
+        getCommandContext().getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+          public void execute(CommandContext commandContext) {
+            decisionCache.clear();
+          }
+        });
+      }
+    }
+
+    isAuthorizationChanged = true;
+  }
+
   // authorization checks on queries ////////////////////////////////
 
   public void configureQuery(ListQueryParameterObject query) {
@@ -426,10 +583,25 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put("resourceType", resource.resourceType());
       deleteParams.put("resourceId", resourceId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceId", deleteParams);
+      authorizationChanged();
     }
 
   }
 
+  /**
+   * Deletes the authorizations of the given process instances and of their tasks.
+   */
+  public void deleteAuthorizationsByProcessInstanceIds(List<String> processInstanceIds) {
+    if(isAuthorizationEnabled()) {
+      Map<String, Object> deleteParams = new HashMap<String, Object>();
+      deleteParams.put("processInstanceResourceType", PROCESS_INSTANCE.resourceType());
+      deleteParams.put("taskResourceType", TASK.resourceType());
+      deleteParams.put("processInstanceIds", processInstanceIds);
+      getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForProcessInstanceIds", deleteParams);
+      authorizationChanged();
+    }
+  }
+
   public void deleteAuthorizationsByResourceIdAndUserId(Resource resource, String resourceId, String userId) {
 
     if(resourceId == null) {
@@ -442,6 +614,7 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put("resourceId", resourceId);
       deleteParams.put("userId", userId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceId", deleteParams);
+      authorizationChanged();
     }
 
   }
@@ -458,6 +631,7 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put("resourceId", resourceId);
       deleteParams.put("groupId", groupId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceId", deleteParams);
+      authorizationChanged();
     }
 
   }
@@ -519,6 +693,7 @@ public class AuthorizationManager extends AbstractManager {
     configureQuery(query);
     addPermissionCheck(query, PROCESS_INSTANCE, "RES.PROC_INST_ID_", READ);
     addPermissionCheck(query, PROCESS_DEFINITION, "P.KEY_", READ_INSTANCE);
+    configureEffectivePermissionChecks(query.getAuthCheck());
   }
 
   // task query //////////////////////////////////////////////
@@ -538,6 +713,48 @@ public class AuthorizationManager extends AbstractManager {
               .build();
         addPermissionCheck(query.getAuthCheck(), permissionCheck);
     }
+
+    configureEffectivePermissionChecks(query.getAuthCheck());
+  }
+
+  /**
+   * Replaces the evaluation of the authorizations in the query by a filter on the precomputed
+   * effective permissions if this is enabled and the permission checks are disjunctive checks
+   * on query parameters. Falls back to the evaluation in the query if too many resources are
+   * affected by specific authorizations.
+   */
+  protected void configureEffectivePermissionChecks(AuthorizationCheck authCheck) {
+    CompositePermissionCheck permissionChecks = authCheck.getPermissionChecks();
+    authCheck.setEffectivePermissionChecks(null);
+
+    if (!Context.getProcessEngineConfiguration().isPrecomputeQueryAuthorizations()
+        || !authCheck.isAuthorizationCheckEnabled()
+        || authCheck.getAuthUserId() == null
+        || !permissionChecks.isDisjunctive()
+        || !permissionChecks.getCompositeChecks().isEmpty()
+        || permissionChecks.getAtomicChecks().isEmpty()) {
+      return;
+    }
+
+    PreloadedAuthorizations authorizations = getPreloadedAuthorizations(authCheck);
+    List<EffectivePermissionCheck> effectiveChecks = new ArrayList<EffectivePermissionCheck>();
+
+    for (PermissionCheck permissionCheck : permissionChecks.getAtomicChecks()) {
+      if (permissionCheck.getResourceIdQueryParam() == null) {
+        return;
+      }
+
+      EffectivePermissionCheck effectiveCheck = authorizations.getEffectivePermissions(permissionCheck);
+      if (effectiveCheck.getResourceIdCount() > MAX_EFFECTIVE_RESOURCE_IDS) {
+        return;
+      }
+
+      // a disjunctive check is only considered if the preceding checks found no authorization
+      effectiveCheck.setPrecedingChecks(new ArrayList<EffectivePermissionCheck>(effectiveChecks));
+      effectiveChecks.add(effectiveCheck);
+    }
+
+    authCheck.setEffectivePermissionChecks(effectiveChecks);
   }
 
   // event subscription query //////////////////////////////
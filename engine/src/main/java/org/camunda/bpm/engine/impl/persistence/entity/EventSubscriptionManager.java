@@ -258,6 +258,11 @@ public class EventSubscriptionManager extends AbstractManager {
     return getDbEntityManager().selectList("selectEventSubscriptionsByProcessInstanceId", processInstanceId);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceIds(List<String> processInstanceIds) {
+    return getDbEntityManager().selectList("selectEventSubscriptionsByProcessInstanceIds", processInstanceIds);
+  }
+
   /**
    * @return the message start event subscriptions with the given message name (from any tenant)
    *
@@ -56,8 +56,8 @@ public class EverLivingJobEntity extends JobEntity {
     String exceptionByteArrayIdToDelete =null;
     if (exceptionByteArrayId != null) {
       exceptionByteArrayIdToDelete = exceptionByteArrayId;
-      this.exceptionByteArrayId = null;
-      this.exceptionMessage = null;
+      setExceptionByteArrayId(null);
+      setExceptionMessage(null);
     }
     //clean the lock information
     setLockOwner(null);
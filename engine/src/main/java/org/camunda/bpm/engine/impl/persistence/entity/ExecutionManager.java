@@ -13,7 +13,9 @@
 
 package org.camunda.bpm.engine.impl.persistence.entity;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,7 @@ import org.camunda.bpm.engine.impl.cfg.auth.ResourceAuthorizationProvider;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+import org.camunda.bpm.engine.impl.util.CollectionUtil;
 import org.camunda.bpm.engine.runtime.Execution;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 
@@ -65,6 +68,37 @@ public class ExecutionManager extends AbstractManager {
     }
   }
 
+  /**
+   * Deletes the runtime data and the history of the given process instances with set-based
+   * statements. No listeners are invoked and no history events are produced, so the process
+   * instances must neither have custom end listeners nor super or sub process instances.
+   */
+  @SuppressWarnings("unchecked")
+  public void deleteProcessInstancesInBulk(List<String> processInstanceIds) {
+    // the byte arrays are still referenced until the variables, jobs and external tasks are deleted
+    List<String> byteArrayIds = getDbEntityManager().selectList("selectByteArrayIdsByProcessInstanceIds", processInstanceIds);
+
+    getAuthorizationManager().deleteAuthorizationsByProcessInstanceIds(processInstanceIds);
+
+    getDbEntityManager().deletePreserveOrder(IdentityLinkEntity.class, "deleteIdentityLinksByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(TaskEntity.class, "deleteTasksByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(VariableInstanceEntity.class, "deleteVariableInstancesByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(EventSubscriptionEntity.class, "deleteEventSubscriptionsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(IncidentEntity.class, "deleteIncidentsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(JobEntity.class, "deleteJobsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(ExternalTaskEntity.class, "deleteExternalTasksByProcessInstanceIds", processInstanceIds);
+
+    if (!byteArrayIds.isEmpty()) {
+      getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteByteArraysByIds", byteArrayIds);
+    }
+
+    getDbEntityManager().updatePreserveOrder(ExecutionEntity.class, "updateExecutionParentsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(ExecutionEntity.class, "deleteChildExecutionsByProcessInstanceIds", processInstanceIds);
+    getDbEntityManager().deletePreserveOrder(ExecutionEntity.class, "deleteProcessInstancesByIds", processInstanceIds);
+
+    getHistoricProcessInstanceManager().deleteHistoricProcessInstanceByIds(processInstanceIds);
+  }
+
   public void deleteProcessInstance(String processInstanceId, String deleteReason) {
     deleteProcessInstance(processInstanceId, deleteReason, false, false);
   }
@@ -91,6 +125,86 @@ public class ExecutionManager extends AbstractManager {
     }
   }
 
+  /**
+   * Loads the execution trees of the given process instances including their event subscriptions,
+   * variables, tasks and external tasks with one query per entity type, instead of loading
+   * them lazily for every execution. Process instances which are already loaded are skipped.
+   */
+  public void restoreProcessInstances(List<String> processInstanceIds) {
+    List<String> idsToRestore = new ArrayList<String>();
+    for (String processInstanceId : processInstanceIds) {
+      if (processInstanceId != null && !isExecutionTreeLoaded(processInstanceId)) {
+        idsToRestore.add(processInstanceId);
+      }
+    }
+
+    if (idsToRestore.isEmpty()) {
+      return;
+    }
+
+    Map<String, List<ExecutionEntity>> executions = new HashMap<String, List<ExecutionEntity>>();
+    for (ExecutionEntity execution : findExecutionsByProcessInstanceIds(idsToRestore)) {
+      CollectionUtil.addToMapOfLists(executions, execution.getProcessInstanceId(), execution);
+    }
+
+    Map<String, List<EventSubscriptionEntity>> eventSubscriptions = new HashMap<String, List<EventSubscriptionEntity>>();
+    for (EventSubscriptionEntity eventSubscription : getEventSubscriptionManager().findEventSubscriptionsByProcessInstanceIds(idsToRestore)) {
+      CollectionUtil.addToMapOfLists(eventSubscriptions, eventSubscription.getProcessInstanceId(), eventSubscription);
+    }
+
+    Map<String, List<VariableInstanceEntity>> variables = new HashMap<String, List<VariableInstanceEntity>>();
+    for (VariableInstanceEntity variable : getVariableInstanceManager().findVariableInstancesByProcessInstanceIds(idsToRestore)) {
+      CollectionUtil.addToMapOfLists(variables, variable.getProcessInstanceId(), variable);
+    }
+
+    Map<String, List<TaskEntity>> tasks = new HashMap<String, List<TaskEntity>>();
+    for (TaskEntity task : getTaskManager().findTasksByProcessInstanceIds(idsToRestore)) {
+      CollectionUtil.addToMapOfLists(tasks, task.getProcessInstanceId(), task);
+    }
+
+    Map<String, List<ExternalTaskEntity>> externalTasks = new HashMap<String, List<ExternalTaskEntity>>();
+    for (ExternalTaskEntity externalTask : getExternalTaskManager().findExternalTasksByProcessInstanceIds(idsToRestore)) {
+      CollectionUtil.addToMapOfLists(externalTasks, externalTask.getProcessInstanceId(), externalTask);
+    }
+
+    for (String processInstanceId : idsToRestore) {
+      List<ExecutionEntity> processInstanceExecutions = executions.get(processInstanceId);
+      if (processInstanceExecutions == null) {
+        continue;
+      }
+
+      // all tasks and external tasks of the process instance are fetched
+      for (ExecutionEntity execution : processInstanceExecutions) {
+        if (execution.tasks == null) {
+          execution.tasks = new ArrayList<TaskEntity>();
+        }
+        if (execution.externalTasks == null) {
+          execution.externalTasks = new ArrayList<ExternalTaskEntity>();
+        }
+      }
+
+      ExecutionEntity processInstance = getDbEntityManager().getCachedEntity(ExecutionEntity.class, processInstanceId);
+      if (processInstance != null) {
+        processInstance.restoreProcessInstance(processInstanceExecutions,
+            emptyIfNull(eventSubscriptions.get(processInstanceId)),
+            emptyIfNull(variables.get(processInstanceId)),
+            emptyIfNull(tasks.get(processInstanceId)),
+            null,
+            null,
+            emptyIfNull(externalTasks.get(processInstanceId)));
+      }
+    }
+  }
+
+  protected boolean isExecutionTreeLoaded(String processInstanceId) {
+    ExecutionEntity processInstance = getDbEntityManager().getCachedEntity(ExecutionEntity.class, processInstanceId);
+    return processInstance != null && processInstance.executions != null;
+  }
+
+  protected <T> List<T> emptyIfNull(List<T> list) {
+    return list != null ? list : Collections.<T>emptyList();
+  }
+
   public ExecutionEntity findSubProcessInstanceBySuperExecutionId(String superExecutionId) {
     return (ExecutionEntity) getDbEntityManager().selectOne("selectSubProcessInstanceBySuperExecutionId", superExecutionId);
   }
@@ -109,6 +223,16 @@ public class ExecutionManager extends AbstractManager {
     return getDbEntityManager().selectList("selectExecutionsByProcessInstanceId", processInstanceId);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<ExecutionEntity> findExecutionsByProcessInstanceIds(List<String> processInstanceIds) {
+    return getDbEntityManager().selectList("selectExecutionsByProcessInstanceIds", processInstanceIds);
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<ExecutionEntity> findProcessInstancesByIds(List<String> processInstanceIds) {
+    return getDbEntityManager().selectList("selectProcessInstancesByIds", processInstanceIds);
+  }
+
   public ExecutionEntity findExecutionById(String executionId) {
     return getDbEntityManager().selectById(ExecutionEntity.class, executionId);
   }
@@ -177,6 +301,13 @@ public class ExecutionManager extends AbstractManager {
     getDbEntityManager().update(ExecutionEntity.class, "updateExecutionSuspensionStateByParameters", configureParameterizedQuery(parameters));
   }
 
+  public void updateExecutionSuspensionStateByProcessInstanceIds(List<String> processInstanceIds, SuspensionState suspensionState) {
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("processInstanceIds", processInstanceIds);
+    parameters.put("suspensionState", suspensionState.getStateCode());
+    getDbEntityManager().update(ExecutionEntity.class, "updateExecutionSuspensionStateByParameters", configureParameterizedQuery(parameters));
+  }
+
   public void updateExecutionSuspensionStateByProcessDefinitionKey(String processDefinitionKey, SuspensionState suspensionState) {
     Map<String, Object> parameters = new HashMap<String, Object>();
     parameters.put("processDefinitionKey", processDefinitionKey);
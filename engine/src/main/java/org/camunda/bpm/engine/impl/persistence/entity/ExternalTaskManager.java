@@ -55,6 +55,11 @@ public class ExternalTaskManager extends AbstractManager {
     return getDbEntityManager().selectList("selectExternalTasksByExecutionId", processInstanceId);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<ExternalTaskEntity> findExternalTasksByProcessInstanceIds(List<String> processInstanceIds) {
+    return getDbEntityManager().selectList("selectExternalTasksByProcessInstanceIds", processInstanceIds);
+  }
+
   public List<ExternalTaskEntity> selectExternalTasksForTopics(Collection<TopicFetchInstruction> queryFilters, boolean filterByBusinessKey, int maxResults, boolean usePriority) {
     if (queryFilters.isEmpty()) {
       return new ArrayList<ExternalTaskEntity>();
@@ -106,6 +111,14 @@ public class ExternalTaskManager extends AbstractManager {
     updateExternalTaskSuspensionState(processInstanceId, null, null, suspensionState);
   }
 
+  public void updateExternalTaskSuspensionStateByProcessInstanceIds(List<String> processInstanceIds, SuspensionState suspensionState) {
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("processInstanceIds", processInstanceIds);
+    parameters.put("isProcessDefinitionTenantIdSet", false);
+    parameters.put("suspensionState", suspensionState.getStateCode());
+    getDbEntityManager().update(ExternalTaskEntity.class, "updateExternalTaskSuspensionStateByParameters", configureParameterizedQuery(parameters));
+  }
+
   public void updateExternalTaskSuspensionStateByProcessDefinitionId(String processDefinitionId, SuspensionState suspensionState) {
     updateExternalTaskSuspensionState(null, processDefinitionId, null, suspensionState);
   }
@@ -88,6 +88,14 @@ public class HistoricProcessInstanceManager extends AbstractHistoricManager {
     return 0;
   }
 
+  public long findHistoricProcessInstanceCountUpToByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+    if (isHistoryEnabled()) {
+      configureQuery(historicProcessInstanceQuery);
+      return (Long) getDbEntityManager().selectOne("selectHistoricProcessInstanceCountUpToByQueryCriteria", historicProcessInstanceQuery);
+    }
+    return 0;
+  }
+
   @SuppressWarnings("unchecked")
   public List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, Page page) {
     if (isHistoryEnabled()) {
@@ -14,6 +14,7 @@ package org.camunda.bpm.engine.impl.persistence.entity;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 import static org.camunda.bpm.engine.impl.util.ExceptionUtil.createJobExceptionByteArray;
+import static org.camunda.bpm.engine.impl.util.ChangeTrackingUtil.markChanged;
 import static org.camunda.bpm.engine.impl.util.StringUtil.toByteArray;
 
 import java.io.Serializable;
@@ -23,10 +24,13 @@ import java.util.List;
 import java.util.Map;
 
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.batch.BatchJobHandler;
+import org.camunda.bpm.engine.impl.batch.BatchThroughputController;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.db.HasDbChangeTracking;
 import org.camunda.bpm.engine.impl.db.HasDbRevision;
 import org.camunda.bpm.engine.impl.incident.IncidentContext;
 import org.camunda.bpm.engine.impl.incident.IncidentHandler;
@@ -49,7 +53,7 @@ import org.camunda.bpm.engine.runtime.Job;
  * @author Dave Syer
  * @author Frederik Heremans
  */
-public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRevision {
+public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRevision, HasDbChangeTracking {
 
   private final static EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
 
@@ -65,6 +69,22 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
 
   private static final long serialVersionUID = 1L;
 
+  // persistent fields for change tracking
+  public static final long FIELD_EXECUTION_ID = 1L;
+  public static final long FIELD_LOCK_OWNER = 1L << 1;
+  public static final long FIELD_LOCK_EXPIRATION_TIME = 1L << 2;
+  public static final long FIELD_RETRIES = 1L << 3;
+  public static final long FIELD_DUEDATE = 1L << 4;
+  public static final long FIELD_EXCEPTION_MESSAGE = 1L << 5;
+  public static final long FIELD_SUSPENSION_STATE = 1L << 6;
+  public static final long FIELD_PROCESS_DEFINITION_ID = 1L << 7;
+  public static final long FIELD_JOB_DEFINITION_ID = 1L << 8;
+  public static final long FIELD_DEPLOYMENT_ID = 1L << 9;
+  public static final long FIELD_JOB_HANDLER_CONFIGURATION = 1L << 10;
+  public static final long FIELD_PRIORITY = 1L << 11;
+  public static final long FIELD_TENANT_ID = 1L << 12;
+  public static final long FIELD_EXCEPTION_BYTE_ARRAY_ID = 1L << 13;
+
   protected String id;
   protected int revision;
 
@@ -110,6 +130,9 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   // sequence counter //////////////////////////
   protected long sequenceCounter = 1;
 
+  protected long changedFields;
+  protected long updatedFields = ALL_FIELDS;
+
   public void execute(CommandContext commandContext) {
     if (executionId != null) {
       ExecutionEntity execution = getExecution();
@@ -126,10 +149,19 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
     JobHandler jobHandler = getJobHandler();
     JobHandlerConfiguration configuration = getJobHandlerConfiguration();
     ensureNotNull("Cannot find job handler '" + jobHandlerType + "' from job '" + this + "'", "jobHandler", jobHandler);
+    long startTime = System.currentTimeMillis();
     jobHandler.execute(configuration, execution, commandContext, tenantId);
+    recordBatchJobExecution(commandContext, jobHandler, System.currentTimeMillis() - startTime);
     postExecute(commandContext);
   }
 
+  protected void recordBatchJobExecution(CommandContext commandContext, JobHandler jobHandler, long executionTime) {
+    BatchThroughputController throughputController = commandContext.getProcessEngineConfiguration().getBatchThroughputController();
+    if (throughputController != null && jobHandler instanceof BatchJobHandler) {
+      throughputController.recordBatchJobExecution(jobDefinitionId, executionTime);
+    }
+  }
+
   protected void preExecute(CommandContext commandContext) {
     // nothing to do
   }
@@ -153,7 +185,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
       execution.addJob(this);
 
       ProcessDefinitionImpl processDefinition = execution.getProcessDefinition();
-      this.deploymentId = processDefinition.getDeploymentId();
+      setDeploymentId(processDefinition.getDeploymentId());
     }
 
     commandContext
@@ -219,10 +251,33 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
     return revision+1;
   }
 
+  public long getChangedFields() {
+    return changedFields;
+  }
+
+  public void resetChangedFields() {
+    changedFields = 0;
+  }
+
+  public long getUpdatedFields() {
+    return updatedFields;
+  }
+
+  public void setUpdatedFields(long updatedFields) {
+    this.updatedFields = updatedFields;
+  }
+
+  /**
+   * Used by the UPDATE statement to write only the columns of the changed fields.
+   */
+  public boolean isFieldUpdated(long field) {
+    return (updatedFields & field) != 0;
+  }
+
   public void setExecution(ExecutionEntity execution) {
     if (execution != null) {
       this.execution = execution;
-      executionId = execution.getId();
+      setExecutionId(execution.getId());
       processInstanceId = execution.getProcessInstanceId();
       this.execution.addJob(this);
     }
@@ -230,7 +285,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
       this.execution.removeJob(this);
       this.execution = execution;
       processInstanceId = null;
-      executionId = null;
+      setExecutionId(null);
     }
   }
 
@@ -255,6 +310,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setExecutionId(String executionId) {
+    changedFields = markChanged(changedFields, FIELD_EXECUTION_ID, this.executionId, executionId);
     this.executionId = executionId;
   }
 
@@ -294,11 +350,13 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
     if(retries == 0 && this.retries > 0) {
       createFailedJobIncident();
     }
+    changedFields = markChanged(changedFields, FIELD_RETRIES, this.retries, retries);
     this.retries = retries;
   }
 
   // special setter for MyBatis which does not influence incidents
   public void setRetriesFromPersistence(int retries) {
+    changedFields = markChanged(changedFields, FIELD_RETRIES, this.retries, retries);
     this.retries = retries;
   }
 
@@ -371,6 +429,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setSuspensionState(int state) {
+    changedFields = markChanged(changedFields, FIELD_SUSPENSION_STATE, this.suspensionState, state);
     this.suspensionState = state;
   }
 
@@ -387,6 +446,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setLockOwner(String claimedBy) {
+    changedFields = markChanged(changedFields, FIELD_LOCK_OWNER, this.lockOwner, claimedBy);
     this.lockOwner = claimedBy;
   }
 
@@ -395,6 +455,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setLockExpirationTime(Date claimedUntil) {
+    changedFields = markChanged(changedFields, FIELD_LOCK_EXPIRATION_TIME, this.lockExpirationTime, claimedUntil);
     this.lockExpirationTime = claimedUntil;
   }
 
@@ -411,6 +472,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setProcessDefinitionId(String processDefinitionId) {
+    changedFields = markChanged(changedFields, FIELD_PROCESS_DEFINITION_ID, this.processDefinitionId, processDefinitionId);
     this.processDefinitionId = processDefinitionId;
   }
 
@@ -442,6 +504,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setDuedate(Date duedate) {
+    changedFields = markChanged(changedFields, FIELD_DUEDATE, this.duedate, duedate);
     this.duedate = duedate;
   }
 
@@ -452,7 +515,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
 
     if(byteArray == null) {
       byteArray = createJobExceptionByteArray(exceptionBytes);
-      exceptionByteArrayId = byteArray.getId();
+      setExceptionByteArrayId(byteArray.getId());
       exceptionByteArray = byteArray;
     }
     else {
@@ -470,7 +533,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setJobHandlerConfiguration(JobHandlerConfiguration configuration) {
-    this.jobHandlerConfiguration = configuration.toCanonicalString();
+    setJobHandlerConfigurationRaw(configuration.toCanonicalString());
   }
 
   public String getJobHandlerType() {
@@ -486,6 +549,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setJobHandlerConfigurationRaw(String jobHandlerConfiguration) {
+    changedFields = markChanged(changedFields, FIELD_JOB_HANDLER_CONFIGURATION, this.jobHandlerConfiguration, jobHandlerConfiguration);
     this.jobHandlerConfiguration = jobHandlerConfiguration;
   }
 
@@ -506,6 +570,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setJobDefinitionId(String jobDefinitionId) {
+    changedFields = markChanged(changedFields, FIELD_JOB_DEFINITION_ID, this.jobDefinitionId, jobDefinitionId);
     this.jobDefinitionId = jobDefinitionId;
   }
 
@@ -517,10 +582,10 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   public void setJobDefinition(JobDefinition jobDefinition) {
     this.jobDefinition = jobDefinition;
     if (jobDefinition != null) {
-      jobDefinitionId = jobDefinition.getId();
+      setJobDefinitionId(jobDefinition.getId());
     }
     else {
-      jobDefinitionId = null;
+      setJobDefinitionId(null);
     }
   }
 
@@ -535,16 +600,21 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
 
   public void setExceptionMessage(String exceptionMessage) {
     if(exceptionMessage != null && exceptionMessage.length() > MAX_EXCEPTION_MESSAGE_LENGTH) {
-      this.exceptionMessage = exceptionMessage.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
-    } else {
-      this.exceptionMessage = exceptionMessage;
+      exceptionMessage = exceptionMessage.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
     }
+    changedFields = markChanged(changedFields, FIELD_EXCEPTION_MESSAGE, this.exceptionMessage, exceptionMessage);
+    this.exceptionMessage = exceptionMessage;
   }
 
   public String getExceptionByteArrayId() {
     return exceptionByteArrayId;
   }
 
+  protected void setExceptionByteArrayId(String exceptionByteArrayId) {
+    changedFields = markChanged(changedFields, FIELD_EXCEPTION_BYTE_ARRAY_ID, this.exceptionByteArrayId, exceptionByteArrayId);
+    this.exceptionByteArrayId = exceptionByteArrayId;
+  }
+
   protected ByteArrayEntity getExceptionByteArray() {
     ensureExceptionByteArrayInitialized();
     return exceptionByteArray;
@@ -564,6 +634,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setDeploymentId(String deploymentId) {
+    changedFields = markChanged(changedFields, FIELD_DEPLOYMENT_ID, this.deploymentId, deploymentId);
     this.deploymentId = deploymentId;
   }
 
@@ -573,8 +644,8 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void resetLock() {
-    this.lockOwner = null;
-    this.lockExpirationTime = null;
+    setLockOwner(null);
+    setLockExpirationTime(null);
   }
 
   public String getActivityId() {
@@ -591,6 +662,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setPriority(long priority) {
+    changedFields = markChanged(changedFields, FIELD_PRIORITY, this.priority, priority);
     this.priority = priority;
   }
 
@@ -599,6 +671,7 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
   }
 
   public void setTenantId(String tenantId) {
+    changedFields = markChanged(changedFields, FIELD_TENANT_ID, this.tenantId, tenantId);
     this.tenantId = tenantId;
   }
 
@@ -624,8 +697,8 @@ public abstract class JobEntity implements Serializable, Job, DbEntity, HasDbRev
    */
 
   public void unlock() {
-    this.lockOwner = null;
-    this.lockExpirationTime = null;
+    setLockOwner(null);
+    setLockExpirationTime(null);
   }
 
   public abstract String getType();
@@ -0,0 +1,283 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import static org.camunda.bpm.engine.authorization.Authorization.ANY;
+import static org.camunda.bpm.engine.authorization.Authorization.AUTH_TYPE_GLOBAL;
+import static org.camunda.bpm.engine.authorization.Authorization.AUTH_TYPE_GRANT;
+import static org.camunda.bpm.engine.authorization.Authorization.AUTH_TYPE_REVOKE;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.db.CompositePermissionCheck;
+import org.camunda.bpm.engine.impl.db.EffectivePermissionCheck;
+import org.camunda.bpm.engine.impl.db.PermissionCheck;
+
+/**
+ * All authorizations of a user, of the groups of the user and the global
+ * authorizations, loaded at once. Evaluates permission checks in memory with
+ * the same precedence as the <code>authCheck</code> statement of the
+ * authorization mapping: user authorizations before group authorizations
+ * before global authorizations and, on every level, authorizations for the
+ * specific resource before authorizations for any resource.
+ *
+ * <p>A check evaluates to <code>null</code> if no authorization matches and
+ * the check has no {@link PermissionCheck#getAuthorizationNotFoundReturnValue()
+ * default value}. The combination of checks corresponds to the SQL as well:
+ * disjunctive checks take the first non-null result, conjunctive checks treat
+ * <code>null</code> as not authorized.</p>
+ */
+public class PreloadedAuthorizations {
+
+  protected static final Long NOT_AUTHORIZED = 0L;
+  protected static final Long AUTHORIZED = 1L;
+
+  protected List<AuthorizationEntity> userAuthorizations = new ArrayList<AuthorizationEntity>();
+  protected List<AuthorizationEntity> groupAuthorizations = new ArrayList<AuthorizationEntity>();
+  protected List<AuthorizationEntity> globalAuthorizations = new ArrayList<AuthorizationEntity>();
+
+  protected boolean revokeAuthorizationCheckEnabled;
+
+  public PreloadedAuthorizations(String userId, List<String> groupIds, List<AuthorizationEntity> authorizations, boolean revokeAuthorizationCheckEnabled) {
+    this.revokeAuthorizationCheckEnabled = revokeAuthorizationCheckEnabled;
+
+    Set<String> groups = groupIds != null ? new HashSet<String>(groupIds) : new HashSet<String>();
+    for (AuthorizationEntity authorization : authorizations) {
+      int type = authorization.getAuthorizationType();
+
+      if (type == AUTH_TYPE_GLOBAL) {
+        if (ANY.equals(authorization.getUserId())) {
+          globalAuthorizations.add(authorization);
+        }
+      }
+      else if (type == AUTH_TYPE_GRANT || type == AUTH_TYPE_REVOKE) {
+        if (userId != null && userId.equals(authorization.getUserId())) {
+          userAuthorizations.add(authorization);
+        }
+        else if (authorization.getGroupId() != null && groups.contains(authorization.getGroupId())) {
+          groupAuthorizations.add(authorization);
+        }
+      }
+    }
+  }
+
+  public boolean isAuthorized(CompositePermissionCheck permissionCheck) {
+    return AUTHORIZED.equals(evaluate(permissionCheck));
+  }
+
+  /**
+   * @return <code>true</code> if the check can be evaluated in memory, i.e. it has the
+   *   shape the authorization mapping supports and does not refer to a query parameter
+   */
+  public static boolean canEvaluate(CompositePermissionCheck permissionCheck) {
+    List<PermissionCheck> atomicChecks = permissionCheck.getAtomicChecks();
+    List<CompositePermissionCheck> compositeChecks = permissionCheck.getCompositeChecks();
+
+    if (!atomicChecks.isEmpty()) {
+      return compositeChecks.isEmpty() && canEvaluate(atomicChecks);
+    }
+    else if (compositeChecks.size() > 1) {
+      for (CompositePermissionCheck compositeCheck : compositeChecks) {
+        if (!canEvaluate(compositeCheck.getAtomicChecks())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    else {
+      return false;
+    }
+  }
+
+  protected static boolean canEvaluate(List<PermissionCheck> atomicChecks) {
+    for (PermissionCheck atomicCheck : atomicChecks) {
+      if (atomicCheck.getResourceIdQueryParam() != null || atomicCheck.getResource() == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected Long evaluate(CompositePermissionCheck permissionCheck) {
+    List<CompositePermissionCheck> compositeChecks = permissionCheck.getCompositeChecks();
+
+    if (!permissionCheck.getAtomicChecks().isEmpty()) {
+      return evaluateAtomicChecks(permissionCheck);
+    }
+    else if (permissionCheck.isDisjunctive()) {
+      for (CompositePermissionCheck compositeCheck : compositeChecks) {
+        // nested checks are restricted to atomic checks like in the mapping
+        Long result = evaluateAtomicChecks(compositeCheck);
+        if (result != null) {
+          return result;
+        }
+      }
+      return NOT_AUTHORIZED;
+    }
+    else {
+      Long result = AUTHORIZED;
+      for (CompositePermissionCheck compositeCheck : compositeChecks) {
+        Long compositeResult = evaluateAtomicChecks(compositeCheck);
+        if (compositeResult == null) {
+          return null;
+        }
+        else if (NOT_AUTHORIZED.equals(compositeResult)) {
+          result = NOT_AUTHORIZED;
+        }
+      }
+      return result;
+    }
+  }
+
+  protected Long evaluateAtomicChecks(CompositePermissionCheck permissionCheck) {
+    List<PermissionCheck> atomicChecks = permissionCheck.getAtomicChecks();
+
+    if (atomicChecks.isEmpty()) {
+      return null;
+    }
+    else if (atomicChecks.size() == 1) {
+      return evaluate(atomicChecks.get(0));
+    }
+    else if (permissionCheck.isDisjunctive()) {
+      for (PermissionCheck atomicCheck : atomicChecks) {
+        Long result = evaluate(atomicCheck);
+        if (result != null) {
+          return result;
+        }
+      }
+      return NOT_AUTHORIZED;
+    }
+    else {
+      for (PermissionCheck atomicCheck : atomicChecks) {
+        if (!AUTHORIZED.equals(evaluate(atomicCheck))) {
+          return NOT_AUTHORIZED;
+        }
+      }
+      return AUTHORIZED;
+    }
+  }
+
+  protected Long evaluate(PermissionCheck permissionCheck) {
+    Long result = evaluate(userAuthorizations, AUTH_TYPE_GRANT, permissionCheck);
+    if (result == null) {
+      result = evaluate(groupAuthorizations, AUTH_TYPE_GRANT, permissionCheck);
+    }
+    if (result == null) {
+      result = evaluate(globalAuthorizations, AUTH_TYPE_GLOBAL, permissionCheck);
+    }
+    if (result == null) {
+      result = permissionCheck.getAuthorizationNotFoundReturnValue();
+    }
+    return result;
+  }
+
+  protected Long evaluate(List<AuthorizationEntity> authorizations, int grantType, PermissionCheck permissionCheck) {
+    String resourceId = permissionCheck.getResourceId();
+
+    if (resourceId != null && !ANY.equals(resourceId)) {
+      Long result = evaluate(authorizations, grantType, permissionCheck, resourceId);
+      if (result != null) {
+        return result;
+      }
+    }
+
+    return evaluate(authorizations, grantType, permissionCheck, ANY);
+  }
+
+  protected Long evaluate(List<AuthorizationEntity> authorizations, int grantType, PermissionCheck permissionCheck, String resourceId) {
+    int perms = permissionCheck.getPerms();
+    int resourceType = permissionCheck.getResourceType();
+
+    // a grant takes precedence over a revoke on the same level
+    for (AuthorizationEntity authorization : authorizations) {
+      if (authorization.getAuthorizationType() == grantType
+          && matches(authorization, resourceType, resourceId)
+          && (authorization.getPermissions() & perms) == perms) {
+        return AUTHORIZED;
+      }
+    }
+
+    if (revokeAuthorizationCheckEnabled) {
+      int revokeType = grantType == AUTH_TYPE_GLOBAL ? AUTH_TYPE_GLOBAL : AUTH_TYPE_REVOKE;
+      for (AuthorizationEntity authorization : authorizations) {
+        if (authorization.getAuthorizationType() == revokeType
+            && matches(authorization, resourceType, resourceId)
+            && (authorization.getPermissions() & perms) != perms) {
+          return NOT_AUTHORIZED;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Computes the effective permissions for a check which refers to a query parameter. The
+   * levels are visited in the order of precedence until a level with an authorization for
+   * any resource is found which determines the default value. On the levels before, the
+   * authorizations for specific resources decide about these resources unless a preceding
+   * level decided already.
+   */
+  public EffectivePermissionCheck getEffectivePermissions(PermissionCheck permissionCheck) {
+    EffectivePermissionCheck effectiveCheck = new EffectivePermissionCheck(permissionCheck.getResourceIdQueryParam());
+    Set<String> decidedResourceIds = new HashSet<String>();
+
+    Long defaultValue = collectEffectivePermissions(userAuthorizations, AUTH_TYPE_GRANT, permissionCheck, effectiveCheck, decidedResourceIds);
+    if (defaultValue == null) {
+      defaultValue = collectEffectivePermissions(groupAuthorizations, AUTH_TYPE_GRANT, permissionCheck, effectiveCheck, decidedResourceIds);
+    }
+    if (defaultValue == null) {
+      defaultValue = collectEffectivePermissions(globalAuthorizations, AUTH_TYPE_GLOBAL, permissionCheck, effectiveCheck, decidedResourceIds);
+    }
+    if (defaultValue == null) {
+      defaultValue = permissionCheck.getAuthorizationNotFoundReturnValue();
+    }
+
+    effectiveCheck.setDefaultValue(defaultValue);
+    return effectiveCheck;
+  }
+
+  protected Long collectEffectivePermissions(List<AuthorizationEntity> authorizations, int grantType, PermissionCheck permissionCheck,
+      EffectivePermissionCheck effectiveCheck, Set<String> decidedResourceIds) {
+
+    for (AuthorizationEntity authorization : authorizations) {
+      String resourceId = authorization.getResourceId();
+
+      if (authorization.getResourceType() == permissionCheck.getResourceType()
+          && !ANY.equals(resourceId)
+          && !decidedResourceIds.contains(resourceId)) {
+
+        Long result = evaluate(authorizations, grantType, permissionCheck, resourceId);
+        if (AUTHORIZED.equals(result)) {
+          effectiveCheck.getGrantedResourceIds().add(resourceId);
+          decidedResourceIds.add(resourceId);
+        }
+        else if (NOT_AUTHORIZED.equals(result)) {
+          effectiveCheck.getRevokedResourceIds().add(resourceId);
+          decidedResourceIds.add(resourceId);
+        }
+      }
+    }
+
+    return evaluate(authorizations, grantType, permissionCheck, ANY);
+  }
+
+  protected boolean matches(AuthorizationEntity authorization, int resourceType, String resourceId) {
+    return authorization.getResourceType() == resourceType
+        && resourceId.equals(authorization.getResourceId());
+  }
+
+}
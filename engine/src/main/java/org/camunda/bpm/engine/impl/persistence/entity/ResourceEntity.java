@@ -14,7 +14,10 @@
 package org.camunda.bpm.engine.impl.persistence.entity;
 
 import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
+import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.repository.Resource;
 
@@ -26,12 +29,16 @@ public class ResourceEntity implements Serializable, DbEntity, Resource {
 
   private static final long serialVersionUID = 1L;
 
+  protected static final String HASH_ALGORITHM = "SHA-256";
+  protected static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
   protected String id;
   protected String name;
   protected byte[] bytes;
   protected String deploymentId;
   protected boolean generated = false;
   protected String tenantId;
+  protected String hash;
 
   public String getId() {
     return id;
@@ -55,6 +62,22 @@ public class ResourceEntity implements Serializable, DbEntity, Resource {
 
   public void setBytes(byte[] bytes) {
     this.bytes = bytes;
+    this.hash = null;
+  }
+
+  /**
+   * @return the hex encoded SHA-256 hash of the bytes, is calculated
+   * if it was not stored together with the resource
+   */
+  public String getHash() {
+    if (hash == null && bytes != null) {
+      hash = calculateHash(bytes);
+    }
+    return hash;
+  }
+
+  public void setHash(String hash) {
+    this.hash = hash;
   }
 
   public String getDeploymentId() {
@@ -89,6 +112,24 @@ public class ResourceEntity implements Serializable, DbEntity, Resource {
     this.tenantId = tenantId;
   }
 
+  public static String calculateHash(byte[] bytes) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(HASH_ALGORITHM);
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new ProcessEngineException("Cannot lookup " + HASH_ALGORITHM + " algorithm", e);
+    }
+
+    byte[] hashBytes = digest.digest(bytes);
+    char[] hexChars = new char[hashBytes.length * 2];
+    for (int i = 0; i < hashBytes.length; i++) {
+      hexChars[i * 2] = HEX_DIGITS[(hashBytes[i] >> 4) & 0xf];
+      hexChars[i * 2 + 1] = HEX_DIGITS[hashBytes[i] & 0xf];
+    }
+    return new String(hexChars);
+  }
+
   @Override
   public String toString() {
     return this.getClass().getSimpleName()
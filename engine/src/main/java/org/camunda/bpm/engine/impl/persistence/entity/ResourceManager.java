@@ -69,22 +69,46 @@ public class ResourceManager extends AbstractManager {
     return getDbEntityManager().selectList("selectResourcesByDeploymentId", deploymentId);
   }
 
+  /**
+   * Finds the resources with the given names of the latest deployments with the given name
+   * and source, but without loading the bytes. The returned resources are detached and only
+   * provide the content hash. The hash of a resource which was deployed before the hash was
+   * stored is calculated from the bytes once and stored afterwards.
+   */
   @SuppressWarnings("unchecked")
-  public Map<String, ResourceEntity> findLatestResourcesByDeploymentName(String deploymentName, Set<String> resourcesToFind, String source, String tenantId) {
+  public Map<String, ResourceEntity> findLatestResourceHashesByDeploymentName(String deploymentName, Set<String> resourcesToFind, String source, String tenantId) {
     Map<String, Object> params = new HashMap<String, Object>();
     params.put("deploymentName", deploymentName);
     params.put("resourcesToFind", resourcesToFind);
     params.put("source", source);
     params.put("tenantId", tenantId);
 
-    List<ResourceEntity> resources = getDbEntityManager().selectList("selectLatestResourcesByDeploymentName", params);
+    List<Map<String, Object>> resourceHashes = getDbEntityManager().selectList("selectLatestResourceHashesByDeploymentName", params);
 
     Map<String, ResourceEntity> existingResourcesByName = new HashMap<String, ResourceEntity>();
-    for (ResourceEntity existingResource : resources) {
+    for (Map<String, Object> resourceHash : resourceHashes) {
+      ResourceEntity existingResource = new ResourceEntity();
+      existingResource.setId((String) resourceHash.get("id"));
+      existingResource.setName((String) resourceHash.get("name"));
+      existingResource.setDeploymentId((String) resourceHash.get("deploymentId"));
+      existingResource.setGenerated(Boolean.TRUE.equals(resourceHash.get("generated")));
+      existingResource.setTenantId((String) resourceHash.get("tenantId"));
+      existingResource.setHash((String) resourceHash.get("hash"));
+
+      if (existingResource.getHash() == null) {
+        ResourceEntity resource = findResourceByDeploymentIdAndResourceId(existingResource.getDeploymentId(), existingResource.getId());
+        existingResource.setHash(resource.getHash());
+        updateResourceHash(existingResource);
+      }
+
       existingResourcesByName.put(existingResource.getName(), existingResource);
     }
 
     return existingResourcesByName;
   }
 
+  public void updateResourceHash(ResourceEntity resource) {
+    getDbEntityManager().update(ResourceEntity.class, "updateResourceHash", resource);
+  }
+
 }
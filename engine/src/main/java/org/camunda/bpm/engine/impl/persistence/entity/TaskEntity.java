@@ -36,6 +36,7 @@ import org.camunda.bpm.engine.impl.core.variable.scope.VariableStore;
 import org.camunda.bpm.engine.impl.core.variable.scope.VariableStore.VariablesProvider;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.db.HasDbChangeTracking;
 import org.camunda.bpm.engine.impl.db.HasDbRevision;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
@@ -68,6 +69,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.camunda.bpm.engine.delegate.TaskListener.EVENTNAME_DELETE;
+import static org.camunda.bpm.engine.impl.util.ChangeTrackingUtil.markChanged;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 /**
@@ -76,7 +78,7 @@ import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
  * @author Falko Menge
  * @author Deivarayan Azhagappan
  */
-public class TaskEntity extends AbstractVariableScope implements Task, DelegateTask, Serializable, DbEntity, HasDbRevision, CommandContextListener, VariablesProvider<VariableInstanceEntity> {
+public class TaskEntity extends AbstractVariableScope implements Task, DelegateTask, Serializable, DbEntity, HasDbRevision, HasDbChangeTracking, CommandContextListener, VariablesProvider<VariableInstanceEntity> {
 
   protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
 
@@ -85,6 +87,26 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
 
   private static final long serialVersionUID = 1L;
 
+  // persistent fields for change tracking
+  public static final long FIELD_NAME = 1L;
+  public static final long FIELD_PARENT_TASK_ID = 1L << 1;
+  public static final long FIELD_PRIORITY = 1L << 2;
+  public static final long FIELD_CREATE_TIME = 1L << 3;
+  public static final long FIELD_OWNER = 1L << 4;
+  public static final long FIELD_ASSIGNEE = 1L << 5;
+  public static final long FIELD_DELEGATION_STATE = 1L << 6;
+  public static final long FIELD_EXECUTION_ID = 1L << 7;
+  public static final long FIELD_PROCESS_DEFINITION_ID = 1L << 8;
+  public static final long FIELD_CASE_EXECUTION_ID = 1L << 9;
+  public static final long FIELD_CASE_INSTANCE_ID = 1L << 10;
+  public static final long FIELD_CASE_DEFINITION_ID = 1L << 11;
+  public static final long FIELD_TASK_DEFINITION_KEY = 1L << 12;
+  public static final long FIELD_DESCRIPTION = 1L << 13;
+  public static final long FIELD_DUE_DATE = 1L << 14;
+  public static final long FIELD_FOLLOW_UP_DATE = 1L << 15;
+  public static final long FIELD_SUSPENSION_STATE = 1L << 16;
+  public static final long FIELD_TENANT_ID = 1L << 17;
+
   protected String id;
   protected int revision;
 
@@ -130,6 +152,9 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   protected boolean isDeleted;
   protected String deleteReason;
 
+  protected long changedFields;
+  protected long updatedFields = ALL_FIELDS;
+
   protected String eventName;
   protected boolean isFormKeyInitialized = false;
   protected String formKey;
@@ -417,6 +442,29 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
     return revision+1;
   }
 
+  public long getChangedFields() {
+    return changedFields;
+  }
+
+  public void resetChangedFields() {
+    changedFields = 0;
+  }
+
+  public long getUpdatedFields() {
+    return updatedFields;
+  }
+
+  public void setUpdatedFields(long updatedFields) {
+    this.updatedFields = updatedFields;
+  }
+
+  /**
+   * Used by the UPDATE statement to write only the columns of the changed fields.
+   */
+  public boolean isFieldUpdated(long field) {
+    return (updatedFields & field) != 0;
+  }
+
   protected void ensureParentTaskActive() {
     if (parentTaskId != null) {
       TaskEntity parentTask = Context
@@ -559,22 +607,28 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
     if (execution!=null) {
 
       this.execution = (ExecutionEntity) execution;
+      changedFields = markChanged(changedFields, FIELD_EXECUTION_ID, this.executionId, this.execution.getId());
       this.executionId = this.execution.getId();
       this.processInstanceId = this.execution.getProcessInstanceId();
+      changedFields = markChanged(changedFields, FIELD_PROCESS_DEFINITION_ID, this.processDefinitionId, this.execution.getProcessDefinitionId());
       this.processDefinitionId = this.execution.getProcessDefinitionId();
 
       // get the process instance
       ExecutionEntity instance = this.execution.getProcessInstance();
       if (instance != null) {
         // set case instance id on this task
+        changedFields = markChanged(changedFields, FIELD_CASE_INSTANCE_ID, this.caseInstanceId, instance.getCaseInstanceId());
         this.caseInstanceId = instance.getCaseInstanceId();
       }
 
     } else {
       this.execution = null;
+      changedFields = markChanged(changedFields, FIELD_EXECUTION_ID, this.executionId, null);
       this.executionId = null;
       this.processInstanceId = null;
+      changedFields = markChanged(changedFields, FIELD_PROCESS_DEFINITION_ID, this.processDefinitionId, null);
       this.processDefinitionId = null;
+      changedFields = markChanged(changedFields, FIELD_CASE_INSTANCE_ID, this.caseInstanceId, null);
       this.caseInstanceId = null;
     }
   }
@@ -600,14 +654,20 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
     if (caseExecution!=null) {
 
       this.caseExecution = (CaseExecutionEntity) caseExecution;
+      changedFields = markChanged(changedFields, FIELD_CASE_EXECUTION_ID, this.caseExecutionId, this.caseExecution.getId());
       this.caseExecutionId = this.caseExecution.getId();
+      changedFields = markChanged(changedFields, FIELD_CASE_INSTANCE_ID, this.caseInstanceId, this.caseExecution.getCaseInstanceId());
       this.caseInstanceId = this.caseExecution.getCaseInstanceId();
+      changedFields = markChanged(changedFields, FIELD_CASE_DEFINITION_ID, this.caseDefinitionId, this.caseExecution.getCaseDefinitionId());
       this.caseDefinitionId = this.caseExecution.getCaseDefinitionId();
 
     } else {
       this.caseExecution = null;
+      changedFields = markChanged(changedFields, FIELD_CASE_EXECUTION_ID, this.caseExecutionId, null);
       this.caseExecutionId = null;
+      changedFields = markChanged(changedFields, FIELD_CASE_INSTANCE_ID, this.caseInstanceId, null);
       this.caseInstanceId = null;
+      changedFields = markChanged(changedFields, FIELD_CASE_DEFINITION_ID, this.caseDefinitionId, null);
       this.caseDefinitionId = null;
     }
   }
@@ -618,6 +678,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   }
 
   public void setCaseExecutionId(String caseExecutionId) {
+    changedFields = markChanged(changedFields, FIELD_CASE_EXECUTION_ID, this.caseExecutionId, caseExecutionId);
     this.caseExecutionId = caseExecutionId;
   }
 
@@ -630,11 +691,13 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   public void setCaseInstanceId(String caseInstanceId) {
     registerCommandContextCloseListener();
     propertyChanged(CASE_INSTANCE_ID, this.caseInstanceId, caseInstanceId);
+    changedFields = markChanged(changedFields, FIELD_CASE_INSTANCE_ID, this.caseInstanceId, caseInstanceId);
     this.caseInstanceId = caseInstanceId;
   }
 
   /* plain setter for persistence */
   public void setCaseInstanceIdWithoutCascade(String caseInstanceId) {
+    changedFields = markChanged(changedFields, FIELD_CASE_INSTANCE_ID, this.caseInstanceId, caseInstanceId);
     this.caseInstanceId = caseInstanceId;
   }
 
@@ -654,6 +717,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   }
 
   public void setCaseDefinitionId(String caseDefinitionId) {
+    changedFields = markChanged(changedFields, FIELD_CASE_DEFINITION_ID, this.caseDefinitionId, caseDefinitionId);
     this.caseDefinitionId = caseDefinitionId;
   }
 
@@ -816,11 +880,13 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   public void setName(String taskName) {
     registerCommandContextCloseListener();
     propertyChanged(NAME, this.name, taskName);
+    changedFields = markChanged(changedFields, FIELD_NAME, this.name, taskName);
     this.name = taskName;
   }
 
   /* plain setter for persistence */
   public void setNameWithoutCascade(String taskName) {
+    changedFields = markChanged(changedFields, FIELD_NAME, this.name, taskName);
     this.name = taskName;
   }
 
@@ -828,11 +894,13 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   public void setDescription(String description) {
     registerCommandContextCloseListener();
     propertyChanged(DESCRIPTION, this.description, description);
+    changedFields = markChanged(changedFields, FIELD_DESCRIPTION, this.description, description);
     this.description = description;
   }
 
   /* plain setter for persistence */
   public void setDescriptionWithoutCascade(String description) {
+    changedFields = markChanged(changedFields, FIELD_DESCRIPTION, this.description, description);
     this.description = description;
   }
 
@@ -848,6 +916,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
 
     addIdentityLinkChanges(IdentityLinkType.ASSIGNEE, oldAssignee, assignee);
     propertyChanged(ASSIGNEE, oldAssignee, assignee);
+    changedFields = markChanged(changedFields, FIELD_ASSIGNEE, this.assignee, assignee);
     this.assignee = assignee;
 
     CommandContext commandContext = Context.getCommandContext();
@@ -864,6 +933,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
 
   /* plain setter for persistence */
   public void setAssigneeWithoutCascade(String assignee) {
+    changedFields = markChanged(changedFields, FIELD_ASSIGNEE, this.assignee, assignee);
     this.assignee = assignee;
   }
 
@@ -879,6 +949,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
 
     addIdentityLinkChanges(IdentityLinkType.OWNER, oldOwner, owner);
     propertyChanged(OWNER, oldOwner, owner);
+    changedFields = markChanged(changedFields, FIELD_OWNER, this.owner, owner);
     this.owner = owner;
 
     CommandContext commandContext = Context.getCommandContext();
@@ -893,6 +964,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
 
   /* plain setter for persistence */
   public void setOwnerWithoutCascade(String owner) {
+    changedFields = markChanged(changedFields, FIELD_OWNER, this.owner, owner);
     this.owner = owner;
   }
 
@@ -900,10 +972,12 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   public void setDueDate(Date dueDate) {
     registerCommandContextCloseListener();
     propertyChanged(DUE_DATE, this.dueDate, dueDate);
+    changedFields = markChanged(changedFields, FIELD_DUE_DATE, this.dueDate, dueDate);
     this.dueDate = dueDate;
   }
 
   public void setDueDateWithoutCascade(Date dueDate) {
+    changedFields = markChanged(changedFields, FIELD_DUE_DATE, this.dueDate, dueDate);
     this.dueDate = dueDate;
   }
 
@@ -911,10 +985,12 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   public void setPriority(int priority) {
     registerCommandContextCloseListener();
     propertyChanged(PRIORITY, this.priority, priority);
+    changedFields = markChanged(changedFields, FIELD_PRIORITY, this.priority, priority);
     this.priority = priority;
   }
 
   public void setPriorityWithoutCascade(int priority) {
+    changedFields = markChanged(changedFields, FIELD_PRIORITY, this.priority, priority);
     this.priority = priority;
   }
 
@@ -922,14 +998,17 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   public void setParentTaskId(String parentTaskId) {
     registerCommandContextCloseListener();
     propertyChanged(PARENT_TASK, this.parentTaskId, parentTaskId);
+    changedFields = markChanged(changedFields, FIELD_PARENT_TASK_ID, this.parentTaskId, parentTaskId);
     this.parentTaskId = parentTaskId;
   }
 
   public void setParentTaskIdWithoutCascade(String parentTaskId) {
+    changedFields = markChanged(changedFields, FIELD_PARENT_TASK_ID, this.parentTaskId, parentTaskId);
     this.parentTaskId = parentTaskId;
   }
 
   public void setTaskDefinitionKeyWithoutCascade(String taskDefinitionKey) {
+    changedFields = markChanged(changedFields, FIELD_TASK_DEFINITION_KEY, this.taskDefinitionKey, taskDefinitionKey);
     this.taskDefinitionKey = taskDefinitionKey;
   }
 
@@ -1107,6 +1186,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
 
   public void setTaskDefinition(TaskDefinition taskDefinition) {
     this.taskDefinition = taskDefinition;
+    changedFields = markChanged(changedFields, FIELD_TASK_DEFINITION_KEY, this.taskDefinitionKey, taskDefinition.getKey());
     this.taskDefinitionKey = taskDefinition.getKey();
   }
 
@@ -1184,6 +1264,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   }
 
   public void setCreateTime(Date createTime) {
+    changedFields = markChanged(changedFields, FIELD_CREATE_TIME, this.createTime, createTime);
     this.createTime = createTime;
   }
 
@@ -1234,6 +1315,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   }
 
   public void setProcessDefinitionId(String processDefinitionId) {
+    changedFields = markChanged(changedFields, FIELD_PROCESS_DEFINITION_ID, this.processDefinitionId, processDefinitionId);
     this.processDefinitionId = processDefinitionId;
   }
 
@@ -1255,6 +1337,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
       this.isFormKeyInitialized = false;
     }
 
+    changedFields = markChanged(changedFields, FIELD_TASK_DEFINITION_KEY, this.taskDefinitionKey, taskDefinitionKey);
     this.taskDefinitionKey = taskDefinitionKey;
   }
 
@@ -1266,6 +1349,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
     this.eventName = eventName;
   }
   public void setExecutionId(String executionId) {
+    changedFields = markChanged(changedFields, FIELD_EXECUTION_ID, this.executionId, executionId);
     this.executionId = executionId;
   }
   public ExecutionEntity getProcessInstance() {
@@ -1288,10 +1372,12 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   @Override
   public void setDelegationState(DelegationState delegationState) {
     propertyChanged(DELEGATION, this.delegationState, delegationState);
+    changedFields = markChanged(changedFields, FIELD_DELEGATION_STATE, this.delegationState, delegationState);
     this.delegationState = delegationState;
   }
 
   public void setDelegationStateWithoutCascade(DelegationState delegationState) {
+    changedFields = markChanged(changedFields, FIELD_DELEGATION_STATE, this.delegationState, delegationState);
     this.delegationState = delegationState;
   }
 
@@ -1334,6 +1420,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
     return suspensionState;
   }
   public void setSuspensionState(int suspensionState) {
+    changedFields = markChanged(changedFields, FIELD_SUSPENSION_STATE, this.suspensionState, suspensionState);
     this.suspensionState = suspensionState;
   }
   @Override
@@ -1353,6 +1440,7 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
 
   @Override
   public void setTenantId(String tenantId) {
+    changedFields = markChanged(changedFields, FIELD_TENANT_ID, this.tenantId, tenantId);
     this.tenantId = tenantId;
   }
 
@@ -1360,10 +1448,12 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   public void setFollowUpDate(Date followUpDate) {
     registerCommandContextCloseListener();
     propertyChanged(FOLLOW_UP_DATE, this.followUpDate, followUpDate);
+    changedFields = markChanged(changedFields, FIELD_FOLLOW_UP_DATE, this.followUpDate, followUpDate);
     this.followUpDate = followUpDate;
   }
 
   public void setFollowUpDateWithoutCascade(Date followUpDate) {
+    changedFields = markChanged(changedFields, FIELD_FOLLOW_UP_DATE, this.followUpDate, followUpDate);
     this.followUpDate = followUpDate;
   }
 
@@ -28,6 +28,7 @@ import org.camunda.bpm.engine.impl.db.DbEntityLifecycleAware;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandContextListener;
+import org.camunda.bpm.engine.impl.variable.serializer.AbstractSerializableValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.TypedValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.ValueFields;
 import org.camunda.bpm.engine.impl.variable.serializer.ValueFieldsImpl;
@@ -149,7 +150,17 @@ public class TypedValueField implements DbEntityLifecycleAware, CommandContextLi
 
       byte[] byteArrayAfter = tempValueFields.getByteArrayValue();
 
-      return !Arrays.equals(byteArray, byteArrayAfter);
+      if (Arrays.equals(byteArray, byteArrayAfter)) {
+        return false;
+      }
+
+      TypedValueSerializer<?> serializer = getSerializer();
+      if (serializer instanceof AbstractSerializableValueSerializer) {
+        // the stored bytes differ if the serializer stores the value in another form than before
+        return !((AbstractSerializableValueSerializer<?>) serializer).isSameSerializedValue(valueFields, tempValueFields);
+      }
+
+      return true;
     }
 
     return false;
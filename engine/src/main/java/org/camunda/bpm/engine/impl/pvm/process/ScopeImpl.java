@@ -208,10 +208,14 @@ public abstract class ScopeImpl extends CoreActivity implements PvmScope {
     super.addListener(eventName, executionListener, index);
   }
 
+  /**
+   * Unlike {@link #getListeners()}, returns a modifiable map since callers of this
+   * legacy method add listeners to it.
+   */
   @SuppressWarnings({ "rawtypes", "unchecked" })
   @Deprecated
   public Map<String, List<ExecutionListener>> getExecutionListeners() {
-    return (Map) super.getListeners();
+    return (Map) getOrCreateListeners();
   }
 
   // getters and setters //////////////////////////////////////////////////////
@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.util;
+
+import org.camunda.bpm.engine.impl.db.HasDbChangeTracking;
+
+/**
+ * Helps entities implementing {@link HasDbChangeTracking} to maintain the bit set of
+ * changed fields. A field is only marked as changed if its value actually changes, so
+ * that setting the current value again does not cause an update.
+ */
+public class ChangeTrackingUtil {
+
+  public static long markChanged(long changedFields, long field, Object oldValue, Object newValue) {
+    if (oldValue == null ? newValue != null : !oldValue.equals(newValue)) {
+      return changedFields | field;
+    }
+    return changedFields;
+  }
+
+  public static long markChanged(long changedFields, long field, int oldValue, int newValue) {
+    return oldValue != newValue ? changedFields | field : changedFields;
+  }
+
+  public static long markChanged(long changedFields, long field, long oldValue, long newValue) {
+    return oldValue != newValue ? changedFields | field : changedFields;
+  }
+
+}
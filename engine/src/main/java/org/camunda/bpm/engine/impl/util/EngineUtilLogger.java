@@ -209,4 +209,16 @@ public class EngineUtilLogger extends ProcessEngineLogger {
         "029",
         "Exception while parsing retry intervals '{}'", intervals, e.getMessage(), e);
   }
+
+  public void logUnableToReadParseSnapshot(String snapshotFile, Exception e) {
+    logWarn(
+        "030",
+        "Unable to read parse snapshot '{}', the resource is parsed again: {}", snapshotFile, e.getMessage(), e);
+  }
+
+  public void logUnableToWriteParseSnapshot(String snapshotFile, Exception e) {
+    logWarn(
+        "031",
+        "Unable to write parse snapshot '{}': {}", snapshotFile, e.getMessage(), e);
+  }
 }
@@ -66,6 +66,17 @@ public class Element {
     }
   }
 
+  /**
+   * Creates an element without attributes, e.g. when it is restored from a
+   * {@link ParseSnapshotCache snapshot}.
+   */
+  public Element(String uri, String tagName, int line, int column) {
+    this.uri = uri;
+    this.tagName = tagName;
+    this.line = line;
+    this.column = column;
+  }
+
   public List<Element> elements(String tagName) {
     return elementsNS( (String) null, tagName);
   }
@@ -18,7 +18,6 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
 
 import org.camunda.bpm.engine.BpmnParseException;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
@@ -52,6 +51,8 @@ public class Parse extends DefaultHandler {
   protected List<Problem> errors = new ArrayList<Problem>();
   protected List<Problem> warnings = new ArrayList<Problem>();
   protected String schemaResource;
+  protected ParseSnapshotCache snapshotCache;
+  protected String snapshotKey;
 
   public Parse(Parser parser) {
     this.parser = parser;
@@ -106,6 +107,17 @@ public class Parse extends DefaultHandler {
     return this;
   }
 
+  /**
+   * Restores the element tree from the given cache instead of parsing the
+   * source if a snapshot with the given key (typically the digest of the
+   * source) exists. Otherwise, the parsed element tree is stored in the cache.
+   */
+  public Parse sourceSnapshot(ParseSnapshotCache snapshotCache, String snapshotKey) {
+    this.snapshotCache = snapshotCache;
+    this.snapshotKey = snapshotKey;
+    return this;
+  }
+
   protected void setStreamSource(StreamSource streamSource) {
     if (this.streamSource!=null) {
       throw LOG.multipleSourcesException(this.streamSource, streamSource);
@@ -114,15 +126,18 @@ public class Parse extends DefaultHandler {
   }
 
   public Parse execute() {
+    String cacheKey = getSnapshotCacheKey();
+    if (cacheKey != null) {
+      rootElement = snapshotCache.load(cacheKey);
+      if (rootElement != null) {
+        return this;
+      }
+    }
+
     try {
       InputStream inputStream = streamSource.getInputStream();
 
-      if (schemaResource == null) { // must be done before parser is created
-        parser.getSaxParserFactory().setNamespaceAware(false);
-        parser.getSaxParserFactory().setValidating(false);
-      }
-
-      SAXParser saxParser = parser.getSaxParser();
+      SAXParser saxParser = parser.createSaxParser(schemaResource != null);
       if (schemaResource != null) {
         saxParser.setProperty(JAXP_SCHEMA_LANGUAGE, W3C_XML_SCHEMA);
         saxParser.setProperty(JAXP_SCHEMA_SOURCE, schemaResource);
@@ -134,9 +149,25 @@ public class Parse extends DefaultHandler {
       throw LOG.parsingFailureException(name, e);
     }
 
+    // only snapshot sources which were parsed (and validated) without problems
+    if (cacheKey != null && rootElement != null && !hasErrors() && !hasWarnings()) {
+      snapshotCache.store(cacheKey, rootElement);
+    }
+
     return this;
   }
 
+  /**
+   * The element tree depends on whether the source is validated against the
+   * schema since only then the parser is namespace aware.
+   */
+  protected String getSnapshotCacheKey() {
+    if (snapshotCache == null || snapshotKey == null) {
+      return null;
+    }
+    return snapshotKey + (schemaResource != null ? "-validated" : "-plain");
+  }
+
   public Element getRootElement() {
     return rootElement;
   }
@@ -191,16 +222,11 @@ public class Parse extends DefaultHandler {
     throw LOG.exceptionDuringParsing(strb.toString());
   }
 
+  /**
+   * Validates the source against the given schema. The parser is configured
+   * when the parse is executed.
+   */
   public void setSchemaResource(String schemaResource) {
-    SAXParserFactory saxParserFactory = parser.getSaxParserFactory();
-    saxParserFactory.setNamespaceAware(true);
-    saxParserFactory.setValidating(true);
-    try {
-      saxParserFactory.setFeature("http://xml.org/sax/features/namespace-prefixes", true);
-    }
-    catch (Exception e) {
-      LOG.unableToSetSchemaResource(e);
-    }
     this.schemaResource = schemaResource;
   }
 
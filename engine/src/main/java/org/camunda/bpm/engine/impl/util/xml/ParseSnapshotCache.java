@@ -0,0 +1,254 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.util.xml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.util.EngineUtilLogger;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+
+/**
+ * <p>Stores the element trees of parsed XML resources in a local directory.
+ * A resource which was parsed before, e.g. by a previous run of the engine or
+ * before its definitions were evicted from the deployment cache, is restored
+ * from the compact binary snapshot instead of being parsed and validated
+ * again.</p>
+ *
+ * <p>A snapshot is identified by the digest of the resource content. It is
+ * ignored if it was written by another engine version or in another snapshot
+ * format.</p>
+ */
+public class ParseSnapshotCache {
+
+  private static final EngineUtilLogger LOG = ProcessEngineLogger.UTIL_LOGGER;
+
+  protected static final int MAGIC_NUMBER = 0xCA3D5A9E;
+  protected static final int FORMAT_VERSION = 1;
+  protected static final String FILE_SUFFIX = ".snapshot";
+
+  protected static final int NULL_STRING = -1;
+  protected static final int NEW_STRING = -2;
+
+  protected File directory;
+  protected String engineVersion;
+
+  public ParseSnapshotCache(File directory) {
+    this(directory, getDefaultEngineVersion());
+  }
+
+  public ParseSnapshotCache(File directory, String engineVersion) {
+    this.directory = directory;
+    this.engineVersion = engineVersion;
+  }
+
+  /**
+   * @return the restored root element or <code>null</code> if no valid
+   * snapshot exists for the given key
+   */
+  public Element load(String key) {
+    File snapshotFile = getSnapshotFile(key);
+    if (!snapshotFile.isFile()) {
+      return null;
+    }
+
+    DataInputStream inputStream = null;
+    try {
+      inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)));
+      return readSnapshot(inputStream);
+    }
+    catch (IOException e) {
+      LOG.logUnableToReadParseSnapshot(snapshotFile.getPath(), e);
+      return null;
+    }
+    finally {
+      IoUtil.closeSilently(inputStream);
+    }
+  }
+
+  public void store(String key, Element rootElement) {
+    File snapshotFile = getSnapshotFile(key);
+    File tempFile = null;
+    DataOutputStream outputStream = null;
+    try {
+      directory.mkdirs();
+      tempFile = File.createTempFile(key, ".tmp", directory);
+
+      outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+      writeSnapshot(outputStream, rootElement);
+      outputStream.close();
+      outputStream = null;
+
+      // the snapshot may have been written concurrently by another engine
+      // which shares the directory; in that case the own copy is dropped
+      if (!tempFile.renameTo(snapshotFile)) {
+        tempFile.delete();
+      }
+    }
+    catch (IOException e) {
+      LOG.logUnableToWriteParseSnapshot(snapshotFile.getPath(), e);
+      IoUtil.closeSilently(outputStream);
+      if (tempFile != null) {
+        tempFile.delete();
+      }
+    }
+  }
+
+  protected File getSnapshotFile(String key) {
+    return new File(directory, key + FILE_SUFFIX);
+  }
+
+  // writing //////////////////////////////////////////////////////////
+
+  protected void writeSnapshot(DataOutputStream outputStream, Element rootElement) throws IOException {
+    outputStream.writeInt(MAGIC_NUMBER);
+    outputStream.writeInt(FORMAT_VERSION);
+    outputStream.writeUTF(engineVersion);
+
+    writeElement(outputStream, rootElement, new HashMap<String, Integer>());
+  }
+
+  protected void writeElement(DataOutputStream outputStream, Element element, Map<String, Integer> stringTable) throws IOException {
+    writeString(outputStream, element.uri, stringTable);
+    writeString(outputStream, element.tagName, stringTable);
+    outputStream.writeInt(element.line);
+    outputStream.writeInt(element.column);
+
+    outputStream.writeInt(element.attributeMap.size());
+    for (Attribute attribute : element.attributeMap.values()) {
+      writeString(outputStream, attribute.getUri(), stringTable);
+      writeString(outputStream, attribute.getName(), stringTable);
+      writeString(outputStream, attribute.getValue(), stringTable);
+    }
+
+    writeString(outputStream, element.getText(), stringTable);
+
+    outputStream.writeInt(element.elements.size());
+    for (Element child : element.elements) {
+      writeElement(outputStream, child, stringTable);
+    }
+  }
+
+  /**
+   * Tag names, namespaces and most attribute names occur many times in a
+   * resource, so every string is written once and referenced by its index
+   * afterwards.
+   */
+  protected void writeString(DataOutputStream outputStream, String value, Map<String, Integer> stringTable) throws IOException {
+    if (value == null) {
+      outputStream.writeInt(NULL_STRING);
+      return;
+    }
+
+    Integer index = stringTable.get(value);
+    if (index != null) {
+      outputStream.writeInt(index);
+    }
+    else {
+      stringTable.put(value, stringTable.size());
+
+      byte[] bytes = value.getBytes("UTF-8");
+      outputStream.writeInt(NEW_STRING);
+      outputStream.writeInt(bytes.length);
+      outputStream.write(bytes);
+    }
+  }
+
+  // reading //////////////////////////////////////////////////////////
+
+  protected Element readSnapshot(DataInputStream inputStream) throws IOException {
+    if (inputStream.readInt() != MAGIC_NUMBER
+        || inputStream.readInt() != FORMAT_VERSION
+        || !engineVersion.equals(inputStream.readUTF())) {
+      return null;
+    }
+
+    return readElement(inputStream, new ArrayList<String>());
+  }
+
+  protected Element readElement(DataInputStream inputStream, List<String> stringTable) throws IOException {
+    String uri = readString(inputStream, stringTable);
+    String tagName = readString(inputStream, stringTable);
+    int line = inputStream.readInt();
+    int column = inputStream.readInt();
+    Element element = new Element(uri, tagName, line, column);
+
+    int attributeCount = inputStream.readInt();
+    for (int i = 0; i < attributeCount; i++) {
+      String attributeUri = readString(inputStream, stringTable);
+      String name = readString(inputStream, stringTable);
+      String value = readString(inputStream, stringTable);
+      element.attributeMap.put(element.composeMapKey(attributeUri, name), new Attribute(name, value, attributeUri));
+    }
+
+    element.appendText(readString(inputStream, stringTable));
+
+    int childCount = inputStream.readInt();
+    for (int i = 0; i < childCount; i++) {
+      element.add(readElement(inputStream, stringTable));
+    }
+
+    return element;
+  }
+
+  protected String readString(DataInputStream inputStream, List<String> stringTable) throws IOException {
+    int index = inputStream.readInt();
+    if (index == NULL_STRING) {
+      return null;
+    }
+    else if (index == NEW_STRING) {
+      int length = inputStream.readInt();
+      if (length < 0) {
+        throw new IOException("Invalid string length " + length);
+      }
+      byte[] bytes = new byte[length];
+      inputStream.readFully(bytes);
+      String value = new String(bytes, "UTF-8");
+      stringTable.add(value);
+      return value;
+    }
+    else if (index >= 0 && index < stringTable.size()) {
+      return stringTable.get(index);
+    }
+    else {
+      throw new IOException("Invalid string reference " + index);
+    }
+  }
+
+  protected static String getDefaultEngineVersion() {
+    Package enginePackage = ProcessEngine.class.getPackage();
+    String version = enginePackage != null ? enginePackage.getImplementationVersion() : null;
+    return version != null ? version : "development";
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  public String getEngineVersion() {
+    return engineVersion;
+  }
+
+}
@@ -15,12 +15,17 @@ package org.camunda.bpm.engine.impl.util.xml;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.util.EngineUtilLogger;
+
 
 /**
  * @author Tom Baeyens
  */
 public class Parser {
 
+  private static final EngineUtilLogger LOG = ProcessEngineLogger.UTIL_LOGGER;
+
   protected static SAXParserFactory defaultSaxParserFactory = SAXParserFactory.newInstance();
   
   public static final Parser INSTANCE = new Parser();
@@ -33,6 +38,29 @@ public class Parser {
     return getSaxParserFactory().newSAXParser();
   }
 
+  /**
+   * Configures the factory and creates the parser in one step. The factory is shared
+   * and not thread-safe, while the resources of a deployment may be parsed in parallel.
+   *
+   * @param validating true if the parser validates against a schema and is namespace aware
+   */
+  protected SAXParser createSaxParser(boolean validating) throws Exception {
+    SAXParserFactory saxParserFactory = getSaxParserFactory();
+    synchronized (saxParserFactory) {
+      saxParserFactory.setNamespaceAware(validating);
+      saxParserFactory.setValidating(validating);
+      if (validating) {
+        try {
+          saxParserFactory.setFeature("http://xml.org/sax/features/namespace-prefixes", true);
+        }
+        catch (Exception e) {
+          LOG.unableToSetSchemaResource(e);
+        }
+      }
+      return saxParserFactory.newSAXParser();
+    }
+  }
+
   protected SAXParserFactory getSaxParserFactory() {
     return defaultSaxParserFactory;
   }
@@ -12,7 +12,10 @@
  */
 package org.camunda.bpm.engine.impl.variable.serializer;
 
+import java.util.Arrays;
+
 import javax.xml.bind.DatatypeConverter;
+
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.impl.util.StringUtil;
 import org.camunda.bpm.engine.variable.impl.value.UntypedValueImpl;
@@ -101,6 +104,17 @@ public abstract class AbstractSerializableValueSerializer<T extends Serializable
     return valueFields.getByteArrayValue();
   }
 
+  /**
+   * Compares the serialized values of the given value fields instead of their stored
+   * bytes, which may differ if the serializer stores the values in another form,
+   * e.g. compressed, than values written before.
+   *
+   * @return <code>true</code> if both value fields contain the same serialized value
+   */
+  public boolean isSameSerializedValue(ValueFields valueFields, ValueFields otherValueFields) {
+    return Arrays.equals(readSerializedValueFromFields(valueFields), readSerializedValueFromFields(otherValueFields));
+  }
+
   protected String getSerializedStringValue(byte[] serializedByteValue) {
     if(serializedByteValue != null) {
       if(!isSerializationTextBased()) {
@@ -63,4 +63,21 @@ public class Metrics {
   public final static String HISTORY_CLEANUP_REMOVED_CASE_INSTANCES = "history-cleanup-removed-case-instances";
   public final static String HISTORY_CLEANUP_REMOVED_DECISION_INSTANCES = "history-cleanup-removed-decision-instances";
   public final static String HISTORY_CLEANUP_REMOVED_BATCH_OPERATIONS = "history-cleanup-removed-batch-operations";
+
+  /**
+   * Number of hits and misses of the deployment caches and the number of entries evicted
+   * from them. Only reported if the deployment caches are created by the
+   * {@link org.camunda.bpm.engine.impl.persistence.deploy.cache.WeightedCacheFactory}.
+   */
+  public final static String DEPLOYMENT_CACHE_HIT = "deployment-cache-hit";
+  public final static String DEPLOYMENT_CACHE_MISS = "deployment-cache-miss";
+  public final static String DEPLOYMENT_CACHE_EVICTION = "deployment-cache-eviction";
+
+  /**
+   * Time spent to load definitions into the deployment cache. The value is the sum of
+   * the load times in milliseconds, not a number of occurrences. Only reported if the
+   * deployment caches are created by the
+   * {@link org.camunda.bpm.engine.impl.persistence.deploy.cache.WeightedCacheFactory}.
+   */
+  public final static String DEPLOYMENT_CACHE_LOAD_TIME = "deployment-cache-load-time";
 }
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.engine.query;
+
+import java.util.List;
+
+/**
+ * A page of query results fetched by keyset (seek) pagination, see
+ * {@link KeysetPaginatedQuery#listPageAfter(String, int)}.
+ *
+ * <p>In contrast to {@link Query#listPage(int, int)}, the next page is not
+ * addressed by an offset but by an opaque continuation token which encodes the
+ * ordering values of the last result of this page. Fetching a page therefore
+ * costs the same regardless of how deep the page is.</p>
+ *
+ * @param <U> the type of the query results
+ */
+public interface KeysetPage<U> {
+
+  /**
+   * @return the results of this page, never <code>null</code>
+   */
+  List<U> getResults();
+
+  /**
+   * @return the token to pass to {@link KeysetPaginatedQuery#listPageAfter(String, int)} in order
+   * to fetch the next page, or <code>null</code> if this is the last page
+   */
+  String getContinuationToken();
+
+  /**
+   * @return <code>true</code> if there are more results after this page
+   */
+  boolean hasMoreResults();
+
+}
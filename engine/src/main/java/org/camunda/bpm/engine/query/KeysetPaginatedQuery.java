@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.query;
+
+import org.camunda.bpm.engine.exception.NotValidException;
+
+/**
+ * A query whose results can be fetched page by page by keyset (seek) pagination.
+ */
+public interface KeysetPaginatedQuery<T extends Query< ? , ? >, U extends Object> extends Query<T, U> {
+
+  /**
+   * Executes the query and returns the page of at most <code>maxResults</code>
+   * entities that directly follow the position described by the given continuation
+   * token. In contrast to {@link #listPage(int, int)}, the database does not have to
+   * skip the rows of the previous pages, so every page is fetched in constant time.
+   *
+   * <p>The results are ordered by the ordering properties of the query followed by the
+   * id as tie-breaker. Only ordering properties that are not <code>null</code> for all
+   * results are supported.</p>
+   *
+   * <p>Keyset pagination is supported by task, job, historic process instance and
+   * historic activity instance queries.</p>
+   *
+   * @param continuationToken the token of the previous page as returned by
+   *   {@link KeysetPage#getContinuationToken()} or <code>null</code> to fetch the first page
+   * @param maxResults the maximum number of entities of the page
+   *
+   * @throws NotValidException if the token is invalid or was issued for a query with a
+   *   different ordering, or if the query is ordered by a property which is not supported
+   *   by keyset pagination
+   */
+  KeysetPage<U> listPageAfter(String continuationToken, int maxResults);
+
+}
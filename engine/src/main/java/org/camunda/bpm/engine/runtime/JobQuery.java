@@ -15,7 +15,7 @@ package org.camunda.bpm.engine.runtime;
 
 import java.util.Date;
 
-import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.query.KeysetPaginatedQuery;
 
 
 /**
@@ -24,7 +24,7 @@ import org.camunda.bpm.engine.query.Query;
  * @author Joram Barrez
  * @author Falko Menge
  */
-public interface JobQuery extends Query<JobQuery, Job> {
+public interface JobQuery extends KeysetPaginatedQuery<JobQuery, Job> {
 
   /** Only select jobs with the given id */
   JobQuery jobId(String jobId);
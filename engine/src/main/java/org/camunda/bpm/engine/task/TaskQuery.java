@@ -19,7 +19,7 @@ import java.util.List;
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineConfiguration;
 import org.camunda.bpm.engine.ProcessEngineException;
-import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.query.KeysetPaginatedQuery;
 import org.camunda.bpm.engine.variable.type.ValueType;
 
 /**
@@ -28,7 +28,7 @@ import org.camunda.bpm.engine.variable.type.ValueType;
  * @author Joram Barrez
  * @author Falko Menge
  */
-public interface TaskQuery extends Query<TaskQuery, Task>{
+public interface TaskQuery extends KeysetPaginatedQuery<TaskQuery, Task>{
 
   /**
    * Only select tasks with the given task id (in practice, there will be
@@ -959,4 +959,14 @@ public interface TaskQuery extends Query<TaskQuery, Task>{
    * this exception, {@link #or()} must be invoked first.
    * */
   TaskQuery endOr();
+
+  /**
+   * Executes the query and counts the results, but stops counting after
+   * <code>maxCount + 1</code> results. The database only has to find the first
+   * <code>maxCount + 1</code> matching rows instead of all of them.
+   *
+   * @return the number of results if it is at most <code>maxCount</code>,
+   *   otherwise <code>maxCount + 1</code> meaning "more than <code>maxCount</code>"
+   */
+  long countUpTo(int maxCount);
 }
@@ -31,6 +31,7 @@ create table ACT_GE_BYTEARRAY (
     BYTES_ image,
     GENERATED_ tinyint,
     TENANT_ID_ nvarchar(64),
+    HASH_ nvarchar(64),
     primary key (ID_)
 );
 
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.authorization;
+
+import static org.camunda.bpm.engine.authorization.Authorization.ANY;
+import static org.camunda.bpm.engine.authorization.Permissions.READ;
+import static org.camunda.bpm.engine.authorization.Permissions.UPDATE;
+import static org.camunda.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.authorization.Authorization;
+import org.camunda.bpm.engine.impl.persistence.entity.AuthorizationDecisionCache;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+public class AuthorizationDecisionCacheTest extends AuthorizationTest {
+
+  protected AuthorizationDecisionCache decisionCache;
+  protected List<String> groupIds;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    decisionCache = new AuthorizationDecisionCache(60000, 100);
+    processEngineConfiguration.setAuthorizationDecisionCache(decisionCache);
+    groupIds = Arrays.asList(groupId);
+  }
+
+  @Override
+  public void tearDown() {
+    processEngineConfiguration.setAuthorizationDecisionCache(null);
+    processEngineConfiguration.setPreloadAuthorizations(false);
+    ClockUtil.reset();
+    super.tearDown();
+  }
+
+  public void testCacheDecision() {
+    // given
+    createGrantAuthorization(PROCESS_DEFINITION, "aProcessKey", userId, READ);
+
+    // when
+    boolean authorized = authorizationService.isUserAuthorized(userId, groupIds, READ, PROCESS_DEFINITION, "aProcessKey");
+
+    // then
+    assertTrue(authorized);
+    assertTrue(decisionCache.size() > 0);
+  }
+
+  public void testClearCacheOnAuthorizationChange() {
+    // given
+    createGrantAuthorization(PROCESS_DEFINITION, "aProcessKey", userId, READ);
+    assertTrue(authorizationService.isUserAuthorized(userId, groupIds, READ, PROCESS_DEFINITION, "aProcessKey"));
+
+    // when
+    Authorization authorization = authorizationService.createAuthorizationQuery()
+      .resourceType(PROCESS_DEFINITION)
+      .resourceId("aProcessKey")
+      .singleResult();
+    authorizationService.deleteAuthorization(authorization.getId());
+
+    // then
+    assertFalse(authorizationService.isUserAuthorized(userId, groupIds, READ, PROCESS_DEFINITION, "aProcessKey"));
+  }
+
+  public void testExpireDecision() {
+    // given
+    ClockUtil.setCurrentTime(new Date());
+    decisionCache.put("aKey", true, decisionCache.getVersion());
+    assertEquals(Boolean.TRUE, decisionCache.get("aKey"));
+
+    // when
+    ClockUtil.setCurrentTime(new Date(ClockUtil.getCurrentTime().getTime() + 60001));
+
+    // then
+    assertNull(decisionCache.get("aKey"));
+  }
+
+  public void testDoNotCacheDecisionOfOutdatedVersion() {
+    // given
+    long version = decisionCache.getVersion();
+
+    // when
+    decisionCache.clear();
+    decisionCache.put("aKey", true, version);
+
+    // then
+    assertNull(decisionCache.get("aKey"));
+  }
+
+  public void testPreloadedAuthorizationsGrantAndRevoke() {
+    // given
+    processEngineConfiguration.setPreloadAuthorizations(true);
+    createGrantAuthorizationGroup(PROCESS_DEFINITION, ANY, groupId, READ, UPDATE);
+    createRevokeAuthorization(PROCESS_DEFINITION, "aProcessKey", userId, UPDATE);
+
+    // then
+    assertTrue(authorizationService.isUserAuthorized(userId, groupIds, READ, PROCESS_DEFINITION, "aProcessKey"));
+    assertFalse(authorizationService.isUserAuthorized(userId, groupIds, UPDATE, PROCESS_DEFINITION, "aProcessKey"));
+    assertTrue(authorizationService.isUserAuthorized(userId, groupIds, UPDATE, PROCESS_DEFINITION, "anotherProcessKey"));
+    assertFalse(authorizationService.isUserAuthorized("anotherUser", null, READ, PROCESS_DEFINITION, "aProcessKey"));
+  }
+
+  public void testPreloadedAuthorizationsGlobal() {
+    // given
+    processEngineConfiguration.setPreloadAuthorizations(true);
+    Authorization authorization = createGlobalAuthorization(PROCESS_DEFINITION, ANY);
+    authorization.addPermission(READ);
+    saveAuthorization(authorization);
+
+    // then
+    assertTrue(authorizationService.isUserAuthorized("anotherUser", null, READ, PROCESS_DEFINITION, "aProcessKey"));
+    assertFalse(authorizationService.isUserAuthorized("anotherUser", null, UPDATE, PROCESS_DEFINITION, "aProcessKey"));
+  }
+
+}
@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.authorization;
+
+import static org.camunda.bpm.engine.authorization.Authorization.ANY;
+import static org.camunda.bpm.engine.authorization.Permissions.READ;
+import static org.camunda.bpm.engine.authorization.Permissions.READ_INSTANCE;
+import static org.camunda.bpm.engine.authorization.Permissions.READ_TASK;
+import static org.camunda.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
+import static org.camunda.bpm.engine.authorization.Resources.PROCESS_INSTANCE;
+import static org.camunda.bpm.engine.authorization.Resources.TASK;
+
+import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.task.TaskQuery;
+
+public class PrecomputedQueryAuthorizationTest extends AuthorizationTest {
+
+  protected static final String PROCESS_KEY = "oneTaskProcess";
+
+  protected String deploymentId;
+
+  @Override
+  public void setUp() throws Exception {
+    deploymentId = createDeployment(null, "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml").getId();
+    super.setUp();
+    processEngineConfiguration.setPrecomputeQueryAuthorizations(true);
+  }
+
+  @Override
+  public void tearDown() {
+    processEngineConfiguration.setPrecomputeQueryAuthorizations(false);
+    super.tearDown();
+    deleteDeployment(deploymentId);
+  }
+
+  public void testTaskQueryWithoutAuthorization() {
+    // given
+    startProcessInstanceByKey(PROCESS_KEY);
+
+    // when
+    TaskQuery query = taskService.createTaskQuery();
+
+    // then
+    verifyQueryResults(query, 0);
+  }
+
+  public void testTaskQueryWithReadPermissionOnTask() {
+    // given
+    startProcessInstanceByKey(PROCESS_KEY);
+    startProcessInstanceByKey(PROCESS_KEY);
+    String taskId = selectAnyTask().getId();
+    createGrantAuthorization(TASK, taskId, userId, READ);
+
+    // when
+    TaskQuery query = taskService.createTaskQuery();
+
+    // then
+    verifyQueryResults(query, 1);
+    assertEquals(taskId, query.singleResult().getId());
+  }
+
+  public void testTaskQueryWithReadTaskPermissionOnProcessDefinition() {
+    // given
+    startProcessInstanceByKey(PROCESS_KEY);
+    startProcessInstanceByKey(PROCESS_KEY);
+    createGrantAuthorizationGroup(PROCESS_DEFINITION, PROCESS_KEY, groupId, READ_TASK);
+
+    // when
+    TaskQuery query = taskService.createTaskQuery();
+
+    // then
+    verifyQueryResults(query, 2);
+  }
+
+  public void testTaskQueryWithRevokedTask() {
+    // given
+    startProcessInstanceByKey(PROCESS_KEY);
+    startProcessInstanceByKey(PROCESS_KEY);
+    String taskId = selectAnyTask().getId();
+    createGrantAuthorizationGroup(TASK, ANY, groupId, READ);
+    createRevokeAuthorization(TASK, taskId, userId, READ);
+
+    // when
+    TaskQuery query = taskService.createTaskQuery();
+
+    // then
+    verifyQueryResults(query, 1);
+    assertFalse(taskId.equals(query.singleResult().getId()));
+  }
+
+  public void testTaskQueryWithTaskRevokeBeforeProcessDefinitionGrant() {
+    // given
+    startProcessInstanceByKey(PROCESS_KEY);
+    createRevokeAuthorization(TASK, ANY, userId, READ);
+    createGrantAuthorization(PROCESS_DEFINITION, PROCESS_KEY, userId, READ_TASK);
+
+    // when
+    TaskQuery query = taskService.createTaskQuery();
+
+    // then the revoke on the task decides before the process definition is considered
+    verifyQueryResults(query, 0);
+  }
+
+  public void testStandaloneTaskQueryWithReadPermissionOnAnyTask() {
+    // given
+    String taskId = "myTask";
+    createTask(taskId);
+    createGrantAuthorization(TASK, ANY, userId, READ);
+
+    // when
+    TaskQuery query = taskService.createTaskQuery();
+
+    // then
+    verifyQueryResults(query, 1);
+
+    deleteTask(taskId, true);
+  }
+
+  public void testProcessInstanceQueryWithReadPermissionOnProcessInstance() {
+    // given
+    String processInstanceId = startProcessInstanceByKey(PROCESS_KEY).getId();
+    startProcessInstanceByKey(PROCESS_KEY);
+    createGrantAuthorization(PROCESS_INSTANCE, processInstanceId, userId, READ);
+
+    // when
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery();
+
+    // then
+    verifyQueryResults(query, 1);
+    assertEquals(processInstanceId, query.singleResult().getId());
+  }
+
+  public void testProcessInstanceQueryWithRevokedProcessInstance() {
+    // given
+    String processInstanceId = startProcessInstanceByKey(PROCESS_KEY).getId();
+    startProcessInstanceByKey(PROCESS_KEY);
+    createGrantAuthorizationGroup(PROCESS_DEFINITION, PROCESS_KEY, groupId, READ_INSTANCE);
+    createRevokeAuthorization(PROCESS_INSTANCE, processInstanceId, userId, READ);
+
+    // when
+    ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery();
+
+    // then
+    verifyQueryResults(query, 1);
+    assertFalse(processInstanceId.equals(query.singleResult().getId()));
+  }
+
+  protected Task selectAnyTask() {
+    disableAuthorization();
+    Task task = taskService.createTaskQuery().listPage(0, 1).get(0);
+    enableAuthorization();
+    return task;
+  }
+
+}
@@ -164,6 +164,28 @@ public class DeploymentCacheCfgTest {
     assertNotNull(modelInstance);
   }
 
+  @Test
+  public void testDisableModelInstanceCache() {
+
+    // given
+    deploy(ProcessModels.ONE_TASK_PROCESS_WITH_DOCUMENTATION);
+    String processDefinitionId = runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY).getProcessDefinitionId();
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+    deploymentCache.setModelInstanceCacheEnabled(false);
+
+    try {
+      // when
+      BpmnModelInstance modelInstance = repositoryService.getBpmnModelInstance(processDefinitionId);
+
+      // then the model instance is read but not kept in the cache
+      assertNotNull(modelInstance);
+      assertNull(deploymentCache.getBpmnModelInstanceCache().get(processDefinitionId));
+    }
+    finally {
+      deploymentCache.setModelInstanceCacheEnabled(true);
+    }
+  }
+
   @Test
   public void testDescriptionIsNullWhenFetchProcessDefinitionDescriptionIsDisabled() {
 
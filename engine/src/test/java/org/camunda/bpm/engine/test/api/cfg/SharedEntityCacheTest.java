@@ -0,0 +1,158 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.cfg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SharedDbEntityCache;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SharedDbEntityCacheInvalidationListener;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class SharedEntityCacheTest {
+
+  protected static List<String> invalidatedIds = new ArrayList<String>();
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      List<SharedDbEntityCacheInvalidationListener> listeners = new ArrayList<SharedDbEntityCacheInvalidationListener>();
+      listeners.add(new SharedDbEntityCacheInvalidationListener() {
+        public void onInvalidation(Class<?> entityType, String id) {
+          invalidatedIds.add(id);
+        }
+      });
+
+      configuration.setSharedEntityCacheEnabled(true);
+      configuration.setSharedEntityCacheInvalidationListeners(listeners);
+      return configuration;
+    }
+  };
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected ManagementService managementService;
+  protected SharedDbEntityCache sharedEntityCache;
+  protected String jobDefinitionId;
+
+  @Before
+  public void setUp() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    managementService = engineRule.getManagementService();
+    sharedEntityCache = processEngineConfiguration.getSharedEntityCache();
+
+    testRule.deploy(Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .camundaAsyncBefore()
+      .endEvent()
+      .done());
+    jobDefinitionId = managementService.createJobDefinitionQuery().singleResult().getId();
+
+    sharedEntityCache.clear();
+    invalidatedIds.clear();
+  }
+
+  @Test
+  public void testCacheEntityBetweenCommands() {
+    // given
+    JobDefinitionEntity jobDefinition = selectJobDefinition(jobDefinitionId);
+    assertEquals(1, sharedEntityCache.size());
+
+    // when
+    JobDefinitionEntity cachedJobDefinition = selectJobDefinition(jobDefinitionId);
+
+    // then every command gets its own copy
+    assertNotNull(cachedJobDefinition);
+    assertNotSame(jobDefinition, cachedJobDefinition);
+    assertEquals(jobDefinition.getActivityId(), cachedJobDefinition.getActivityId());
+    assertEquals(jobDefinition.getRevision(), cachedJobDefinition.getRevision());
+  }
+
+  @Test
+  public void testInvalidateEntityOnUpdate() {
+    // given
+    selectJobDefinition(jobDefinitionId);
+
+    // when
+    managementService.suspendJobDefinitionById(jobDefinitionId);
+
+    // then
+    assertNull(sharedEntityCache.get(JobDefinitionEntity.class, jobDefinitionId));
+    assertFalse(invalidatedIds.isEmpty());
+    assertTrue(selectJobDefinition(jobDefinitionId).isSuspended());
+  }
+
+  @Test
+  public void testInvalidateEntityLocally() {
+    // given
+    selectJobDefinition(jobDefinitionId);
+
+    // when
+    sharedEntityCache.invalidateLocally(JobDefinitionEntity.class, jobDefinitionId);
+
+    // then
+    assertEquals(0, sharedEntityCache.size());
+    assertTrue(invalidatedIds.isEmpty());
+  }
+
+  @Test
+  public void testDoNotCacheOtherEntities() {
+    // given
+    final String processDefinitionId = engineRule.getRepositoryService().createProcessDefinitionQuery().singleResult().getId();
+
+    // when
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        commandContext.getDbEntityManager().selectById(ProcessDefinitionEntity.class, processDefinitionId);
+        return null;
+      }
+    });
+
+    // then
+    assertEquals(0, sharedEntityCache.size());
+  }
+
+  protected JobDefinitionEntity selectJobDefinition(final String id) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<JobDefinitionEntity>() {
+      public JobDefinitionEntity execute(CommandContext commandContext) {
+        return commandContext.getJobDefinitionManager().findById(id);
+      }
+    });
+  }
+
+}
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.cfg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.CacheWeigher;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.WeightedCache;
+import org.junit.Test;
+
+public class WeightedCacheTest {
+
+  protected static final CacheWeigher LENGTH_WEIGHER = new CacheWeigher() {
+    public int weigh(Object value) {
+      return ((String) value).length();
+    }
+  };
+
+  @Test
+  public void testBoundByWeight() {
+    // given
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(1000, LENGTH_WEIGHER);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      cache.put("key" + i, repeat("x", 100));
+    }
+
+    // then only the most recently added entries exceed the maximum weight
+    assertTrue(cache.getWeight() <= 1000 + 16 * 100);
+    assertTrue(cache.getEvictionCount() > 0);
+    assertEquals(cache.getWeight(), cache.size() * 100);
+  }
+
+  @Test
+  public void testKeepRecentlyAddedEntry() {
+    // given
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(10, LENGTH_WEIGHER);
+
+    // when an entry heavier than the cache is added
+    cache.put("key", repeat("x", 100));
+
+    // then it can be resolved
+    assertNotNull(cache.get("key"));
+  }
+
+  @Test
+  public void testKeepFrequentlyUsedEntriesOnScan() {
+    // given
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(100, LENGTH_WEIGHER);
+    for (int i = 0; i < 5; i++) {
+      cache.put("hot" + i, "x");
+    }
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 5; i++) {
+        cache.get("hot" + i);
+      }
+    }
+
+    // when many entries are accessed once
+    for (int i = 0; i < 1000; i++) {
+      cache.put("cold" + i, "x");
+    }
+
+    // then the frequently used entries are kept
+    for (int i = 0; i < 5; i++) {
+      assertNotNull(cache.get("hot" + i));
+    }
+  }
+
+  @Test
+  public void testCountHitsAndMisses() {
+    // given
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(100, LENGTH_WEIGHER);
+    cache.put("key", "value");
+
+    // when
+    cache.get("key");
+    cache.get("anotherKey");
+
+    // then
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testRemoveAndClear() {
+    // given
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(100, LENGTH_WEIGHER);
+    cache.put("key", "value");
+    cache.put("anotherKey", "value");
+
+    // when
+    cache.remove("key");
+
+    // then
+    assertNull(cache.get("key"));
+    assertEquals(1, cache.size());
+    assertEquals(5, cache.getWeight());
+
+    // when
+    cache.clear();
+
+    // then
+    assertTrue(cache.isEmpty());
+    assertEquals(0, cache.getWeight());
+  }
+
+  protected String repeat(String value, int times) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < times; i++) {
+      builder.append(value);
+    }
+    return builder.toString();
+  }
+
+}
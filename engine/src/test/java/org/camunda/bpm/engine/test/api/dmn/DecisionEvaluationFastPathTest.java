@@ -0,0 +1,216 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.dmn;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.engine.DecisionService;
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.authorization.Groups;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.RuleChain;
+
+public class DecisionEvaluationFastPathTest {
+
+  protected static final String DMN_DECISION_TABLE = "org/camunda/bpm/engine/test/api/dmn/Example.dmn";
+  protected static final String DMN_DECISION_TABLE_V2 = "org/camunda/bpm/engine/test/api/dmn/Example_v2.dmn";
+
+  protected static final String DECISION_DEFINITION_KEY = "decision";
+
+  protected ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected DecisionService decisionService;
+  protected IdentityService identityService;
+
+  protected CommandExecutor commandExecutorReadOnly;
+  protected CountingCommandExecutor countingCommandExecutorReadOnly;
+  protected HistoryLevel historyLevel;
+
+  @Before
+  public void init() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    processEngineConfiguration.setDecisionEvaluationFastPathEnabled(true);
+
+    commandExecutorReadOnly = processEngineConfiguration.getCommandExecutorReadOnly();
+    countingCommandExecutorReadOnly = new CountingCommandExecutor(commandExecutorReadOnly);
+    processEngineConfiguration.setCommandExecutorReadOnly(countingCommandExecutorReadOnly);
+    historyLevel = processEngineConfiguration.getHistoryLevel();
+
+    decisionService = engineRule.getDecisionService();
+    identityService = engineRule.getIdentityService();
+  }
+
+  @After
+  public void tearDown() {
+    processEngineConfiguration.setDecisionEvaluationFastPathEnabled(false);
+    processEngineConfiguration.setCommandExecutorReadOnly(commandExecutorReadOnly);
+    processEngineConfiguration.setHistoryLevel(historyLevel);
+    processEngineConfiguration.setAuthorizationEnabled(false);
+    identityService.clearAuthentication();
+    ClockUtil.reset();
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void evaluateAll() {
+    List<Map<String, Object>> variablesList = new ArrayList<Map<String, Object>>();
+    variablesList.add(createVariables("silver", 723));
+    variablesList.add(createVariables("bronze", 100));
+    variablesList.add(createVariables("gold", 2000));
+
+    List<DmnDecisionResult> decisionResults = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY).evaluateAll(variablesList);
+
+    assertThat(decisionResults.size(), is(3));
+    assertThat((String) decisionResults.get(0).getSingleResult().getEntry("result"), is("ok"));
+    assertThat((String) decisionResults.get(1).getSingleResult().getEntry("result"), is("notok"));
+    assertThat((String) decisionResults.get(2).getSingleResult().getEntry("result"), is("ok"));
+  }
+
+  @Test
+  public void evaluateAllWithoutVariables() {
+    thrown.expect(NotValidException.class);
+    thrown.expectMessage("variablesList");
+
+    decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY).evaluateAll(null);
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void reuseLookupOfLatestVersion() {
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+    long timeToLive = processEngineConfiguration.getDecisionEvaluationFastPathLookupTimeToLive();
+    ClockUtil.setCurrentTime(new Date());
+
+    decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY).variables(createVariables("silver", 723)).evaluate();
+
+    assertThat(deploymentCache.findResolvedDecisionDefinition("key:" + DECISION_DEFINITION_KEY, timeToLive), is(notNullValue()));
+
+    // the lookup expires after the time to live
+    ClockUtil.setCurrentTime(new Date(ClockUtil.getCurrentTime().getTime() + timeToLive));
+
+    assertThat(deploymentCache.findResolvedDecisionDefinition("key:" + DECISION_DEFINITION_KEY, timeToLive), is(nullValue()));
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void evaluateLatestVersionAfterDeployment() {
+    DmnDecisionResult decisionResult = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .variables(createVariables("silver", 723))
+        .evaluate();
+    assertThat((String) decisionResult.getSingleResult().getEntry("result"), is("ok"));
+
+    // when a new version is deployed on this process engine
+    testRule.deploy(DMN_DECISION_TABLE_V2);
+
+    // then the new version is evaluated without waiting for the lookup to expire
+    decisionResult = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .variables(createVariables("silver", 723))
+        .evaluate();
+    assertThat((String) decisionResult.getSingleResult().getEntry("result"), is("notok"));
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void evaluateWithReadOnlyCommandExecutor() {
+    processEngineConfiguration.setHistoryLevel(HistoryLevel.HISTORY_LEVEL_NONE);
+
+    DmnDecisionResult decisionResult = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .variables(createVariables("silver", 723))
+        .evaluate();
+
+    assertThat((String) decisionResult.getSingleResult().getEntry("result"), is("ok"));
+    assertThat(countingCommandExecutorReadOnly.executedCommands, is(1));
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void evaluateWithoutReadOnlyCommandExecutorIfHistoryIsProduced() {
+    processEngineConfiguration.setHistoryLevel(HistoryLevel.HISTORY_LEVEL_FULL);
+
+    DmnDecisionResult decisionResult = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .variables(createVariables("silver", 723))
+        .evaluate();
+
+    assertThat((String) decisionResult.getSingleResult().getEntry("result"), is("ok"));
+    assertThat(countingCommandExecutorReadOnly.executedCommands, is(0));
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void evaluateWithoutReadOnlyCommandExecutorIfAuthorizationIsEnabled() {
+    processEngineConfiguration.setHistoryLevel(HistoryLevel.HISTORY_LEVEL_NONE);
+    processEngineConfiguration.setAuthorizationEnabled(true);
+    identityService.setAuthentication("admin", Arrays.asList(Groups.CAMUNDA_ADMIN));
+
+    DmnDecisionResult decisionResult = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .variables(createVariables("silver", 723))
+        .evaluate();
+
+    assertThat((String) decisionResult.getSingleResult().getEntry("result"), is("ok"));
+    assertThat(countingCommandExecutorReadOnly.executedCommands, is(0));
+  }
+
+  protected Map<String, Object> createVariables(String status, double sum) {
+    return Variables.createVariables().putValue("status", status).putValue("sum", sum);
+  }
+
+  protected static class CountingCommandExecutor implements CommandExecutor {
+
+    protected CommandExecutor delegate;
+    protected int executedCommands = 0;
+
+    public CountingCommandExecutor(CommandExecutor delegate) {
+      this.delegate = delegate;
+    }
+
+    public <T> T execute(Command<T> command) {
+      executedCommands++;
+      return delegate.execute(command);
+    }
+  }
+
+}
@@ -0,0 +1,197 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.mgmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.batch.BatchStatistics;
+import org.camunda.bpm.engine.batch.history.HistoricBatch;
+import org.camunda.bpm.engine.impl.batch.BatchThroughputController;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.api.runtime.migration.MigrationTestRule;
+import org.camunda.bpm.engine.test.api.runtime.migration.batch.BatchMigrationHelper;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class BatchThroughputControlTest {
+
+  protected ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected MigrationTestRule migrationRule = new MigrationTestRule(engineRule);
+  protected BatchMigrationHelper helper = new BatchMigrationHelper(engineRule, migrationRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(migrationRule);
+
+  protected ProcessEngineConfigurationImpl configuration;
+  protected ManagementService managementService;
+
+  protected int defaultBatchJobsPerSeed;
+  protected int defaultInvocationsPerBatchJob;
+
+  @Before
+  public void initServices() {
+    configuration = engineRule.getProcessEngineConfiguration();
+    managementService = engineRule.getManagementService();
+  }
+
+  @Before
+  public void enableBatchThroughputControl() {
+    defaultBatchJobsPerSeed = configuration.getBatchJobsPerSeed();
+    defaultInvocationsPerBatchJob = configuration.getInvocationsPerBatchJob();
+
+    configuration.setBatchJobsPerSeed(10);
+    configuration.setInvocationsPerBatchJob(2);
+
+    // every observed job is faster than the target execution time, so the batch jobs grow up to the maximum
+    configuration.setBatchThroughputControlEnabled(true);
+    configuration.setBatchThroughputController(new FixedCapacityThroughputController(0.5, 60000, 4));
+
+    ClockUtil.setCurrentTime(new Date());
+  }
+
+  @After
+  public void removeBatches() {
+    helper.removeAllRunningAndHistoricBatches();
+  }
+
+  @After
+  public void resetBatchConfiguration() {
+    configuration.setBatchJobsPerSeed(defaultBatchJobsPerSeed);
+    configuration.setInvocationsPerBatchJob(defaultInvocationsPerBatchJob);
+    configuration.setBatchThroughputControlEnabled(false);
+    configuration.setBatchThroughputController(null);
+
+    ClockUtil.reset();
+  }
+
+  @Test
+  public void testBatchExecution() {
+    // given
+    Batch batch = helper.migrateProcessInstancesAsync(10);
+    assertEquals(5, batch.getTotalJobs());
+
+    // when the first seed job is executed
+    helper.executeSeedJob(batch);
+
+    // then only enough jobs to occupy the target share of the job executor are created
+    assertEquals(2, helper.getExecutionJobs(batch).size());
+
+    // when the seed job is executed again while the batch jobs are waiting
+    helper.executeSeedJob(batch);
+
+    // then no batch jobs are created and the seed job is postponed
+    assertEquals(2, helper.getExecutionJobs(batch).size());
+
+    Job seedJob = helper.getSeedJob(batch);
+    assertNotNull(seedJob.getDuedate());
+    assertTrue(seedJob.getDuedate().after(ClockUtil.getCurrentTime()));
+
+    // when the batch jobs are executed and the seed job is executed again
+    helper.executeJobs(batch);
+    helper.executeSeedJob(batch);
+
+    // then the remaining invocations are distributed over larger batch jobs
+    batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+    assertEquals(4, batch.getInvocationsPerBatchJob());
+    assertEquals(4, batch.getTotalJobs());
+    assertEquals(4, batch.getJobsCreated());
+    assertEquals(2, helper.getExecutionJobs(batch).size());
+
+    assertNull(helper.getSeedJob(batch));
+    assertNotNull(helper.getMonitorJob(batch));
+
+    // when the remaining batch jobs and the monitor job are executed
+    helper.executeJobs(batch);
+    helper.executeMonitorJob(batch);
+
+    // then the batch is completed
+    assertEquals(0, managementService.createBatchQuery().count());
+    assertEquals(10, helper.countTargetProcessInstances());
+  }
+
+  @Test
+  public void testSeedJobDelay() {
+    // given
+    Batch batch = helper.migrateProcessInstancesAsync(10);
+    helper.executeSeedJob(batch);
+
+    // when the batch jobs are observed to take one second and the seed job is executed again
+    configuration.getBatchThroughputController().recordBatchJobExecution(batch.getBatchJobDefinitionId(), 1000);
+    helper.executeSeedJob(batch);
+
+    // then the seed job waits until one of the two waiting batch jobs is expected to be executed
+    Job seedJob = helper.getSeedJob(batch);
+    assertEquals(ClockUtil.getCurrentTime().getTime() + 1000, seedJob.getDuedate().getTime(), 999);
+  }
+
+  @Test
+  public void testThroughputTargetsInStatistics() {
+    // given
+    Batch batch = helper.migrateProcessInstancesAsync(10);
+    configuration.getBatchThroughputController().recordBatchJobExecution(batch.getBatchJobDefinitionId(), 1000);
+
+    // when
+    BatchStatistics statistics = managementService.createBatchStatisticsQuery().singleResult();
+
+    // then
+    assertEquals(1, statistics.getTargetConcurrentJobs());
+    assertEquals(60000, statistics.getTargetJobExecutionTime());
+    assertEquals(1000, statistics.getAverageJobExecutionTime());
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  public void testHistoricBatchIsAdjusted() {
+    // given
+    Batch batch = helper.migrateProcessInstancesAsync(10);
+    helper.executeSeedJob(batch);
+    helper.executeJobs(batch);
+
+    // when the seed job resizes the batch jobs
+    helper.executeSeedJob(batch);
+
+    // then the historic batch is updated as well
+    HistoricBatch historicBatch = engineRule.getHistoryService().createHistoricBatchQuery().singleResult();
+    assertEquals(4, historicBatch.getInvocationsPerBatchJob());
+    assertEquals(4, historicBatch.getTotalJobs());
+  }
+
+  protected static class FixedCapacityThroughputController extends BatchThroughputController {
+
+    public FixedCapacityThroughputController(double targetExecutorShare, long targetJobExecutionTime, int maxInvocationsPerBatchJob) {
+      super(targetExecutorShare, targetJobExecutionTime, maxInvocationsPerBatchJob);
+    }
+
+    @Override
+    public int getJobExecutorCapacity(ProcessEngineConfigurationImpl processEngineConfiguration) {
+      return 2;
+    }
+  }
+
+}
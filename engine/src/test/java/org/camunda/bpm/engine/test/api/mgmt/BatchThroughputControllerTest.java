@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.mgmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.camunda.bpm.engine.impl.batch.BatchEntity;
+import org.camunda.bpm.engine.impl.batch.BatchThroughputController;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchThroughputControllerTest {
+
+  protected BatchThroughputController controller;
+  protected BatchEntity batch;
+
+  @Before
+  public void setUp() {
+    controller = new BatchThroughputController(0.5, 1000, 100);
+
+    batch = new BatchEntity();
+    batch.setBatchJobDefinitionId("batchJobDefinitionId");
+    batch.setTotalJobs(100);
+    batch.setJobsCreated(10);
+    batch.setBatchJobsPerSeed(100);
+    batch.setInvocationsPerBatchJob(10);
+  }
+
+  @Test
+  public void testIncreaseInvocationsOfFastJobs() {
+    // given
+    controller.recordBatchJobExecution("batchJobDefinitionId", 400);
+
+    // when
+    controller.adjust(batch, 0, 10, 100);
+
+    // then the invocations are at most doubled
+    assertEquals(20, batch.getInvocationsPerBatchJob());
+    assertEquals(10 + 45, batch.getTotalJobs());
+  }
+
+  @Test
+  public void testDecreaseInvocationsOfSlowJobs() {
+    // given
+    controller.recordBatchJobExecution("batchJobDefinitionId", 1600);
+
+    // when
+    controller.adjust(batch, 0, 10, 100);
+
+    // then
+    assertEquals(6, batch.getInvocationsPerBatchJob());
+    assertEquals(10 + 150, batch.getTotalJobs());
+  }
+
+  @Test
+  public void testLimitInvocationsPerBatchJob() {
+    // given
+    batch.setInvocationsPerBatchJob(80);
+    controller.recordBatchJobExecution("batchJobDefinitionId", 10);
+
+    // when
+    controller.adjust(batch, 0, 10, 100);
+
+    // then
+    assertEquals(100, batch.getInvocationsPerBatchJob());
+  }
+
+  @Test
+  public void testKeepInvocationsWithoutObservations() {
+    // when
+    controller.adjust(batch, 0, 10, 100);
+
+    // then
+    assertEquals(10, batch.getInvocationsPerBatchJob());
+    assertEquals(100, batch.getTotalJobs());
+  }
+
+  @Test
+  public void testCreateJobsForTargetExecutorShare() {
+    // when three batch jobs are waiting and five threads should be occupied
+    boolean createJobs = controller.adjust(batch, 3, 10, 100);
+
+    // then the seed job creates jobs for the next two rounds
+    assertTrue(createJobs);
+    assertEquals(7, batch.getBatchJobsPerSeed());
+  }
+
+  @Test
+  public void testPostponeSeedingWithFullBacklog() {
+    // when
+    boolean createJobs = controller.adjust(batch, 10, 10, 100);
+
+    // then
+    assertFalse(createJobs);
+    assertEquals(100, batch.getBatchJobsPerSeed());
+  }
+
+  @Test
+  public void testLimitBatchJobsPerSeed() {
+    // when
+    controller.adjust(batch, 0, 100, 20);
+
+    // then
+    assertEquals(20, batch.getBatchJobsPerSeed());
+  }
+
+  @Test
+  public void testCorrectTotalJobsWhenSeedingCompleted() {
+    // given
+    batch.setJobsCreated(42);
+
+    // when
+    controller.seedingCompleted(batch);
+
+    // then
+    assertEquals(42, batch.getTotalJobs());
+  }
+
+}
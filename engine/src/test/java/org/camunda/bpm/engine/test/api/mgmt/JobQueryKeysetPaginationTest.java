@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.mgmt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.runtime.JobQuery;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+
+public class JobQueryKeysetPaginationTest extends PluggableProcessEngineTestCase {
+
+  protected static final BpmnModelInstance ASYNC_PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+        .camundaAsyncBefore()
+      .userTask()
+      .endEvent()
+      .done();
+
+  protected void setUp() throws Exception {
+    super.setUp();
+
+    deployment(ASYNC_PROCESS);
+
+    for (int i = 0; i < 10; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+    }
+
+    List<Job> jobs = managementService.createJobQuery().list();
+    for (int i = 0; i < jobs.size(); i++) {
+      managementService.setJobRetries(jobs.get(i).getId(), i % 3 + 1);
+    }
+  }
+
+  public void testPagesOrderedById() {
+    List<Job> expected = managementService.createJobQuery().orderByJobId().asc().list();
+
+    List<Job> paged = fetchAllPages(4, false);
+
+    assertSameJobs(expected, paged);
+  }
+
+  public void testPagesOrderedByRetries() {
+    List<Job> expected = managementService.createJobQuery().orderByJobRetries().desc().orderByJobId().asc().list();
+
+    List<Job> paged = fetchAllPages(3, true);
+
+    assertSameJobs(expected, paged);
+  }
+
+  public void testUnsupportedOrderingProperty() {
+    try {
+      managementService.createJobQuery().orderByJobDuedate().asc().listPageAfter(null, 2);
+      fail("exception expected");
+    }
+    catch (NotValidException e) {
+      assertTextPresent("Keyset pagination is not supported", e.getMessage());
+    }
+  }
+
+  protected List<Job> fetchAllPages(int pageSize, boolean orderByRetries) {
+    List<Job> jobs = new ArrayList<Job>();
+    String continuationToken = null;
+
+    do {
+      JobQuery query = managementService.createJobQuery();
+      if (orderByRetries) {
+        query.orderByJobRetries().desc();
+      }
+
+      KeysetPage<Job> page = query.listPageAfter(continuationToken, pageSize);
+      assertTrue(page.getResults().size() <= pageSize);
+      jobs.addAll(page.getResults());
+      continuationToken = page.getContinuationToken();
+    }
+    while (continuationToken != null);
+
+    return jobs;
+  }
+
+  protected void assertSameJobs(List<Job> expected, List<Job> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getId(), actual.get(i).getId());
+    }
+  }
+
+}
@@ -384,4 +384,13 @@ public class MetricsTest {
     processEngineConfiguration.getDbMetricsReporter().setReporterId(null);
   }
 
+  @Test
+  public void testNoDeploymentCacheMetersWithDefaultCache() {
+    // the default deployment caches do not keep track of their usage
+    Assert.assertNull(processEngineConfiguration.getMetricsRegistry().getMeterByName(Metrics.DEPLOYMENT_CACHE_HIT));
+    Assert.assertNull(processEngineConfiguration.getMetricsRegistry().getMeterByName(Metrics.DEPLOYMENT_CACHE_MISS));
+    Assert.assertNull(processEngineConfiguration.getMetricsRegistry().getMeterByName(Metrics.DEPLOYMENT_CACHE_EVICTION));
+    Assert.assertNull(processEngineConfiguration.getMetricsRegistry().getMeterByName(Metrics.DEPLOYMENT_CACHE_LOAD_TIME));
+  }
+
 }
@@ -272,6 +272,35 @@ public class MultiTenancyDecisionEvaluationTest extends PluggableProcessEngineTe
     assertThatDecisionHasResult(decisionResult, RESULT_OF_FIRST_VERSION);
   }
 
+  public void testEvaluateDecisionByKeyWithAuthenticatedTenantFastPath() {
+    processEngineConfiguration.setDecisionEvaluationFastPathEnabled(true);
+
+    try {
+      deploymentForTenant(TENANT_ONE, DMN_FILE);
+      deploymentForTenant(TENANT_TWO, DMN_FILE_SECOND_VERSION);
+
+      identityService.setAuthentication("user", null, Arrays.asList(TENANT_ONE));
+
+      DmnDecisionResult decisionResult = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+          .variables(createVariables())
+          .evaluate();
+
+      assertThatDecisionHasResult(decisionResult, RESULT_OF_FIRST_VERSION);
+
+      // the lookup of the first tenant is not reused for another tenant
+      identityService.setAuthentication("user", null, Arrays.asList(TENANT_TWO));
+
+      decisionResult = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+          .variables(createVariables())
+          .evaluate();
+
+      assertThatDecisionHasResult(decisionResult, RESULT_OF_SECOND_VERSION);
+
+    } finally {
+      processEngineConfiguration.setDecisionEvaluationFastPathEnabled(false);
+    }
+  }
+
   public void testEvaluateDecisionByKeyWithTenantIdDisabledTenantCheck() {
     processEngineConfiguration.setTenantCheckEnabled(false);
     identityService.setAuthentication("user", null, null);
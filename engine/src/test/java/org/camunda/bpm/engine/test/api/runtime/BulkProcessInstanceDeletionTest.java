@@ -0,0 +1,198 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.runtime;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.bpmn.executionlistener.RecorderExecutionListener;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class BulkProcessInstanceDeletionTest {
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .parallelGateway("fork")
+        .userTask("userTask")
+        .endEvent()
+      .moveToNode("fork")
+        .serviceTask("externalTask").camundaType("external").camundaTopic("topic")
+        .endEvent()
+      .moveToNode("fork")
+        .intermediateCatchEvent("timer").timerWithDuration("PT1H")
+        .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance PROCESS_WITH_END_LISTENER = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask("userTask")
+        .camundaExecutionListenerClass(ExecutionListener.EVENTNAME_END, RecorderExecutionListener.class.getName())
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance CALLING_PROCESS = Bpmn.createExecutableProcess("callingProcess")
+      .startEvent()
+      .callActivity()
+        .calledElement("process")
+      .endEvent()
+      .done();
+
+  protected ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl configuration;
+  protected RuntimeService runtimeService;
+  protected HistoryService historyService;
+  protected ManagementService managementService;
+
+  @Before
+  public void init() {
+    configuration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    historyService = engineRule.getHistoryService();
+    managementService = engineRule.getManagementService();
+
+    configuration.setBulkProcessInstanceDeletionEnabled(true);
+  }
+
+  @After
+  public void reset() {
+    configuration.setBulkProcessInstanceDeletionEnabled(false);
+    RecorderExecutionListener.clear();
+  }
+
+  @Test
+  public void testDeleteProcessInstancesInBulk() {
+    // given
+    testRule.deploy(PROCESS);
+    long byteArrayCount = getByteArrayCount();
+
+    List<String> processInstanceIds = startProcessInstances("process", 3);
+    for (String processInstanceId : processInstanceIds) {
+      runtimeService.createIncident("foo", processInstanceId, "bar");
+    }
+
+    // when
+    runtimeService.deleteProcessInstances(processInstanceIds, "test", false, true);
+
+    // then
+    assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    assertEquals(0, runtimeService.createExecutionQuery().count());
+    assertEquals(0, runtimeService.createVariableInstanceQuery().count());
+    assertEquals(0, runtimeService.createIncidentQuery().count());
+    assertEquals(0, runtimeService.createEventSubscriptionQuery().count());
+    assertEquals(0, engineRule.getTaskService().createTaskQuery().count());
+    assertEquals(0, engineRule.getExternalTaskService().createExternalTaskQuery().count());
+    assertEquals(0, managementService.createJobQuery().count());
+    assertEquals(byteArrayCount, getByteArrayCount());
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  public void testDeleteHistoryInBulk() {
+    // given
+    testRule.deploy(PROCESS);
+    List<String> processInstanceIds = startProcessInstances("process", 2);
+
+    // when
+    runtimeService.deleteProcessInstances(processInstanceIds, "test", false, true);
+
+    // then
+    assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+    assertEquals(0, historyService.createHistoricActivityInstanceQuery().count());
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  public void testDeleteProcessInstancesWithCustomEndListenerOneByOne() {
+    // given
+    testRule.deploy(PROCESS_WITH_END_LISTENER);
+    List<String> processInstanceIds = startProcessInstances("process", 2);
+
+    // when
+    runtimeService.deleteProcessInstances(processInstanceIds, "test", false, true);
+
+    // then the listeners are invoked and the history is kept
+    assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    assertEquals(2, RecorderExecutionListener.getRecordedEvents().size());
+    assertEquals(2, historyService.createHistoricProcessInstanceQuery().count());
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  public void testDeleteProcessInstancesWithSkippedEndListenerInBulk() {
+    // given
+    testRule.deploy(PROCESS_WITH_END_LISTENER);
+    List<String> processInstanceIds = startProcessInstances("process", 2);
+
+    // when
+    runtimeService.deleteProcessInstances(processInstanceIds, "test", true, true);
+
+    // then
+    assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    assertEquals(0, RecorderExecutionListener.getRecordedEvents().size());
+    assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  public void testDeleteCallingProcessInstancesOneByOne() {
+    // given
+    testRule.deploy(PROCESS, CALLING_PROCESS);
+    List<String> processInstanceIds = startProcessInstances("callingProcess", 2);
+
+    // when
+    runtimeService.deleteProcessInstances(processInstanceIds, "test", false, true);
+
+    // then the calling and the called process instances are deleted and their history is kept
+    assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    assertEquals(4, historyService.createHistoricProcessInstanceQuery().count());
+  }
+
+  protected List<String> startProcessInstances(String processDefinitionKey, int count) {
+    List<String> processInstanceIds = new ArrayList<String>();
+    for (int i = 0; i < count; i++) {
+      processInstanceIds.add(runtimeService.startProcessInstanceByKey(processDefinitionKey,
+          Variables.createVariables().putValue("bytes", "bytes".getBytes())).getId());
+    }
+    return processInstanceIds;
+  }
+
+  protected long getByteArrayCount() {
+    return managementService.getTableCount().get(managementService.getTableName(ByteArrayEntity.class));
+  }
+
+}
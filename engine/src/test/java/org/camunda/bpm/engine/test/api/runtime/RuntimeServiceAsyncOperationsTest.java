@@ -18,6 +18,7 @@ import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.batch.history.HistoricBatch;
 import org.camunda.bpm.engine.delegate.ExecutionListener;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
@@ -140,6 +141,30 @@ public class RuntimeServiceAsyncOperationsTest extends AbstractAsyncOperationsTe
     assertProcessInstancesAreDeleted();
   }
 
+  @Deployment(resources = {
+      "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  @Test
+  public void testDeleteBatchWithUnprocessedIdChunks() throws Exception {
+    // given
+    List<String> processIds = startTestProcesses(10);
+    engineRule.getProcessEngineConfiguration().setInvocationsPerBatchJob(1);
+    engineRule.getProcessEngineConfiguration().setBatchJobsPerSeed(2);
+    String byteArrayTable = managementService.getTableName(ByteArrayEntity.class);
+    long byteArrayCount = managementService.getTableCount().get(byteArrayTable);
+
+    Batch batch = runtimeService.deleteProcessInstancesAsync(processIds, null, TESTING_INSTANCE_DELETE);
+
+    // when the remaining ids are stored in chunks by the first seed job
+    executeSeedJob(batch);
+    assertEquals(2, managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).count());
+
+    managementService.deleteBatch(batch.getId(), true);
+
+    // then the chunks are deleted with the batch
+    assertEquals(byteArrayCount, (long) managementService.getTableCount().get(byteArrayTable));
+    assertEquals(10, runtimeService.createProcessInstanceQuery().count());
+  }
+
   @Deployment(resources = {
       "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
   @Test
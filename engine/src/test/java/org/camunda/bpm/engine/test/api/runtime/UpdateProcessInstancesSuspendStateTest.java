@@ -15,14 +15,17 @@ package org.camunda.bpm.engine.test.api.runtime;
 import java.util.Arrays;
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ManagementService;
 import org.camunda.bpm.engine.ProcessEngineConfiguration;
 import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.test.Deployment;
 import org.camunda.bpm.engine.test.ProcessEngineRule;
 import org.camunda.bpm.engine.test.RequiredHistoryLevel;
 import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
 import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,6 +37,7 @@ import org.python.google.common.collect.Sets;
 
 import static junit.framework.TestCase.assertFalse;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -306,4 +310,44 @@ public class UpdateProcessInstancesSuspendStateTest {
 
   }
 
+  @Test
+  public void testBatchSuspensionUpdatesTasksAndJobs() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask()
+      .serviceTask()
+        .camundaAsyncBefore()
+        .camundaExpression("${true}")
+      .endEvent()
+      .done(), Bpmn.createExecutableProcess("asyncProcess")
+      .startEvent()
+      .camundaAsyncBefore()
+      .endEvent()
+      .done());
+
+    ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("process");
+    ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("asyncProcess");
+
+    // when the process instances are suspended
+    runtimeService.updateProcessInstanceSuspensionState()
+      .byProcessInstanceIds(processInstance1.getId(), processInstance2.getId()).suspend();
+
+    // then the tasks and jobs are suspended as well
+    TaskService taskService = engineRule.getTaskService();
+    ManagementService managementService = engineRule.getManagementService();
+    assertEquals(1, taskService.createTaskQuery().suspended().count());
+    assertEquals(1, managementService.createJobQuery().suspended().count());
+    assertEquals(2, runtimeService.createProcessInstanceQuery().suspended().count());
+
+    // when they are activated again
+    runtimeService.updateProcessInstanceSuspensionState()
+      .byProcessInstanceIds(processInstance1.getId(), processInstance2.getId()).activate();
+
+    // then
+    assertEquals(1, taskService.createTaskQuery().active().count());
+    assertEquals(1, managementService.createJobQuery().active().count());
+    assertEquals(2, runtimeService.createProcessInstanceQuery().active().count());
+  }
+
 }
@@ -15,10 +15,13 @@ package org.camunda.bpm.engine.test.api.runtime.migration;
 import static org.camunda.bpm.engine.test.api.runtime.migration.ModifiableBpmnModelInstance.modify;
 import static org.camunda.bpm.engine.test.util.ActivityInstanceAssert.describeActivityInstanceTree;
 import static org.camunda.bpm.engine.test.util.ExecutionAssert.describeExecutionTree;
+import static org.junit.Assert.assertEquals;
 
 import java.util.Date;
+import java.util.List;
 
 import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.management.JobDefinition;
 import org.camunda.bpm.engine.migration.MigrationPlan;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.runtime.Job;
@@ -83,6 +86,39 @@ public class MigrationTimerCatchEventTest {
     testHelper.assertProcessEnded(processInstance.getId());
   }
 
+  @Test
+  public void testMigrateJobsOfSeveralProcessInstances() {
+    // given
+    ProcessDefinition sourceProcessDefinition = testHelper.deployAndGetDefinition(TimerCatchModels.ONE_TIMER_CATCH_PROCESS);
+    ProcessDefinition targetProcessDefinition = testHelper.deployAndGetDefinition(TimerCatchModels.ONE_TIMER_CATCH_PROCESS);
+
+    MigrationPlan migrationPlan = rule.getRuntimeService()
+      .createMigrationPlan(sourceProcessDefinition.getId(), targetProcessDefinition.getId())
+      .mapActivities("timerCatch", "timerCatch")
+      .build();
+
+    ProcessInstance processInstance1 = rule.getRuntimeService().startProcessInstanceById(sourceProcessDefinition.getId());
+    ProcessInstance processInstance2 = rule.getRuntimeService().startProcessInstanceById(sourceProcessDefinition.getId());
+
+    // when the process instances are migrated with one command
+    rule.getRuntimeService()
+      .newMigration(migrationPlan)
+      .processInstanceIds(processInstance1.getId(), processInstance2.getId())
+      .execute();
+
+    // then the jobs of both process instances reference the job definition of the target process definition
+    JobDefinition targetJobDefinition = rule.getManagementService().createJobDefinitionQuery()
+      .processDefinitionId(targetProcessDefinition.getId())
+      .singleResult();
+
+    List<Job> jobs = rule.getManagementService().createJobQuery().list();
+    assertEquals(2, jobs.size());
+    for (Job job : jobs) {
+      assertEquals(targetProcessDefinition.getId(), job.getProcessDefinitionId());
+      assertEquals(targetJobDefinition.getId(), job.getJobDefinitionId());
+    }
+  }
+
   @Test
   public void testMigrateJobChangeActivityId() {
     // given
@@ -0,0 +1,159 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.impl.ProcessDefinitionQueryImpl;
+import org.camunda.bpm.engine.impl.TaskQueryImpl;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.task.TaskQuery;
+
+public class TaskQueryKeysetPaginationTest extends PluggableProcessEngineTestCase {
+
+  protected List<String> taskIds = new ArrayList<String>();
+
+  protected void setUp() throws Exception {
+    super.setUp();
+
+    for (int i = 0; i < 10; i++) {
+      Task task = taskService.newTask("task" + i);
+      task.setPriority(i % 3);
+      taskService.saveTask(task);
+      taskIds.add(task.getId());
+    }
+  }
+
+  protected void tearDown() throws Exception {
+    for (String taskId : taskIds) {
+      taskService.deleteTask(taskId, true);
+    }
+    super.tearDown();
+  }
+
+  public void testPagesOrderedById() {
+    List<Task> expected = taskService.createTaskQuery().orderByTaskId().asc().list();
+
+    List<Task> paged = fetchAllPages(4, false);
+
+    assertSameTasks(expected, paged);
+  }
+
+  public void testPagesOrderedByPriority() {
+    List<Task> expected = taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskId().asc().list();
+
+    List<Task> paged = fetchAllPages(3, true);
+
+    assertSameTasks(expected, paged);
+  }
+
+  public void testLastPageHasNoContinuationToken() {
+    KeysetPage<Task> page = taskService.createTaskQuery().listPageAfter(null, 10);
+
+    assertEquals(10, page.getResults().size());
+    assertNull(page.getContinuationToken());
+    assertFalse(page.hasMoreResults());
+  }
+
+  public void testInvalidContinuationToken() {
+    try {
+      taskService.createTaskQuery().listPageAfter("invalid", 10);
+      fail("exception expected");
+    }
+    catch (NotValidException e) {
+      assertTextPresent("Invalid continuation token", e.getMessage());
+    }
+  }
+
+  public void testContinuationTokenOfDifferentOrdering() {
+    KeysetPage<Task> page = taskService.createTaskQuery().listPageAfter(null, 2);
+
+    try {
+      taskService.createTaskQuery().orderByTaskPriority().asc().listPageAfter(page.getContinuationToken(), 2);
+      fail("exception expected");
+    }
+    catch (NotValidException e) {
+      assertTextPresent("does not match the ordering of the query", e.getMessage());
+    }
+  }
+
+  public void testUnsupportedOrderingProperty() {
+    try {
+      taskService.createTaskQuery().orderByDueDate().asc().listPageAfter(null, 2);
+      fail("exception expected");
+    }
+    catch (NotValidException e) {
+      assertTextPresent("Keyset pagination is not supported", e.getMessage());
+    }
+  }
+
+  public void testCountIsNotAffectedByKeysetPage() {
+    TaskQuery query = taskService.createTaskQuery();
+    KeysetPage<Task> page = query.listPageAfter(null, 2);
+    query.listPageAfter(page.getContinuationToken(), 2);
+
+    assertEquals(10, query.count());
+  }
+
+  public void testOrderingOfQueryIsNotChanged() {
+    TaskQuery query = taskService.createTaskQuery().orderByTaskPriority().desc();
+
+    query.listPageAfter(null, 2);
+
+    // the id is only appended to the ordering of the keyset page
+    assertEquals(1, ((TaskQueryImpl) query).getOrderingProperties().size());
+  }
+
+  public void testUnsupportedQuery() {
+    try {
+      // the query interface does not offer keyset pagination, but the implementation must reject it as well
+      ((ProcessDefinitionQueryImpl) repositoryService.createProcessDefinitionQuery()).listPageAfter(null, 2);
+      fail("exception expected");
+    }
+    catch (NotValidException e) {
+      assertTextPresent("Keyset pagination is not supported", e.getMessage());
+    }
+  }
+
+  protected List<Task> fetchAllPages(int pageSize, boolean orderByPriority) {
+    List<Task> tasks = new ArrayList<Task>();
+    String continuationToken = null;
+
+    do {
+      TaskQuery query = taskService.createTaskQuery();
+      if (orderByPriority) {
+        query.orderByTaskPriority().desc();
+      }
+
+      KeysetPage<Task> page = query.listPageAfter(continuationToken, pageSize);
+      assertTrue(page.getResults().size() <= pageSize);
+      tasks.addAll(page.getResults());
+      continuationToken = page.getContinuationToken();
+    }
+    while (continuationToken != null);
+
+    return tasks;
+  }
+
+  protected void assertSameTasks(List<Task> expected, List<Task> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getId(), actual.get(i).getId());
+    }
+  }
+
+}
@@ -130,6 +130,33 @@ public class TaskQueryTest extends PluggableProcessEngineTestCase {
     }
   }
 
+  public void testCountUpTo() {
+    TaskQuery query = taskService.createTaskQuery();
+
+    assertEquals(12, query.countUpTo(100));
+    assertEquals(12, query.countUpTo(12));
+    assertEquals(6, query.countUpTo(5));
+    assertEquals(2, query.countUpTo(1));
+
+    // the capped count does not affect later pages
+    assertEquals(12, query.list().size());
+  }
+
+  public void testCountUpToWithCriteria() {
+    assertEquals(7, taskService.createTaskQuery().taskCandidateUser("kermit").countUpTo(10));
+    assertEquals(4, taskService.createTaskQuery().taskCandidateUser("kermit").countUpTo(3));
+    assertEquals(0, taskService.createTaskQuery().taskAssignee("unexisting").countUpTo(3));
+  }
+
+  public void testCountUpToInvalidMaxCount() {
+    try {
+      taskService.createTaskQuery().countUpTo(0);
+      fail("expected exception");
+    } catch (ProcessEngineException e) {
+      // OK
+    }
+  }
+
   public void testQueryByTaskId() {
     TaskQuery query = taskService.createTaskQuery().taskId(taskIds.get(0));
     assertNotNull(query.singleResult());
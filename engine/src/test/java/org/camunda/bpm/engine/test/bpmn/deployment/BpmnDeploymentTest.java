@@ -23,6 +23,7 @@ import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
 import org.camunda.bpm.engine.impl.pvm.ReadOnlyProcessDefinition;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
 import org.camunda.bpm.engine.impl.util.IoUtil;
@@ -109,6 +110,46 @@ public class BpmnDeploymentTest extends PluggableProcessEngineTestCase {
     repositoryService.deleteDeployment(deploymentId);
   }
 
+  public void testDeploySameFileTwiceWithoutStoredHash() {
+    String bpmnResourceName = "org/camunda/bpm/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
+    String deploymentId = repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("twice").deploy().getId();
+
+    // a resource deployed before the hash was stored
+    final String resourceId = repositoryService.getDeploymentResources(deploymentId).get(0).getId();
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        ResourceEntity resource = new ResourceEntity();
+        resource.setId(resourceId);
+        commandContext.getResourceManager().updateResourceHash(resource);
+        return null;
+      }
+    });
+
+    repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("twice").deploy();
+    assertEquals(1, repositoryService.createDeploymentQuery().count());
+
+    repositoryService.deleteDeployment(deploymentId);
+  }
+
+  public void testDeployChangedResourceWithDuplicateFiltering() {
+    org.camunda.bpm.engine.repository.Deployment deployment1 = repositoryService.createDeployment()
+      .enableDuplicateFiltering()
+      .addString("process.bpmn20.xml", Bpmn.convertToString(Bpmn.createExecutableProcess("process").done()))
+      .name("twice")
+      .deploy();
+
+    org.camunda.bpm.engine.repository.Deployment deployment2 = repositoryService.createDeployment()
+      .enableDuplicateFiltering()
+      .addString("process.bpmn20.xml", Bpmn.convertToString(Bpmn.createExecutableProcess("process").startEvent().done()))
+      .name("twice")
+      .deploy();
+
+    assertEquals(2, repositoryService.createDeploymentQuery().count());
+
+    repositoryService.deleteDeployment(deployment1.getId(), true);
+    repositoryService.deleteDeployment(deployment2.getId(), true);
+  }
+
   public void testPartialChangesDeployAll() {
     BpmnModelInstance model1 = Bpmn.createExecutableProcess("process1").done();
     BpmnModelInstance model2 = Bpmn.createExecutableProcess("process2").done();
@@ -0,0 +1,164 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.bpmn.deployment;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.AbstractDefinitionDeployer;
+import org.camunda.bpm.engine.impl.bpmn.deployer.BpmnDeployer;
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
+import org.camunda.bpm.engine.impl.persistence.deploy.NonThreadSafeParseListener;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.bpm.engine.repository.DeploymentBuilder;
+import org.camunda.bpm.model.bpmn.Bpmn;
+
+public class ParallelDeploymentParseTest extends PluggableProcessEngineTestCase {
+
+  protected ExecutorService parseExecutor;
+  protected BpmnParseListener parseListener;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    parseExecutor = Executors.newFixedThreadPool(2);
+    setParseExecutor(parseExecutor);
+  }
+
+  protected void tearDown() throws Exception {
+    if (parseListener != null) {
+      getBpmnParseListeners().remove(parseListener);
+    }
+    setParseExecutor(null);
+    parseExecutor.shutdownNow();
+    super.tearDown();
+  }
+
+  public void testParseResourcesInParallel() {
+    // given
+    ThreadRecordingParseListener listener = new ThreadRecordingParseListener();
+    addParseListener(listener);
+
+    // when
+    String deploymentId = createDeployment(5).deploy().getId();
+
+    // then
+    assertEquals(5, repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).count());
+    assertEquals(5, listener.parsedProcesses.size());
+    assertFalse(listener.threads.contains(Thread.currentThread()));
+
+    repositoryService.deleteDeployment(deploymentId, true);
+  }
+
+  public void testParseResourcesSequentiallyWithNonThreadSafeListener() {
+    // given
+    ThreadRecordingParseListener listener = new NonThreadSafeThreadRecordingParseListener();
+    addParseListener(listener);
+
+    // when
+    String deploymentId = createDeployment(5).deploy().getId();
+
+    // then
+    assertEquals(5, listener.parsedProcesses.size());
+    assertEquals(Collections.singleton(Thread.currentThread()), listener.threads);
+
+    repositoryService.deleteDeployment(deploymentId, true);
+  }
+
+  public void testPropagateParseException() {
+    // given
+    DeploymentBuilder deploymentBuilder = createDeployment(3)
+      .addString("invalid.bpmn20.xml", "<definitions>");
+
+    try {
+      // when
+      deploymentBuilder.deploy();
+      fail("exception expected");
+    }
+    catch (ProcessEngineException e) {
+      // then
+      assertEquals(0, repositoryService.createDeploymentQuery().count());
+    }
+  }
+
+  public void testDoNotShutDownProvidedParseExecutor() {
+    // given
+    ProcessEngineConfigurationImpl configuration = new StandaloneInMemProcessEngineConfiguration();
+    configuration.setDeploymentParseExecutor(parseExecutor);
+
+    // when
+    configuration.close();
+
+    // then the executor is still owned by the application
+    assertFalse(parseExecutor.isShutdown());
+  }
+
+  protected DeploymentBuilder createDeployment(int numberOfProcesses) {
+    DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+    for (int i = 0; i < numberOfProcesses; i++) {
+      deploymentBuilder.addModelInstance("process" + i + ".bpmn20.xml", Bpmn.createExecutableProcess("process" + i)
+        .startEvent()
+        .userTask()
+        .endEvent()
+        .done());
+    }
+    return deploymentBuilder;
+  }
+
+  protected void setParseExecutor(ExecutorService executor) {
+    for (Deployer deployer : processEngineConfiguration.getDeploymentCache().getDeployers()) {
+      if (deployer instanceof AbstractDefinitionDeployer) {
+        ((AbstractDefinitionDeployer<?>) deployer).setParseExecutor(executor);
+      }
+    }
+  }
+
+  protected void addParseListener(BpmnParseListener listener) {
+    parseListener = listener;
+    getBpmnParseListeners().add(listener);
+  }
+
+  protected List<BpmnParseListener> getBpmnParseListeners() {
+    for (Deployer deployer : processEngineConfiguration.getDeploymentCache().getDeployers()) {
+      if (deployer instanceof BpmnDeployer) {
+        return ((BpmnDeployer) deployer).getBpmnParser().getParseListeners();
+      }
+    }
+    throw new IllegalStateException("no BPMN deployer configured");
+  }
+
+  public static class ThreadRecordingParseListener extends AbstractBpmnParseListener {
+
+    protected Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+    protected Set<String> parsedProcesses = Collections.synchronizedSet(new HashSet<String>());
+
+    public void parseProcess(Element processElement, ProcessDefinitionEntity processDefinition) {
+      threads.add(Thread.currentThread());
+      parsedProcesses.add(processDefinition.getKey());
+    }
+  }
+
+  public static class NonThreadSafeThreadRecordingParseListener extends ThreadRecordingParseListener implements NonThreadSafeParseListener {
+  }
+
+}
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.bpmn.deployment;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.camunda.bpm.engine.impl.bpmn.deployer.BpmnDeployer;
+import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.bpm.engine.impl.util.xml.ParseSnapshotCache;
+import org.camunda.bpm.engine.impl.util.xml.Parser;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.model.bpmn.Bpmn;
+
+public class ParseSnapshotCacheTest extends PluggableProcessEngineTestCase {
+
+  protected File snapshotDirectory;
+  protected ParseSnapshotCache snapshotCache;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    snapshotDirectory = createTempDirectory();
+    snapshotCache = new ParseSnapshotCache(snapshotDirectory, "test");
+    setParseSnapshotCache(snapshotCache);
+  }
+
+  protected void tearDown() throws Exception {
+    setParseSnapshotCache(null);
+    deleteDirectory(snapshotDirectory);
+    super.tearDown();
+  }
+
+  public void testRestoreElementTree() {
+    // given
+    Element rootElement = Parser.INSTANCE.createParse()
+      .sourceString("<root xmlns:ns=\"http://example.org\" a=\"1\"><child ns:b=\"2\">text</child><child /></root>")
+      .execute()
+      .getRootElement();
+
+    // when
+    snapshotCache.store("aKey", rootElement);
+    Element restoredElement = snapshotCache.load("aKey");
+
+    // then
+    assertEquals("root", restoredElement.getTagName());
+    assertEquals("1", restoredElement.attribute("a"));
+    assertEquals(rootElement.getLine(), restoredElement.getLine());
+    assertEquals(2, restoredElement.elements("child").size());
+
+    Element child = restoredElement.elements().get(0);
+    assertEquals("2", child.attribute("ns:b"));
+    assertEquals("text", child.getText());
+  }
+
+  public void testIgnoreSnapshotOfOtherEngineVersion() {
+    // given
+    Element rootElement = Parser.INSTANCE.createParse()
+      .sourceString("<root />")
+      .execute()
+      .getRootElement();
+    new ParseSnapshotCache(snapshotDirectory, "another version").store("aKey", rootElement);
+
+    // then
+    assertNull(snapshotCache.load("aKey"));
+  }
+
+  public void testStartProcessFromSnapshot() {
+    // given
+    String deploymentId = repositoryService.createDeployment()
+      .addModelInstance("process.bpmn20.xml", Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .userTask()
+        .endEvent()
+        .done())
+      .deploy()
+      .getId();
+    assertEquals(1, snapshotDirectory.listFiles().length);
+
+    // when the process definition is restored from the snapshot
+    processEngineConfiguration.getDeploymentCache().discardProcessDefinitionCache();
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+
+    // then
+    assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+    assertEquals(1, snapshotDirectory.listFiles().length);
+
+    repositoryService.deleteDeployment(deploymentId, true);
+  }
+
+  protected void setParseSnapshotCache(ParseSnapshotCache cache) {
+    for (Deployer deployer : processEngineConfiguration.getDeploymentCache().getDeployers()) {
+      if (deployer instanceof BpmnDeployer) {
+        ((BpmnDeployer) deployer).setParseSnapshotCache(cache);
+      }
+    }
+  }
+
+  protected File createTempDirectory() throws IOException {
+    File directory = File.createTempFile("parse-snapshots", "");
+    directory.delete();
+    directory.mkdirs();
+    return directory;
+  }
+
+  protected void deleteDirectory(File directory) {
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+}
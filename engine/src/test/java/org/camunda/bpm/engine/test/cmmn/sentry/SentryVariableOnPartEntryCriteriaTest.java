@@ -12,6 +12,10 @@
  */
 package org.camunda.bpm.engine.test.cmmn.sentry;
 
+import java.util.Arrays;
+
+import org.camunda.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionEntity;
+import org.camunda.bpm.engine.impl.cmmn.model.CmmnActivity;
 import org.camunda.bpm.engine.impl.test.CmmnProcessEngineTestCase;
 import org.camunda.bpm.engine.runtime.CaseExecution;
 import org.camunda.bpm.engine.test.Deployment;
@@ -533,4 +537,19 @@ public class SentryVariableOnPartEntryCriteriaTest extends CmmnProcessEngineTest
     stageExecution = queryCaseExecutionByActivityId("Stage_1");
     assertNull(stageExecution);
   }
+
+  @Deployment(resources = {"org/camunda/bpm/engine/test/cmmn/sentry/variableonpart/SentryVariableOnPartEntryCriteriaTest.testSentryShouldNotBeEvaluatedAfterStageComplete.cmmn"})
+  public void testVariableDependentSentries() {
+    String caseDefinitionId = repositoryService.createCaseDefinitionQuery().singleResult().getId();
+    CaseDefinitionEntity caseDefinition = processEngineConfiguration.getDeploymentCache().findDeployedCaseDefinitionById(caseDefinitionId);
+    CmmnActivity stage = caseDefinition.findActivity("Stage_1");
+
+    // the sentries with a variable on part on the variable event
+    assertEquals(Arrays.asList("SentryEntry1"), stage.getVariableDependentSentries("value", "create"));
+    assertEquals(Arrays.asList("SentryExit1", "SentryEntry1"), stage.getVariableDependentSentries("variable_1", "create"));
+
+    // the sentries with an if part are affected by any variable event
+    assertEquals(Arrays.asList("SentryEntry1"), stage.getVariableDependentSentries("variable_1", "update"));
+    assertEquals(Arrays.asList("SentryEntry1"), stage.getVariableDependentSentries("unknown", "delete"));
+  }
 }
@@ -14,6 +14,7 @@ package org.camunda.bpm.engine.test.cmmn.transformer;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
@@ -34,9 +35,14 @@ import org.camunda.bpm.model.cmmn.CmmnModelInstance;
 import org.camunda.bpm.model.cmmn.instance.Case;
 import org.camunda.bpm.model.cmmn.instance.CasePlanModel;
 import org.camunda.bpm.model.cmmn.instance.CmmnModelElementInstance;
+import org.camunda.bpm.model.cmmn.PlanItemTransition;
 import org.camunda.bpm.model.cmmn.instance.Definitions;
+import org.camunda.bpm.model.cmmn.instance.EntryCriterion;
 import org.camunda.bpm.model.cmmn.instance.HumanTask;
 import org.camunda.bpm.model.cmmn.instance.PlanItem;
+import org.camunda.bpm.model.cmmn.instance.PlanItemOnPart;
+import org.camunda.bpm.model.cmmn.instance.PlanItemTransitionStandardEvent;
+import org.camunda.bpm.model.cmmn.instance.Sentry;
 import org.camunda.bpm.model.cmmn.instance.Stage;
 import org.camunda.bpm.model.xml.impl.util.IoUtil;
 import org.junit.Before;
@@ -365,4 +371,41 @@ public class CmmnTransformerTest {
 
   }
 
+  @Test
+  public void testDependentSentries() {
+    // given
+    HumanTask humanTaskA = createElement(casePlanModel, "A", HumanTask.class);
+    PlanItem planItemA = createElement(casePlanModel, "PI_A", PlanItem.class);
+    planItemA.setDefinition(humanTaskA);
+
+    HumanTask humanTaskB = createElement(casePlanModel, "B", HumanTask.class);
+    PlanItem planItemB = createElement(casePlanModel, "PI_B", PlanItem.class);
+    planItemB.setDefinition(humanTaskB);
+
+    Sentry sentry = createElement(casePlanModel, "aSentry", Sentry.class);
+    PlanItemOnPart onPart = createElement(sentry, "anOnPart", PlanItemOnPart.class);
+    onPart.setSource(planItemA);
+    createElement(onPart, null, PlanItemTransitionStandardEvent.class);
+    onPart.setStandardEvent(PlanItemTransition.complete);
+
+    EntryCriterion criterion = createElement(planItemB, "anEntryCriterion", EntryCriterion.class);
+    criterion.setSentry(sentry);
+
+    // when
+    List<CaseDefinitionEntity> caseDefinitions = transform();
+
+    // then
+    CmmnActivity casePlanModelActivity = caseDefinitions.get(0).getActivities().get(0);
+
+    List<String> dependentSentries = casePlanModelActivity.getDependentSentries(planItemA.getId(), "complete");
+    assertEquals(1, dependentSentries.size());
+    assertEquals(sentry.getId(), dependentSentries.get(0));
+
+    assertTrue(casePlanModelActivity.getDependentSentries(planItemA.getId(), "terminate").isEmpty());
+    assertTrue(casePlanModelActivity.getDependentSentries(planItemB.getId(), "complete").isEmpty());
+
+    // the sentries of a plan item which is not a stage are not indexed
+    assertNull(casePlanModelActivity.findActivity(planItemA.getId()).getDependentSentries(planItemB.getId(), "complete"));
+  }
+
 }
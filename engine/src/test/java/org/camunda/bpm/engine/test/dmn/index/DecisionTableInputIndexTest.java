@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.dmn.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.camunda.bpm.engine.impl.dmn.index.DecisionTableInputIndex;
+import org.junit.Test;
+
+public class DecisionTableInputIndexTest {
+
+  @Test
+  public void testStringEquality() {
+    DecisionTableInputIndex index = new DecisionTableInputIndex(Arrays.asList("\"gold\"", "\"silver\"", "\"bronze\", \"gold\""));
+
+    assertEquals(rules(0, 2), index.getCandidateRules("gold"));
+    assertEquals(rules(1), index.getCandidateRules("silver"));
+    assertEquals(rules(), index.getCandidateRules("platinum"));
+  }
+
+  @Test
+  public void testNumberRanges() {
+    DecisionTableInputIndex index = new DecisionTableInputIndex(Arrays.asList("< 10", "[10..20]", "]20..30[", ">= 30", "15"));
+
+    assertEquals(rules(0), index.getCandidateRules(5));
+    assertEquals(rules(1), index.getCandidateRules(10L));
+    assertEquals(rules(1, 4), index.getCandidateRules(15.0));
+    assertEquals(rules(1), index.getCandidateRules(20));
+    assertEquals(rules(2), index.getCandidateRules(25.5));
+    assertEquals(rules(3), index.getCandidateRules(30));
+  }
+
+  @Test
+  public void testUnindexedEntriesAreAlwaysCandidates() {
+    DecisionTableInputIndex index = new DecisionTableInputIndex(Arrays.asList("\"a\"", "", null, "not(\"a\")", "\"b\""));
+
+    assertEquals(rules(0, 1, 2, 3), index.getCandidateRules("a"));
+    assertEquals(rules(1, 2, 3), index.getCandidateRules("c"));
+  }
+
+  @Test
+  public void testEntriesOfOtherTypesAreCandidates() {
+    DecisionTableInputIndex index = new DecisionTableInputIndex(Arrays.asList("\"a\"", "> 5", "true"));
+
+    assertEquals(rules(0, 2), index.getCandidateRules(3));
+    assertEquals(rules(1, 2), index.getCandidateRules("b"));
+    assertEquals(rules(0, 1), index.getCandidateRules(false));
+  }
+
+  @Test
+  public void testUnsupportedValuesAreNotLookedUp() {
+    DecisionTableInputIndex index = new DecisionTableInputIndex(Arrays.asList("\"a\""));
+
+    assertNull(index.getCandidateRules(null));
+    assertNull(index.getCandidateRules(new Object()));
+    assertNull(index.getCandidateRules(Double.NaN));
+  }
+
+  @Test
+  public void testIndexed() {
+    assertTrue(new DecisionTableInputIndex(Arrays.asList("", "\"a\"")).isIndexed());
+    assertFalse(new DecisionTableInputIndex(Arrays.asList("", "-", "date and time(\"2015-11-30T12:00:00\")")).isIndexed());
+  }
+
+  protected BitSet rules(int... rules) {
+    BitSet bitSet = new BitSet();
+    for (int rule : rules) {
+      bitSet.set(rule);
+    }
+    return bitSet;
+  }
+
+}
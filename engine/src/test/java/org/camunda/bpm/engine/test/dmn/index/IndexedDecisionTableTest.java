@@ -0,0 +1,221 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.dmn.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionLogic;
+import org.camunda.bpm.engine.DecisionService;
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.history.HistoricDecisionInstance;
+import org.camunda.bpm.engine.history.HistoricDecisionOutputInstance;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.dmn.index.IndexedDecisionTable;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+/**
+ * Evaluates the decisions with and without the decision table index
+ * and expects the same results.
+ */
+public class IndexedDecisionTableTest {
+
+  protected static final String DMN = "org/camunda/bpm/engine/test/dmn/index/IndexedDecisionTableTest.dmn11.xml";
+  protected static final String DRD_DMN = "org/camunda/bpm/engine/test/dmn/deployment/drdDish.dmn11.xml";
+
+  protected static final List<String> CATEGORIES = Arrays.asList("a", "b", "c", "d");
+  protected static final List<Integer> AMOUNTS = Arrays.asList(5, 9, 10, 15, 20, 25);
+
+  protected ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl configuration;
+  protected DecisionService decisionService;
+  protected HistoryService historyService;
+
+  @Before
+  public void init() {
+    configuration = engineRule.getProcessEngineConfiguration();
+    decisionService = engineRule.getDecisionService();
+    historyService = engineRule.getHistoryService();
+  }
+
+  @After
+  public void resetConfiguration() {
+    configuration.setDecisionTableIndexEnabled(false);
+    configuration.getDeploymentCache().discardDecisionDefinitionCache();
+  }
+
+  @Test
+  @Deployment(resources = DMN)
+  public void testCollectHitPolicy() {
+    assertEquals(Arrays.asList("r1", "r2"), getResults(evaluate(true, "collect", variables("a", 5))));
+    assertTrue(isIndexed("collect"));
+
+    for (String category : CATEGORIES) {
+      for (Integer amount : AMOUNTS) {
+        VariableMap variables = variables(category, amount);
+        assertEquals(evaluate(false, "collect", variables), evaluate(true, "collect", variables));
+      }
+    }
+  }
+
+  @Test
+  @Deployment(resources = DMN)
+  public void testRuleOrderHitPolicy() {
+    assertEquals(Arrays.asList("r2", "r3", "r4", "r5"), getResults(evaluate(true, "ruleOrder", variables("b", 15))));
+    assertTrue(isIndexed("ruleOrder"));
+
+    for (String category : CATEGORIES) {
+      for (Integer amount : AMOUNTS) {
+        VariableMap variables = variables(category, amount);
+        assertEquals(evaluate(false, "ruleOrder", variables), evaluate(true, "ruleOrder", variables));
+      }
+    }
+  }
+
+  @Test
+  @Deployment(resources = DMN)
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  public void testHistoricMatchedRules() {
+    evaluate(true, "ruleOrder", variables("b", 15));
+    assertEquals(Arrays.asList("ruleOrder-r2:1", "ruleOrder-r3:2", "ruleOrder-r4:3", "ruleOrder-r5:4"), getHistoricMatchedRules("ruleOrder"));
+
+    for (String category : CATEGORIES) {
+      for (Integer amount : AMOUNTS) {
+        VariableMap variables = variables(category, amount);
+
+        evaluate(false, "ruleOrder", variables);
+        List<String> unindexedMatchedRules = getHistoricMatchedRules("ruleOrder");
+
+        evaluate(true, "ruleOrder", variables);
+        assertEquals(unindexedMatchedRules, getHistoricMatchedRules("ruleOrder"));
+      }
+    }
+  }
+
+  @Test
+  @Deployment(resources = DMN)
+  public void testUnindexableEntries() {
+    // neither the input expression nor the input entries can be indexed
+    assertEquals(Arrays.asList("r2", "r3"), getResults(evaluate(true, "unindexable", variables("c", 9))));
+    assertFalse(isIndexed("unindexable"));
+
+    for (String category : CATEGORIES) {
+      for (Integer amount : AMOUNTS) {
+        VariableMap variables = variables(category, amount);
+        assertEquals(evaluate(false, "unindexable", variables), evaluate(true, "unindexable", variables));
+      }
+    }
+  }
+
+  @Test
+  @Deployment(resources = DRD_DMN)
+  public void testDecisionWithRequiredDecisions() {
+    // the rules of a decision which requires other decisions are not restricted
+    for (Integer temperature : Arrays.asList(5, 10, 20, 30, 35)) {
+      for (String dayType : Arrays.asList("Weekday", "Weekend", "Holiday")) {
+        VariableMap variables = Variables.createVariables()
+            .putValue("temperature", temperature)
+            .putValue("dayType", dayType);
+
+        assertEquals(evaluate(false, "dish-decision", variables), evaluate(true, "dish-decision", variables));
+      }
+    }
+    assertTrue(isIndexed("dish-decision"));
+  }
+
+  /**
+   * Reloads the decision into the deployment cache with or without the index and evaluates it.
+   */
+  protected List<Map<String, Object>> evaluate(boolean indexEnabled, String decisionDefinitionKey, VariableMap variables) {
+    configuration.setDecisionTableIndexEnabled(indexEnabled);
+    configuration.getDeploymentCache().discardDecisionDefinitionCache();
+
+    return decisionService.evaluateDecisionByKey(decisionDefinitionKey)
+        .variables(variables)
+        .evaluate()
+        .getResultList();
+  }
+
+  protected boolean isIndexed(String decisionDefinitionKey) {
+    DecisionDefinition decisionDefinition = engineRule.getRepositoryService()
+        .createDecisionDefinitionQuery()
+        .decisionDefinitionKey(decisionDefinitionKey)
+        .singleResult();
+
+    DmnDecisionLogic decisionLogic = configuration.getDeploymentCache()
+        .findDecisionDefinitionFromCache(decisionDefinition.getId())
+        .getDecisionLogic();
+
+    return decisionLogic instanceof IndexedDecisionTable;
+  }
+
+  /**
+   * @return the rules and their order of the last evaluation, the history is deleted afterwards
+   */
+  protected List<String> getHistoricMatchedRules(String decisionDefinitionKey) {
+    HistoricDecisionInstance decisionInstance = historyService.createHistoricDecisionInstanceQuery()
+        .decisionDefinitionKey(decisionDefinitionKey)
+        .includeOutputs()
+        .singleResult();
+
+    List<String> matchedRules = new ArrayList<String>();
+    for (HistoricDecisionOutputInstance output : decisionInstance.getOutputs()) {
+      matchedRules.add(output.getRuleId() + ":" + output.getRuleOrder());
+    }
+    Collections.sort(matchedRules);
+
+    historyService.deleteHistoricDecisionInstanceByDefinitionId(decisionInstance.getDecisionDefinitionId());
+
+    return matchedRules;
+  }
+
+  protected List<Object> getResults(List<Map<String, Object>> resultList) {
+    List<Object> results = new ArrayList<Object>();
+    for (Map<String, Object> result : resultList) {
+      results.add(result.get("result"));
+    }
+    return results;
+  }
+
+  protected VariableMap variables(String category, int amount) {
+    return Variables.createVariables()
+        .putValue("category", category)
+        .putValue("amount", amount);
+  }
+
+}
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricActivityInstanceQuery;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+public class HistoricActivityInstanceQueryKeysetPaginationTest extends PluggableProcessEngineTestCase {
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent("start")
+      .userTask("task")
+      .endEvent()
+      .done();
+
+  protected void setUp() throws Exception {
+    super.setUp();
+
+    deployment(PROCESS);
+
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+    }
+  }
+
+  public void testPagesOrderedById() {
+    List<HistoricActivityInstance> expected = historyService.createHistoricActivityInstanceQuery().orderByHistoricActivityInstanceId().asc().list();
+
+    List<HistoricActivityInstance> paged = fetchAllPages(4, false);
+
+    assertSameActivityInstances(expected, paged);
+  }
+
+  public void testPagesOrderedByActivityId() {
+    List<HistoricActivityInstance> expected = historyService.createHistoricActivityInstanceQuery()
+        .orderByActivityId().desc()
+        .orderByHistoricActivityInstanceId().asc()
+        .list();
+
+    List<HistoricActivityInstance> paged = fetchAllPages(3, true);
+
+    assertSameActivityInstances(expected, paged);
+    assertEquals("task", paged.get(0).getActivityId());
+    assertEquals("start", paged.get(paged.size() - 1).getActivityId());
+  }
+
+  public void testUnsupportedOrderingProperty() {
+    try {
+      historyService.createHistoricActivityInstanceQuery().orderByHistoricActivityInstanceEndTime().asc().listPageAfter(null, 2);
+      fail("exception expected");
+    }
+    catch (NotValidException e) {
+      assertTextPresent("Keyset pagination is not supported", e.getMessage());
+    }
+  }
+
+  protected List<HistoricActivityInstance> fetchAllPages(int pageSize, boolean orderByActivityId) {
+    List<HistoricActivityInstance> activityInstances = new ArrayList<HistoricActivityInstance>();
+    String continuationToken = null;
+
+    do {
+      HistoricActivityInstanceQuery query = historyService.createHistoricActivityInstanceQuery();
+      if (orderByActivityId) {
+        query.orderByActivityId().desc();
+      }
+
+      KeysetPage<HistoricActivityInstance> page = query.listPageAfter(continuationToken, pageSize);
+      assertTrue(page.getResults().size() <= pageSize);
+      activityInstances.addAll(page.getResults());
+      continuationToken = page.getContinuationToken();
+    }
+    while (continuationToken != null);
+
+    return activityInstances;
+  }
+
+  protected void assertSameActivityInstances(List<HistoricActivityInstance> expected, List<HistoricActivityInstance> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getId(), actual.get(i).getId());
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.history;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+public class HistoricProcessInstanceQueryKeysetPaginationTest extends PluggableProcessEngineTestCase {
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask()
+      .endEvent()
+      .done();
+
+  protected void setUp() throws Exception {
+    super.setUp();
+
+    deployment(PROCESS);
+
+    // two process instances are started at the same time each
+    long now = new Date().getTime();
+    for (int i = 0; i < 10; i++) {
+      ClockUtil.setCurrentTime(new Date(now - (i / 2) * 1000));
+      runtimeService.startProcessInstanceByKey("process");
+    }
+  }
+
+  protected void tearDown() throws Exception {
+    ClockUtil.reset();
+    super.tearDown();
+  }
+
+  public void testPagesOrderedById() {
+    List<HistoricProcessInstance> expected = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().list();
+
+    List<HistoricProcessInstance> paged = fetchAllPages(4, false);
+
+    assertSameProcessInstances(expected, paged);
+  }
+
+  public void testPagesOrderedByStartTime() {
+    List<HistoricProcessInstance> expected = historyService.createHistoricProcessInstanceQuery()
+        .orderByProcessInstanceStartTime().asc()
+        .orderByProcessInstanceId().asc()
+        .list();
+
+    List<HistoricProcessInstance> paged = fetchAllPages(3, true);
+
+    assertSameProcessInstances(expected, paged);
+  }
+
+  public void testUnsupportedOrderingProperty() {
+    try {
+      historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceEndTime().asc().listPageAfter(null, 2);
+      fail("exception expected");
+    }
+    catch (NotValidException e) {
+      assertTextPresent("Keyset pagination is not supported", e.getMessage());
+    }
+  }
+
+  protected List<HistoricProcessInstance> fetchAllPages(int pageSize, boolean orderByStartTime) {
+    List<HistoricProcessInstance> processInstances = new ArrayList<HistoricProcessInstance>();
+    String continuationToken = null;
+
+    do {
+      HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
+      if (orderByStartTime) {
+        query.orderByProcessInstanceStartTime().asc();
+      }
+
+      KeysetPage<HistoricProcessInstance> page = query.listPageAfter(continuationToken, pageSize);
+      assertTrue(page.getResults().size() <= pageSize);
+      processInstances.addAll(page.getResults());
+      continuationToken = page.getContinuationToken();
+    }
+    while (continuationToken != null);
+
+    return processInstances;
+  }
+
+  protected void assertSameProcessInstances(List<HistoricProcessInstance> expected, List<HistoricProcessInstance> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getId(), actual.get(i).getId());
+    }
+  }
+
+}
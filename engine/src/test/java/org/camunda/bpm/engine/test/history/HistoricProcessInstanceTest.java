@@ -250,6 +250,32 @@ public class HistoricProcessInstanceTest extends PluggableProcessEngineTestCase
     assertEquals(0, historyService.createHistoricProcessInstanceQuery().startDateOn(DateUtils.addDays(date, 1)).count());
   }
 
+  @Deployment(resources = {"org/camunda/bpm/engine/test/history/oneTaskProcess.bpmn20.xml"})
+  public void testHistoricProcessInstanceQueryCountUpTo() {
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+
+    HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
+
+    assertEquals(5, query.countUpTo(10));
+    assertEquals(5, query.countUpTo(5));
+    assertEquals(4, query.countUpTo(3));
+    assertEquals(2, query.countUpTo(1));
+
+    // the capped count does not affect later results
+    assertEquals(5, query.list().size());
+
+    assertEquals(0, historyService.createHistoricProcessInstanceQuery().finished().countUpTo(3));
+
+    try {
+      historyService.createHistoricProcessInstanceQuery().countUpTo(0);
+      fail("expected exception");
+    } catch (ProcessEngineException e) {
+      // expected
+    }
+  }
+
   @Deployment(resources = {"org/camunda/bpm/engine/test/history/oneTaskProcess.bpmn20.xml"})
   public void testHistoricProcessInstanceFinishDateUnfinished() {
     runtimeService.startProcessInstanceByKey("oneTaskProcess");
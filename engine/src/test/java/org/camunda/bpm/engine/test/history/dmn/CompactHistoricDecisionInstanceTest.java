@@ -0,0 +1,199 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.history.dmn;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.history.HistoricDecisionInputInstance;
+import org.camunda.bpm.engine.history.HistoricDecisionInstance;
+import org.camunda.bpm.engine.history.HistoricDecisionOutputInstance;
+import org.camunda.bpm.engine.impl.history.event.AsyncHistoricDecisionInstanceWriter;
+import org.camunda.bpm.engine.impl.history.event.HistoricDecisionInputInstanceEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoricDecisionOutputInstanceEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.variable.Variables;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+public class CompactHistoricDecisionInstanceTest extends PluggableProcessEngineTestCase {
+
+  public static final String DECISION_PROCESS = "org/camunda/bpm/engine/test/history/HistoricDecisionInstanceTest.processWithBusinessRuleTask.bpmn20.xml";
+
+  public static final String DECISION_SINGLE_OUTPUT_DMN = "org/camunda/bpm/engine/test/history/HistoricDecisionInstanceTest.decisionSingleOutput.dmn11.xml";
+  public static final String DECISION_MULTIPLE_INPUT_DMN = "org/camunda/bpm/engine/test/history/HistoricDecisionInstanceTest.decisionMultipleInput.dmn11.xml";
+
+  public static final String DECISION_DEFINITION_KEY = "testDecision";
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    processEngineConfiguration.setCompactDecisionHistoryDecisionKeys(Collections.singleton(DECISION_DEFINITION_KEY));
+  }
+
+  protected void tearDown() throws Exception {
+    AsyncHistoricDecisionInstanceWriter writer = processEngineConfiguration.getAsyncHistoricDecisionInstanceWriter();
+    if (writer != null) {
+      writer.shutdown();
+      processEngineConfiguration.setAsyncHistoricDecisionInstanceWriter(null);
+    }
+
+    processEngineConfiguration.setCompactDecisionHistoryDecisionKeys(null);
+    super.tearDown();
+  }
+
+  @Deployment(resources = { DECISION_PROCESS, DECISION_MULTIPLE_INPUT_DMN })
+  public void testCompactInputsAndOutputs() {
+    // given
+    long inputRows = getTableCount(HistoricDecisionInputInstanceEntity.class);
+    long outputRows = getTableCount(HistoricDecisionOutputInstanceEntity.class);
+
+    // when
+    runtimeService.startProcessInstanceByKey("testProcess", Variables.createVariables()
+        .putValue("input1", "a")
+        .putValue("input2", 1));
+
+    // then no rows are written per input and output
+    assertThat(getTableCount(HistoricDecisionInputInstanceEntity.class), is(inputRows));
+    assertThat(getTableCount(HistoricDecisionOutputInstanceEntity.class), is(outputRows));
+
+    HistoricDecisionInstance historicDecisionInstance = historyService.createHistoricDecisionInstanceQuery()
+        .includeInputs()
+        .includeOutputs()
+        .singleResult();
+
+    List<HistoricDecisionInputInstance> inputs = historicDecisionInstance.getInputs();
+    assertThat(inputs.size(), is(2));
+    assertThat(inputs.get(0).getDecisionInstanceId(), is(historicDecisionInstance.getId()));
+    assertThat(inputs.get(0).getClauseId(), is("in1"));
+    assertThat(inputs.get(0).getValue(), is((Object) "a"));
+    assertThat(inputs.get(1).getValue(), is((Object) 1));
+
+    List<HistoricDecisionOutputInstance> outputs = historicDecisionInstance.getOutputs();
+    assertThat(outputs.size(), is(1));
+    assertThat(outputs.get(0).getDecisionInstanceId(), is(historicDecisionInstance.getId()));
+    assertThat(outputs.get(0).getClauseId(), is("out1"));
+    assertThat(outputs.get(0).getRuleOrder(), is(1));
+    assertThat(outputs.get(0).getVariableName(), is("result1"));
+    assertThat(outputs.get(0).getValue(), is((Object) "okay"));
+  }
+
+  @Deployment(resources = { DECISION_PROCESS, DECISION_SINGLE_OUTPUT_DMN })
+  public void testCompactBinaryValues() {
+    // given
+    byte[] bytes = "object".getBytes();
+
+    // when
+    runtimeService.startProcessInstanceByKey("testProcess", Variables.createVariables().putValue("input1", bytes));
+
+    // then
+    HistoricDecisionInstance historicDecisionInstance = historyService.createHistoricDecisionInstanceQuery()
+        .includeInputs()
+        .includeOutputs()
+        .singleResult();
+
+    assertThat(historicDecisionInstance.getInputs().get(0).getTypeName(), is("bytes"));
+    assertArrayEquals(bytes, (byte[]) historicDecisionInstance.getInputs().get(0).getValue());
+    assertArrayEquals(bytes, (byte[]) historicDecisionInstance.getOutputs().get(0).getValue());
+  }
+
+  @Deployment(resources = { DECISION_PROCESS, DECISION_SINGLE_OUTPUT_DMN })
+  public void testDeleteCompactHistoricDecisionInstance() {
+    // given
+    long byteArrays = getTableCount(ByteArrayEntity.class);
+    runtimeService.startProcessInstanceByKey("testProcess", Variables.createVariables().putValue("input1", "object".getBytes()));
+
+    HistoricDecisionInstance historicDecisionInstance = historyService.createHistoricDecisionInstanceQuery().singleResult();
+
+    // when
+    historyService.deleteHistoricDecisionInstanceByInstanceId(historicDecisionInstance.getId());
+
+    // then the compact inputs and outputs and their binary values are deleted
+    assertThat(historyService.createHistoricDecisionInstanceQuery().count(), is(0L));
+    assertThat(getTableCount(ByteArrayEntity.class), is(byteArrays));
+  }
+
+  @Deployment(resources = { DECISION_PROCESS, DECISION_SINGLE_OUTPUT_DMN })
+  public void testAsyncWriter() {
+    // given
+    AsyncHistoricDecisionInstanceWriter writer = new AsyncHistoricDecisionInstanceWriter(processEngineConfiguration.getCommandExecutorTxRequired(), 10);
+    processEngineConfiguration.setAsyncHistoricDecisionInstanceWriter(writer);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("testProcess", Variables.createVariables().putValue("input1", "value" + i));
+    }
+    writer.flush();
+
+    // then
+    List<HistoricDecisionInstance> historicDecisionInstances = historyService.createHistoricDecisionInstanceQuery()
+        .includeInputs()
+        .includeOutputs()
+        .list();
+
+    assertThat(historicDecisionInstances.size(), is(3));
+    for (HistoricDecisionInstance historicDecisionInstance : historicDecisionInstances) {
+      assertThat(historicDecisionInstance.getInputs().size(), is(1));
+      assertThat(historicDecisionInstance.getOutputs().get(0).getValue(), is(historicDecisionInstance.getInputs().get(0).getValue()));
+    }
+  }
+
+  @Deployment(resources = { DECISION_PROCESS, DECISION_SINGLE_OUTPUT_DMN })
+  public void testAsyncWriterAfterShutdown() {
+    // given
+    AsyncHistoricDecisionInstanceWriter writer = new AsyncHistoricDecisionInstanceWriter(processEngineConfiguration.getCommandExecutorTxRequired(), 10);
+    processEngineConfiguration.setAsyncHistoricDecisionInstanceWriter(writer);
+    writer.shutdown();
+
+    // when
+    runtimeService.startProcessInstanceByKey("testProcess", Variables.createVariables().putValue("input1", "value"));
+
+    // then the evaluation succeeds and its history is dropped
+    assertThat(writer.getPendingEvaluations(), is(0));
+    assertThat(historyService.createHistoricDecisionInstanceQuery().count(), is(0L));
+  }
+
+  public void testRowFormatForOtherDecisions() {
+    // given
+    processEngineConfiguration.setCompactDecisionHistoryDecisionKeys(Collections.singleton("otherDecision"));
+    String deploymentId = repositoryService.createDeployment()
+        .addClasspathResource(DECISION_PROCESS)
+        .addClasspathResource(DECISION_SINGLE_OUTPUT_DMN)
+        .deploy()
+        .getId();
+    long inputRows = getTableCount(HistoricDecisionInputInstanceEntity.class);
+
+    try {
+      // when
+      runtimeService.startProcessInstanceByKey("testProcess", Variables.createVariables().putValue("input1", "a"));
+
+      // then
+      assertThat(getTableCount(HistoricDecisionInputInstanceEntity.class), is(inputRows + 1));
+      assertThat(historyService.createHistoricDecisionInstanceQuery().includeInputs().singleResult().getInputs().get(0).getValue(), is((Object) "a"));
+    }
+    finally {
+      repositoryService.deleteDeployment(deploymentId, true);
+    }
+  }
+
+  protected long getTableCount(Class<?> entityClass) {
+    return managementService.getTableCount().get(managementService.getTableName(entityClass));
+  }
+
+}
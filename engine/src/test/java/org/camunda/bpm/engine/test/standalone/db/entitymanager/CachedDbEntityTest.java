@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.standalone.db.entitymanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.HasDbChangeTracking;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.junit.Test;
+
+public class CachedDbEntityTest {
+
+  @Test
+  public void testTrackedEntityIsNotDirtyAfterCopy() {
+    TaskEntity task = new TaskEntity("1");
+    task.setNameWithoutCascade("aName");
+
+    CachedDbEntity cachedEntity = createCachedEntity(task);
+
+    assertEquals(0, task.getChangedFields());
+    assertFalse(cachedEntity.isDirty());
+  }
+
+  @Test
+  public void testTrackedEntityIsDirtyAfterChange() {
+    TaskEntity task = new TaskEntity("1");
+    CachedDbEntity cachedEntity = createCachedEntity(task);
+
+    task.setAssigneeWithoutCascade("kermit");
+
+    assertEquals(TaskEntity.FIELD_ASSIGNEE, task.getChangedFields());
+    assertTrue(cachedEntity.isDirty());
+  }
+
+  @Test
+  public void testTrackedEntityIsNotDirtyIfValueIsUnchanged() {
+    MessageEntity job = new MessageEntity();
+    job.setId("1");
+    job.setRetriesFromPersistence(3);
+    CachedDbEntity cachedEntity = createCachedEntity(job);
+
+    job.setRetriesFromPersistence(3);
+    job.setLockOwner(null);
+
+    assertFalse(cachedEntity.isDirty());
+  }
+
+  @Test
+  public void testTrackedEntityForceSetDirty() {
+    MessageEntity job = new MessageEntity();
+    job.setId("1");
+    CachedDbEntity cachedEntity = createCachedEntity(job);
+
+    cachedEntity.forceSetDirty();
+    assertTrue(cachedEntity.isDirty());
+
+    cachedEntity.makeCopy();
+    assertFalse(cachedEntity.isDirty());
+  }
+
+  @Test
+  public void testUntrackedEntityIsComparedWithCopy() {
+    ExecutionEntity execution = new ExecutionEntity();
+    execution.setId("1");
+    CachedDbEntity cachedEntity = createCachedEntity(execution);
+
+    assertFalse(cachedEntity.isDirty());
+
+    execution.setBusinessKey("aBusinessKey");
+    assertTrue(cachedEntity.isDirty());
+  }
+
+  @Test
+  public void testUpdateChangedFieldsOnly() {
+    TaskEntity task = new TaskEntity("1");
+    CachedDbEntity cachedEntity = createCachedEntity(task);
+    cachedEntity.setEntityState(DbEntityState.PERSISTENT);
+
+    task.setAssigneeWithoutCascade("kermit");
+    task.setPriorityWithoutCascade(100);
+    cachedEntity.determineUpdatedFields();
+
+    assertEquals(TaskEntity.FIELD_ASSIGNEE | TaskEntity.FIELD_PRIORITY, task.getUpdatedFields());
+    assertTrue(task.isFieldUpdated(TaskEntity.FIELD_ASSIGNEE));
+    assertFalse(task.isFieldUpdated(TaskEntity.FIELD_NAME));
+
+    // the fields are kept until the update statement is executed
+    cachedEntity.makeCopy();
+    assertTrue(task.isFieldUpdated(TaskEntity.FIELD_ASSIGNEE));
+  }
+
+  @Test
+  public void testUpdateAllFieldsOfForcedEntity() {
+    MessageEntity job = new MessageEntity();
+    job.setId("1");
+    CachedDbEntity cachedEntity = createCachedEntity(job);
+    cachedEntity.setEntityState(DbEntityState.PERSISTENT);
+
+    cachedEntity.forceSetDirty();
+    cachedEntity.determineUpdatedFields();
+
+    assertEquals(HasDbChangeTracking.ALL_FIELDS, job.getUpdatedFields());
+  }
+
+  @Test
+  public void testUpdateAllFieldsOfMergedEntity() {
+    MessageEntity job = new MessageEntity();
+    job.setId("1");
+    CachedDbEntity cachedEntity = new CachedDbEntity();
+    cachedEntity.setEntity(job);
+    cachedEntity.setEntityState(DbEntityState.MERGED);
+
+    cachedEntity.determineUpdatedFields();
+
+    assertEquals(HasDbChangeTracking.ALL_FIELDS, job.getUpdatedFields());
+  }
+
+  protected CachedDbEntity createCachedEntity(DbEntity entity) {
+    CachedDbEntity cachedEntity = new CachedDbEntity();
+    cachedEntity.setEntity(entity);
+    cachedEntity.makeCopy();
+    return cachedEntity;
+  }
+
+}
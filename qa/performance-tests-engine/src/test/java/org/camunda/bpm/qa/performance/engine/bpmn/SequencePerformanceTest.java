@@ -15,6 +15,9 @@ package org.camunda.bpm.qa.performance.engine.bpmn;
 import static org.camunda.bpm.qa.performance.engine.steps.PerfTestConstants.*;
 
 import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.builder.AbstractFlowNodeBuilder;
 import org.camunda.bpm.qa.performance.engine.junit.ProcessEnginePerformanceTestCase;
 import org.camunda.bpm.qa.performance.engine.steps.SignalExecutionStep;
 import org.camunda.bpm.qa.performance.engine.steps.StartProcessInstanceStep;
@@ -50,6 +53,18 @@ public class SequencePerformanceTest extends ProcessEnginePerformanceTestCase {
     .run();
   }
 
+  /**
+   * A sequence of 20 activities performs several hundred atomic operations in one command.
+   */
+  @Test
+  public void syncSequence20Steps() {
+    deploySequence(20);
+
+    performanceTest()
+      .step(new StartProcessInstanceStep(engine, "process"))
+    .run();
+  }
+
   @Test
   @Deployment
   public void asyncSequence1Step() {
@@ -77,6 +92,17 @@ public class SequencePerformanceTest extends ProcessEnginePerformanceTestCase {
     .run();
   }
 
+  protected void deploySequence(int numberOfActivities) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    for (int i = 0; i < numberOfActivities; i++) {
+      builder = builder.manualTask("task" + i);
+    }
+    BpmnModelInstance modelInstance = builder.endEvent().done();
 
+    org.camunda.bpm.engine.repository.Deployment deployment = repositoryService.createDeployment()
+      .addModelInstance("sequence.bpmn", modelInstance)
+      .deploy();
+    processEngineRule.manageDeployment(deployment);
+  }
 
 }
@@ -14,6 +14,7 @@ package org.camunda.bpm.qa.performance.engine.dmn;
 
 import java.util.Map;
 
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.test.Deployment;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.qa.performance.engine.junit.ProcessEnginePerformanceTestCase;
@@ -42,6 +43,11 @@ public class DmnEnginePerformanceTest extends ProcessEnginePerformanceTestCase {
   private static final String TEN_RULES_TWO_INPUTS = "tenRulesTwoInputs";
   private static final String ONE_HUNDRED_RULES_TWO_INPUTS = "oneHundredRulesTwoInputs";
 
+  private static final String TWO_THOUSAND_RULES = "twoThousandRules";
+
+  // number of rules of the generated decision table with equality checks
+  private static final int NUMBER_OF_GENERATED_RULES = 2000;
+
   @Test
   @Deployment
   public void twoRules() {
@@ -106,6 +112,24 @@ public class DmnEnginePerformanceTest extends ProcessEnginePerformanceTestCase {
     .run();
   }
 
+  @Test
+  public void twoThousandRules() {
+    deployGeneratedDecisionTable(false);
+
+    performanceTest()
+      .step(new EvaluateDecisionTableStep(engine, TWO_THOUSAND_RULES, createGeneratedDecisionTableVariables()))
+    .run();
+  }
+
+  @Test
+  public void twoThousandRulesIndexed() {
+    deployGeneratedDecisionTable(true);
+
+    performanceTest()
+      .step(new EvaluateDecisionTableStep(engine, TWO_THOUSAND_RULES, createGeneratedDecisionTableVariables()))
+    .run();
+  }
+
   private EvaluateDecisionTableStep evaluateDecisionTableStep(String decisionKey) {
     Map<String, Object> variables = createVariables();
 
@@ -117,4 +141,50 @@ public class DmnEnginePerformanceTest extends ProcessEnginePerformanceTestCase {
         .putValue("input", NUMBER_OF_MATCHING_RULES);
   }
 
+  private void deployGeneratedDecisionTable(boolean decisionTableIndexEnabled) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) engine.getProcessEngineConfiguration();
+    boolean previouslyEnabled = processEngineConfiguration.isDecisionTableIndexEnabled();
+
+    processEngineConfiguration.setDecisionTableIndexEnabled(decisionTableIndexEnabled);
+    try {
+      org.camunda.bpm.engine.repository.Deployment deployment = repositoryService.createDeployment()
+        .addString("twoThousandRules.dmn", createGeneratedDecisionTable())
+        .deploy();
+
+      processEngineRule.manageDeployment(deployment);
+    }
+    finally {
+      processEngineConfiguration.setDecisionTableIndexEnabled(previouslyEnabled);
+    }
+  }
+
+  private String createGeneratedDecisionTable() {
+    StringBuilder dmn = new StringBuilder()
+      .append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>")
+      .append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101/dmn.xsd\" id=\"definitions\" name=\"definitions\" namespace=\"http://camunda.org/schema/1.0/dmn\">")
+      .append("<decision id=\"").append(TWO_THOUSAND_RULES).append("\" name=\"Benchmark\">")
+      .append("<decisionTable id=\"decisionTable\" hitPolicy=\"UNIQUE\">")
+      .append("<input id=\"input1\"><inputExpression id=\"inputExpression1\" typeRef=\"string\"><text>category</text></inputExpression></input>")
+      .append("<output id=\"output1\" name=\"result\" typeRef=\"string\"/>");
+
+    for (int i = 0; i < NUMBER_OF_GENERATED_RULES; i++) {
+      dmn.append("<rule id=\"rule").append(i).append("\">")
+        .append("<inputEntry id=\"inputEntry").append(i).append("\"><text>\"category").append(i).append("\"</text></inputEntry>")
+        .append("<outputEntry id=\"outputEntry").append(i).append("\"><text>\"result").append(i).append("\"</text></outputEntry>")
+        .append("</rule>");
+    }
+
+    return dmn
+      .append("</decisionTable>")
+      .append("</decision>")
+      .append("</definitions>")
+      .toString();
+  }
+
+  private Map<String, Object> createGeneratedDecisionTableVariables() {
+    // matches one of the last rules of the decision table
+    return Variables.createVariables()
+        .putValue("category", "category" + (NUMBER_OF_GENERATED_RULES - 10));
+  }
+
 }